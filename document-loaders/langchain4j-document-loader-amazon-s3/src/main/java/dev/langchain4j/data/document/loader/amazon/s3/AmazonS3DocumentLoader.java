@@ -4,6 +4,7 @@ import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentLoader;
 import dev.langchain4j.data.document.DocumentParser;
 import dev.langchain4j.data.document.source.amazon.s3.AmazonS3Source;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
@@ -17,23 +18,48 @@ import software.amazon.awssdk.services.s3.model.*;
 
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
+import static dev.langchain4j.internal.ParallelUtils.mapConcurrently;
+import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.isNullOrBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
-import static java.util.stream.Collectors.toList;
 import static software.amazon.awssdk.regions.Region.US_EAST_1;
 
 public class AmazonS3DocumentLoader {
 
     private static final Logger log = LoggerFactory.getLogger(AmazonS3DocumentLoader.class);
 
+    /**
+     * The default maximum number of objects fetched and parsed at the same time.
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 16;
+
     private final S3Client s3Client;
+    private final int maxConcurrency;
+    private final Executor executor;
 
     public AmazonS3DocumentLoader(S3Client s3Client) {
+        this(s3Client, DEFAULT_MAX_CONCURRENCY, DefaultExecutorProvider.getDefaultExecutorService());
+    }
+
+    /**
+     * @param s3Client       The S3 client. Must be thread-safe, as the SDK clients are.
+     * @param maxConcurrency The maximum number of objects fetched and parsed at the same time
+     *                       by {@link #loadDocuments(String, String, DocumentParser)}
+     *                       and {@link #streamDocuments(String, String, DocumentParser)}.
+     * @param executor       The executor to fetch and parse objects on.
+     */
+    public AmazonS3DocumentLoader(S3Client s3Client, int maxConcurrency, Executor executor) {
         this.s3Client = ensureNotNull(s3Client, "s3Client");
+        this.maxConcurrency = ensureGreaterThanZero(maxConcurrency, "maxConcurrency");
+        this.executor = ensureNotNull(executor, "executor");
     }
 
     /**
@@ -75,38 +101,60 @@ public class AmazonS3DocumentLoader {
     /**
      * Loads all documents from an S3 bucket.
      * Skips any documents that fail to load.
+     * Up to {@code maxConcurrency} objects are fetched and parsed at the same time.
      *
      * @param bucket S3 bucket to load from.
      * @param prefix Only keys with the specified prefix will be loaded.
-     * @param parser The parser to be used for parsing text from the object.
+     * @param parser The parser to be used for parsing text from the object. Must be thread-safe.
      * @return A list of documents.
      * @throws RuntimeException If {@link S3Exception} occurs.
+     * @see #streamDocuments(String, String, DocumentParser)
      */
     public List<Document> loadDocuments(String bucket, String prefix, DocumentParser parser) {
-        List<Document> documents = new ArrayList<>();
+        try (Stream<Document> documents = streamDocuments(bucket, prefix, parser)) {
+            return documents.toList();
+        }
+    }
 
+    /**
+     * Lazily loads all documents from an S3 bucket.
+     * Skips any documents that fail to load.
+     * <p>
+     * Objects are listed page by page, and up to {@code maxConcurrency} objects are fetched and parsed at the same time,
+     * as the returned stream is consumed, so that listing, downloading and parsing overlap,
+     * and at most {@code maxConcurrency} documents are held in memory at any time, regardless of the number of objects.
+     * The documents are returned in the order the objects are listed (lexicographic order of the keys).
+     * <p>
+     * The returned stream should be closed after use (e.g., using a try-with-resources statement)
+     * to cancel the pending fetches when it is not consumed entirely.
+     *
+     * @param bucket S3 bucket to load from.
+     * @param prefix Only keys with the specified prefix will be loaded.
+     * @param parser The parser to be used for parsing text from the objects. Must be thread-safe.
+     * @return A lazily populated stream of documents.
+     * @throws RuntimeException If {@link S3Exception} occurs while listing the objects.
+     */
+    public Stream<Document> streamDocuments(String bucket, String prefix, DocumentParser parser) {
         ListObjectsV2Request listObjectsV2Request = ListObjectsV2Request.builder()
                 .bucket(ensureNotBlank(bucket, "bucket"))
                 .prefix(prefix)
                 .build();
 
-        ListObjectsV2Response listObjectsV2Response = s3Client.listObjectsV2(listObjectsV2Request);
-
-        List<S3Object> filteredS3Objects = listObjectsV2Response.contents().stream()
+        Iterator<S3Object> s3Objects = s3Client.listObjectsV2Paginator(listObjectsV2Request).contents().stream()
                 .filter(s3Object -> !s3Object.key().endsWith("/") && s3Object.size() > 0)
-                .collect(toList());
-
-        for (S3Object s3Object : filteredS3Objects) {
-            String key = s3Object.key();
-            try {
-                Document document = loadDocument(bucket, key, parser);
-                documents.add(document);
-            } catch (Exception e) {
-                log.warn("Failed to load an object with key '{}' from bucket '{}', skipping it.", key, bucket, e);
-            }
-        }
+                .iterator();
 
-        return documents;
+        return mapConcurrently(s3Objects, s3Object -> loadDocumentOrNull(bucket, s3Object.key(), parser), maxConcurrency, executor)
+                .filter(Objects::nonNull);
+    }
+
+    private Document loadDocumentOrNull(String bucket, String key, DocumentParser parser) {
+        try {
+            return loadDocument(bucket, key, parser);
+        } catch (Exception e) {
+            log.warn("Failed to load an object with key '{}' from bucket '{}', skipping it.", key, bucket, e);
+            return null;
+        }
     }
 
     public static Builder builder() {
@@ -120,6 +168,8 @@ public class AmazonS3DocumentLoader {
         private String profile;
         private boolean forcePathStyle;
         private AwsCredentials awsCredentials;
+        private Integer maxConcurrency;
+        private Executor executor;
 
         /**
          * Set the AWS region. Defaults to US_EAST_1
@@ -187,10 +237,35 @@ public class AmazonS3DocumentLoader {
             return this;
         }
 
+        /**
+         * Set the maximum number of objects fetched and parsed at the same time. Defaults to 16
+         *
+         * @param maxConcurrency The maximum number of objects fetched and parsed at the same time.
+         * @return The builder instance.
+         */
+        public Builder maxConcurrency(Integer maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Set the executor to fetch and parse objects on. Defaults to the shared default executor
+         *
+         * @param executor The executor.
+         * @return The builder instance.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         public AmazonS3DocumentLoader build() {
             AwsCredentialsProvider credentialsProvider = createCredentialsProvider();
             S3Client s3Client = createS3Client(credentialsProvider);
-            return new AmazonS3DocumentLoader(s3Client);
+            return new AmazonS3DocumentLoader(
+                    s3Client,
+                    getOrDefault(maxConcurrency, DEFAULT_MAX_CONCURRENCY),
+                    getOrDefault(executor, DefaultExecutorProvider::getDefaultExecutorService));
         }
 
         private AwsCredentialsProvider createCredentialsProvider() {
@@ -7,6 +7,8 @@ import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
 import dev.langchain4j.data.document.parser.TextDocumentParser;
 import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.*;
 import org.testcontainers.containers.localstack.LocalStackContainer;
 import org.testcontainers.utility.DockerImageName;
@@ -139,6 +141,55 @@ class AmazonS3DocumentLoaderIT {
         assertThat(documents.get(1).text()).isEqualTo(TEST_CONTENT);
     }
 
+    @Test
+    void should_load_documents_across_listing_pages() {
+
+        // given
+        int objectCount = 1_050; // S3 lists up to 1000 objects per page
+        IntStream.range(0, objectCount).parallel().forEach(i -> s3Client.putObject(
+                PutObjectRequest.builder().bucket(TEST_BUCKET).key(key(i)).build(),
+                RequestBody.fromString("content " + i)));
+
+        AmazonS3DocumentLoader loader = AmazonS3DocumentLoader.builder()
+                .endpointUrl(s3Container.getEndpointOverride(S3).toString())
+                .maxConcurrency(32)
+                .build();
+
+        // when
+        List<Document> documents = loader.loadDocuments(TEST_BUCKET, "object-", parser);
+
+        // then
+        assertThat(documents).hasSize(objectCount);
+        assertThat(documents).extracting(Document::text)
+                .containsExactlyElementsOf(IntStream.range(0, objectCount).mapToObj(i -> "content " + i).toList());
+    }
+
+    @Test
+    void should_stream_documents_lazily() {
+
+        // given
+        IntStream.range(0, 20).forEach(i -> s3Client.putObject(
+                PutObjectRequest.builder().bucket(TEST_BUCKET).key(key(i)).build(),
+                RequestBody.fromString("content " + i)));
+
+        // when
+        List<Document> documents;
+        try (Stream<Document> stream = loader.streamDocuments(TEST_BUCKET, "object-", parser)) {
+            documents = stream.limit(3).toList();
+        }
+
+        // then
+        assertThat(documents).extracting(document -> document.metadata().getString("source"))
+                .containsExactly(
+                        "s3://test-bucket/object-00000.txt",
+                        "s3://test-bucket/object-00001.txt",
+                        "s3://test-bucket/object-00002.txt");
+    }
+
+    private static String key(int i) {
+        return "object-%05d.txt".formatted(i);
+    }
+
     @AfterEach
     void afterEach() {
         s3Container.stop();
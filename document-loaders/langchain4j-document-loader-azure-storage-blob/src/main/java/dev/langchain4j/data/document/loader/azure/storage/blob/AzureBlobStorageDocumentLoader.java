@@ -9,22 +9,46 @@ import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentLoader;
 import dev.langchain4j.data.document.DocumentParser;
 import dev.langchain4j.data.document.source.azure.storage.blob.AzureBlobStorageSource;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
+import static dev.langchain4j.internal.ParallelUtils.mapConcurrently;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
 public class AzureBlobStorageDocumentLoader {
 
     private static final Logger log = LoggerFactory.getLogger(AzureBlobStorageDocumentLoader.class);
 
+    /**
+     * The default maximum number of blobs fetched and parsed at the same time.
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 16;
+
     private final BlobServiceClient blobServiceClient;
+    private final int maxConcurrency;
+    private final Executor executor;
 
     public AzureBlobStorageDocumentLoader(BlobServiceClient blobServiceClient) {
+        this(blobServiceClient, DEFAULT_MAX_CONCURRENCY, DefaultExecutorProvider.getDefaultExecutorService());
+    }
+
+    /**
+     * @param blobServiceClient The blob service client.
+     * @param maxConcurrency    The maximum number of blobs fetched and parsed at the same time
+     *                          by {@link #loadDocuments(String, DocumentParser)}
+     *                          and {@link #streamDocuments(String, DocumentParser)}.
+     * @param executor          The executor to fetch and parse blobs on.
+     */
+    public AzureBlobStorageDocumentLoader(BlobServiceClient blobServiceClient, int maxConcurrency, Executor executor) {
         this.blobServiceClient = ensureNotNull(blobServiceClient, "blobServiceClient");
+        this.maxConcurrency = ensureGreaterThanZero(maxConcurrency, "maxConcurrency");
+        this.executor = ensureNotNull(executor, "executor");
     }
 
     public Document loadDocument(String containerName, String blobName, DocumentParser parser) {
@@ -35,14 +59,38 @@ public class AzureBlobStorageDocumentLoader {
         return DocumentLoader.load(source, parser);
     }
 
+    /**
+     * Loads all documents from a container.
+     * Up to {@code maxConcurrency} blobs are fetched and parsed at the same time.
+     *
+     * @see #streamDocuments(String, DocumentParser)
+     */
     public List<Document> loadDocuments(String containerName, DocumentParser parser) {
-        List<Document> documents = new ArrayList<>();
-
-        blobServiceClient.getBlobContainerClient(containerName)
-                .listBlobs()
-                .forEach(blob ->
-                        documents.add(loadDocument(containerName, blob.getName(), parser)));
+        try (Stream<Document> documents = streamDocuments(containerName, parser)) {
+            return documents.toList();
+        }
+    }
 
-        return documents;
+    /**
+     * Lazily loads all documents from a container.
+     * <p>
+     * Blobs are listed page by page, and up to {@code maxConcurrency} blobs are fetched and parsed at the same time,
+     * as the returned stream is consumed, so that listing, downloading and parsing overlap,
+     * and at most {@code maxConcurrency} documents are held in memory at any time, regardless of the number of blobs.
+     * The documents are returned in the order the blobs are listed.
+     * <p>
+     * The returned stream should be closed after use (e.g., using a try-with-resources statement)
+     * to cancel the pending fetches when it is not consumed entirely.
+     *
+     * @param containerName The container to load from.
+     * @param parser        The parser to be used for parsing text from the blobs. Must be thread-safe.
+     * @return A lazily populated stream of documents.
+     */
+    public Stream<Document> streamDocuments(String containerName, DocumentParser parser) {
+        return mapConcurrently(
+                blobServiceClient.getBlobContainerClient(containerName).listBlobs().iterator(),
+                blob -> loadDocument(containerName, blob.getName(), parser),
+                maxConcurrency,
+                executor);
     }
 }
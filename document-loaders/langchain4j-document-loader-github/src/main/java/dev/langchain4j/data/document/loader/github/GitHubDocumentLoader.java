@@ -4,6 +4,7 @@ import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentLoader;
 import dev.langchain4j.data.document.DocumentParser;
 import dev.langchain4j.data.document.source.github.GitHubSource;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import org.kohsuke.github.GHContent;
 import org.kohsuke.github.GitHub;
 import org.kohsuke.github.GitHubBuilder;
@@ -11,22 +12,64 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
+import static dev.langchain4j.internal.ParallelUtils.mapConcurrently;
 import static dev.langchain4j.internal.RetryUtils.withRetry;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
 public class GitHubDocumentLoader {
 
     private static final Logger logger = LoggerFactory.getLogger(GitHubDocumentLoader.class);
 
+    /**
+     * The default maximum number of files fetched and parsed at the same time.
+     * It is kept low, since GitHub may rate-limit clients making many concurrent requests.
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 4;
+
     private final GitHub gitHub;
+    private final int maxConcurrency;
+    private final Executor executor;
 
     public GitHubDocumentLoader(String gitHubToken, String gitHubTokenOrganization) {
         this(null, gitHubToken, gitHubTokenOrganization);
     }
 
     public GitHubDocumentLoader(String apiUrl, String gitHubToken, String gitHubTokenOrganization) {
+        this(createGitHub(apiUrl, gitHubToken, gitHubTokenOrganization));
+    }
+
+    public GitHubDocumentLoader() {
+        this(createGitHub(null, null, null));
+    }
+
+    public GitHubDocumentLoader(GitHub gitHub) {
+        this(gitHub, DEFAULT_MAX_CONCURRENCY, DefaultExecutorProvider.getDefaultExecutorService());
+    }
+
+    /**
+     * @param gitHub         The GitHub client.
+     * @param maxConcurrency The maximum number of files fetched and parsed at the same time
+     *                       by {@code loadDocuments} and {@code streamDocuments}.
+     * @param executor       The executor to fetch and parse files on.
+     */
+    public GitHubDocumentLoader(GitHub gitHub, int maxConcurrency, Executor executor) {
+        this.gitHub = gitHub;
+        this.maxConcurrency = ensureGreaterThanZero(maxConcurrency, "maxConcurrency");
+        this.executor = ensureNotNull(executor, "executor");
+    }
+
+    private static GitHub createGitHub(String apiUrl, String gitHubToken, String gitHubTokenOrganization) {
         GitHubBuilder gitHubBuilder = new GitHubBuilder();
         if (apiUrl != null) {
             gitHubBuilder.withEndpoint(apiUrl);
@@ -39,24 +82,12 @@ public class GitHubDocumentLoader {
             }
         }
         try {
-            gitHub = gitHubBuilder.build();
+            return gitHubBuilder.build();
         } catch (IOException ioException) {
             throw new RuntimeException(ioException);
         }
     }
 
-    public GitHubDocumentLoader() {
-        try {
-            gitHub = new GitHubBuilder().build();
-        } catch (IOException ioException) {
-            throw new RuntimeException(ioException);
-        }
-    }
-
-    public GitHubDocumentLoader(GitHub gitHub) {
-        this.gitHub = gitHub;
-    }
-
     public Document loadDocument(String owner, String repo, String branch, String path, DocumentParser parser) {
         GHContent content = null;
         try {
@@ -70,39 +101,52 @@ public class GitHubDocumentLoader {
     }
 
     public List<Document> loadDocuments(String owner, String repo, String branch, String path, DocumentParser parser) {
-        List<Document> documents = new ArrayList<>();
+        try (Stream<Document> documents = streamDocuments(owner, repo, branch, path, parser)) {
+            return documents.toList();
+        }
+    }
+
+    public List<Document> loadDocuments(String owner, String repo, String branch, DocumentParser parser) {
+        return loadDocuments(owner, repo, branch, "", parser);
+    }
+
+    /**
+     * Lazily loads all files under the specified path of a repository, recursively.
+     * Skips any files and directories that fail to load.
+     * <p>
+     * Directories are listed as the returned stream is consumed, and up to {@code maxConcurrency} files
+     * are fetched and parsed at the same time, so that listing, downloading and parsing overlap.
+     * The documents are returned in the order of a depth-first traversal of the directories.
+     * <p>
+     * The returned stream should be closed after use (e.g., using a try-with-resources statement)
+     * to cancel the pending fetches when it is not consumed entirely.
+     *
+     * @param parser The parser to be used for parsing text from the files. Must be thread-safe.
+     * @return A lazily populated stream of documents.
+     */
+    public Stream<Document> streamDocuments(String owner, String repo, String branch, String path, DocumentParser parser) {
+        List<GHContent> contents;
         try {
-            gitHub
+            contents = gitHub
                     .getRepository(owner + "/" + repo)
-                    .getDirectoryContent(path, branch)
-                    .forEach(ghDirectoryContent -> GitHubDocumentLoader.scanDirectory(ghDirectoryContent, documents, parser));
+                    .getDirectoryContent(path, branch);
         } catch (IOException ioException) {
             throw new RuntimeException(ioException);
         }
-        return documents;
+        return mapConcurrently(new FileIterator(contents), file -> loadOrNull(file, parser), maxConcurrency, executor)
+                .filter(Objects::nonNull);
     }
 
-    public List<Document> loadDocuments(String owner, String repo, String branch, DocumentParser parser) {
-        return loadDocuments(owner, repo, branch, "", parser);
+    public Stream<Document> streamDocuments(String owner, String repo, String branch, DocumentParser parser) {
+        return streamDocuments(owner, repo, branch, "", parser);
     }
 
-    private static void scanDirectory(GHContent ghContent, List<Document> documents, DocumentParser parser) {
-        if (ghContent.isDirectory()) {
-            try {
-                ghContent.listDirectoryContent().forEach(ghDirectoryContent -> GitHubDocumentLoader.scanDirectory(ghDirectoryContent, documents, parser));
-            } catch (IOException ioException) {
-                logger.error("Failed to read directory from GitHub: {}", ghContent.getHtmlUrl(), ioException);
-            }
-        } else {
-            Document document = null;
-            try {
-                document = withRetry(() -> fromGitHub(parser, ghContent), 3);
-            } catch (RuntimeException runtimeException) {
-                logger.error("Failed to read document from GitHub: {}", ghContent.getHtmlUrl(), runtimeException);
-            }
-            if (document != null) {
-                documents.add(document);
-            }
+    private static Document loadOrNull(GHContent ghContent, DocumentParser parser) {
+        try {
+            return withRetry(() -> fromGitHub(parser, ghContent), 3);
+        } catch (RuntimeException runtimeException) {
+            logger.error("Failed to read document from GitHub: {}", ghContent.getHtmlUrl(), runtimeException);
+            return null;
         }
     }
 
@@ -120,6 +164,45 @@ public class GitHubDocumentLoader {
         }
     }
 
+    /**
+     * Iterates over the files of directories, depth-first, listing each directory when it is reached.
+     */
+    private static class FileIterator implements Iterator<GHContent> {
+
+        private final Deque<GHContent> pending = new ArrayDeque<>();
+
+        FileIterator(List<GHContent> contents) {
+            push(contents);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!pending.isEmpty() && pending.peek().isDirectory()) {
+                GHContent directory = pending.pop();
+                try {
+                    push(directory.listDirectoryContent().toList());
+                } catch (IOException ioException) {
+                    logger.error("Failed to read directory from GitHub: {}", directory.getHtmlUrl(), ioException);
+                }
+            }
+            return !pending.isEmpty();
+        }
+
+        @Override
+        public GHContent next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return pending.pop();
+        }
+
+        private void push(List<GHContent> contents) {
+            for (int i = contents.size() - 1; i >= 0; i--) {
+                pending.push(contents.get(i));
+            }
+        }
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -132,6 +215,10 @@ public class GitHubDocumentLoader {
 
         private String gitHubTokenOrganization;
 
+        private Integer maxConcurrency;
+
+        private Executor executor;
+
         public Builder apiUrl(String apiUrl) {
             this.apiUrl = apiUrl;
             return this;
@@ -147,8 +234,21 @@ public class GitHubDocumentLoader {
             return this;
         }
 
+        public Builder maxConcurrency(Integer maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         public GitHubDocumentLoader build() {
-            return new GitHubDocumentLoader(apiUrl, gitHubToken, gitHubTokenOrganization);
+            return new GitHubDocumentLoader(
+                    createGitHub(apiUrl, gitHubToken, gitHubTokenOrganization),
+                    getOrDefault(maxConcurrency, DEFAULT_MAX_CONCURRENCY),
+                    getOrDefault(executor, DefaultExecutorProvider::getDefaultExecutorService));
         }
     }
 }
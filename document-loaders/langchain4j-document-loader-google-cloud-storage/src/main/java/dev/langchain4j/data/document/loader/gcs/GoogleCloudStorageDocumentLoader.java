@@ -10,10 +10,15 @@ import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentLoader;
 import dev.langchain4j.data.document.DocumentParser;
 import dev.langchain4j.data.document.source.gcs.GcsSource;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
+import static dev.langchain4j.internal.ParallelUtils.mapConcurrently;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
@@ -22,9 +27,19 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
  */
 public class GoogleCloudStorageDocumentLoader {
 
+    /**
+     * The default maximum number of objects fetched and parsed at the same time.
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 16;
+
     private final Storage storage;
+    private final int maxConcurrency;
+    private final Executor executor;
 
-    private GoogleCloudStorageDocumentLoader(String project, Credentials credentials) {
+    private GoogleCloudStorageDocumentLoader(String project,
+                                             Credentials credentials,
+                                             Integer maxConcurrency,
+                                             Executor executor) {
         StorageOptions.Builder storageBuilder = StorageOptions.newBuilder();
 
         if (project != null) {
@@ -36,6 +51,8 @@ public class GoogleCloudStorageDocumentLoader {
         }
 
         this.storage = storageBuilder.build().getService();
+        this.maxConcurrency = ensureGreaterThanZero(getOrDefault(maxConcurrency, DEFAULT_MAX_CONCURRENCY), "maxConcurrency");
+        this.executor = getOrDefault(executor, DefaultExecutorProvider::getDefaultExecutorService);
     }
 
     /**
@@ -58,25 +75,48 @@ public class GoogleCloudStorageDocumentLoader {
 
     /**
      * Load a list of documents from the specified bucket, filtered with a glob pattern.
+     * Up to {@code maxConcurrency} objects are fetched and parsed at the same time.
      *
      * @param bucket the bucket to load files from
      * @param globPattern filter only files matching the glob pattern, see https://cloud.google.com/storage/docs/json_api/v1/objects/list#list-object-glob
-     * @param parser the parser to use to parse the document
+     * @param parser the parser to use to parse the document. Must be thread-safe.
      * @return A list of documents from the bucket that match the glob pattern.
+     * @see #streamDocuments(String, String, DocumentParser)
      */
     public List<Document> loadDocuments(String bucket, String globPattern, DocumentParser parser) {
+        try (Stream<Document> documents = streamDocuments(bucket, globPattern, parser)) {
+            return documents.toList();
+        }
+    }
+
+    /**
+     * Lazily load the documents from the specified bucket, filtered with a glob pattern.
+     * <p>
+     * Objects are listed page by page, and up to {@code maxConcurrency} objects are fetched and parsed at the same time,
+     * as the returned stream is consumed, so that listing, downloading and parsing overlap,
+     * and at most {@code maxConcurrency} documents are held in memory at any time, regardless of the number of objects.
+     * The documents are returned in the order the objects are listed.
+     * <p>
+     * The returned stream should be closed after use (e.g., using a try-with-resources statement)
+     * to cancel the pending fetches when it is not consumed entirely.
+     *
+     * @param bucket the bucket to load files from
+     * @param globPattern filter only files matching the glob pattern, see https://cloud.google.com/storage/docs/json_api/v1/objects/list#list-object-glob
+     * @param parser the parser to use to parse the documents. Must be thread-safe.
+     * @return A lazily populated stream of documents from the bucket that match the glob pattern.
+     */
+    public Stream<Document> streamDocuments(String bucket, String globPattern, DocumentParser parser) {
+        ensureNotNull(parser, "parser");
+
         Page<Blob> blobs = globPattern != null ?
             storage.list(bucket, Storage.BlobListOption.currentDirectory(), Storage.BlobListOption.matchGlob(globPattern)) :
             storage.list(bucket, Storage.BlobListOption.currentDirectory());
 
-        List<Document> documents = new ArrayList<>();
-
-        for (Blob blob : blobs.iterateAll()) {
-            GcsSource gcsSource = new GcsSource(blob);
-            documents.add(DocumentLoader.load(gcsSource, ensureNotNull(parser, "parser")));
-        }
-
-        return documents;
+        return mapConcurrently(
+                blobs.iterateAll().iterator(),
+                blob -> DocumentLoader.load(new GcsSource(blob), parser),
+                maxConcurrency,
+                executor);
     }
 
     /**
@@ -97,6 +137,8 @@ public class GoogleCloudStorageDocumentLoader {
     public static class Builder {
         private String project;
         private Credentials credentials;
+        private Integer maxConcurrency;
+        private Executor executor;
 
         public Builder project(String project) {
             this.project = project;
@@ -108,8 +150,24 @@ public class GoogleCloudStorageDocumentLoader {
             return this;
         }
 
+        /**
+         * @param maxConcurrency the maximum number of objects fetched and parsed at the same time. Default: 16
+         */
+        public Builder maxConcurrency(Integer maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * @param executor the executor to fetch and parse objects on. Default: the shared default executor
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         public GoogleCloudStorageDocumentLoader build() {
-            return new GoogleCloudStorageDocumentLoader(project, credentials);
+            return new GoogleCloudStorageDocumentLoader(project, credentials, maxConcurrency, executor);
         }
     }
 }
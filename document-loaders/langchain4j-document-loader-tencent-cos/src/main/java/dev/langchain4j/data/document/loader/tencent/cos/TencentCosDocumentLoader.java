@@ -9,24 +9,50 @@ import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentLoader;
 import dev.langchain4j.data.document.DocumentParser;
 import dev.langchain4j.data.document.source.tencent.cos.TencentCosSource;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
+import static dev.langchain4j.internal.ParallelUtils.mapConcurrently;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
-import static java.util.stream.Collectors.toList;
 
 public class TencentCosDocumentLoader {
 
     private static final Logger log = LoggerFactory.getLogger(TencentCosDocumentLoader.class);
 
+    /**
+     * The default maximum number of objects fetched and parsed at the same time.
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 16;
+
     private final COSClient cosClient;
+    private final int maxConcurrency;
+    private final Executor executor;
 
     public TencentCosDocumentLoader(COSClient s3Client) {
-        this.cosClient = ensureNotNull(s3Client, "cosClient");
+        this(s3Client, DEFAULT_MAX_CONCURRENCY, DefaultExecutorProvider.getDefaultExecutorService());
+    }
+
+    /**
+     * @param cosClient      The COS client.
+     * @param maxConcurrency The maximum number of objects fetched and parsed at the same time
+     *                       by {@link #loadDocuments(String, String, DocumentParser)}
+     *                       and {@link #streamDocuments(String, String, DocumentParser)}.
+     * @param executor       The executor to fetch and parse objects on.
+     */
+    public TencentCosDocumentLoader(COSClient cosClient, int maxConcurrency, Executor executor) {
+        this.cosClient = ensureNotNull(cosClient, "cosClient");
+        this.maxConcurrency = ensureGreaterThanZero(maxConcurrency, "maxConcurrency");
+        this.executor = ensureNotNull(executor, "executor");
     }
 
     /**
@@ -60,36 +86,63 @@ public class TencentCosDocumentLoader {
     /**
      * Loads all documents from an COS bucket.
      * Skips any documents that fail to load.
+     * Up to {@code maxConcurrency} objects are fetched and parsed at the same time.
      *
      * @param bucket COS bucket to load from.
      * @param prefix Only keys with the specified prefix will be loaded.
-     * @param parser The parser to be used for parsing text from the object.
+     * @param parser The parser to be used for parsing text from the object. Must be thread-safe.
      * @return A list of documents.
+     * @see #streamDocuments(String, String, DocumentParser)
      */
     public List<Document> loadDocuments(String bucket, String prefix, DocumentParser parser) {
-        List<Document> documents = new ArrayList<>();
+        try (Stream<Document> documents = streamDocuments(bucket, prefix, parser)) {
+            return documents.toList();
+        }
+    }
 
+    /**
+     * Lazily loads all documents from an COS bucket.
+     * Skips any documents that fail to load.
+     * <p>
+     * Objects are listed page by page, and up to {@code maxConcurrency} objects are fetched and parsed at the same time,
+     * as the returned stream is consumed, so that listing, downloading and parsing overlap,
+     * and at most {@code maxConcurrency} documents are held in memory at any time, regardless of the number of objects.
+     * The documents are returned in the order the objects are listed.
+     * <p>
+     * The returned stream should be closed after use (e.g., using a try-with-resources statement)
+     * to cancel the pending fetches when it is not consumed entirely.
+     *
+     * @param bucket COS bucket to load from.
+     * @param prefix Only keys with the specified prefix will be loaded.
+     * @param parser The parser to be used for parsing text from the objects. Must be thread-safe.
+     * @return A lazily populated stream of documents.
+     */
+    public Stream<Document> streamDocuments(String bucket, String prefix, DocumentParser parser) {
         ListObjectsRequest listObjectsRequest = new ListObjectsRequest()
                 .withBucketName(ensureNotBlank(bucket, "bucket"))
                 .withPrefix(prefix);
 
-        ObjectListing objectListing = cosClient.listObjects(listObjectsRequest);
-
-        List<COSObjectSummary> filteredObjects = objectListing.getObjectSummaries().stream()
+        Iterator<COSObjectSummary> objects = Stream.iterate(
+                        cosClient.listObjects(listObjectsRequest),
+                        Objects::nonNull,
+                        objectListing -> objectListing.isTruncated()
+                                ? cosClient.listObjects(listObjectsRequest.withMarker(objectListing.getNextMarker()))
+                                : null)
+                .flatMap(objectListing -> objectListing.getObjectSummaries().stream())
                 .filter(object -> !object.getKey().endsWith("/") && object.getSize() > 0)
-                .collect(toList());
-
-        for (COSObjectSummary object : filteredObjects) {
-            String key = object.getKey();
-            try {
-                Document document = loadDocument(bucket, key, parser);
-                documents.add(document);
-            } catch (Exception e) {
-                log.warn("Failed to load an object with key '{}' from bucket '{}', skipping it.", key, bucket, e);
-            }
-        }
+                .iterator();
 
-        return documents;
+        return mapConcurrently(objects, object -> loadDocumentOrNull(bucket, object.getKey(), parser), maxConcurrency, executor)
+                .filter(Objects::nonNull);
+    }
+
+    private Document loadDocumentOrNull(String bucket, String key, DocumentParser parser) {
+        try {
+            return loadDocument(bucket, key, parser);
+        } catch (Exception e) {
+            log.warn("Failed to load an object with key '{}' from bucket '{}', skipping it.", key, bucket, e);
+            return null;
+        }
     }
 
     public static Builder builder() {
@@ -100,6 +153,8 @@ public class TencentCosDocumentLoader {
 
         private Region region;
         private TencentCredentials tencentCredentials;
+        private Integer maxConcurrency;
+        private Executor executor;
 
         /**
          * Set the Tencent region.
@@ -134,10 +189,35 @@ public class TencentCosDocumentLoader {
             return this;
         }
 
+        /**
+         * Set the maximum number of objects fetched and parsed at the same time. Defaults to 16.
+         *
+         * @param maxConcurrency The maximum number of objects fetched and parsed at the same time.
+         * @return The builder instance.
+         */
+        public Builder maxConcurrency(Integer maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Set the executor to fetch and parse objects on. Defaults to the shared default executor.
+         *
+         * @param executor The executor.
+         * @return The builder instance.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         public TencentCosDocumentLoader build() {
             COSCredentialsProvider credentialsProvider = createCredentialsProvider();
             COSClient cosClient = createCosClient(credentialsProvider);
-            return new TencentCosDocumentLoader(cosClient);
+            return new TencentCosDocumentLoader(
+                    cosClient,
+                    getOrDefault(maxConcurrency, DEFAULT_MAX_CONCURRENCY),
+                    getOrDefault(executor, DefaultExecutorProvider::getDefaultExecutorService));
         }
 
         private COSCredentialsProvider createCredentialsProvider() {
@@ -4,33 +4,73 @@ import dev.langchain4j.data.document.BlankDocumentException;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
 import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.internal.DefaultExecutorProvider;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDDocumentInformation;
 import org.apache.pdfbox.text.PDFTextStripper;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+import static dev.langchain4j.internal.ParallelUtils.mapConcurrently;
+import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.isNullOrBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 
 /**
  * Parses PDF file into a {@link Document} using Apache PDFBox library
+ * <p>
+ * Large PDF files can be parsed page by page with {@link #parsePages(InputStream)}.
  */
 public class ApachePdfBoxDocumentParser implements DocumentParser {
 
+    /**
+     * The metadata key of the (1-based) page number of the documents returned by {@link #parsePages(InputStream)}.
+     */
+    public static final String PAGE_NUMBER = "page_number";
+
+    static final int DEFAULT_PAGES_PER_BATCH = 16;
+
     private final boolean includeMetadata;
+    private final Long maxMainMemoryBytes;
+    private final int pagesPerBatch;
+    private final int parallelism;
+    private final Executor executor;
 
     public ApachePdfBoxDocumentParser() {
         this(false);
     }
 
     public ApachePdfBoxDocumentParser(boolean includeMetadata) {
-        this.includeMetadata = includeMetadata;
+        this(builder().includeMetadata(includeMetadata));
+    }
+
+    private ApachePdfBoxDocumentParser(Builder builder) {
+        this.includeMetadata = getOrDefault(builder.includeMetadata, false);
+        this.maxMainMemoryBytes = builder.maxMainMemoryBytes;
+        this.pagesPerBatch = ensureGreaterThanZero(getOrDefault(builder.pagesPerBatch, DEFAULT_PAGES_PER_BATCH), "pagesPerBatch");
+        this.parallelism = ensureGreaterThanZero(getOrDefault(builder.parallelism, Runtime.getRuntime().availableProcessors()), "parallelism");
+        this.executor = getOrDefault(builder.executor, DefaultExecutorProvider::getDefaultExecutorService);
+    }
+
+    public static Builder builder() {
+        return new Builder();
     }
 
     @Override
     public Document parse(InputStream inputStream) {
-        try (PDDocument pdfDocument = PDDocument.load(inputStream)) {
+        try (PDDocument pdfDocument = PDDocument.load(inputStream, memoryUsageSetting())) {
             PDFTextStripper stripper = new PDFTextStripper();
             String text = stripper.getText(pdfDocument);
             if (isNullOrBlank(text)) {
@@ -44,6 +84,101 @@ public class ApachePdfBoxDocumentParser implements DocumentParser {
         }
     }
 
+    /**
+     * Parses the PDF file into one {@link Document} per page, with the page number in the {@link #PAGE_NUMBER} metadata entry.
+     * Blank pages are skipped.
+     * <p>
+     * The PDF file is copied into a temporary file, and batches of {@code pagesPerBatch} pages are extracted
+     * concurrently by up to {@code parallelism} tasks, each of which opens the temporary file on its own,
+     * since a PDFBox document cannot be used by several threads.
+     * The pages are extracted as the returned stream is consumed, at most {@code parallelism} batches ahead of the consumer,
+     * so only the text of these batches is held in memory, regardless of the number of pages.
+     * <p>
+     * Unlike {@link #parse(InputStream)}, this method does not read the whole PDF file into memory.
+     * The returned stream must be closed to delete the temporary file, e.g., with try-with-resources.
+     *
+     * @param inputStream the PDF file. It is consumed before this method returns, but not closed.
+     * @return the pages, in order.
+     */
+    public Stream<Document> parsePages(InputStream inputStream) {
+        Path file = copyToTempFile(inputStream);
+        try {
+            int pageCount;
+            Metadata documentMetadata;
+            try (PDDocument pdfDocument = load(file)) {
+                pageCount = pdfDocument.getNumberOfPages();
+                documentMetadata = includeMetadata ? toMetadata(pdfDocument) : new Metadata();
+            }
+
+            Iterator<Integer> batchStartPages =
+                    IntStream.iterate(1, page -> page <= pageCount, page -> page + pagesPerBatch).iterator();
+            return mapConcurrently(
+                            batchStartPages,
+                            startPage -> extractPages(file, startPage,
+                                    Math.min(startPage + pagesPerBatch - 1, pageCount), documentMetadata),
+                            parallelism,
+                            executor)
+                    .flatMap(List::stream)
+                    // batches that are still running keep reading the file through their open handles on POSIX file systems
+                    .onClose(() -> deleteQuietly(file));
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(file);
+            throw e instanceof IOException ioException ? new RuntimeException(ioException) : (RuntimeException) e;
+        }
+    }
+
+    private List<Document> extractPages(Path file, int startPage, int endPage, Metadata documentMetadata) {
+        try (PDDocument pdfDocument = load(file)) {
+            PDFTextStripper stripper = new PDFTextStripper();
+            List<Document> pages = new ArrayList<>(endPage - startPage + 1);
+            for (int page = startPage; page <= endPage; page++) {
+                stripper.setStartPage(page);
+                stripper.setEndPage(page);
+                String text = stripper.getText(pdfDocument);
+                if (isNullOrBlank(text)) {
+                    continue;
+                }
+                Metadata metadata = documentMetadata.copy().put(PAGE_NUMBER, page);
+                pages.add(Document.from(text, metadata));
+            }
+            return pages;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private PDDocument load(Path file) throws IOException {
+        return PDDocument.load(file.toFile(), memoryUsageSetting());
+    }
+
+    private MemoryUsageSetting memoryUsageSetting() {
+        return maxMainMemoryBytes == null
+                ? MemoryUsageSetting.setupMainMemoryOnly()
+                : MemoryUsageSetting.setupMixed(maxMainMemoryBytes);
+    }
+
+    private static Path copyToTempFile(InputStream inputStream) {
+        Path file = null;
+        try {
+            file = Files.createTempFile("langchain4j-pdfbox-", ".pdf");
+            Files.copy(inputStream, file, REPLACE_EXISTING);
+            return file;
+        } catch (IOException e) {
+            if (file != null) {
+                deleteQuietly(file);
+            }
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            file.toFile().deleteOnExit();
+        }
+    }
+
     private Metadata toMetadata(PDDocument pdDocument) {
         PDDocumentInformation documentInformation = pdDocument.getDocumentInformation();
         Metadata metadata = new Metadata();
@@ -53,4 +188,63 @@ public class ApachePdfBoxDocumentParser implements DocumentParser {
         }
         return metadata;
     }
+
+    public static class Builder {
+
+        private Boolean includeMetadata;
+        private Long maxMainMemoryBytes;
+        private Integer pagesPerBatch;
+        private Integer parallelism;
+        private Executor executor;
+
+        /**
+         * @param includeMetadata whether to include the document information (author, creator, etc.) into the metadata.
+         *                        Default: false.
+         */
+        public Builder includeMetadata(Boolean includeMetadata) {
+            this.includeMetadata = includeMetadata;
+            return this;
+        }
+
+        /**
+         * @param maxMainMemoryBytes the maximum number of bytes of main memory PDFBox uses to buffer a document,
+         *                           beyond which it uses a temporary scratch file.
+         *                           Default: the whole document is buffered in main memory.
+         */
+        public Builder maxMainMemoryBytes(Long maxMainMemoryBytes) {
+            this.maxMainMemoryBytes = maxMainMemoryBytes;
+            return this;
+        }
+
+        /**
+         * @param pagesPerBatch the number of pages extracted by a single task of {@link #parsePages(InputStream)}.
+         *                      Default: 16.
+         */
+        public Builder pagesPerBatch(Integer pagesPerBatch) {
+            this.pagesPerBatch = pagesPerBatch;
+            return this;
+        }
+
+        /**
+         * @param parallelism the maximum number of batches {@link #parsePages(InputStream)} extracts concurrently.
+         *                    Default: the number of available processors.
+         */
+        public Builder parallelism(Integer parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * @param executor the executor on which {@link #parsePages(InputStream)} extracts the pages.
+         *                 Default: the shared default executor.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public ApachePdfBoxDocumentParser build() {
+            return new ApachePdfBoxDocumentParser(this);
+        }
+    }
 }
@@ -3,10 +3,20 @@ package dev.langchain4j.data.document.parser.apache.pdfbox;
 import dev.langchain4j.data.document.BlankDocumentException;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static dev.langchain4j.data.document.parser.apache.pdfbox.ApachePdfBoxDocumentParser.PAGE_NUMBER;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -53,4 +63,95 @@ class ApachePdfBoxDocumentParserTest {
             throw new RuntimeException(e);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_parse_pages_in_parallel_batches() throws IOException {
+
+        // given
+        byte[] pdf = pdfWithPages(50, 7);
+        ApachePdfBoxDocumentParser parser = ApachePdfBoxDocumentParser.builder()
+                .pagesPerBatch(3)
+                .parallelism(4)
+                .maxMainMemoryBytes(1024L)
+                .build();
+
+        // when
+        List<Document> pages;
+        try (Stream<Document> stream = parser.parsePages(new ByteArrayInputStream(pdf))) {
+            pages = stream.toList();
+        }
+
+        // then
+        assertThat(pages).hasSize(49);
+        assertThat(pages).extracting(page -> page.metadata().getInteger(PAGE_NUMBER))
+                .doesNotContain(7)
+                .startsWith(1, 2, 3, 4, 5, 6, 8)
+                .endsWith(50)
+                .isSorted();
+        assertThat(pages.get(0).text()).isEqualToIgnoringWhitespace("page 1");
+        assertThat(pages.get(48).text()).isEqualToIgnoringWhitespace("page 50");
+    }
+
+    @Test
+    void should_parse_pages_lazily() throws IOException {
+
+        // given
+        ApachePdfBoxDocumentParser parser = ApachePdfBoxDocumentParser.builder()
+                .pagesPerBatch(1)
+                .build();
+
+        // when
+        List<Document> pages;
+        try (Stream<Document> stream = parser.parsePages(new ByteArrayInputStream(pdfWithPages(10, -1)))) {
+            pages = stream.limit(2).toList();
+        }
+
+        // then
+        assertThat(pages).extracting(page -> page.metadata().getInteger(PAGE_NUMBER)).containsExactly(1, 2);
+        assertThat(pages.get(1).text()).isEqualToIgnoringWhitespace("page 2");
+    }
+
+    @Test
+    void should_parse_pages_include_metadata() throws IOException {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("test-file.pdf");
+             Stream<Document> pages = new ApachePdfBoxDocumentParser(true).parsePages(inputStream)) {
+
+            assertThat(pages).singleElement().satisfies(page -> {
+                assertThat(page.text()).isEqualToIgnoringWhitespace("test content");
+                assertThat(page.metadata().getInteger(PAGE_NUMBER)).isEqualTo(1);
+                assertThat(page.metadata().getString("Author")).isEqualTo("ljuba");
+            });
+        }
+    }
+
+    @Test
+    void should_skip_blank_pages() throws IOException {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("blank-file.pdf");
+             Stream<Document> pages = new ApachePdfBoxDocumentParser().parsePages(inputStream)) {
+
+            assertThat(pages).isEmpty();
+        }
+    }
+
+    private static byte[] pdfWithPages(int pageCount, int blankPage) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            for (int i = 1; i <= pageCount; i++) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                if (i == blankPage) {
+                    continue;
+                }
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(PDType1Font.HELVETICA, 12);
+                    content.newLineAtOffset(100, 700);
+                    content.showText("page " + i);
+                    content.endText();
+                }
+            }
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            document.save(outputStream);
+            return outputStream.toByteArray();
+        }
+    }
+}
@@ -2,20 +2,30 @@ package dev.langchain4j.data.document.parser.apache.tika;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.isNullOrBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
 import dev.langchain4j.data.document.BlankDocumentException;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
+import dev.langchain4j.data.segment.TextSegment;
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
+import org.apache.tika.exception.TikaTimeoutException;
+import org.apache.tika.exception.WriteLimitReachedException;
 import org.apache.tika.exception.ZeroByteFileException;
 import org.apache.tika.metadata.Metadata;
 import org.apache.tika.parser.AutoDetectParser;
 import org.apache.tika.parser.ParseContext;
 import org.apache.tika.parser.Parser;
 import org.apache.tika.sax.BodyContentHandler;
+import org.apache.tika.sax.WriteOutContentHandler;
 import org.xml.sax.ContentHandler;
 
 /**
@@ -23,6 +33,15 @@ import org.xml.sax.ContentHandler;
  * This parser supports various file formats, including PDF, DOC, PPT, XLS.
  * For detailed information on supported formats,
  * please refer to the <a href="https://tika.apache.org/2.9.1/formats.html">Apache Tika documentation</a>.
+ * <p>
+ * Unless a custom parser supplier is provided, parser instances are pooled and reused across documents
+ * (each instance parses one document at a time), so the parser can be shared by the workers of a bulk ingestion
+ * without creating a new {@link AutoDetectParser} (and loading its parser registry) for each document.
+ * A custom parser supplier is called for each document, unless {@link Builder#reuseParsers(Boolean)} is enabled.
+ * <p>
+ * Use {@link #builder()} to bound the number of characters extracted from a document and the time spent parsing it,
+ * and {@link #parseSegments(InputStream, int, Consumer)} to receive the text in segments as it is extracted,
+ * instead of as a single {@code String}.
  */
 public class ApacheTikaDocumentParser implements DocumentParser {
 
@@ -39,6 +58,10 @@ public class ApacheTikaDocumentParser implements DocumentParser {
     private final Supplier<ParseContext> parseContextSupplier;
 
     private final boolean includeMetadata;
+    private final Integer maxCharacters;
+    private final Duration timeout;
+
+    private final Queue<Parser> idleParsers; // null when parsers are not reused
 
     /**
      * Creates an instance of an {@code ApacheTikaDocumentParser} with the default Tika components.
@@ -118,38 +141,147 @@ public class ApacheTikaDocumentParser implements DocumentParser {
             Supplier<Metadata> metadataSupplier,
             Supplier<ParseContext> parseContextSupplier,
             boolean includeMetadata) {
-        this.parserSupplier = getOrDefault(parserSupplier, () -> DEFAULT_PARSER_SUPPLIER);
-        this.contentHandlerSupplier = getOrDefault(contentHandlerSupplier, () -> DEFAULT_CONTENT_HANDLER_SUPPLIER);
-        this.metadataSupplier = getOrDefault(metadataSupplier, () -> DEFAULT_METADATA_SUPPLIER);
-        this.parseContextSupplier = getOrDefault(parseContextSupplier, () -> DEFAULT_PARSE_CONTEXT_SUPPLIER);
-        this.includeMetadata = includeMetadata;
+        this(builder()
+                .parserSupplier(parserSupplier)
+                .contentHandlerSupplier(contentHandlerSupplier)
+                .metadataSupplier(metadataSupplier)
+                .parseContextSupplier(parseContextSupplier)
+                .includeMetadata(includeMetadata));
+    }
+
+    private ApacheTikaDocumentParser(Builder builder) {
+        this.maxCharacters = builder.maxCharacters == null
+                ? null
+                : ensureGreaterThanZero(builder.maxCharacters, "maxCharacters");
+        this.parserSupplier = getOrDefault(builder.parserSupplier, () -> DEFAULT_PARSER_SUPPLIER);
+        boolean reuseParsers = getOrDefault(builder.reuseParsers, parserSupplier == DEFAULT_PARSER_SUPPLIER);
+        this.idleParsers = reuseParsers ? new ConcurrentLinkedQueue<>() : null;
+        this.contentHandlerSupplier = getOrDefault(
+                builder.contentHandlerSupplier,
+                () -> maxCharacters == null
+                        ? DEFAULT_CONTENT_HANDLER_SUPPLIER
+                        : () -> new BodyContentHandler(maxCharacters));
+        this.metadataSupplier = getOrDefault(builder.metadataSupplier, () -> DEFAULT_METADATA_SUPPLIER);
+        this.parseContextSupplier = getOrDefault(builder.parseContextSupplier, () -> DEFAULT_PARSE_CONTEXT_SUPPLIER);
+        this.includeMetadata = getOrDefault(builder.includeMetadata, false);
+        this.timeout = builder.timeout;
+    }
+
+    public static Builder builder() {
+        return new Builder();
     }
 
+    /**
+     * Parses the document into a single {@link Document}.
+     * When {@code maxCharacters} is configured and the default content handler is used,
+     * the text is truncated to {@code maxCharacters} characters.
+     *
+     * @throws TikaTimeoutException if parsing takes longer than the configured {@code timeout}
+     */
     @Override
     public Document parse(InputStream inputStream) {
-        try {
-            Parser parser = parserSupplier.get();
-            ContentHandler contentHandler = contentHandlerSupplier.get();
-            Metadata metadata = metadataSupplier.get();
-            ParseContext parseContext = parseContextSupplier.get();
+        ContentHandler contentHandler = contentHandlerSupplier.get();
+        Metadata metadata = metadataSupplier.get();
 
-            parser.parse(inputStream, contentHandler, metadata, parseContext);
-            String text = contentHandler.toString();
+        parse(inputStream, contentHandler, metadata);
 
-            if (isNullOrBlank(text)) {
-                throw new BlankDocumentException();
-            }
+        String text = contentHandler.toString();
+        if (isNullOrBlank(text)) {
+            throw new BlankDocumentException();
+        }
+
+        return includeMetadata ? Document.from(text, convert(metadata)) : Document.from(text);
+    }
+
+    /**
+     * Parses the document into {@link TextSegment}s of at most {@code maxSegmentSizeInChars} characters,
+     * which are passed to {@code segmentConsumer} as soon as they are extracted, in order.
+     * The whole text of the document is never held in memory.
+     * <p>
+     * Segments are cut at the last whitespace before {@code maxSegmentSizeInChars} characters, if any.
+     * Each segment has an "index" metadata entry, which is its position in the document, starting from 0.
+     * Blank segments are skipped.
+     * <p>
+     * When {@code maxCharacters} is configured, the segments cover the first {@code maxCharacters} characters
+     * of the document only. The configured content handler is not used.
+     *
+     * @param inputStream           the document to parse
+     * @param maxSegmentSizeInChars the maximum number of characters of a segment
+     * @param segmentConsumer       the consumer of the segments, called on the thread calling this method
+     * @return the metadata of the document, which is empty unless {@code includeMetadata} is enabled
+     * @throws BlankDocumentException if the document contains no text
+     * @throws TikaTimeoutException   if parsing takes longer than the configured {@code timeout}
+     */
+    public dev.langchain4j.data.document.Metadata parseSegments(
+            InputStream inputStream, int maxSegmentSizeInChars, Consumer<TextSegment> segmentConsumer) {
+        ensureGreaterThanZero(maxSegmentSizeInChars, "maxSegmentSizeInChars");
+        ensureNotNull(segmentConsumer, "segmentConsumer");
+
+        SegmentWriter writer = new SegmentWriter(maxSegmentSizeInChars, segmentConsumer);
+        ContentHandler contentHandler = new BodyContentHandler(
+                new WriteOutContentHandler(writer, maxCharacters == null ? NO_WRITE_LIMIT : maxCharacters));
+        Metadata metadata = metadataSupplier.get();
+
+        parse(inputStream, contentHandler, metadata);
+        writer.close();
+
+        if (writer.segmentCount() == 0) {
+            throw new BlankDocumentException();
+        }
 
-            return includeMetadata ? Document.from(text, convert(metadata)) : Document.from(text);
-        } catch (BlankDocumentException e) {
-            throw e;
+        return includeMetadata ? convert(metadata) : new dev.langchain4j.data.document.Metadata();
+    }
+
+    private void parse(InputStream inputStream, ContentHandler contentHandler, Metadata metadata) {
+        Parser parser = borrowParser();
+        try {
+            if (timeout == null) {
+                parser.parse(inputStream, contentHandler, metadata, parseContextSupplier.get());
+            } else {
+                long deadline = System.nanoTime() + timeout.toNanos();
+                parser.parse(
+                        new DeadlineInputStream(inputStream, deadline, timeout),
+                        new DeadlineContentHandler(contentHandler, deadline, timeout),
+                        metadata,
+                        parseContextSupplier.get());
+            }
+            // a parser that failed or timed out might be left in an inconsistent state, so it is not reused
+            returnParser(parser);
         } catch (ZeroByteFileException e) {
             throw new BlankDocumentException();
         } catch (Exception e) {
+            if (WriteLimitReachedException.isWriteLimitReached(e)) {
+                returnParser(parser); // the parse was stopped on purpose
+                return; // the text extracted so far is kept
+            }
+            TikaTimeoutException timeoutException = findCause(e, TikaTimeoutException.class);
+            if (timeoutException != null) {
+                throw timeoutException;
+            }
             throw new RuntimeException(e);
         }
     }
 
+    private Parser borrowParser() {
+        Parser parser = idleParsers == null ? null : idleParsers.poll();
+        return parser != null ? parser : parserSupplier.get();
+    }
+
+    private void returnParser(Parser parser) {
+        if (idleParsers != null) {
+            idleParsers.offer(parser);
+        }
+    }
+
+    private static <T extends Throwable> T findCause(Throwable throwable, Class<T> type) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return type.cast(cause);
+            }
+        }
+        return null;
+    }
+
     /**
      * Converts a Tika {@link Metadata} object into a {@link dev.langchain4j.data.document.Metadata} object.
      *
@@ -167,4 +299,94 @@ public class ApacheTikaDocumentParser implements DocumentParser {
 
         return new dev.langchain4j.data.document.Metadata(tikaMetaData);
     }
+
+    public static class Builder {
+
+        private Supplier<Parser> parserSupplier;
+        private Supplier<ContentHandler> contentHandlerSupplier;
+        private Supplier<Metadata> metadataSupplier;
+        private Supplier<ParseContext> parseContextSupplier;
+        private Boolean includeMetadata;
+        private Boolean reuseParsers;
+        private Integer maxCharacters;
+        private Duration timeout;
+
+        /**
+         * @param parserSupplier Supplier for Tika parser to use. It is called for each document,
+         *                       unless {@link #reuseParsers(Boolean)} is enabled.
+         *                       Default: pooled {@link AutoDetectParser}s
+         */
+        public Builder parserSupplier(Supplier<Parser> parserSupplier) {
+            this.parserSupplier = parserSupplier;
+            return this;
+        }
+
+        /**
+         * @param contentHandlerSupplier Supplier for Tika content handler, used by {@link #parse(InputStream)}.
+         *                               Default: {@link BodyContentHandler} limited to {@code maxCharacters}
+         */
+        public Builder contentHandlerSupplier(Supplier<ContentHandler> contentHandlerSupplier) {
+            this.contentHandlerSupplier = contentHandlerSupplier;
+            return this;
+        }
+
+        /**
+         * @param metadataSupplier Supplier for Tika metadata. Default: empty {@link Metadata}
+         */
+        public Builder metadataSupplier(Supplier<Metadata> metadataSupplier) {
+            this.metadataSupplier = metadataSupplier;
+            return this;
+        }
+
+        /**
+         * @param parseContextSupplier Supplier for Tika parse context. Default: empty {@link ParseContext}
+         */
+        public Builder parseContextSupplier(Supplier<ParseContext> parseContextSupplier) {
+            this.parseContextSupplier = parseContextSupplier;
+            return this;
+        }
+
+        /**
+         * @param includeMetadata Whether to include metadata in the parsed document. Default: false
+         */
+        public Builder includeMetadata(Boolean includeMetadata) {
+            this.includeMetadata = includeMetadata;
+            return this;
+        }
+
+        /**
+         * @param reuseParsers Whether parsers are pooled and reused for subsequent documents.
+         *                     A parser is reused only after it parsed a document successfully
+         *                     (or stopped at {@code maxCharacters}), never after a failure or timeout.
+         *                     Enable it only if the parsers of the {@code parserSupplier} can parse several documents.
+         *                     Default: true if the default parser is used, false otherwise
+         */
+        public Builder reuseParsers(Boolean reuseParsers) {
+            this.reuseParsers = reuseParsers;
+            return this;
+        }
+
+        /**
+         * @param maxCharacters The maximum number of characters extracted from a document.
+         *                      The rest of the document is ignored. Default: no limit
+         */
+        public Builder maxCharacters(Integer maxCharacters) {
+            this.maxCharacters = maxCharacters;
+            return this;
+        }
+
+        /**
+         * @param timeout The maximum time spent parsing a document, after which a {@link TikaTimeoutException} is thrown.
+         *                The timeout is checked whenever the parser reads the document or emits text,
+         *                so a parser stuck without doing either is not interrupted. Default: no timeout
+         */
+        public Builder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public ApacheTikaDocumentParser build() {
+            return new ApacheTikaDocumentParser(this);
+        }
+    }
 }
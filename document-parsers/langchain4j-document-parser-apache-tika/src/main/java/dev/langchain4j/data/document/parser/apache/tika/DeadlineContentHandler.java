@@ -0,0 +1,43 @@
+package dev.langchain4j.data.document.parser.apache.tika;
+
+import static dev.langchain4j.data.document.parser.apache.tika.DeadlineInputStream.checkDeadline;
+
+import java.time.Duration;
+import org.apache.tika.exception.TikaTimeoutException;
+import org.apache.tika.sax.ContentHandlerDecorator;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+
+/**
+ * Throws a {@link TikaTimeoutException} when the parser emits content after the parsing deadline.
+ */
+class DeadlineContentHandler extends ContentHandlerDecorator {
+
+    private final long deadline;
+    private final Duration timeout;
+
+    DeadlineContentHandler(ContentHandler contentHandler, long deadline, Duration timeout) {
+        super(contentHandler);
+        this.deadline = deadline;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String name, Attributes attributes) throws SAXException {
+        checkDeadline(deadline, timeout);
+        super.startElement(uri, localName, name, attributes);
+    }
+
+    @Override
+    public void characters(char[] chars, int offset, int length) throws SAXException {
+        checkDeadline(deadline, timeout);
+        super.characters(chars, offset, length);
+    }
+
+    @Override
+    public void ignorableWhitespace(char[] chars, int offset, int length) throws SAXException {
+        checkDeadline(deadline, timeout);
+        super.ignorableWhitespace(chars, offset, length);
+    }
+}
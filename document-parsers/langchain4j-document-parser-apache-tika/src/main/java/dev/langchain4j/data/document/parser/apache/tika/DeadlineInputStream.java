@@ -0,0 +1,46 @@
+package dev.langchain4j.data.document.parser.apache.tika;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import org.apache.tika.exception.TikaTimeoutException;
+
+/**
+ * Throws a {@link TikaTimeoutException} when the document is read after the parsing deadline.
+ */
+class DeadlineInputStream extends FilterInputStream {
+
+    private final long deadline;
+    private final Duration timeout;
+
+    DeadlineInputStream(InputStream inputStream, long deadline, Duration timeout) {
+        super(inputStream);
+        this.deadline = deadline;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public int read() throws IOException {
+        checkDeadline(deadline, timeout);
+        return super.read();
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        checkDeadline(deadline, timeout);
+        return super.read(bytes, offset, length);
+    }
+
+    @Override
+    public long skip(long count) throws IOException {
+        checkDeadline(deadline, timeout);
+        return super.skip(count);
+    }
+
+    static void checkDeadline(long deadline, Duration timeout) {
+        if (System.nanoTime() - deadline > 0) {
+            throw new TikaTimeoutException("Parsing the document took longer than " + timeout);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package dev.langchain4j.data.document.parser.apache.tika;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.segment.TextSegment;
+import java.io.Writer;
+import java.util.function.Consumer;
+
+/**
+ * Cuts the text written by a Tika content handler into {@link TextSegment}s of at most {@code maxSegmentSizeInChars}
+ * characters, preferably at a whitespace, and passes them to a consumer as soon as they are complete.
+ */
+class SegmentWriter extends Writer {
+
+    private final int maxSegmentSizeInChars;
+    private final Consumer<TextSegment> segmentConsumer;
+    private final StringBuilder buffer;
+    private int segmentCount;
+
+    SegmentWriter(int maxSegmentSizeInChars, Consumer<TextSegment> segmentConsumer) {
+        this.maxSegmentSizeInChars = maxSegmentSizeInChars;
+        this.segmentConsumer = segmentConsumer;
+        this.buffer = new StringBuilder(maxSegmentSizeInChars);
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) {
+        int end = offset + length;
+        while (offset < end) {
+            int count = Math.min(end - offset, maxSegmentSizeInChars - buffer.length());
+            buffer.append(chars, offset, count);
+            offset += count;
+            if (buffer.length() == maxSegmentSizeInChars) {
+                emitUpToLastWhitespace();
+            }
+        }
+    }
+
+    private void emitUpToLastWhitespace() {
+        int cut = buffer.length();
+        for (int i = buffer.length() - 1; i > 0; i--) {
+            if (Character.isWhitespace(buffer.charAt(i))) {
+                cut = i + 1;
+                break;
+            }
+        }
+        emit(buffer.substring(0, cut));
+        buffer.delete(0, cut);
+    }
+
+    private void emit(String text) {
+        String trimmed = text.trim();
+        if (!trimmed.isEmpty()) {
+            segmentConsumer.accept(TextSegment.from(trimmed, Metadata.from("index", String.valueOf(segmentCount))));
+            segmentCount++;
+        }
+    }
+
+    int segmentCount() {
+        return segmentCount;
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Emits the remaining text as the last segment.
+     */
+    @Override
+    public void close() {
+        emit(buffer.toString());
+        buffer.setLength(0);
+    }
+}
@@ -6,8 +6,16 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import dev.langchain4j.data.document.BlankDocumentException;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
+import dev.langchain4j.data.segment.TextSegment;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.tika.exception.TikaTimeoutException;
 import org.apache.tika.parser.AutoDetectParser;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -86,4 +94,171 @@ class ApacheTikaDocumentParserTest {
 
         assertThatThrownBy(() -> parser.parse(inputStream)).isExactlyInstanceOf(BlankDocumentException.class);
     }
+
+    @Test
+    void should_call_custom_parser_supplier_for_each_document() {
+
+        // given
+        AtomicInteger createdParsers = new AtomicInteger();
+        DocumentParser parser = ApacheTikaDocumentParser.builder()
+                .parserSupplier(() -> {
+                    createdParsers.incrementAndGet();
+                    return new AutoDetectParser();
+                })
+                .build();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            parser.parse(getClass().getClassLoader().getResourceAsStream("test-file.docx"));
+        }
+
+        // then
+        assertThat(createdParsers).hasValue(3);
+    }
+
+    @Test
+    void should_reuse_parser_instances_when_enabled() {
+
+        // given
+        AtomicInteger createdParsers = new AtomicInteger();
+        DocumentParser parser = ApacheTikaDocumentParser.builder()
+                .parserSupplier(() -> {
+                    createdParsers.incrementAndGet();
+                    return new AutoDetectParser();
+                })
+                .reuseParsers(true)
+                .build();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            parser.parse(getClass().getClassLoader().getResourceAsStream("test-file.docx"));
+        }
+
+        // then
+        assertThat(createdParsers).hasValue(1);
+    }
+
+    @Test
+    void should_not_reuse_parser_that_failed() {
+
+        // given
+        AtomicInteger createdParsers = new AtomicInteger();
+        DocumentParser parser = ApacheTikaDocumentParser.builder()
+                .parserSupplier(() -> {
+                    createdParsers.incrementAndGet();
+                    return new AutoDetectParser();
+                })
+                .reuseParsers(true)
+                .build();
+        InputStream failingInputStream = new InputStream() {
+
+            @Override
+            public int read() throws IOException {
+                throw new IOException("broken stream");
+            }
+        };
+
+        // when
+        assertThatThrownBy(() -> parser.parse(failingInputStream)).isInstanceOf(RuntimeException.class);
+        parser.parse(getClass().getClassLoader().getResourceAsStream("test-file.docx"));
+        parser.parse(getClass().getClassLoader().getResourceAsStream("test-file.docx"));
+
+        // then
+        assertThat(createdParsers).hasValue(2);
+    }
+
+    @Test
+    void should_parse_segments() {
+
+        // given
+        ApacheTikaDocumentParser parser = new ApacheTikaDocumentParser();
+        InputStream inputStream = new ByteArrayInputStream("one two three four five six seven".getBytes());
+        List<TextSegment> segments = new ArrayList<>();
+
+        // when
+        parser.parseSegments(inputStream, 10, segments::add);
+
+        // then
+        assertThat(segments).extracting(TextSegment::text).containsExactly("one two", "three", "four five", "six seven");
+        assertThat(segments).extracting(segment -> segment.metadata().getString("index"))
+                .containsExactly("0", "1", "2", "3");
+    }
+
+    @Test
+    void should_parse_segments_with_metadata() {
+
+        // given
+        ApacheTikaDocumentParser parser = new ApacheTikaDocumentParser(true);
+        InputStream inputStream = getClass().getClassLoader().getResourceAsStream("test-file.pdf");
+        List<TextSegment> segments = new ArrayList<>();
+
+        // when
+        dev.langchain4j.data.document.Metadata metadata = parser.parseSegments(inputStream, 100, segments::add);
+
+        // then
+        assertThat(segments).singleElement().satisfies(segment ->
+                assertThat(segment.text()).isEqualToIgnoringWhitespace("test content"));
+        assertThat(metadata.toMap()).containsKey("X-TIKA:Parsed-By");
+    }
+
+    @Test
+    void should_truncate_to_max_characters() {
+
+        // given
+        ApacheTikaDocumentParser parser =
+                ApacheTikaDocumentParser.builder().maxCharacters(9).build();
+        List<TextSegment> segments = new ArrayList<>();
+
+        // when
+        Document document = parser.parse(new ByteArrayInputStream("one two three four".getBytes()));
+        parser.parseSegments(new ByteArrayInputStream("one two three four".getBytes()), 4, segments::add);
+
+        // then
+        assertThat(document.text()).isEqualTo("one two t");
+        assertThat(segments).extracting(TextSegment::text).containsExactly("one", "two", "t");
+    }
+
+    @Test
+    void should_stop_parsing_after_timeout() {
+
+        // given
+        ApacheTikaDocumentParser parser =
+                ApacheTikaDocumentParser.builder().timeout(Duration.ofMillis(100)).build();
+        InputStream slowInputStream = new InputStream() {
+
+            @Override
+            public int read() {
+                sleep();
+                return 'a';
+            }
+
+            @Override
+            public int read(byte[] bytes, int offset, int length) {
+                sleep();
+                bytes[offset] = 'a';
+                return 1;
+            }
+
+            private void sleep() {
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        };
+
+        // when-then
+        assertThatThrownBy(() -> parser.parse(slowInputStream)).isExactlyInstanceOf(TikaTimeoutException.class);
+    }
+
+    @Test
+    void should_throw_BlankDocumentException_when_parsing_segments() {
+
+        ApacheTikaDocumentParser parser = new ApacheTikaDocumentParser();
+        InputStream inputStream = getClass().getClassLoader().getResourceAsStream("blank-file.txt");
+
+        assertThatThrownBy(() -> parser.parseSegments(inputStream, 100, segment -> {}))
+                .isExactlyInstanceOf(BlankDocumentException.class);
+    }
 }
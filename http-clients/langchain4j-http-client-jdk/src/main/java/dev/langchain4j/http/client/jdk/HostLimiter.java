@@ -0,0 +1,49 @@
+package dev.langchain4j.http.client.jdk;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Limits the number of concurrent requests to a single host.
+ * Requests over the limit wait in FIFO order, without blocking a thread.
+ */
+class HostLimiter {
+
+    private final int maxConcurrentRequests;
+    private final Queue<CompletableFuture<Void>> waiting = new ArrayDeque<>(); // guarded by this
+    private int inFlight; // guarded by this
+
+    HostLimiter(int maxConcurrentRequests) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    /**
+     * @return a future that completes once the request may be sent;
+     * {@link #release()} must be called when the request is finished
+     */
+    CompletableFuture<Void> acquire() {
+        synchronized (this) {
+            if (inFlight < maxConcurrentRequests) {
+                inFlight++;
+                return CompletableFuture.completedFuture(null);
+            }
+            CompletableFuture<Void> permit = new CompletableFuture<>();
+            waiting.add(permit);
+            return permit;
+        }
+    }
+
+    void release() {
+        CompletableFuture<Void> next;
+        synchronized (this) {
+            next = waiting.poll();
+            if (next == null) {
+                inFlight--;
+                return;
+            }
+        }
+        // the permit is handed over to the next request, completed outside the lock
+        next.complete(null);
+    }
+}
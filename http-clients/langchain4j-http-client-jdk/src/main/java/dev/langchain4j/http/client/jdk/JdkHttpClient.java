@@ -17,23 +17,48 @@ import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpResponse.BodyHandlers;
 import java.net.http.HttpTimeoutException;
 import java.time.Duration;
-
-import static dev.langchain4j.internal.Utils.getOrDefault;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static dev.langchain4j.http.client.jdk.JdkHttpTransport.host;
+import static dev.langchain4j.http.client.jdk.JdkHttpTransport.requestFinished;
+import static dev.langchain4j.http.client.jdk.JdkHttpTransport.requestStarted;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.stream.Collectors.joining;
 
+/**
+ * An {@link HttpClient} backed by {@link java.net.http.HttpClient}.
+ * <p>
+ * Unless a {@link java.net.http.HttpClient.Builder} is provided, all instances share the process-wide
+ * {@link JdkHttpTransport}, so creating many models does not create many connection pools.
+ * Such instances also share the limit of {@link JdkHttpClientBuilder#maxConcurrentRequestsPerHost(Integer)},
+ * while an instance with its own {@link java.net.http.HttpClient.Builder} limits only its own requests.
+ */
 public class JdkHttpClient implements HttpClient {
 
     private final java.net.http.HttpClient delegate;
     private final Duration readTimeout;
+    private final Integer maxConcurrentRequestsPerHost;
+    private final Map<String, HostLimiter> hostLimiters; // null when the limiters of the shared transport are used
 
     public JdkHttpClient(JdkHttpClientBuilder builder) {
-        java.net.http.HttpClient.Builder httpClientBuilder =
-                getOrDefault(builder.httpClientBuilder(), java.net.http.HttpClient::newBuilder);
-        if (builder.connectTimeout() != null) {
-            httpClientBuilder.connectTimeout(builder.connectTimeout());
+        java.net.http.HttpClient.Builder httpClientBuilder = builder.httpClientBuilder();
+        if (httpClientBuilder != null) {
+            if (builder.connectTimeout() != null) {
+                httpClientBuilder.connectTimeout(builder.connectTimeout());
+            }
+            this.delegate = httpClientBuilder.build();
+            this.hostLimiters = new ConcurrentHashMap<>();
+        } else {
+            this.delegate = JdkHttpTransport.sharedClient(builder.connectTimeout());
+            this.hostLimiters = null;
         }
-        this.delegate = httpClientBuilder.build();
         this.readTimeout = builder.readTimeout();
+        this.maxConcurrentRequestsPerHost = builder.maxConcurrentRequestsPerHost() == null
+                ? null
+                : ensureGreaterThanZero(builder.maxConcurrentRequestsPerHost(), "maxConcurrentRequestsPerHost");
     }
 
     public static JdkHttpClientBuilder builder() {
@@ -42,31 +67,55 @@ public class JdkHttpClient implements HttpClient {
 
     @Override
     public SuccessfulHttpResponse execute(HttpRequest request) throws HttpException {
-        try {
-            java.net.http.HttpRequest jdkRequest = toJdkRequest(request);
+        java.net.http.HttpRequest jdkRequest = toJdkRequest(request);
+        String host = host(request.url());
 
-            java.net.http.HttpResponse<String> jdkResponse = delegate.send(jdkRequest, BodyHandlers.ofString());
+        begin(host).join();
+        boolean successful = false;
+        try {
+            java.net.http.HttpResponse<byte[]> jdkResponse = delegate.send(jdkRequest, BodyHandlers.ofByteArray());
 
             if (!isSuccessful(jdkResponse)) {
-                throw new HttpException(jdkResponse.statusCode(), jdkResponse.body());
+                throw new HttpException(jdkResponse.statusCode(), new String(jdkResponse.body(), UTF_8));
             }
 
+            successful = true;
             return fromJdkResponse(jdkResponse, jdkResponse.body());
         } catch (IOException | InterruptedException e) {
             throw new RuntimeException(e);
+        } finally {
+            finish(host, successful);
         }
     }
 
+    @Override
+    public CompletableFuture<SuccessfulHttpResponse> executeAsync(HttpRequest request) {
+        java.net.http.HttpRequest jdkRequest = toJdkRequest(request);
+        String host = host(request.url());
+
+        return begin(host)
+                .thenCompose(ignored -> delegate.sendAsync(jdkRequest, BodyHandlers.ofByteArray()))
+                .whenComplete((jdkResponse, throwable) -> finish(host, throwable == null && isSuccessful(jdkResponse)))
+                .thenApply(jdkResponse -> {
+                    if (!isSuccessful(jdkResponse)) {
+                        throw new HttpException(jdkResponse.statusCode(), new String(jdkResponse.body(), UTF_8));
+                    }
+                    return fromJdkResponse(jdkResponse, jdkResponse.body());
+                });
+    }
+
     @Override
     public void execute(HttpRequest request, ServerSentEventParser parser, ServerSentEventListener listener) {
         java.net.http.HttpRequest jdkRequest = toJdkRequest(request);
+        String host = host(request.url());
 
-        delegate.sendAsync(jdkRequest, BodyHandlers.ofInputStream())
-                .thenAccept(jdkResponse -> {
+        begin(host)
+                .thenCompose(ignored -> delegate.sendAsync(jdkRequest, BodyHandlers.ofInputStream()))
+                .thenApply(jdkResponse -> {
 
                     if (!isSuccessful(jdkResponse)) {
                         listener.onError(new HttpException(jdkResponse.statusCode(), readBody(jdkResponse)));
-                        return;
+                        return false;
                     }
 
                     SuccessfulHttpResponse response = fromJdkResponse(jdkResponse, null);
@@ -78,7 +127,10 @@ public class JdkHttpClient implements HttpClient {
                     } catch (IOException e) {
                         throw new RuntimeException(e);
                     }
+                    return true;
                 })
+                // the request stays in flight until the whole stream has been consumed
+                .whenComplete((successful, throwable) -> finish(host, throwable == null && successful))
                 .exceptionally(throwable -> {
                     if (throwable.getCause() instanceof HttpTimeoutException) {
                         listener.onError(throwable);
@@ -87,6 +139,32 @@ public class JdkHttpClient implements HttpClient {
                 });
     }
 
+    private CompletableFuture<Void> begin(String host) {
+        HostLimiter hostLimiter = hostLimiter(host);
+        CompletableFuture<Void> permit = hostLimiter == null
+                ? CompletableFuture.completedFuture(null)
+                : hostLimiter.acquire();
+        return permit.thenRun(() -> requestStarted(host));
+    }
+
+    private void finish(String host, boolean successful) {
+        requestFinished(host, successful);
+        HostLimiter hostLimiter = hostLimiter(host);
+        if (hostLimiter != null) {
+            hostLimiter.release();
+        }
+    }
+
+    private HostLimiter hostLimiter(String host) {
+        if (maxConcurrentRequestsPerHost == null) {
+            return null;
+        }
+        if (hostLimiters == null) {
+            return JdkHttpTransport.sharedHostLimiter(host, maxConcurrentRequestsPerHost);
+        }
+        return hostLimiters.computeIfAbsent(host, ignored -> new HostLimiter(maxConcurrentRequestsPerHost));
+    }
+
     private java.net.http.HttpRequest toJdkRequest(HttpRequest request) {
         java.net.http.HttpRequest.Builder builder = java.net.http.HttpRequest.newBuilder()
                 .uri(URI.create(request.url()));
@@ -98,8 +176,9 @@ public class JdkHttpClient implements HttpClient {
         });
 
         BodyPublisher bodyPublisher;
-        if (request.body() != null) {
-            bodyPublisher = BodyPublishers.ofString(request.body());
+        byte[] body = request.bodyBytes();
+        if (body != null) {
+            bodyPublisher = BodyPublishers.ofByteArray(body);
         } else {
             bodyPublisher = BodyPublishers.noBody();
         }
@@ -112,11 +191,11 @@ public class JdkHttpClient implements HttpClient {
         return builder.build();
     }
 
-    private static SuccessfulHttpResponse fromJdkResponse(java.net.http.HttpResponse<?> response, String body) {
+    private static SuccessfulHttpResponse fromJdkResponse(java.net.http.HttpResponse<?> response, byte[] body) {
         return SuccessfulHttpResponse.builder()
                 .statusCode(response.statusCode())
                 .headers(response.headers().map())
-                .body(body)
+                .bodyBytes(body)
                 .build();
     }
 
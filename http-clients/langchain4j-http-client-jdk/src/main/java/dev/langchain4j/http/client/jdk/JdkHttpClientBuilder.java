@@ -9,6 +9,7 @@ public class JdkHttpClientBuilder implements HttpClientBuilder {
     private java.net.http.HttpClient.Builder httpClientBuilder;
     private Duration connectTimeout;
     private Duration readTimeout;
+    private Integer maxConcurrentRequestsPerHost;
 
     public java.net.http.HttpClient.Builder httpClientBuilder() {
         return httpClientBuilder;
@@ -41,6 +42,25 @@ public class JdkHttpClientBuilder implements HttpClientBuilder {
         return this;
     }
 
+    public Integer maxConcurrentRequestsPerHost() {
+        return maxConcurrentRequestsPerHost;
+    }
+
+    /**
+     * Limits the number of concurrent requests that the client sends to a single host.
+     * Further requests wait until one of the requests in flight is finished.
+     * For HTTP/1.1 servers, this also limits the number of connections opened to the host.
+     * By default, the number of concurrent requests is not limited.
+     * <p>
+     * Unless an {@link #httpClientBuilder(java.net.http.HttpClient.Builder)} is set, the limit is process-wide:
+     * the requests of all such clients configured with the same limit count against it, since they share connections.
+     * Otherwise, only the requests of the built client count against it.
+     */
+    public JdkHttpClientBuilder maxConcurrentRequestsPerHost(Integer maxConcurrentRequestsPerHost) {
+        this.maxConcurrentRequestsPerHost = maxConcurrentRequestsPerHost;
+        return this;
+    }
+
     @Override
     public JdkHttpClient build() {
         return new JdkHttpClient(this);
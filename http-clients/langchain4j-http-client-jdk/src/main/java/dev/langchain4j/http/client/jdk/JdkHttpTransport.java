@@ -0,0 +1,116 @@
+package dev.langchain4j.http.client.jdk;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The process-wide transport of {@link JdkHttpClient}.
+ * <p>
+ * All {@link JdkHttpClient}s that are not given their own {@link java.net.http.HttpClient.Builder}
+ * share one {@link java.net.http.HttpClient} per connect timeout, so that all model providers used by an application
+ * share a single connection pool, a single selector thread and TLS sessions, instead of creating one of each per model.
+ * The shared client prefers HTTP/2, so concurrent requests to the same host are multiplexed over a single connection,
+ * and falls back to HTTP/1.1 when the server does not support HTTP/2.
+ * <p>
+ * The connection pool of {@link java.net.http.HttpClient} is tuned with system properties, which must be set
+ * before the first request is sent:
+ * <ul>
+ *   <li>{@code jdk.httpclient.keepalive.timeout}: the number of seconds an idle connection is kept alive</li>
+ *   <li>{@code jdk.httpclient.connectionPoolSize}: the maximum number of idle HTTP/1.1 connections kept in the pool</li>
+ * </ul>
+ * The number of concurrent requests (and thus of HTTP/1.1 connections) per host can be limited with
+ * {@link JdkHttpClientBuilder#maxConcurrentRequestsPerHost(Integer)}. Like the connection pool, the limit is shared:
+ * all clients on the shared transport that are configured with the same limit share its permits for each host.
+ * <p>
+ * The methods of this class report the requests of all {@link JdkHttpClient}s in the process.
+ */
+public final class JdkHttpTransport {
+
+    private static final Map<Optional<Duration>, java.net.http.HttpClient> SHARED_CLIENTS = new ConcurrentHashMap<>();
+    private static final Map<HostLimit, HostLimiter> SHARED_HOST_LIMITERS = new ConcurrentHashMap<>();
+
+    private static final Map<String, AtomicInteger> IN_FLIGHT_REQUESTS = new ConcurrentHashMap<>();
+    private static final LongAdder COMPLETED_REQUESTS = new LongAdder();
+    private static final LongAdder FAILED_REQUESTS = new LongAdder();
+
+    private JdkHttpTransport() {
+    }
+
+    static java.net.http.HttpClient sharedClient(Duration connectTimeout) {
+        return SHARED_CLIENTS.computeIfAbsent(Optional.ofNullable(connectTimeout), timeout -> {
+            java.net.http.HttpClient.Builder builder = java.net.http.HttpClient.newBuilder()
+                    .version(java.net.http.HttpClient.Version.HTTP_2);
+            timeout.ifPresent(builder::connectTimeout);
+            return builder.build();
+        });
+    }
+
+    static HostLimiter sharedHostLimiter(String host, int maxConcurrentRequests) {
+        return SHARED_HOST_LIMITERS.computeIfAbsent(new HostLimit(host, maxConcurrentRequests),
+                hostLimit -> new HostLimiter(hostLimit.maxConcurrentRequests()));
+    }
+
+    static String host(String url) {
+        URI uri = URI.create(url);
+        return uri.getPort() == -1 ? uri.getHost() : uri.getHost() + ":" + uri.getPort();
+    }
+
+    static void requestStarted(String host) {
+        IN_FLIGHT_REQUESTS.computeIfAbsent(host, h -> new AtomicInteger()).incrementAndGet();
+    }
+
+    static void requestFinished(String host, boolean successful) {
+        IN_FLIGHT_REQUESTS.get(host).decrementAndGet();
+        if (successful) {
+            COMPLETED_REQUESTS.increment();
+        } else {
+            FAILED_REQUESTS.increment();
+        }
+    }
+
+    /**
+     * @return the number of requests that are currently in flight, across all hosts
+     */
+    public static int inFlightRequests() {
+        return IN_FLIGHT_REQUESTS.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    /**
+     * @param host the host, followed by {@code :port} when the URL specifies a port
+     * @return the number of requests to the given host that are currently in flight
+     */
+    public static int inFlightRequests(String host) {
+        AtomicInteger inFlight = IN_FLIGHT_REQUESTS.get(host);
+        return inFlight == null ? 0 : inFlight.get();
+    }
+
+    /**
+     * @return the number of hosts that currently have requests in flight,
+     * which is the number of hosts with at least one open connection in use
+     */
+    public static int activeHosts() {
+        return (int) IN_FLIGHT_REQUESTS.values().stream().filter(inFlight -> inFlight.get() > 0).count();
+    }
+
+    /**
+     * @return the number of requests that completed with a successful (2XX) response
+     */
+    public static long completedRequests() {
+        return COMPLETED_REQUESTS.sum();
+    }
+
+    /**
+     * @return the number of requests that failed with an error response or an I/O error
+     */
+    public static long failedRequests() {
+        return FAILED_REQUESTS.sum();
+    }
+
+    private record HostLimit(String host, int maxConcurrentRequests) {
+    }
+}
@@ -0,0 +1,167 @@
+package dev.langchain4j.http.client.jdk;
+
+import com.sun.net.httpserver.HttpServer;
+import dev.langchain4j.exception.HttpException;
+import dev.langchain4j.http.client.HttpRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.langchain4j.http.client.HttpMethod.GET;
+import static java.time.Duration.ofSeconds;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JdkHttpTransportTest {
+
+    HttpServer server;
+    AtomicInteger concurrentRequests = new AtomicInteger();
+    AtomicInteger maxConcurrentRequests = new AtomicInteger();
+    CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/slow", exchange -> {
+            maxConcurrentRequests.accumulateAndGet(concurrentRequests.incrementAndGet(), Math::max);
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            concurrentRequests.decrementAndGet();
+            respond(exchange, 200, "ok");
+        });
+        server.createContext("/error", exchange -> respond(exchange, 500, "error"));
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        release.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    void should_share_one_client_per_connect_timeout() {
+
+        assertThat(JdkHttpTransport.sharedClient(ofSeconds(15))).isSameAs(JdkHttpTransport.sharedClient(ofSeconds(15)));
+        assertThat(JdkHttpTransport.sharedClient(ofSeconds(15))).isNotSameAs(JdkHttpTransport.sharedClient(ofSeconds(30)));
+        assertThat(JdkHttpTransport.sharedClient(null).version()).isEqualTo(java.net.http.HttpClient.Version.HTTP_2);
+    }
+
+    @Test
+    void should_limit_concurrent_requests_per_host_and_report_in_flight_requests() throws Exception {
+
+        // given
+        JdkHttpClient client = JdkHttpClient.builder()
+                .maxConcurrentRequestsPerHost(2)
+                .build();
+        HttpRequest request = HttpRequest.builder()
+                .method(GET)
+                .url(url("/slow"))
+                .build();
+        String host = JdkHttpTransport.host(request.url());
+        long completedBefore = JdkHttpTransport.completedRequests();
+
+        // when
+        List<CompletableFuture<?>> responses = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            responses.add(client.executeAsync(request));
+        }
+        awaitInFlightRequests(host, 2);
+
+        // then
+        assertThat(JdkHttpTransport.inFlightRequests(host)).isEqualTo(2);
+
+        // when
+        release.countDown();
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(maxConcurrentRequests.get()).isEqualTo(2);
+        assertThat(JdkHttpTransport.inFlightRequests(host)).isZero();
+        assertThat(JdkHttpTransport.completedRequests() - completedBefore).isEqualTo(5);
+    }
+
+    @Test
+    void should_share_limit_of_concurrent_requests_per_host_between_clients() throws Exception {
+
+        // given
+        List<JdkHttpClient> clients = List.of(
+                JdkHttpClient.builder().maxConcurrentRequestsPerHost(3).build(),
+                JdkHttpClient.builder().maxConcurrentRequestsPerHost(3).build());
+        HttpRequest request = HttpRequest.builder()
+                .method(GET)
+                .url(url("/slow"))
+                .build();
+        String host = JdkHttpTransport.host(request.url());
+
+        // when
+        List<CompletableFuture<?>> responses = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            responses.add(clients.get(i % 2).executeAsync(request));
+        }
+        awaitInFlightRequests(host, 3);
+
+        // then
+        assertThat(JdkHttpTransport.inFlightRequests(host)).isEqualTo(3);
+
+        // when
+        release.countDown();
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(maxConcurrentRequests.get()).isEqualTo(3);
+    }
+
+    @Test
+    void should_count_failed_requests() {
+
+        // given
+        JdkHttpClient client = JdkHttpClient.builder().build();
+        HttpRequest request = HttpRequest.builder()
+                .method(GET)
+                .url(url("/error"))
+                .build();
+        long failedBefore = JdkHttpTransport.failedRequests();
+
+        // when-then
+        assertThatThrownBy(() -> client.execute(request)).isExactlyInstanceOf(HttpException.class);
+        assertThat(JdkHttpTransport.failedRequests() - failedBefore).isEqualTo(1);
+        assertThat(JdkHttpTransport.inFlightRequests(JdkHttpTransport.host(request.url()))).isZero();
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+
+    private static void awaitInFlightRequests(String host, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (JdkHttpTransport.inFlightRequests(host) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        // give requests over the limit a chance to be (wrongly) sent
+        Thread.sleep(100);
+    }
+
+    private static void respond(com.sun.net.httpserver.HttpExchange exchange, int statusCode, String body) throws IOException {
+        byte[] bytes = body.getBytes();
+        exchange.sendResponseHeaders(statusCode, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
@@ -20,9 +20,13 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import static dev.langchain4j.data.embedding.Embedding.from;
+import static dev.langchain4j.internal.EmbeddingBatchUtils.embedInBatches;
+import static dev.langchain4j.internal.EmbeddingBatchUtils.partition;
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.model.azure.AzureOpenAiEmbeddingModelName.TEXT_EMBEDDING_ADA_002;
 import static dev.langchain4j.model.azure.InternalAzureOpenAiHelper.setupSyncClient;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
@@ -61,12 +65,18 @@ public class AzureOpenAiEmbeddingModel extends DimensionAwareEmbeddingModel impl
     private final String deploymentName;
     private final Tokenizer tokenizer;
     private final Integer dimensions;
+    private final Integer maxTokensPerBatch;
+    private final int maxConcurrentBatches;
+    private final Executor executor;
 
     private AzureOpenAiEmbeddingModel(OpenAIClient client,
                                       String deploymentName,
                                       Tokenizer tokenizer,
-                                      Integer dimensions) {
-        this(deploymentName, tokenizer, dimensions);
+                                      Integer dimensions,
+                                      Integer maxTokensPerBatch,
+                                      Integer maxConcurrentBatches,
+                                      Executor executor) {
+        this(deploymentName, tokenizer, dimensions, maxTokensPerBatch, maxConcurrentBatches, executor);
         this.client = client;
     }
 
@@ -83,7 +93,7 @@ public class AzureOpenAiEmbeddingModel extends DimensionAwareEmbeddingModel impl
                                      Integer dimensions,
                                      Map<String, String> customHeaders) {
 
-        this(deploymentName, tokenizer, dimensions);
+        this(deploymentName, tokenizer, dimensions, null, null, null);
         this.client = setupSyncClient(endpoint, serviceVersion, apiKey, timeout, maxRetries, proxyOptions, logRequestsAndResponses, userAgentSuffix, customHeaders);
     }
 
@@ -100,7 +110,7 @@ public class AzureOpenAiEmbeddingModel extends DimensionAwareEmbeddingModel impl
                                      Integer dimensions,
                                      Map<String, String> customHeaders) {
 
-        this(deploymentName, tokenizer, dimensions);
+        this(deploymentName, tokenizer, dimensions, null, null, null);
         this.client = setupSyncClient(endpoint, serviceVersion, keyCredential, timeout, maxRetries, proxyOptions, logRequestsAndResponses, userAgentSuffix, customHeaders);
     }
 
@@ -117,17 +127,23 @@ public class AzureOpenAiEmbeddingModel extends DimensionAwareEmbeddingModel impl
                                      Integer dimensions,
                                      Map<String, String> customHeaders) {
 
-        this(deploymentName, tokenizer, dimensions);
+        this(deploymentName, tokenizer, dimensions, null, null, null);
         this.client = setupSyncClient(endpoint, serviceVersion, tokenCredential, timeout, maxRetries, proxyOptions, logRequestsAndResponses, userAgentSuffix, customHeaders);
     }
 
     private AzureOpenAiEmbeddingModel(String deploymentName,
                                       Tokenizer tokenizer,
-                                      Integer dimensions) {
+                                      Integer dimensions,
+                                      Integer maxTokensPerBatch,
+                                      Integer maxConcurrentBatches,
+                                      Executor executor) {
 
         this.deploymentName = getOrDefault(deploymentName, TEXT_EMBEDDING_ADA_002.modelName());
         this.tokenizer = getOrDefault(tokenizer, AzureOpenAiTokenizer::new);
         this.dimensions = dimensions;
+        this.maxTokensPerBatch = maxTokensPerBatch;
+        this.maxConcurrentBatches = ensureGreaterThanZero(getOrDefault(maxConcurrentBatches, 1), "maxConcurrentBatches");
+        this.executor = executor;
     }
 
     /**
@@ -148,28 +164,24 @@ public class AzureOpenAiEmbeddingModel extends DimensionAwareEmbeddingModel impl
     }
 
     private Response<List<Embedding>> embedTexts(List<String> texts) {
+        List<List<String>> batches = partition(texts, BATCH_SIZE, maxTokensPerBatch, this::estimateTokenCount);
+        return embedInBatches(batches, this::embedBatch, maxConcurrentBatches, executor);
+    }
 
-        List<Embedding> embeddings = new ArrayList<>();
-
-        int inputTokenCount = 0;
-        for (int i = 0; i < texts.size(); i += BATCH_SIZE) {
-
-            List<String> batch = texts.subList(i, Math.min(i + BATCH_SIZE, texts.size()));
-
-            EmbeddingsOptions options = new EmbeddingsOptions(batch).setDimensions(dimensions);
-            Embeddings response = client.getEmbeddings(deploymentName, options);
+    private Response<List<Embedding>> embedBatch(List<String> batch) {
 
-            for (EmbeddingItem embeddingItem : response.getData()) {
-                Embedding embedding = from(embeddingItem.getEmbedding());
-                embeddings.add(embedding);
-            }
+        EmbeddingsOptions options = new EmbeddingsOptions(batch).setDimensions(dimensions);
+        Embeddings response = client.getEmbeddings(deploymentName, options);
 
-            inputTokenCount += response.getUsage().getPromptTokens();
+        List<Embedding> embeddings = new ArrayList<>();
+        for (EmbeddingItem embeddingItem : response.getData()) {
+            Embedding embedding = from(embeddingItem.getEmbedding());
+            embeddings.add(embedding);
         }
 
         return Response.from(
                 embeddings,
-                new TokenUsage(inputTokenCount)
+                new TokenUsage(response.getUsage().getPromptTokens())
         );
     }
 
@@ -209,6 +221,9 @@ public class AzureOpenAiEmbeddingModel extends DimensionAwareEmbeddingModel impl
         private String userAgentSuffix;
         private Integer dimensions;
         private Map<String, String> customHeaders;
+        private Integer maxTokensPerBatch;
+        private Integer maxConcurrentBatches;
+        private Executor executor;
 
         /**
          * Sets the Azure OpenAI endpoint. This is a mandatory parameter.
@@ -329,61 +344,58 @@ public class AzureOpenAiEmbeddingModel extends DimensionAwareEmbeddingModel impl
             return this;
         }
 
+        /**
+         * Sets the maximum number of tokens in a single batch, in addition to the limit of 16 segments per batch.
+         * Token counts are estimated using the configured tokenizer.
+         *
+         * @param maxTokensPerBatch The maximum number of tokens in a single batch.
+         * @return builder
+         */
+        public Builder maxTokensPerBatch(Integer maxTokensPerBatch) {
+            this.maxTokensPerBatch = maxTokensPerBatch;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of batches that are sent to Azure OpenAI at the same time.
+         * The order of the returned embeddings is preserved. Default: 1.
+         *
+         * @param maxConcurrentBatches The maximum number of concurrent batches.
+         * @return builder
+         */
+        public Builder maxConcurrentBatches(Integer maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
+        /**
+         * Sets the executor used to send batches concurrently. By default, the shared executor of {@code DefaultExecutorProvider} is used.
+         *
+         * @param executor The executor.
+         * @return builder
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         public AzureOpenAiEmbeddingModel build() {
-            if (openAIClient == null) {
-                if (tokenCredential != null) {
-                    return new AzureOpenAiEmbeddingModel(
-                            endpoint,
-                            serviceVersion,
-                            tokenCredential,
-                            deploymentName,
-                            tokenizer,
-                            timeout,
-                            maxRetries,
-                            proxyOptions,
-                            logRequestsAndResponses,
-                            userAgentSuffix,
-                            dimensions,
-                            customHeaders
-                    );
-                } else if (keyCredential != null) {
-                    return new AzureOpenAiEmbeddingModel(
-                            endpoint,
-                            serviceVersion,
-                            keyCredential,
-                            deploymentName,
-                            tokenizer,
-                            timeout,
-                            maxRetries,
-                            proxyOptions,
-                            logRequestsAndResponses,
-                            userAgentSuffix,
-                            dimensions,
-                            customHeaders
-                    );
-                }
-                return new AzureOpenAiEmbeddingModel(
-                        endpoint,
-                        serviceVersion,
-                        apiKey,
-                        deploymentName,
-                        tokenizer,
-                        timeout,
-                        maxRetries,
-                        proxyOptions,
-                        logRequestsAndResponses,
-                        userAgentSuffix,
-                        dimensions,
-                        customHeaders
-                );
-            } else {
-                return new AzureOpenAiEmbeddingModel(
-                        openAIClient,
-                        deploymentName,
-                        tokenizer,
-                        dimensions
-                );
+            OpenAIClient client = openAIClient;
+            if (client == null) {
+                Object credential = tokenCredential != null ? tokenCredential
+                        : keyCredential != null ? keyCredential
+                        : apiKey;
+                client = setupSyncClient(endpoint, serviceVersion, credential, timeout, maxRetries, proxyOptions, logRequestsAndResponses, userAgentSuffix, customHeaders);
             }
+            return new AzureOpenAiEmbeddingModel(
+                    client,
+                    deploymentName,
+                    tokenizer,
+                    dimensions,
+                    maxTokensPerBatch,
+                    maxConcurrentBatches,
+                    executor
+            );
         }
     }
 }
@@ -16,6 +16,7 @@ import static software.amazon.awssdk.core.SdkBytes.fromByteArray;
 
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
 import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.binary.BinaryData;
 import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.ChatMessageType;
@@ -304,10 +305,10 @@ public class BedrockChatModel implements ChatLanguageModel {
         if (content instanceof TextContent text) {
             return ContentBlock.builder().text(text.text()).build();
         } else if (content instanceof TextFileContent textFileContent) {
+            final String base64Data = textFileContent.textFile().base64Data();
             final SdkBytes bytes = fromByteArray(
-                    nonNull(textFileContent.textFile().base64Data())
-                            ? Base64.getDecoder()
-                                    .decode(textFileContent.textFile().base64Data())
+                    nonNull(base64Data)
+                            ? Base64.getDecoder().decode(base64Data)
                             : readBytes(
                                     String.valueOf(textFileContent.textFile().url())));
             return ContentBlock.builder()
@@ -319,10 +320,10 @@ public class BedrockChatModel implements ChatLanguageModel {
                             .build())
                     .build();
         } else if (content instanceof PdfFileContent pdfFileContent) {
+            final BinaryData binaryData = pdfFileContent.pdfFile().binaryData();
             final SdkBytes bytes = fromByteArray(
-                    nonNull(pdfFileContent.pdfFile().base64Data())
-                            ? Base64.getDecoder()
-                                    .decode(pdfFileContent.pdfFile().base64Data())
+                    nonNull(binaryData)
+                            ? binaryData.bytes()
                             : readBytes(String.valueOf(pdfFileContent.pdfFile().url())));
             return ContentBlock.builder()
                     .document(DocumentBlock.builder()
@@ -349,9 +350,10 @@ public class BedrockChatModel implements ChatLanguageModel {
     }
 
     private ContentBlock createImageBlock(ImageContent imageContent) {
+        final BinaryData binaryData = imageContent.image().binaryData();
         final SdkBytes bytes = fromByteArray(
-                nonNull(imageContent.image().base64Data())
-                        ? Base64.getDecoder().decode(imageContent.image().base64Data())
+                nonNull(binaryData)
+                        ? binaryData.bytes()
                         : readBytes(String.valueOf(imageContent.image().url())));
         // https://docs.aws.amazon.com/bedrock/latest/APIReference/API_runtime_ImageBlock.html
         // imgFormat valid values are : png | jpeg | gif | webp
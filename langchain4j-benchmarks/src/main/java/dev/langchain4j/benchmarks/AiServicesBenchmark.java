@@ -0,0 +1,94 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import dev.langchain4j.service.AiServices;
+import dev.langchain4j.service.SystemMessage;
+import dev.langchain4j.service.UserMessage;
+import dev.langchain4j.service.V;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the overhead of an AI Service proxy (templating, chat memory, output parsing)
+ * around a stub model that answers immediately.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AiServicesBenchmark {
+
+    interface Assistant {
+
+        @SystemMessage("You are a helpful assistant.")
+        @UserMessage("Answer the question about {{topic}}: {{question}}")
+        String answer(@V("topic") String topic, @V("question") String question);
+    }
+
+    interface Calculator {
+
+        @UserMessage("How much is {{it}}?")
+        int calculate(String expression);
+    }
+
+    static class StubChatModel implements ChatLanguageModel {
+
+        private final String answer;
+
+        StubChatModel(String answer) {
+            this.answer = answer;
+        }
+
+        @Override
+        public Response<AiMessage> generate(List<ChatMessage> messages) {
+            return Response.from(AiMessage.from(answer), new TokenUsage(10, 5));
+        }
+    }
+
+    Assistant assistant;
+    Assistant assistantWithMemory;
+    Calculator calculator;
+
+    @Setup
+    public void setUp() {
+        ChatLanguageModel model = new StubChatModel("The answer is 42.");
+        assistant = AiServices.create(Assistant.class, model);
+        assistantWithMemory = AiServices.builder(Assistant.class)
+                .chatLanguageModel(model)
+                .chatMemory(MessageWindowChatMemory.withMaxMessages(20))
+                .build();
+        calculator = AiServices.create(Calculator.class, new StubChatModel("42"));
+    }
+
+    @Benchmark
+    public String string_answer() {
+        return assistant.answer("life", "What is the meaning of life?");
+    }
+
+    @Benchmark
+    public String string_answer_with_chat_memory() {
+        return assistantWithMemory.answer("life", "What is the meaning of life?");
+    }
+
+    @Benchmark
+    public int int_answer() {
+        return calculator.calculate("6 * 7");
+    }
+}
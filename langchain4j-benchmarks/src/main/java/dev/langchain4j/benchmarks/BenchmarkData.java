@@ -0,0 +1,51 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.data.embedding.Embedding;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic data, so that benchmarks run offline and results are comparable between runs.
+ */
+class BenchmarkData {
+
+    private static final String[] WORDS = {
+        "the", "model", "retrieves", "relevant", "segments", "from", "an", "embedding", "store", "and",
+        "injects", "them", "into", "prompt", "before", "calling", "language", "with", "user", "question",
+        "documents", "are", "split", "tokens", "similarity", "search", "returns", "matches", "ranked", "by", "score"
+    };
+
+    private BenchmarkData() {}
+
+    static Embedding randomEmbedding(Random random, int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = random.nextFloat() * 2 - 1;
+        }
+        return Embedding.from(vector);
+    }
+
+    /**
+     * Generates text of roughly {@code length} characters, made of sentences of 5 to 25 words,
+     * grouped into paragraphs of 3 to 8 sentences.
+     */
+    static String text(Random random, int length) {
+        StringBuilder text = new StringBuilder(length + 200);
+        while (text.length() < length) {
+            int sentences = 3 + random.nextInt(6);
+            for (int s = 0; s < sentences; s++) {
+                int words = 5 + random.nextInt(21);
+                for (int w = 0; w < words; w++) {
+                    String word = WORDS[random.nextInt(WORDS.length)];
+                    if (w == 0) {
+                        text.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+                    } else {
+                        text.append(' ').append(word);
+                    }
+                }
+                text.append(". ");
+            }
+            text.append("\n\n");
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,75 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ChatMessageDeserializer;
+import dev.langchain4j.data.message.ChatMessageSerializer;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks (de)serialization of a chat memory with {@code messages} messages, as done by persistent chat memory stores.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChatMessageJsonBenchmark {
+
+    @Param({"10", "100"})
+    int messages;
+
+    List<ChatMessage> chatMessages;
+    String json;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        chatMessages = new ArrayList<>(messages);
+        chatMessages.add(SystemMessage.from("You are a helpful assistant."));
+        while (chatMessages.size() < messages) {
+            chatMessages.add(UserMessage.from(BenchmarkData.text(random, 200)));
+            if (chatMessages.size() % 5 == 0) {
+                ToolExecutionRequest request = ToolExecutionRequest.builder()
+                        .id("call_" + chatMessages.size())
+                        .name("getWeather")
+                        .arguments("{\"city\":\"Munich\"}")
+                        .build();
+                chatMessages.add(AiMessage.from(request));
+                chatMessages.add(ToolExecutionResultMessage.from(request, "sunny, 25 degrees"));
+            } else {
+                chatMessages.add(AiMessage.from(BenchmarkData.text(random, 400)));
+            }
+        }
+        json = ChatMessageSerializer.messagesToJson(chatMessages);
+    }
+
+    @Benchmark
+    public String serialize() {
+        return ChatMessageSerializer.messagesToJson(chatMessages);
+    }
+
+    @Benchmark
+    public List<ChatMessage> deserialize() {
+        return ChatMessageDeserializer.messagesFromJson(json);
+    }
+}
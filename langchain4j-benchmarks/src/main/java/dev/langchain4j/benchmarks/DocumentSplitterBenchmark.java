@@ -0,0 +1,59 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentSplitter;
+import dev.langchain4j.data.document.splitter.DocumentSplitters;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.openai.OpenAiTokenizer;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static dev.langchain4j.model.openai.OpenAiChatModelName.GPT_4_O_MINI;
+
+/**
+ * Benchmarks {@code DocumentSplitters.recursive()}, which is built from {@code HierarchicalDocumentSplitter}s.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DocumentSplitterBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    int documentLength;
+
+    Document document;
+    DocumentSplitter charSplitter;
+    DocumentSplitter tokenSplitter;
+
+    @Setup
+    public void setUp() {
+        document = Document.from(BenchmarkData.text(new Random(42), documentLength));
+        charSplitter = DocumentSplitters.recursive(1000, 100);
+        tokenSplitter = DocumentSplitters.recursive(300, 30, new OpenAiTokenizer(GPT_4_O_MINI));
+    }
+
+    @Benchmark
+    public List<TextSegment> split_by_chars() {
+        return charSplitter.split(document);
+    }
+
+    @Benchmark
+    public List<TextSegment> split_by_tokens() {
+        return tokenSplitter.split(document);
+    }
+}
@@ -0,0 +1,55 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.store.embedding.filter.Filter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FilterBenchmark {
+
+    Metadata metadata;
+    Filter simpleFilter;
+    Filter compositeFilter;
+
+    @Setup
+    public void setUp() {
+        metadata = new Metadata()
+                .put("source", "handbook.pdf")
+                .put("page", 42)
+                .put("score", 0.87)
+                .put("language", "en");
+        simpleFilter = metadataKey("source").isEqualTo("handbook.pdf");
+        compositeFilter = metadataKey("source").isIn(List.of("handbook.pdf", "faq.md", "terms.txt"))
+                .and(metadataKey("page").isGreaterThan(10))
+                .and(metadataKey("score").isBetween(0.5, 1.0))
+                .and(metadataKey("language").isNotEqualTo("de").or(metadataKey("missing").isEqualTo("x")));
+    }
+
+    @Benchmark
+    public boolean simple() {
+        return simpleFilter.test(metadata);
+    }
+
+    @Benchmark
+    public boolean composite() {
+        return compositeFilter.test(metadata);
+    }
+}
@@ -0,0 +1,78 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InMemoryEmbeddingStoreBenchmark {
+
+    @Param({"1000", "10000", "50000"})
+    int size;
+
+    @Param({"384", "1536"})
+    int dimension;
+
+    InMemoryEmbeddingStore<TextSegment> store;
+    EmbeddingSearchRequest request;
+    EmbeddingSearchRequest filteredRequest;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<Embedding> embeddings = new ArrayList<>(size);
+        List<TextSegment> segments = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            embeddings.add(BenchmarkData.randomEmbedding(random, dimension));
+            segments.add(TextSegment.from("segment " + i, Metadata.from("group", String.valueOf(i % 10))));
+        }
+        store = new InMemoryEmbeddingStore<>();
+        store.addAll(embeddings, segments);
+
+        Embedding query = BenchmarkData.randomEmbedding(random, dimension);
+        request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(query)
+                .maxResults(10)
+                .build();
+        filteredRequest = EmbeddingSearchRequest.builder()
+                .queryEmbedding(query)
+                .maxResults(10)
+                .filter(metadataKey("group").isEqualTo("3"))
+                .build();
+    }
+
+    @Benchmark
+    public EmbeddingSearchResult<TextSegment> search() {
+        return store.search(request);
+    }
+
+    @Benchmark
+    public EmbeddingSearchResult<TextSegment> search_with_filter() {
+        return store.search(filteredRequest);
+    }
+}
@@ -0,0 +1,58 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.model.input.Prompt;
+import dev.langchain4j.model.input.PromptTemplate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PromptTemplateBenchmark {
+
+    PromptTemplate template;
+    Map<String, Object> variables;
+
+    @Setup
+    public void setUp() {
+        template = PromptTemplate.from("""
+                Answer the question using only the information below.
+                If the answer is not there, say that you don't know.
+
+                Question: {{question}}
+
+                Information:
+                {{contents}}
+
+                Answer in {{language}}, addressing {{name}} politely.""");
+        variables = Map.of(
+                "question", "How do I cancel my booking?",
+                "contents", "Bookings can be cancelled up to 24 hours in advance. Cancellation fees may apply.",
+                "language", "English",
+                "name", "Klaus");
+    }
+
+    @Benchmark
+    public Prompt render() {
+        return template.apply(variables);
+    }
+
+    @Benchmark
+    public Prompt parse_and_render() {
+        return PromptTemplate.from("Tell me a {{adjective}} joke about {{topic}}")
+                .apply(Map.of("adjective", "funny", "topic", "cats"));
+    }
+}
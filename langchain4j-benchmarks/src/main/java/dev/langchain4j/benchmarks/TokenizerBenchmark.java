@@ -0,0 +1,61 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.Tokenizer;
+import dev.langchain4j.model.openai.OpenAiTokenizer;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static dev.langchain4j.model.openai.OpenAiChatModelName.GPT_4_O_MINI;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenizerBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    int textLength;
+
+    Tokenizer tokenizer;
+    String text;
+    List<ChatMessage> messages;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        tokenizer = new OpenAiTokenizer(GPT_4_O_MINI);
+        text = BenchmarkData.text(random, textLength);
+        messages = List.of(
+                SystemMessage.from("You are a helpful assistant."),
+                UserMessage.from(text),
+                AiMessage.from(BenchmarkData.text(random, textLength)));
+    }
+
+    @Benchmark
+    public int count_tokens_in_text() {
+        return tokenizer.estimateTokenCountInText(text);
+    }
+
+    @Benchmark
+    public int count_tokens_in_messages() {
+        return tokenizer.estimateTokenCountInMessages(messages);
+    }
+}
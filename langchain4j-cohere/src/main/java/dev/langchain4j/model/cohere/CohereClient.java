@@ -5,17 +5,23 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.SerializationFeature;
-import dev.langchain4j.internal.Utils;
+import dev.langchain4j.http.client.HttpClient;
+import dev.langchain4j.http.client.HttpClientBuilder;
+import dev.langchain4j.http.client.HttpClientBuilderLoader;
+import dev.langchain4j.http.client.HttpRequest;
+import dev.langchain4j.http.client.SuccessfulHttpResponse;
+import dev.langchain4j.http.client.jdk.JdkHttpClient;
+import dev.langchain4j.http.client.log.LoggingHttpClient;
 import lombok.Builder;
-import okhttp3.OkHttpClient;
-import retrofit2.Retrofit;
-import retrofit2.converter.jackson.JacksonConverterFactory;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.net.Proxy;
+import java.net.ProxySelector;
 import java.time.Duration;
-import java.util.Objects;
 
+import static dev.langchain4j.http.client.HttpMethod.POST;
+import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 
 class CohereClient {
@@ -26,73 +32,94 @@ class CohereClient {
             .setSerializationInclusion(JsonInclude.Include.NON_NULL)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
-    private final CohereApi cohereApi;
+    private final HttpClient httpClient;
+    private final String baseUrl;
     private final String authorizationHeader;
 
     @Builder
-    CohereClient(String baseUrl, String apiKey, Duration timeout, Proxy proxy, Boolean logRequests, Boolean logResponses) {
+    CohereClient(HttpClientBuilder httpClientBuilder,
+                 String baseUrl,
+                 String apiKey,
+                 Duration timeout,
+                 Proxy proxy,
+                 Boolean logRequests,
+                 Boolean logResponses) {
+
+        if (proxy != null) {
+            if (httpClientBuilder != null) {
+                throw new IllegalArgumentException("proxy cannot be combined with httpClientBuilder, "
+                        + "please configure the proxy on the HTTP client instead");
+            }
+            // a proxied client cannot share the connections of the process-wide transport
+            httpClientBuilder = JdkHttpClient.builder()
+                    .httpClientBuilder(java.net.http.HttpClient.newBuilder().proxy(toProxySelector(proxy)));
+        }
+        httpClientBuilder = getOrDefault(httpClientBuilder, HttpClientBuilderLoader::loadHttpClientBuilder);
 
-        OkHttpClient.Builder okHttpClientBuilder = new OkHttpClient.Builder()
-                .callTimeout(timeout)
-                .connectTimeout(timeout)
-                .readTimeout(timeout)
-                .writeTimeout(timeout);
+        HttpClient httpClient = httpClientBuilder
+                .connectTimeout(getOrDefault(timeout, httpClientBuilder.connectTimeout()))
+                .readTimeout(getOrDefault(timeout, httpClientBuilder.readTimeout()))
+                .build();
 
-        if (logRequests) {
-            okHttpClientBuilder.addInterceptor(new RequestLoggingInterceptor());
-        }
-        if (logResponses) {
-            okHttpClientBuilder.addInterceptor(new ResponseLoggingInterceptor());
+        if (logRequests || logResponses) {
+            this.httpClient = new LoggingHttpClient(httpClient, logRequests, logResponses);
+        } else {
+            this.httpClient = httpClient;
         }
 
-        if (Objects.nonNull(proxy)) {
-            okHttpClientBuilder.proxy(proxy);
-        }
+        this.baseUrl = ensureNotBlank(baseUrl, "baseUrl");
+        this.authorizationHeader = "Bearer " + ensureNotBlank(apiKey, "apiKey");
+    }
+
+    EmbedResponse embed(EmbedRequest request) {
+        return post("embed", request, EmbedResponse.class);
+    }
+
+    RerankResponse rerank(RerankRequest request) {
+        return post("rerank", request, RerankResponse.class);
+    }
+
+    private <T> T post(String path, Object request, Class<T> responseType) {
 
-        Retrofit retrofit = new Retrofit.Builder()
-                .baseUrl(Utils.ensureTrailingForwardSlash(baseUrl))
-                .client(okHttpClientBuilder.build())
-                .addConverterFactory(JacksonConverterFactory.create(OBJECT_MAPPER))
+        HttpRequest httpRequest = HttpRequest.builder()
+                .method(POST)
+                .url(baseUrl, path)
+                .addHeader("Accept", "application/json")
+                .addHeader("Content-Type", "application/json")
+                .addHeader("Authorization", authorizationHeader)
+                .bodySupplier(() -> toJson(request))
                 .build();
 
-        this.cohereApi = retrofit.create(CohereApi.class);
-        this.authorizationHeader = "Bearer " + ensureNotBlank(apiKey, "apiKey");
+        SuccessfulHttpResponse response = httpClient.execute(httpRequest);
+
+        return fromJson(response.bodyBytes(), responseType);
     }
 
-    EmbedResponse embed(EmbedRequest request) {
-        try {
-            retrofit2.Response<EmbedResponse> retrofitResponse
-                    = cohereApi.embed(request, authorizationHeader).execute();
+    private static ProxySelector toProxySelector(Proxy proxy) {
+        switch (proxy.type()) {
+            case DIRECT:
+                return java.net.http.HttpClient.Builder.NO_PROXY;
+            case HTTP:
+                return ProxySelector.of((InetSocketAddress) proxy.address());
+            default:
+                throw new IllegalArgumentException("Unsupported proxy type: " + proxy.type()
+                        + ", only HTTP proxies are supported");
+        }
+    }
 
-            if (retrofitResponse.isSuccessful()) {
-                return retrofitResponse.body();
-            } else {
-                throw toException(retrofitResponse);
-            }
+    private static byte[] toJson(Object object) {
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(object);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
-    RerankResponse rerank(RerankRequest request) {
+    private static <T> T fromJson(byte[] json, Class<T> type) {
         try {
-            retrofit2.Response<RerankResponse> retrofitResponse
-                    = cohereApi.rerank(request, authorizationHeader).execute();
-
-            if (retrofitResponse.isSuccessful()) {
-                return retrofitResponse.body();
-            } else {
-                throw toException(retrofitResponse);
-            }
+            return OBJECT_MAPPER.readValue(json, type);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
-
-    private static RuntimeException toException(retrofit2.Response<?> response) throws IOException {
-        int code = response.code();
-        String body = response.errorBody().string();
-        String errorMessage = String.format("status code: %s; body: %s", code, body);
-        return new RuntimeException(errorMessage);
-    }
 }
@@ -2,6 +2,7 @@ package dev.langchain4j.model.cohere;
 
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.http.client.HttpClientBuilder;
 import dev.langchain4j.model.embedding.DimensionAwareEmbeddingModel;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
@@ -9,10 +10,13 @@ import dev.langchain4j.model.output.TokenUsage;
 import lombok.Builder;
 
 import java.time.Duration;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
+import static dev.langchain4j.internal.EmbeddingBatchUtils.embedInBatches;
+import static dev.langchain4j.internal.EmbeddingBatchUtils.partition;
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static java.time.Duration.ofSeconds;
 import static java.util.Arrays.stream;
@@ -31,8 +35,9 @@ public class CohereEmbeddingModel extends DimensionAwareEmbeddingModel {
     private final String modelName;
     private final String inputType;
     private final int maxSegmentsPerBatch;
+    private final int maxConcurrentBatches;
+    private final Executor executor;
 
-    @Builder
     public CohereEmbeddingModel(String baseUrl,
                                 String apiKey,
                                 String modelName,
@@ -41,7 +46,23 @@ public class CohereEmbeddingModel extends DimensionAwareEmbeddingModel {
                                 Boolean logRequests,
                                 Boolean logResponses,
                                 Integer maxSegmentsPerBatch) {
+        this(null, baseUrl, apiKey, modelName, inputType, timeout, logRequests, logResponses, maxSegmentsPerBatch, null, null);
+    }
+
+    @Builder
+    private CohereEmbeddingModel(HttpClientBuilder httpClientBuilder,
+                                 String baseUrl,
+                                 String apiKey,
+                                 String modelName,
+                                 String inputType,
+                                 Duration timeout,
+                                 Boolean logRequests,
+                                 Boolean logResponses,
+                                 Integer maxSegmentsPerBatch,
+                                 Integer maxConcurrentBatches,
+                                 Executor executor) {
         this.client = CohereClient.builder()
+                .httpClientBuilder(httpClientBuilder)
                 .baseUrl(getOrDefault(baseUrl, DEFAULT_BASE_URL))
                 .apiKey(ensureNotBlank(apiKey, "apiKey"))
                 .timeout(getOrDefault(timeout, ofSeconds(60)))
@@ -51,6 +72,8 @@ public class CohereEmbeddingModel extends DimensionAwareEmbeddingModel {
         this.modelName = modelName;
         this.inputType = inputType;
         this.maxSegmentsPerBatch = getOrDefault(maxSegmentsPerBatch, DEFAULT_MAX_SEGMENTS_PER_BATCH);
+        this.maxConcurrentBatches = ensureGreaterThanZero(getOrDefault(maxConcurrentBatches, 1), "maxConcurrentBatches");
+        this.executor = executor;
     }
 
     /**
@@ -74,31 +97,24 @@ public class CohereEmbeddingModel extends DimensionAwareEmbeddingModel {
 
 
     private Response<List<Embedding>> embedTexts(List<String> texts) {
+        List<List<String>> batches = partition(texts, maxSegmentsPerBatch);
+        return embedInBatches(batches, this::embedBatch, maxConcurrentBatches, executor);
+    }
 
-        List<Embedding> embeddings = new ArrayList<>();
-        Integer totalTokenUsage = 0;
-
-        for (int i = 0; i < texts.size(); i += maxSegmentsPerBatch) {
-
-            List<String> batch = texts.subList(i, Math.min(i + maxSegmentsPerBatch, texts.size()));
+    private Response<List<Embedding>> embedBatch(List<String> batch) {
 
-            EmbedRequest request = EmbedRequest.builder()
-                    .texts(batch)
-                    .inputType(inputType)
-                    .model(modelName)
-                    .build();
+        EmbedRequest request = EmbedRequest.builder()
+                .texts(batch)
+                .inputType(inputType)
+                .model(modelName)
+                .build();
 
-            EmbedResponse response = this.client.embed(request);
-
-            embeddings.addAll(getEmbeddings(response));
-            totalTokenUsage += getTokenUsage(response);
-        }
+        EmbedResponse response = this.client.embed(request);
 
         return Response.from(
-                embeddings,
-                new TokenUsage(totalTokenUsage, 0)
+                getEmbeddings(response),
+                new TokenUsage(getTokenUsage(response), 0)
         );
-
     }
 
     private static List<Embedding> getEmbeddings(EmbedResponse response) {
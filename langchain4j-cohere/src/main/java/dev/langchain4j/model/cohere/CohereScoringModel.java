@@ -1,6 +1,7 @@
 package dev.langchain4j.model.cohere;
 
 import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.http.client.HttpClientBuilder;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.TokenUsage;
 import dev.langchain4j.model.scoring.ScoringModel;
@@ -29,7 +30,10 @@ public class CohereScoringModel implements ScoringModel {
     private final String modelName;
     private final Integer maxRetries;
 
-    @Builder
+    /**
+     * @deprecated Please use {@code builder()} instead.
+     */
+    @Deprecated
     public CohereScoringModel(
             String baseUrl,
             String apiKey,
@@ -39,8 +43,27 @@ public class CohereScoringModel implements ScoringModel {
             Proxy proxy,
             Boolean logRequests,
             Boolean logResponses
+    ) {
+        this(null, baseUrl, apiKey, modelName, timeout, maxRetries, proxy, logRequests, logResponses);
+    }
+
+    /**
+     * @param proxy an HTTP proxy. Cannot be combined with {@code httpClientBuilder}.
+     */
+    @Builder
+    private CohereScoringModel(
+            HttpClientBuilder httpClientBuilder,
+            String baseUrl,
+            String apiKey,
+            String modelName,
+            Duration timeout,
+            Integer maxRetries,
+            Proxy proxy,
+            Boolean logRequests,
+            Boolean logResponses
     ) {
         this.client = CohereClient.builder()
+                .httpClientBuilder(httpClientBuilder)
                 .baseUrl(getOrDefault(baseUrl, DEFAULT_BASE_URL))
                 .apiKey(ensureNotBlank(apiKey, "apiKey"))
                 .timeout(getOrDefault(timeout, ofSeconds(60)))
@@ -1,6 +1,7 @@
 package dev.langchain4j.data.audio;
 
 import dev.langchain4j.Experimental;
+import dev.langchain4j.data.binary.BinaryData;
 
 import java.net.URI;
 import java.util.Objects;
@@ -11,6 +12,7 @@ import static dev.langchain4j.internal.Utils.quoted;
 public class Audio {
     private final URI url;
     private final String base64Data;
+    private final BinaryData binaryData;
     private final String mimeType;
 
     /**
@@ -20,6 +22,7 @@ public class Audio {
     private Audio(Builder builder) {
         this.url = builder.url;
         this.base64Data = builder.base64Data;
+        this.binaryData = builder.binaryData;
         this.mimeType = builder.mimeType;
     }
 
@@ -41,12 +44,27 @@ public class Audio {
 
     /**
      * Get the base64 data of the audio.
+     * If the audio was created from {@link BinaryData}, the data is read and encoded on each call.
      * @return the base64 data of the audio, or null if not set.
      */
     public String base64Data() {
+        if (base64Data == null && binaryData != null) {
+            return binaryData.base64();
+        }
         return base64Data;
     }
 
+    /**
+     * Get the binary data of the audio, without encoding it.
+     * @return the binary data of the audio, or null if neither binary data nor base64 data is set.
+     */
+    public BinaryData binaryData() {
+        if (binaryData == null && base64Data != null) {
+            return BinaryData.fromBase64(base64Data);
+        }
+        return binaryData;
+    }
+
     /**
      * Get the mime type of the audio.
      * @return the mime type of the audio, or null if not set.
@@ -62,12 +80,13 @@ public class Audio {
         Audio that = (Audio) o;
         return Objects.equals(this.url, that.url)
             && Objects.equals(this.base64Data, that.base64Data)
+            && Objects.equals(this.binaryData, that.binaryData)
             && Objects.equals(this.mimeType, that.mimeType);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(url, base64Data, mimeType);
+        return Objects.hash(url, base64Data, binaryData, mimeType);
     }
 
     @Override
@@ -75,6 +94,7 @@ public class Audio {
         return "Audio {" +
             " url = " + quoted(url) +
             ", base64Data = " + quoted(base64Data) +
+            (binaryData == null ? "" : ", binaryData = " + binaryData) +
             ", mimeType = " + quoted(mimeType) +
             " }";
     }
@@ -86,6 +106,7 @@ public class Audio {
 
         private URI url;
         private String base64Data;
+        private BinaryData binaryData;
         private String mimeType;
 
         /**
@@ -119,6 +140,19 @@ public class Audio {
          */
         public Builder base64Data(String base64Data) {
             this.base64Data = base64Data;
+            this.binaryData = null;
+            return this;
+        }
+
+        /**
+         * Set the binary data of the audio, which is read only when needed.
+         * Replaces the base64 data, if set.
+         * @param binaryData the binary data of the audio.
+         * @return {@code this}
+         */
+        public Builder binaryData(BinaryData binaryData) {
+            this.binaryData = binaryData;
+            this.base64Data = null;
             return this;
         }
 
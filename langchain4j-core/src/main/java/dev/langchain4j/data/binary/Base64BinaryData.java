@@ -0,0 +1,60 @@
+package dev.langchain4j.data.binary;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+class Base64BinaryData implements BinaryData {
+
+    private final String base64Data;
+
+    Base64BinaryData(String base64Data) {
+        this.base64Data = base64Data;
+    }
+
+    @Override
+    public InputStream newInputStream() {
+        return Base64.getDecoder().wrap(new ByteArrayInputStream(base64Data.getBytes(ISO_8859_1)));
+    }
+
+    @Override
+    public byte[] bytes() {
+        return Base64.getDecoder().decode(base64Data);
+    }
+
+    @Override
+    public String base64() {
+        return base64Data;
+    }
+
+    @Override
+    public void writeBase64(OutputStream outputStream) {
+        try {
+            outputStream.write(base64Data.getBytes(ISO_8859_1));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return base64Data.equals(((Base64BinaryData) o).base64Data);
+    }
+
+    @Override
+    public int hashCode() {
+        return base64Data.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "BinaryData { base64Data = " + base64Data.length() + " characters }";
+    }
+}
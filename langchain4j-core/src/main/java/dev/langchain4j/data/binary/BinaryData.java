@@ -0,0 +1,114 @@
+package dev.langchain4j.data.binary;
+
+import dev.langchain4j.Experimental;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.function.Supplier;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * The binary payload of an image, audio, video or PDF file.
+ * <p>
+ * Unlike a Base64-encoded {@link String}, a {@code BinaryData} backed by a {@link Path} or a stream supplier
+ * does not hold the payload in memory: it is read only when needed,
+ * e.g., when a chat model encodes it into an outgoing request with {@link #writeBase64(OutputStream)}.
+ * Chat messages kept in a {@link dev.langchain4j.memory.ChatMemory} therefore only hold a reference to the payload.
+ */
+@Experimental
+public interface BinaryData {
+
+    /**
+     * Opens a new stream of the payload. The caller is responsible for closing it.
+     *
+     * @return a new stream of the payload.
+     * @throws UncheckedIOException if the payload cannot be read.
+     */
+    InputStream newInputStream();
+
+    /**
+     * Reads the whole payload into memory.
+     *
+     * @return the payload.
+     */
+    default byte[] bytes() {
+        try (InputStream inputStream = newInputStream()) {
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Encodes the whole payload into a Base64 string.
+     * Prefer {@link #writeBase64(OutputStream)} when the encoded payload is written to a stream.
+     *
+     * @return the Base64-encoded payload.
+     */
+    default String base64() {
+        return Base64.getEncoder().encodeToString(bytes());
+    }
+
+    /**
+     * Writes the Base64-encoded payload to the given stream, without reading the whole payload into memory.
+     * The given stream is not closed.
+     *
+     * @param outputStream the stream to write to.
+     */
+    default void writeBase64(OutputStream outputStream) {
+        try (InputStream inputStream = newInputStream()) {
+            OutputStream encodingStream = Base64.getEncoder().wrap(new NonClosingOutputStream(outputStream));
+            inputStream.transferTo(encodingStream);
+            encodingStream.close(); // writes the padding
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates a {@code BinaryData} that reads the payload from the given file each time it is needed.
+     *
+     * @param path the file.
+     * @return the {@code BinaryData}.
+     */
+    static BinaryData from(Path path) {
+        return new PathBinaryData(ensureNotNull(path, "path"));
+    }
+
+    /**
+     * Creates a {@code BinaryData} that holds the given bytes. The array is not copied.
+     *
+     * @param bytes the payload.
+     * @return the {@code BinaryData}.
+     */
+    static BinaryData from(byte[] bytes) {
+        return new BytesBinaryData(ensureNotNull(bytes, "bytes"));
+    }
+
+    /**
+     * Creates a {@code BinaryData} that opens a new stream from the given supplier each time the payload is needed.
+     * The supplier must return a new stream of the same payload on each call.
+     *
+     * @param inputStreamSupplier the supplier of the payload.
+     * @return the {@code BinaryData}.
+     */
+    static BinaryData from(Supplier<InputStream> inputStreamSupplier) {
+        return new StreamBinaryData(ensureNotNull(inputStreamSupplier, "inputStreamSupplier"));
+    }
+
+    /**
+     * Creates a {@code BinaryData} from an already Base64-encoded payload, which is written as is.
+     *
+     * @param base64Data the Base64-encoded payload.
+     * @return the {@code BinaryData}.
+     */
+    static BinaryData fromBase64(String base64Data) {
+        return new Base64BinaryData(ensureNotBlank(base64Data, "base64Data"));
+    }
+}
@@ -0,0 +1,41 @@
+package dev.langchain4j.data.binary;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+
+class BytesBinaryData implements BinaryData {
+
+    private final byte[] bytes;
+
+    BytesBinaryData(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    @Override
+    public InputStream newInputStream() {
+        return new ByteArrayInputStream(bytes);
+    }
+
+    @Override
+    public byte[] bytes() {
+        return bytes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return Arrays.equals(bytes, ((BytesBinaryData) o).bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bytes);
+    }
+
+    @Override
+    public String toString() {
+        return "BinaryData { bytes = " + bytes.length + " }";
+    }
+}
@@ -0,0 +1,53 @@
+package dev.langchain4j.data.binary;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static dev.langchain4j.internal.Utils.quoted;
+
+class PathBinaryData implements BinaryData {
+
+    private final Path path;
+
+    PathBinaryData(Path path) {
+        this.path = path;
+    }
+
+    @Override
+    public InputStream newInputStream() {
+        try {
+            return Files.newInputStream(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public byte[] bytes() {
+        try {
+            return Files.readAllBytes(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return path.equals(((PathBinaryData) o).path);
+    }
+
+    @Override
+    public int hashCode() {
+        return path.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "BinaryData { path = " + quoted(path) + " }";
+    }
+}
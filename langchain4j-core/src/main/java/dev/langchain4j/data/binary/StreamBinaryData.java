@@ -0,0 +1,25 @@
+package dev.langchain4j.data.binary;
+
+import java.io.InputStream;
+import java.util.function.Supplier;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+class StreamBinaryData implements BinaryData {
+
+    private final Supplier<InputStream> inputStreamSupplier;
+
+    StreamBinaryData(Supplier<InputStream> inputStreamSupplier) {
+        this.inputStreamSupplier = inputStreamSupplier;
+    }
+
+    @Override
+    public InputStream newInputStream() {
+        return ensureNotNull(inputStreamSupplier.get(), "inputStream");
+    }
+
+    @Override
+    public String toString() {
+        return "BinaryData { stream }";
+    }
+}
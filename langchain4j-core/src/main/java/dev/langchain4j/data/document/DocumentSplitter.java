@@ -3,7 +3,9 @@ package dev.langchain4j.data.document;
 import dev.langchain4j.data.segment.TextSegment;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 
+import static dev.langchain4j.internal.ParallelUtils.mapInParallel;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -37,4 +39,25 @@ public interface DocumentSplitter {
                 .flatMap(document -> split(document).stream())
                 .collect(toList());
     }
+
+    /**
+     * Splits a list of Documents into a list of TextSegment objects,
+     * splitting multiple Documents in parallel using the provided {@link Executor}.
+     * The TextSegments are returned in the same order as {@link #splitAll(List)} returns them,
+     * and the metadata of each TextSegment (e.g., its index within the Document) does not depend on the
+     * order in which Documents are processed.
+     * <br>
+     * Splitting is CPU-bound, so an executor with a thread per core,
+     * such as {@link java.util.concurrent.ForkJoinPool#commonPool()}, is the best fit.
+     * The {@link #split(Document)} method of this splitter must be thread-safe.
+     *
+     * @param documents The list of Documents to be split.
+     * @param executor  The executor used to split Documents in parallel.
+     * @return A list of TextSegment objects derived from the input Documents.
+     */
+    default List<TextSegment> splitAll(List<Document> documents, Executor executor) {
+        return mapInParallel(documents, this::split, executor).stream()
+                .flatMap(List::stream)
+                .collect(toList());
+    }
 }
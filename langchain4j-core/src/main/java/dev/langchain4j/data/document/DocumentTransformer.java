@@ -2,7 +2,9 @@ package dev.langchain4j.data.document;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
+import static dev.langchain4j.internal.ParallelUtils.mapInParallel;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -31,4 +33,19 @@ public interface DocumentTransformer {
                 .filter(Objects::nonNull)
                 .collect(toList());
     }
+
+    /**
+     * Transforms all the provided documents, transforming multiple documents in parallel using the provided {@link Executor}.
+     * The transformed documents are returned in the same order as {@link #transformAll(List)} returns them.
+     * The {@link #transform(Document)} method of this transformer must be thread-safe.
+     *
+     * @param documents A list of documents to be transformed.
+     * @param executor  The executor used to transform documents in parallel.
+     * @return A list of transformed documents. Returns an empty list if all documents were filtered out.
+     */
+    default List<Document> transformAll(List<Document> documents, Executor executor) {
+        return mapInParallel(documents, this::transform, executor).stream()
+                .filter(Objects::nonNull)
+                .collect(toList());
+    }
 }
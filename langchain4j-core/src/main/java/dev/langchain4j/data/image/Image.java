@@ -1,5 +1,7 @@
 package dev.langchain4j.data.image;
 
+import dev.langchain4j.data.binary.BinaryData;
+
 import java.net.URI;
 import java.util.Objects;
 
@@ -12,6 +14,7 @@ public final class Image {
 
     private final URI url;
     private final String base64Data;
+    private final BinaryData binaryData;
     private final String mimeType;
     private final String revisedPrompt;
 
@@ -22,6 +25,7 @@ public final class Image {
     private Image(Builder builder) {
         this.url = builder.url;
         this.base64Data = builder.base64Data;
+        this.binaryData = builder.binaryData;
         this.mimeType = builder.mimeType;
         this.revisedPrompt = builder.revisedPrompt;
     }
@@ -44,12 +48,27 @@ public final class Image {
 
     /**
      * Get the base64 data of the image.
+     * If the image was created from {@link BinaryData}, the data is read and encoded on each call.
      * @return the base64 data of the image, or null if not set.
      */
     public String base64Data() {
+        if (base64Data == null && binaryData != null) {
+            return binaryData.base64();
+        }
         return base64Data;
     }
 
+    /**
+     * Get the binary data of the image, without encoding it.
+     * @return the binary data of the image, or null if neither binary data nor base64 data is set.
+     */
+    public BinaryData binaryData() {
+        if (binaryData == null && base64Data != null) {
+            return BinaryData.fromBase64(base64Data);
+        }
+        return binaryData;
+    }
+
     /**
      * Get the mime type of the image.
      * @return the mime type of the image, or null if not set.
@@ -73,13 +92,14 @@ public final class Image {
         Image that = (Image) o;
         return Objects.equals(this.url, that.url)
                 && Objects.equals(this.base64Data, that.base64Data)
+                && Objects.equals(this.binaryData, that.binaryData)
                 && Objects.equals(this.mimeType, that.mimeType)
                 && Objects.equals(this.revisedPrompt, that.revisedPrompt);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(url, base64Data, mimeType, revisedPrompt);
+        return Objects.hash(url, base64Data, binaryData, mimeType, revisedPrompt);
     }
 
     @Override
@@ -87,6 +107,7 @@ public final class Image {
         return "Image {" +
                 " url = " + quoted(url) +
                 ", base64Data = " + quoted(base64Data) +
+                (binaryData == null ? "" : ", binaryData = " + binaryData) +
                 ", mimeType = " + quoted(mimeType) +
                 ", revisedPrompt = " + quoted(revisedPrompt) +
                 " }";
@@ -99,6 +120,7 @@ public final class Image {
 
         private URI url;
         private String base64Data;
+        private BinaryData binaryData;
         private String mimeType;
         private String revisedPrompt;
 
@@ -133,6 +155,19 @@ public final class Image {
          */
         public Builder base64Data(String base64Data) {
             this.base64Data = base64Data;
+            this.binaryData = null;
+            return this;
+        }
+
+        /**
+         * Set the binary data of the image, which is read only when needed.
+         * Replaces the base64 data, if set.
+         * @param binaryData the binary data of the image.
+         * @return {@code this}
+         */
+        public Builder binaryData(BinaryData binaryData) {
+            this.binaryData = binaryData;
+            this.base64Data = null;
             return this;
         }
 
@@ -2,6 +2,7 @@ package dev.langchain4j.data.message;
 
 import dev.langchain4j.Experimental;
 import dev.langchain4j.data.audio.Audio;
+import dev.langchain4j.data.binary.BinaryData;
 
 import java.net.URI;
 import java.util.Objects;
@@ -52,6 +53,19 @@ public class AudioContent implements Content {
             .mimeType(ensureNotBlank(mimeType, "mimeType")).build();
     }
 
+    /**
+     * Create a new {@link AudioContent} from the given binary data and mime type.
+     * The data is read only when the audio is sent to a model.
+     *
+     * @param binaryData the binary data of the audio, e.g., {@code BinaryData.from(path)}.
+     * @param mimeType the mime type of the audio.
+     */
+    public AudioContent(BinaryData binaryData, String mimeType) {
+        this.audio = Audio.builder()
+            .binaryData(ensureNotNull(binaryData, "binaryData"))
+            .mimeType(ensureNotBlank(mimeType, "mimeType")).build();
+    }
+
     /**
      * Create a new {@link AudioContent} from the given Audio.
      *
@@ -120,6 +134,17 @@ public class AudioContent implements Content {
         return new AudioContent(base64Data, mimeType);
     }
 
+    /**
+     * Create a new {@link AudioContent} from the given binary data and mime type.
+     *
+     * @param binaryData the binary data of the audio.
+     * @param mimeType the mime type of the audio.
+     * @return the new {@link AudioContent}.
+     */
+    public static AudioContent from(BinaryData binaryData, String mimeType) {
+        return new AudioContent(binaryData, mimeType);
+    }
+
     /**
      * Create a new {@link AudioContent} from the given Audio.
      *
@@ -1,5 +1,6 @@
 package dev.langchain4j.data.message;
 
+import dev.langchain4j.data.binary.BinaryData;
 import dev.langchain4j.data.image.Image;
 
 import java.net.URI;
@@ -107,6 +108,34 @@ public class ImageContent implements Content {
                 .build(), detailLevel);
     }
 
+    /**
+     * Create a new {@link ImageContent} from the given binary data and mime type.
+     * The data is read only when the image is sent to a model.
+     *
+     * <p>The image will be created with {@code DetailLevel.LOW} detail.</p>
+     *
+     * @param binaryData the binary data of the image, e.g., {@code BinaryData.from(path)}.
+     * @param mimeType the mime type of the image.
+     */
+    public ImageContent(BinaryData binaryData, String mimeType) {
+        this(binaryData, mimeType, LOW);
+    }
+
+    /**
+     * Create a new {@link ImageContent} from the given binary data and mime type.
+     * The data is read only when the image is sent to a model.
+     *
+     * @param binaryData the binary data of the image, e.g., {@code BinaryData.from(path)}.
+     * @param mimeType the mime type of the image.
+     * @param detailLevel the detail level of the image.
+     */
+    public ImageContent(BinaryData binaryData, String mimeType, DetailLevel detailLevel) {
+        this(Image.builder()
+                .binaryData(ensureNotNull(binaryData, "binaryData"))
+                .mimeType(ensureNotBlank(mimeType, "mimeType"))
+                .build(), detailLevel);
+    }
+
     /**
      * Create a new {@link ImageContent} from the given image.
      *
@@ -243,6 +272,31 @@ public class ImageContent implements Content {
         return new ImageContent(base64Data, mimeType, detailLevel);
     }
 
+    /**
+     * Create a new {@link ImageContent} from the given binary data and mime type.
+     *
+     * <p>The image will be created with {@code DetailLevel.LOW} detail.</p>
+     *
+     * @param binaryData the binary data of the image.
+     * @param mimeType the mime type of the image.
+     * @return the new {@link ImageContent}.
+     */
+    public static ImageContent from(BinaryData binaryData, String mimeType) {
+        return new ImageContent(binaryData, mimeType);
+    }
+
+    /**
+     * Create a new {@link ImageContent} from the given binary data and mime type.
+     *
+     * @param binaryData the binary data of the image.
+     * @param mimeType the mime type of the image.
+     * @param detailLevel the detail level of the image.
+     * @return the new {@link ImageContent}.
+     */
+    public static ImageContent from(BinaryData binaryData, String mimeType, DetailLevel detailLevel) {
+        return new ImageContent(binaryData, mimeType, detailLevel);
+    }
+
     /**
      * Create a new {@link ImageContent} from the given image.
      *
@@ -1,8 +1,10 @@
 package dev.langchain4j.data.message;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -12,6 +14,7 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
 import dev.langchain4j.data.audio.Audio;
+import dev.langchain4j.data.binary.BinaryData;
 import dev.langchain4j.data.image.Image;
 import dev.langchain4j.data.pdf.PdfFile;
 import dev.langchain4j.data.text.TextFile;
@@ -187,7 +190,7 @@ class JacksonChatMessageJsonCodec implements ChatMessageJsonCodec {
 
     @JsonInclude(NON_NULL)
     @JsonDeserialize(builder = Image.Builder.class)
-    private static abstract class ImageMixin {
+    private static abstract class ImageMixin extends BinaryDataMixin {
 
     }
 
@@ -201,7 +204,7 @@ class JacksonChatMessageJsonCodec implements ChatMessageJsonCodec {
 
     @JsonInclude(NON_NULL)
     @JsonDeserialize(builder = Audio.Builder.class)
-    private static abstract class AudioMixin {
+    private static abstract class AudioMixin extends BinaryDataMixin {
 
     }
 
@@ -215,7 +218,7 @@ class JacksonChatMessageJsonCodec implements ChatMessageJsonCodec {
 
     @JsonInclude(NON_NULL)
     @JsonDeserialize(builder = Video.Builder.class)
-    private static abstract class VideoMixin {
+    private static abstract class VideoMixin extends BinaryDataMixin {
 
     }
 
@@ -229,10 +232,23 @@ class JacksonChatMessageJsonCodec implements ChatMessageJsonCodec {
 
     @JsonInclude(NON_NULL)
     @JsonDeserialize(builder = PdfFile.Builder.class)
-    private static abstract class PdfFileMixin {
+    private static abstract class PdfFileMixin extends BinaryDataMixin {
 
     }
 
+    /**
+     * Messages are stored self-contained: binary data (e.g., backed by a file) is stored as base64 data.
+     */
+    @JsonPropertyOrder({"url", "base64Data"})
+    private static abstract class BinaryDataMixin {
+
+        @JsonIgnore
+        private BinaryData binaryData;
+
+        @JsonProperty("base64Data")
+        abstract String base64Data();
+    }
+
     @JsonInclude(NON_NULL)
     private static abstract class TextFileContentMixin {
 
@@ -1,6 +1,7 @@
 package dev.langchain4j.data.message;
 
 import dev.langchain4j.Experimental;
+import dev.langchain4j.data.binary.BinaryData;
 import dev.langchain4j.data.pdf.PdfFile;
 
 import java.net.URI;
@@ -52,6 +53,18 @@ public class PdfFileContent implements Content {
             .build();
     }
 
+    /**
+     * Create a new {@link PdfFileContent} from the given binary data.
+     * The data is read only when the PDF is sent to a model.
+     *
+     * @param binaryData the binary data of the PDF, e.g., {@code BinaryData.from(path)}.
+     */
+    public PdfFileContent(BinaryData binaryData) {
+        this.pdfFile = PdfFile.builder()
+            .binaryData(ensureNotNull(binaryData, "binaryData"))
+            .build();
+    }
+
     /**
      * Create a new {@link PdfFileContent} from the given PDF file.
      *
@@ -120,6 +133,16 @@ public class PdfFileContent implements Content {
         return new PdfFileContent(base64Data, mimeType);
     }
 
+    /**
+     * Create a new {@link PdfFileContent} from the given binary data.
+     *
+     * @param binaryData the binary data of the PDF.
+     * @return the new {@link PdfFileContent}.
+     */
+    public static PdfFileContent from(BinaryData binaryData) {
+        return new PdfFileContent(binaryData);
+    }
+
     /**
      * Create a new {@link PdfFileContent} from the given PDF.
      *
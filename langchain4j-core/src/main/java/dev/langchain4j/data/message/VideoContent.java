@@ -1,6 +1,7 @@
 package dev.langchain4j.data.message;
 
 import dev.langchain4j.Experimental;
+import dev.langchain4j.data.binary.BinaryData;
 import dev.langchain4j.data.video.Video;
 
 import java.net.URI;
@@ -53,6 +54,19 @@ public class VideoContent implements Content {
             .mimeType(ensureNotBlank(mimeType, "mimeType")).build();
     }
 
+    /**
+     * Create a new {@link VideoContent} from the given binary data and mime type.
+     * The data is read only when the video is sent to a model.
+     *
+     * @param binaryData the binary data of the video, e.g., {@code BinaryData.from(path)}.
+     * @param mimeType the mime type of the video.
+     */
+    public VideoContent(BinaryData binaryData, String mimeType) {
+        this.video = Video.builder()
+            .binaryData(ensureNotNull(binaryData, "binaryData"))
+            .mimeType(ensureNotBlank(mimeType, "mimeType")).build();
+    }
+
     /**
      * Create a new {@link VideoContent} from the given video.
      *
@@ -121,6 +135,17 @@ public class VideoContent implements Content {
         return new VideoContent(base64Data, mimeType);
     }
 
+    /**
+     * Create a new {@link VideoContent} from the given binary data and mime type.
+     *
+     * @param binaryData the binary data of the video.
+     * @param mimeType the mime type of the video.
+     * @return the new {@link VideoContent}.
+     */
+    public static VideoContent from(BinaryData binaryData, String mimeType) {
+        return new VideoContent(binaryData, mimeType);
+    }
+
     /**
      * Create a new {@link VideoContent} from the given video.
      *
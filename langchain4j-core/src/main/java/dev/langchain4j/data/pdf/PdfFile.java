@@ -1,6 +1,7 @@
 package dev.langchain4j.data.pdf;
 
 import dev.langchain4j.Experimental;
+import dev.langchain4j.data.binary.BinaryData;
 
 import java.net.URI;
 import java.util.Objects;
@@ -11,6 +12,7 @@ import static dev.langchain4j.internal.Utils.quoted;
 public class PdfFile {
     private final URI url;
     private final String base64Data;
+    private final BinaryData binaryData;
 
     /**
      * Create a new {@link PdfFile} from the Builder.
@@ -19,6 +21,7 @@ public class PdfFile {
     private PdfFile(Builder builder) {
         this.url = builder.url;
         this.base64Data = builder.base64Data;
+        this.binaryData = builder.binaryData;
     }
 
     /**
@@ -39,24 +42,40 @@ public class PdfFile {
 
     /**
      * Get the base64 data of the rich format document.
+     * If the rich format document was created from {@link BinaryData}, the data is read and encoded on each call.
      * @return the base64 data of the rich format document, or null if not set.
      */
     public String base64Data() {
+        if (base64Data == null && binaryData != null) {
+            return binaryData.base64();
+        }
         return base64Data;
     }
 
+    /**
+     * Get the binary data of the rich format document, without encoding it.
+     * @return the binary data of the rich format document, or null if neither binary data nor base64 data is set.
+     */
+    public BinaryData binaryData() {
+        if (binaryData == null && base64Data != null) {
+            return BinaryData.fromBase64(base64Data);
+        }
+        return binaryData;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         PdfFile that = (PdfFile) o;
         return Objects.equals(this.url, that.url)
-            && Objects.equals(this.base64Data, that.base64Data);
+            && Objects.equals(this.base64Data, that.base64Data)
+            && Objects.equals(this.binaryData, that.binaryData);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(url, base64Data);
+        return Objects.hash(url, base64Data, binaryData);
     }
 
     @Override
@@ -64,6 +83,7 @@ public class PdfFile {
         return "PdfFile {" +
             " url = " + quoted(url) +
             ", base64Data = " + quoted(base64Data) +
+            (binaryData == null ? "" : ", binaryData = " + binaryData) +
             " }";
     }
 
@@ -74,6 +94,7 @@ public class PdfFile {
 
         private URI url;
         private String base64Data;
+        private BinaryData binaryData;
 
         /**
          * Create a new {@link Builder}.
@@ -106,6 +127,19 @@ public class PdfFile {
          */
         public Builder base64Data(String base64Data) {
             this.base64Data = base64Data;
+            this.binaryData = null;
+            return this;
+        }
+
+        /**
+         * Set the binary data of the PDF document, which is read only when needed.
+         * Replaces the base64 data, if set.
+         * @param binaryData the binary data of the PDF document.
+         * @return {@code this}
+         */
+        public Builder binaryData(BinaryData binaryData) {
+            this.binaryData = binaryData;
+            this.base64Data = null;
             return this;
         }
 
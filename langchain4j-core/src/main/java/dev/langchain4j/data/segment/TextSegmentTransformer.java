@@ -2,7 +2,9 @@ package dev.langchain4j.data.segment;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
+import static dev.langchain4j.internal.ParallelUtils.mapInParallel;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -31,4 +33,19 @@ public interface TextSegmentTransformer {
                 .filter(Objects::nonNull)
                 .collect(toList());
     }
-}
\ No newline at end of file
+
+    /**
+     * Transforms all the provided segments, transforming multiple segments in parallel using the provided {@link Executor}.
+     * The transformed segments are returned in the same order as {@link #transformAll(List)} returns them.
+     * The {@link #transform(TextSegment)} method of this transformer must be thread-safe.
+     *
+     * @param segments A list of segments to be transformed.
+     * @param executor The executor used to transform segments in parallel.
+     * @return A list of transformed segments. Returns an empty list if all segments were filtered out.
+     */
+    default List<TextSegment> transformAll(List<TextSegment> segments, Executor executor) {
+        return mapInParallel(segments, this::transform, executor).stream()
+                .filter(Objects::nonNull)
+                .collect(toList());
+    }
+}
@@ -0,0 +1,139 @@
+package dev.langchain4j.internal;
+
+import dev.langchain4j.spi.executor.ExecutorServiceFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.langchain4j.spi.ServiceHelper.loadFactories;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Provides the executor that is shared by all components that run work asynchronously by default:
+ * retrieval fan-out in {@code DefaultRetrievalAugmentor}, moderation and concurrent tool execution in AI services,
+ * concurrent embedding of batches, and the default implementations of the {@code *Async} methods of
+ * {@link dev.langchain4j.store.embedding.EmbeddingStore} and {@link dev.langchain4j.model.embedding.EmbeddingModel}.
+ * <p>
+ * The executor is selected once, in the following order:
+ * <pre>
+ * - An {@link ExecutorServiceFactory} found through SPI, if any.
+ * - On JDK 21 and later, an executor that starts a new virtual thread for each task.
+ * - Otherwise, a pool of at most {@link #DEFAULT_MAX_PLATFORM_THREADS} daemon threads;
+ *   further tasks are queued until a thread becomes available.
+ * </pre>
+ * This keeps the number of platform threads bounded under load, instead of creating a new thread
+ * for each concurrent task.
+ * <p>
+ * Tasks on the shared executor often fan out and wait for more tasks on the same executor
+ * (e.g., {@code embedAllAsync} embedding batches concurrently). With a bounded pool, such tasks could
+ * occupy all threads while the tasks they wait for are queued, so the pool would deadlock.
+ * To prevent this, a task submitted to the bounded pool from one of its own threads runs immediately
+ * in the submitting thread. An {@link ExecutorServiceFactory} must provide the same guarantee,
+ * e.g., by not bounding the number of threads.
+ */
+public final class DefaultExecutorProvider {
+
+    /**
+     * The maximum number of threads of the default executor when virtual threads are not available.
+     */
+    public static final int DEFAULT_MAX_PLATFORM_THREADS = Math.max(16, 4 * Runtime.getRuntime().availableProcessors());
+
+    private DefaultExecutorProvider() {
+    }
+
+    /**
+     * Returns the shared, lazily created default executor.
+     *
+     * @return the default executor.
+     */
+    public static ExecutorService getDefaultExecutorService() {
+        return Holder.INSTANCE;
+    }
+
+    private static ExecutorService createDefaultExecutorService() {
+        for (ExecutorServiceFactory factory : loadFactories(ExecutorServiceFactory.class)) {
+            return factory.create();
+        }
+        ExecutorService virtualThreadExecutor = createVirtualThreadPerTaskExecutor();
+        if (virtualThreadExecutor != null) {
+            return virtualThreadExecutor;
+        }
+        return createBoundedPlatformThreadExecutor(DEFAULT_MAX_PLATFORM_THREADS);
+    }
+
+    /**
+     * Calls {@code Executors.newVirtualThreadPerTaskExecutor()} reflectively,
+     * since this module is compiled for JDK 17.
+     *
+     * @return the executor, or {@code null} if virtual threads are not available.
+     */
+    static ExecutorService createVirtualThreadPerTaskExecutor() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    static ExecutorService createBoundedPlatformThreadExecutor(int maxThreads) {
+        return new BoundedPlatformThreadExecutor(maxThreads);
+    }
+
+    /**
+     * Runs tasks submitted from its own threads in the submitting thread,
+     * so that a task waiting for its nested tasks never waits for a free thread of this pool.
+     */
+    private static class BoundedPlatformThreadExecutor extends ThreadPoolExecutor {
+
+        BoundedPlatformThreadExecutor(int maxThreads) {
+            super(maxThreads, maxThreads, 1, SECONDS, new LinkedBlockingQueue<>(), new DaemonThreadFactory());
+            allowCoreThreadTimeOut(true);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            if (Thread.currentThread() instanceof PoolThread poolThread && poolThread.pool == this) {
+                command.run();
+            } else {
+                super.execute(command);
+            }
+        }
+
+        @Override
+        protected void beforeExecute(Thread thread, Runnable runnable) {
+            ((PoolThread) thread).pool = this;
+        }
+    }
+
+    private static class PoolThread extends Thread {
+
+        private volatile ThreadPoolExecutor pool;
+
+        PoolThread(Runnable runnable, String name) {
+            super(runnable, name);
+        }
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new PoolThread(runnable, "langchain4j-default-executor-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    private static class Holder {
+
+        private static final ExecutorService INSTANCE = createDefaultExecutorService();
+    }
+}
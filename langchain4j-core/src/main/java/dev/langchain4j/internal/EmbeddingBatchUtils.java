@@ -0,0 +1,294 @@
+package dev.langchain4j.internal;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * Utility methods for embedding models that send texts to a remote API in batches.
+ */
+public final class EmbeddingBatchUtils {
+
+    private EmbeddingBatchUtils() {
+    }
+
+    /**
+     * Splits the given texts into consecutive batches of at most {@code maxSegmentsPerBatch} texts.
+     *
+     * @param texts               the texts to split.
+     * @param maxSegmentsPerBatch the maximum number of texts in a single batch.
+     * @return the batches, in the original order.
+     */
+    public static List<List<String>> partition(List<String> texts, int maxSegmentsPerBatch) {
+        return partition(texts, maxSegmentsPerBatch, null, null);
+    }
+
+    /**
+     * Splits the given texts into consecutive batches of at most {@code maxSegmentsPerBatch} texts
+     * and, if {@code maxTokensPerBatch} is specified, of at most {@code maxTokensPerBatch} tokens.
+     * A single text that exceeds {@code maxTokensPerBatch} on its own is put into a separate batch.
+     *
+     * @param texts               the texts to split.
+     * @param maxSegmentsPerBatch the maximum number of texts in a single batch.
+     * @param maxTokensPerBatch   the maximum number of tokens in a single batch. Can be {@code null}.
+     * @param tokenCountEstimator estimates the number of tokens in a text.
+     *                            Mandatory when {@code maxTokensPerBatch} is specified.
+     * @return the batches, in the original order.
+     */
+    public static List<List<String>> partition(List<String> texts,
+                                               int maxSegmentsPerBatch,
+                                               Integer maxTokensPerBatch,
+                                               ToIntFunction<String> tokenCountEstimator) {
+        ensureGreaterThanZero(maxSegmentsPerBatch, "maxSegmentsPerBatch");
+
+        List<List<String>> batches = new ArrayList<>();
+        if (maxTokensPerBatch == null) {
+            for (int i = 0; i < texts.size(); i += maxSegmentsPerBatch) {
+                batches.add(texts.subList(i, Math.min(i + maxSegmentsPerBatch, texts.size())));
+            }
+            return batches;
+        }
+
+        ensureGreaterThanZero(maxTokensPerBatch, "maxTokensPerBatch");
+        ensureNotNull(tokenCountEstimator, "tokenCountEstimator");
+
+        int fromIndex = 0;
+        int batchTokenCount = 0;
+        for (int i = 0; i < texts.size(); i++) {
+            int tokenCount = tokenCountEstimator.applyAsInt(texts.get(i));
+            boolean batchIsFull = i - fromIndex == maxSegmentsPerBatch
+                    || (i > fromIndex && batchTokenCount + tokenCount > maxTokensPerBatch);
+            if (batchIsFull) {
+                batches.add(texts.subList(fromIndex, i));
+                fromIndex = i;
+                batchTokenCount = 0;
+            }
+            batchTokenCount += tokenCount;
+        }
+        if (fromIndex < texts.size()) {
+            batches.add(texts.subList(fromIndex, texts.size()));
+        }
+        return batches;
+    }
+
+    /**
+     * Embeds the given batches using the provided {@code batchEmbedder} and merges the results.
+     * <p>
+     * When {@code maxConcurrentBatches} is greater than 1, up to {@code maxConcurrentBatches} batches
+     * are embedded at the same time using the provided {@code executor}
+     * (or the shared executor of {@link DefaultExecutorProvider}, if {@code executor} is {@code null}).
+     * Otherwise, batches are embedded one after another in the calling thread.
+     * <p>
+     * The order of embeddings in the returned response always matches the order of the batches,
+     * and the token usage of all batches is summed up.
+     * Each batch is executed (and, if {@code batchEmbedder} does so, retried) independently.
+     * If a batch fails, no further batches are started and the exception of the first failed batch
+     * (in batch order) is rethrown.
+     *
+     * @param batches              the batches to embed.
+     * @param batchEmbedder        embeds a single batch.
+     * @param maxConcurrentBatches the maximum number of batches that are embedded at the same time.
+     * @param executor             the executor used for concurrent embedding. Can be {@code null}.
+     * @return the embeddings of all batches, in order, with aggregated token usage.
+     */
+    public static Response<List<Embedding>> embedInBatches(List<List<String>> batches,
+                                                           Function<List<String>, Response<List<Embedding>>> batchEmbedder,
+                                                           int maxConcurrentBatches,
+                                                           Executor executor) {
+        List<Response<List<Embedding>>> responses;
+        if (maxConcurrentBatches <= 1 || batches.size() <= 1) {
+            responses = new ArrayList<>(batches.size());
+            for (List<String> batch : batches) {
+                responses.add(batchEmbedder.apply(batch));
+            }
+        } else {
+            responses = embedConcurrently(batches, batchEmbedder, maxConcurrentBatches,
+                    getOrDefault(executor, DefaultExecutorProvider.getDefaultExecutorService()));
+        }
+        return merge(responses);
+    }
+
+    private static List<Response<List<Embedding>>> embedConcurrently(
+            List<List<String>> batches,
+            Function<List<String>, Response<List<Embedding>>> batchEmbedder,
+            int maxConcurrentBatches,
+            Executor executor) {
+
+        Semaphore permits = new Semaphore(maxConcurrentBatches);
+        AtomicBoolean failed = new AtomicBoolean(false);
+        List<CompletableFuture<Response<List<Embedding>>>> futures = new ArrayList<>(batches.size());
+
+        for (List<String> batch : batches) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(future -> future.cancel(true));
+                throw new RuntimeException(e);
+            }
+            if (failed.get()) {
+                permits.release();
+                break;
+            }
+            CompletableFuture<Response<List<Embedding>>> future;
+            try {
+                future = CompletableFuture.supplyAsync(() -> batchEmbedder.apply(batch), executor);
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+            future.whenComplete((response, error) -> {
+                if (error != null) {
+                    failed.set(true);
+                }
+                permits.release();
+            });
+            futures.add(future);
+        }
+
+        List<Response<List<Embedding>>> responses = new ArrayList<>(futures.size());
+        for (CompletableFuture<Response<List<Embedding>>> future : futures) {
+            try {
+                responses.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw e;
+            }
+        }
+        return responses;
+    }
+
+    /**
+     * Embeds the given batches using the provided asynchronous {@code batchEmbedder} and merges the results,
+     * without blocking any thread while batches are in flight.
+     * <p>
+     * Up to {@code maxConcurrentBatches} batches are in flight at the same time;
+     * the next batch is sent when one of them completes.
+     * The order of embeddings, the token usage and the failure semantics
+     * are the same as in {@link #embedInBatches(List, Function, int, Executor)}.
+     *
+     * @param batches              the batches to embed.
+     * @param batchEmbedder        asynchronously embeds a single batch.
+     * @param maxConcurrentBatches the maximum number of batches that are in flight at the same time.
+     * @return a future of the embeddings of all batches, in order, with aggregated token usage.
+     */
+    public static CompletableFuture<Response<List<Embedding>>> embedInBatchesAsync(
+            List<List<String>> batches,
+            Function<List<String>, CompletableFuture<Response<List<Embedding>>>> batchEmbedder,
+            int maxConcurrentBatches) {
+
+        List<CompletableFuture<Response<List<Embedding>>>> results = new ArrayList<>(batches.size());
+        for (int i = 0; i < batches.size(); i++) {
+            results.add(new CompletableFuture<>());
+        }
+
+        AtomicInteger nextBatch = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        int lanes = Math.max(1, Math.min(maxConcurrentBatches, batches.size()));
+        for (int i = 0; i < lanes; i++) {
+            embedNextBatches(batches, batchEmbedder, results, nextBatch, failure);
+        }
+
+        return CompletableFuture.allOf(results.toArray(new CompletableFuture[0]))
+                .handle((ignored, error) -> {
+                    // the first failed batch (in batch order) determines the exception
+                    List<Response<List<Embedding>>> responses = new ArrayList<>(results.size());
+                    for (CompletableFuture<Response<List<Embedding>>> result : results) {
+                        responses.add(result.join());
+                    }
+                    return merge(responses);
+                });
+    }
+
+    /**
+     * Sends batches one after another until a batch does not complete immediately,
+     * in which case sending continues when that batch completes.
+     */
+    private static void embedNextBatches(
+            List<List<String>> batches,
+            Function<List<String>, CompletableFuture<Response<List<Embedding>>>> batchEmbedder,
+            List<CompletableFuture<Response<List<Embedding>>>> results,
+            AtomicInteger nextBatch,
+            AtomicReference<Throwable> failure) {
+
+        while (true) {
+            int index = nextBatch.getAndIncrement();
+            if (index >= batches.size()) {
+                return;
+            }
+            CompletableFuture<Response<List<Embedding>>> result = results.get(index);
+
+            Throwable previousFailure = failure.get();
+            if (previousFailure != null) {
+                // no further batches are sent after a failure
+                result.completeExceptionally(previousFailure);
+                continue;
+            }
+
+            CompletableFuture<Response<List<Embedding>>> future;
+            try {
+                future = batchEmbedder.apply(batches.get(index));
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+
+            if (future.isDone()) {
+                complete(result, future, failure);
+                continue;
+            }
+            CompletableFuture<Response<List<Embedding>>> inFlight = future;
+            inFlight.whenComplete((response, error) -> {
+                complete(result, inFlight, failure);
+                embedNextBatches(batches, batchEmbedder, results, nextBatch, failure);
+            });
+            return;
+        }
+    }
+
+    private static void complete(CompletableFuture<Response<List<Embedding>>> result,
+                                 CompletableFuture<Response<List<Embedding>>> future,
+                                 AtomicReference<Throwable> failure) {
+        try {
+            result.complete(future.join());
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            failure.compareAndSet(null, cause);
+            result.completeExceptionally(cause);
+        } catch (RuntimeException e) {
+            failure.compareAndSet(null, e);
+            result.completeExceptionally(e);
+        }
+    }
+
+    private static Response<List<Embedding>> merge(List<Response<List<Embedding>>> responses) {
+        List<Embedding> embeddings = new ArrayList<>();
+        for (Response<List<Embedding>> response : responses) {
+            embeddings.addAll(response.content());
+        }
+        TokenUsage tokenUsage = responses.stream()
+                .map(Response::tokenUsage)
+                .filter(Objects::nonNull)
+                .reduce(TokenUsage::add)
+                .orElse(null);
+        return Response.from(embeddings, tokenUsage);
+    }
+}
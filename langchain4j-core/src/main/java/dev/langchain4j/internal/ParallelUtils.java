@@ -0,0 +1,191 @@
+package dev.langchain4j.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * Utility methods for processing lists of items in parallel.
+ */
+public final class ParallelUtils {
+
+    /**
+     * The maximum number of tasks a list is divided into.
+     * Several tasks per core keep all cores busy when items take different amounts of time to process,
+     * without creating a task per item for large lists.
+     */
+    static final int MAX_TASKS = 4 * Runtime.getRuntime().availableProcessors();
+
+    private ParallelUtils() {
+    }
+
+    /**
+     * Applies the mapper to each item, distributing the items across tasks that run on the given executor.
+     * The results are returned in the order of the items, regardless of the order in which tasks complete.
+     * <p>
+     * For CPU-bound mappers (e.g., splitting with a tokenizer), an executor with a thread per core,
+     * such as {@link java.util.concurrent.ForkJoinPool#commonPool()}, is the best fit.
+     * <p>
+     * If the mapper throws a {@link RuntimeException} for any item, it is re-thrown by this method
+     * (if multiple items fail, the exception of the earliest failed task is thrown).
+     *
+     * @param items    the items to process.
+     * @param mapper   the function to apply to each item. Must be thread-safe.
+     * @param executor the executor to run the tasks on.
+     * @param <T>      the type of the items.
+     * @param <R>      the type of the results.
+     * @return the results, in the order of the items.
+     */
+    public static <T, R> List<R> mapInParallel(List<T> items,
+                                               Function<? super T, ? extends R> mapper,
+                                               Executor executor) {
+        ensureNotNull(items, "items");
+        ensureNotNull(mapper, "mapper");
+        ensureNotNull(executor, "executor");
+
+        if (items.size() <= 1) {
+            List<R> results = new ArrayList<>(items.size());
+            for (T item : items) {
+                results.add(mapper.apply(item));
+            }
+            return results;
+        }
+
+        int taskCount = Math.min(items.size(), MAX_TASKS);
+        int itemsPerTask = (items.size() + taskCount - 1) / taskCount;
+
+        List<CompletableFuture<List<R>>> futures = new ArrayList<>(taskCount);
+        for (int from = 0; from < items.size(); from += itemsPerTask) {
+            List<T> taskItems = items.subList(from, Math.min(from + itemsPerTask, items.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                List<R> taskResults = new ArrayList<>(taskItems.size());
+                for (T item : taskItems) {
+                    taskResults.add(mapper.apply(item));
+                }
+                return taskResults;
+            }, executor));
+        }
+
+        List<R> results = new ArrayList<>(items.size());
+        for (CompletableFuture<List<R>> future : futures) {
+            results.addAll(join(future));
+        }
+        return results;
+    }
+
+    /**
+     * Lazily applies the mapper to each item, with up to {@code maxConcurrency} items being mapped at the same time
+     * on the given executor. Items are taken from the iterator, and mapped, as the returned stream is consumed:
+     * a new item is taken only when the consumer takes a result, so at most {@code maxConcurrency} results
+     * are held in memory at any time, regardless of the number of items.
+     * <p>
+     * This suits I/O-bound mappers (e.g., downloading and parsing documents) over items that are themselves
+     * listed lazily (e.g., page by page), so that listing, mapping and consuming overlap.
+     * <p>
+     * The results are returned in the order of the items. {@code null} results are passed through.
+     * If the mapper throws a {@link RuntimeException} for an item, it is re-thrown when the result
+     * of that item is consumed, and the items still being mapped are cancelled.
+     * Closing the returned stream cancels the items still being mapped.
+     *
+     * @param items          the items to process. Accessed only from the thread consuming the returned stream.
+     * @param mapper         the function to apply to each item. Must be thread-safe.
+     * @param maxConcurrency the maximum number of items mapped at the same time.
+     * @param executor       the executor to run the mapper on.
+     * @param <T>            the type of the items.
+     * @param <R>            the type of the results.
+     * @return a lazily populated stream of the results, in the order of the items.
+     */
+    public static <T, R> Stream<R> mapConcurrently(Iterator<T> items,
+                                                   Function<? super T, ? extends R> mapper,
+                                                   int maxConcurrency,
+                                                   Executor executor) {
+        ensureNotNull(items, "items");
+        ensureNotNull(mapper, "mapper");
+        ensureGreaterThanZero(maxConcurrency, "maxConcurrency");
+        ensureNotNull(executor, "executor");
+
+        ConcurrentMappingIterator<T, R> iterator = new ConcurrentMappingIterator<>(items, mapper, maxConcurrency, executor);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(iterator::cancel);
+    }
+
+    private static <R> R join(CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Keeps up to {@code maxConcurrency} items being mapped ahead of the consumer.
+     */
+    private static class ConcurrentMappingIterator<T, R> implements Iterator<R> {
+
+        private final Iterator<T> items;
+        private final Function<? super T, ? extends R> mapper;
+        private final int maxConcurrency;
+        private final Executor executor;
+        private final Queue<CompletableFuture<R>> inFlight = new ArrayDeque<>();
+
+        ConcurrentMappingIterator(Iterator<T> items,
+                                  Function<? super T, ? extends R> mapper,
+                                  int maxConcurrency,
+                                  Executor executor) {
+            this.items = items;
+            this.mapper = mapper;
+            this.maxConcurrency = maxConcurrency;
+            this.executor = executor;
+        }
+
+        @Override
+        public boolean hasNext() {
+            fill();
+            return !inFlight.isEmpty();
+        }
+
+        @Override
+        public R next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                return join(inFlight.poll());
+            } catch (RuntimeException e) {
+                cancel();
+                throw e;
+            }
+        }
+
+        private void fill() {
+            while (inFlight.size() < maxConcurrency && items.hasNext()) {
+                T item = items.next();
+                inFlight.add(CompletableFuture.supplyAsync(() -> mapper.apply(item), executor));
+            }
+        }
+
+        void cancel() {
+            CompletableFuture<R> future;
+            while ((future = inFlight.poll()) != null) {
+                future.cancel(false);
+            }
+        }
+    }
+}
@@ -5,6 +5,12 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Random;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
  * Utility class for retrying actions.
@@ -202,6 +208,54 @@ public final class RetryUtils {
                 attempt++;
             }
         }
+
+        /**
+         * This method attempts to execute a given asynchronous action up to a specified number of times.
+         * Unlike {@link #withRetry(Callable, int)}, it does not block between attempts:
+         * the next attempt is scheduled after the delay instead.
+         * If the action fails on all attempts, the returned future is completed with a RuntimeException.
+         *
+         * @param action      The asynchronous action to be executed.
+         * @param maxAttempts The maximum number of attempts to execute the action.
+         * @param <T> The type of the result of the action.
+         * @return A future that is completed with the result of the action if it is successful.
+         */
+        public <T> CompletableFuture<T> withRetryAsync(Supplier<CompletableFuture<T>> action, int maxAttempts) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            attemptAsync(action, 1, maxAttempts, result);
+            return result;
+        }
+
+        private <T> void attemptAsync(Supplier<CompletableFuture<T>> action,
+                                      int attempt,
+                                      int maxAttempts,
+                                      CompletableFuture<T> result) {
+            CompletableFuture<T> future;
+            try {
+                future = action.get();
+            } catch (Exception e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            future.whenComplete((value, error) -> {
+                if (error == null) {
+                    result.complete(value);
+                    return;
+                }
+
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause()
+                        : error;
+                if (attempt >= maxAttempts) {
+                    result.completeExceptionally(new RuntimeException(cause));
+                    return;
+                }
+
+                log.warn(String.format("Exception was thrown on attempt %s of %s", attempt, maxAttempts), cause);
+
+                Executor delayedExecutor = CompletableFuture.delayedExecutor(jitterDelayMillis(attempt), MILLISECONDS);
+                delayedExecutor.execute(() -> attemptAsync(action, attempt + 1, maxAttempts, result));
+            });
+        }
     }
 
     /**
@@ -241,4 +295,18 @@ public final class RetryUtils {
     public static <T> T withRetry(Callable<T> action) {
         return DEFAULT_RETRY_POLICY.withRetry(action);
     }
+
+    /**
+     * This method attempts to execute a given asynchronous action up to a specified number of times,
+     * without blocking between attempts.
+     * If the action fails on all attempts, the returned future is completed with a RuntimeException.
+     *
+     * @param action      The asynchronous action to be executed.
+     * @param maxAttempts The maximum number of attempts to execute the action.
+     * @param <T> The type of the result of the action.
+     * @return A future that is completed with the result of the action if it is successful.
+     */
+    public static <T> CompletableFuture<T> withRetryAsync(Supplier<CompletableFuture<T>> action, int maxAttempts) {
+        return DEFAULT_RETRY_POLICY.withRetryAsync(action, maxAttempts);
+    }
 }
@@ -6,7 +6,9 @@ import dev.langchain4j.internal.ValidationUtils;
 import dev.langchain4j.model.output.Response;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import static dev.langchain4j.internal.DefaultExecutorProvider.getDefaultExecutorService;
 import static java.util.Collections.singletonList;
 
 /**
@@ -45,6 +47,34 @@ public interface EmbeddingModel {
      */
     Response<List<Embedding>> embedAll(List<TextSegment> textSegments);
 
+    /**
+     * Asynchronously embeds a text.
+     *
+     * @param text the text to embed.
+     * @return a future of the embedding.
+     */
+    default CompletableFuture<Response<Embedding>> embedAsync(String text) {
+        return embedAllAsync(singletonList(TextSegment.from(text))).thenApply(response -> {
+            ValidationUtils.ensureEq(response.content().size(), 1,
+                    "Expected a single embedding, but got %d", response.content().size());
+            return Response.from(response.content().get(0), response.tokenUsage(), response.finishReason());
+        });
+    }
+
+    /**
+     * Asynchronously embeds the text content of a list of TextSegments.
+     * <br>
+     * By default, {@link #embedAll(List)} is called on a shared default executor.
+     * Implementations backed by a non-blocking client should override this method
+     * so that no thread is blocked while the request is in flight.
+     *
+     * @param textSegments the text segments to embed.
+     * @return a future of the embeddings.
+     */
+    default CompletableFuture<Response<List<Embedding>>> embedAllAsync(List<TextSegment> textSegments) {
+        return CompletableFuture.supplyAsync(() -> embedAll(textSegments), getDefaultExecutorService());
+    }
+
     /**
      * Returns the dimension of the {@link Embedding} produced by this embedding model.
      *
@@ -14,6 +14,7 @@ import dev.langchain4j.rag.query.router.DefaultQueryRouter;
 import dev.langchain4j.rag.query.router.QueryRouter;
 import dev.langchain4j.rag.query.transformer.DefaultQueryTransformer;
 import dev.langchain4j.rag.query.transformer.QueryTransformer;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -23,10 +24,6 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.SynchronousQueue;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.stream.Collectors;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
@@ -36,7 +33,6 @@ import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static java.util.concurrent.CompletableFuture.allOf;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
-import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toMap;
 
@@ -100,8 +96,12 @@ import static java.util.stream.Collectors.toMap;
  * When there is only a single {@link Query} and a single {@link ContentRetriever},
  * query routing and content retrieval are performed in the same thread.
  * Otherwise, an {@link Executor} is used to parallelize the processing.
- * By default, a modified (keepAliveTime is 1 second instead of 60 seconds) {@link Executors#newCachedThreadPool()}
- * is used, but you can provide a custom {@link Executor} instance.
+ * By default, the shared {@link DefaultExecutorProvider#getDefaultExecutorService()} is used
+ * (virtual threads on JDK 21+, a bounded thread pool otherwise),
+ * but you can provide a custom {@link Executor} instance.
+ * Retrieval is performed using {@link ContentRetriever#retrieveAsync(Query, Executor)}:
+ * {@link ContentRetriever}s that retrieve in a non-blocking way do not occupy a thread of the {@link Executor}
+ * while their requests are in flight.
  *
  * @see DefaultQueryTransformer
  * @see DefaultQueryRouter
@@ -127,15 +127,7 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
         this.queryRouter = ensureNotNull(queryRouter, "queryRouter");
         this.contentAggregator = getOrDefault(contentAggregator, DefaultContentAggregator::new);
         this.contentInjector = getOrDefault(contentInjector, DefaultContentInjector::new);
-        this.executor = getOrDefault(executor, DefaultRetrievalAugmentor::createDefaultExecutor);
-    }
-
-    private static ExecutorService createDefaultExecutor() {
-        return new ThreadPoolExecutor(
-            0, Integer.MAX_VALUE,
-            1, SECONDS,
-            new SynchronousQueue<>()
-        );
+        this.executor = getOrDefault(executor, DefaultExecutorProvider::getDefaultExecutorService);
     }
 
     /**
@@ -209,7 +201,11 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
     private CompletableFuture<Collection<List<Content>>> retrieveFromAll(Collection<ContentRetriever> retrievers,
                                                                          Query query) {
         List<CompletableFuture<List<Content>>> futureContents = retrievers.stream()
-            .map(retriever -> supplyAsync(() -> retrieve(retriever, query), executor))
+            .map(retriever -> retriever.retrieveAsync(query, executor)
+                .thenApply(contents -> {
+                    log(query, retriever, contents);
+                    return contents;
+                }))
             .collect(Collectors.toList());
 
         return allOf(futureContents.toArray(new CompletableFuture[0]))
@@ -219,12 +215,6 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
                     .collect(Collectors.toList()));
     }
 
-    private static List<Content> retrieve(ContentRetriever retriever, Query query) {
-        List<Content> contents = retriever.retrieve(query);
-        log(query, retriever, contents);
-        return contents;
-    }
-
     private static Map<Query, Collection<List<Content>>> join(
         Map<Query, CompletableFuture<Collection<List<Content>>>> queryToFutureContents) {
         return allOf(queryToFutureContents.values().toArray(new CompletableFuture[0]))
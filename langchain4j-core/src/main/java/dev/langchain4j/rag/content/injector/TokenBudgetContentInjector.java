@@ -0,0 +1,400 @@
+package dev.langchain4j.rag.content.injector;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.Tokenizer;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.input.PromptTemplate;
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ContentInjector} that injects only as many {@link Content}s as fit into a token budget.
+ * <br>
+ * <br>
+ * The contents are packed in their order of iteration, which is expected to be the order of relevance
+ * (as produced by the {@link dev.langchain4j.rag.content.aggregator.ContentAggregator}):
+ * <br>
+ * - A content that is a near-duplicate of an already packed content is dropped.
+ * By default, a content is a near-duplicate when at least {@link #DEFAULT_MAX_OVERLAP} of the word trigrams
+ * of the shorter of the two contents also occur in the other one (see {@code maxOverlap}).
+ * When an {@link EmbeddingModel} is configured, a content is also a near-duplicate when the cosine similarity
+ * of the embeddings of the two contents is at least {@code maxSimilarity}.
+ * All contents are then embedded with a single request, which adds the latency of this request to the injection.
+ * <br>
+ * - The first content that does not fit into the remaining budget is truncated (at a word boundary) to fit,
+ * and no further contents are packed.
+ * <br>
+ * <br>
+ * The budget applies to the formatted contents (including the metadata, see {@link DefaultContentInjector}),
+ * and not to the prompt template or the user message.
+ * Use {@link #pack(List)} to find out which contents are injected and how many tokens they take.
+ * <br>
+ * <br>
+ * Configurable parameters:
+ * <br>
+ * - {@code tokenizer}: The tokenizer used to count the tokens of the contents. Required.
+ * <br>
+ * - {@code maxTokens}: The token budget for the contents. Required.
+ * <br>
+ * - {@code maxOverlap} (optional): The overlap of word trigrams, in the range [0..1],
+ * above which a content is considered a near-duplicate. 1 disables the overlap check. Default: 0.8.
+ * <br>
+ * - {@code embeddingModel} and {@code maxSimilarity} (optional): The model to embed the contents with,
+ * and the cosine similarity above which a content is considered a near-duplicate. Default: no embedding model, 0.95.
+ * <br>
+ * - {@code promptTemplate} and {@code metadataKeysToInclude} (optional): see {@link DefaultContentInjector}.
+ */
+public class TokenBudgetContentInjector extends DefaultContentInjector {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenBudgetContentInjector.class);
+
+    public static final double DEFAULT_MAX_OVERLAP = 0.8;
+    public static final double DEFAULT_MAX_SIMILARITY = 0.95;
+
+    private static final String SEPARATOR = "\n\n";
+    private static final int SHINGLE_SIZE = 3;
+
+    private final Tokenizer tokenizer;
+    private final int maxTokens;
+    private final double maxOverlap;
+    private final EmbeddingModel embeddingModel;
+    private final double maxSimilarity;
+    private final int separatorTokens;
+
+    public TokenBudgetContentInjector(
+            PromptTemplate promptTemplate,
+            List<String> metadataKeysToInclude,
+            Tokenizer tokenizer,
+            Integer maxTokens,
+            Double maxOverlap,
+            EmbeddingModel embeddingModel,
+            Double maxSimilarity) {
+        super(promptTemplate, metadataKeysToInclude);
+        this.tokenizer = ensureNotNull(tokenizer, "tokenizer");
+        this.maxTokens = ensureGreaterThanZero(maxTokens, "maxTokens");
+        this.maxOverlap = ensureBetween(getOrDefault(maxOverlap, DEFAULT_MAX_OVERLAP), 0, 1, "maxOverlap");
+        this.embeddingModel = embeddingModel;
+        this.maxSimilarity = ensureBetween(getOrDefault(maxSimilarity, DEFAULT_MAX_SIMILARITY), -1, 1, "maxSimilarity");
+        this.separatorTokens = tokenizer.estimateTokenCountInText(SEPARATOR);
+    }
+
+    public static TokenBudgetContentInjectorBuilder builder() {
+        return new TokenBudgetContentInjectorBuilder();
+    }
+
+    @Override
+    public ChatMessage inject(List<Content> contents, ChatMessage chatMessage) {
+        return super.inject(pack(contents).contents(), chatMessage);
+    }
+
+    /**
+     * @deprecated use {@link #inject(List, ChatMessage)} instead.
+     */
+    @Override
+    @Deprecated
+    public UserMessage inject(List<Content> contents, UserMessage userMessage) {
+        return super.inject(pack(contents).contents(), userMessage);
+    }
+
+    /**
+     * Selects the contents to inject, within the token budget.
+     *
+     * @param contents The contents, in order of relevance.
+     * @return The contents to inject, in the same order, with the last one possibly truncated,
+     * and the number of tokens they take.
+     */
+    public PackedContents pack(List<Content> contents) {
+        ensureNotNull(contents, "contents");
+
+        List<Embedding> embeddings = embeddingModel == null || contents.isEmpty()
+                ? null
+                : embeddingModel
+                        .embedAll(contents.stream().map(Content::textSegment).toList())
+                        .content();
+
+        List<Content> packed = new ArrayList<>();
+        List<Set<Long>> packedShingles = new ArrayList<>();
+        List<Embedding> packedEmbeddings = new ArrayList<>();
+        int tokenCount = 0;
+        int droppedDuplicates = 0;
+        int droppedOverBudget = 0;
+
+        for (int i = 0; i < contents.size(); i++) {
+            Content content = contents.get(i);
+
+            int remainingTokens = maxTokens - tokenCount - (packed.isEmpty() ? 0 : separatorTokens);
+            if (remainingTokens <= 0) {
+                droppedOverBudget += contents.size() - i;
+                break;
+            }
+
+            Set<Long> shingles = maxOverlap < 1 ? shingles(content.textSegment().text()) : Set.of();
+            Embedding embedding = embeddings == null ? null : embeddings.get(i);
+            if (isNearDuplicate(shingles, embedding, packedShingles, packedEmbeddings)) {
+                droppedDuplicates++;
+                continue;
+            }
+
+            int contentTokens = tokenizer.estimateTokenCountInText(format(content));
+            if (contentTokens > remainingTokens) {
+                Content truncated = truncate(content, remainingTokens);
+                if (truncated != null) {
+                    packed.add(truncated);
+                    tokenCount = tokenCount
+                            + (packed.size() > 1 ? separatorTokens : 0)
+                            + tokenizer.estimateTokenCountInText(format(truncated));
+                }
+                droppedOverBudget += contents.size() - i - (truncated == null ? 0 : 1);
+                break;
+            }
+
+            packed.add(content);
+            packedShingles.add(shingles);
+            packedEmbeddings.add(embedding);
+            tokenCount += (packed.size() > 1 ? separatorTokens : 0) + contentTokens;
+        }
+
+        log.debug("Packed {} of {} contents into {} tokens (budget: {}), dropped {} near-duplicates",
+                packed.size(), contents.size(), tokenCount, maxTokens, droppedDuplicates);
+
+        return new PackedContents(packed, tokenCount, droppedDuplicates, droppedOverBudget);
+    }
+
+    private boolean isNearDuplicate(
+            Set<Long> shingles, Embedding embedding, List<Set<Long>> packedShingles, List<Embedding> packedEmbeddings) {
+        for (int j = 0; j < packedShingles.size(); j++) {
+            if (maxOverlap < 1 && overlap(shingles, packedShingles.get(j)) >= maxOverlap) {
+                return true;
+            }
+            if (embedding != null && CosineSimilarity.between(embedding, packedEmbeddings.get(j)) >= maxSimilarity) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the content with its text cut at the last word boundary that keeps the formatted content
+     * within the given number of tokens. If not even the first word fits (e.g., text without whitespace),
+     * the text is cut at the last code point boundary that fits instead.
+     * Returns {@code null} if not even the first code point fits.
+     */
+    private Content truncate(Content content, int maxTokens) {
+        String text = content.textSegment().text();
+        int[] wordEnds = wordEnds(text);
+        Content truncated = longestPrefixWithin(content, wordEnds, maxTokens);
+        if (truncated == null) {
+            int firstWordEnd = wordEnds.length > 0 ? wordEnds[0] : text.length();
+            truncated = longestPrefixWithin(content, codePointEnds(text, firstWordEnd), maxTokens);
+        }
+        return truncated;
+    }
+
+    /**
+     * Returns the content with its text cut at the last of the (ascending) offsets that keeps the formatted content
+     * within the given number of tokens, or {@code null} if none does.
+     */
+    private Content longestPrefixWithin(Content content, int[] ends, int maxTokens) {
+        String text = content.textSegment().text();
+
+        // binary search over the offsets, as tokenizers cannot be asked for a prefix of N tokens
+        int low = 0;
+        int high = ends.length - 1;
+        Content best = null;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            Content candidate = withText(content, text.substring(0, ends[middle]));
+            if (tokenizer.estimateTokenCountInText(format(candidate)) <= maxTokens) {
+                best = candidate;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return best;
+    }
+
+    private static int[] wordEnds(String text) {
+        int[] wordEnds = new int[text.length()];
+        int count = 0;
+        for (int i = 1; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i)) && !Character.isWhitespace(text.charAt(i - 1))) {
+                wordEnds[count++] = i;
+            }
+        }
+        return Arrays.copyOf(wordEnds, count);
+    }
+
+    /**
+     * Returns the offsets after each code point of the text that are before {@code limit}.
+     */
+    private static int[] codePointEnds(String text, int limit) {
+        int[] ends = new int[limit];
+        int count = 0;
+        for (int i = 0; i < limit; ) {
+            i += Character.charCount(text.codePointAt(i));
+            if (i < limit) {
+                ends[count++] = i;
+            }
+        }
+        return Arrays.copyOf(ends, count);
+    }
+
+    private static Content withText(Content content, String text) {
+        return Content.from(TextSegment.from(text, content.textSegment().metadata()), content.metadata());
+    }
+
+    /**
+     * Returns the hashes of the (lower-cased) word trigrams of the text,
+     * or of all its words if it has fewer than 3 words, or an empty set if it has no words.
+     * Words are runs of letters and digits, in any script.
+     */
+    static Set<Long> shingles(String text) {
+        List<String> words = words(text);
+        Set<Long> shingles = new HashSet<>();
+        if (words.isEmpty()) {
+            return shingles;
+        }
+        int size = Math.min(SHINGLE_SIZE, words.size());
+        for (int i = 0; i + size <= words.size(); i++) {
+            long hash = 17;
+            for (int j = i; j < i + size; j++) {
+                hash = 31 * hash + words.get(j).hashCode();
+            }
+            shingles.add(hash);
+        }
+        return shingles;
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordCharacter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordCharacter && start < 0) {
+                start = i;
+            } else if (!wordCharacter && start >= 0) {
+                words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns the fraction of the shingles of the smaller set that also occur in the other set.
+     */
+    static double overlap(Set<Long> shingles1, Set<Long> shingles2) {
+        Set<Long> smaller = shingles1.size() <= shingles2.size() ? shingles1 : shingles2;
+        Set<Long> larger = smaller == shingles1 ? shingles2 : shingles1;
+        if (smaller.isEmpty()) {
+            return 0;
+        }
+        int common = 0;
+        for (Long shingle : smaller) {
+            if (larger.contains(shingle)) {
+                common++;
+            }
+        }
+        return (double) common / smaller.size();
+    }
+
+    /**
+     * The result of {@link #pack(List)}.
+     *
+     * @param contents          The contents to inject, in order of relevance. The last one may be truncated.
+     * @param tokenCount        The number of tokens taken by the formatted contents, including separators.
+     * @param droppedDuplicates The number of contents dropped as near-duplicates.
+     * @param droppedOverBudget The number of contents dropped because the budget was exhausted.
+     */
+    public record PackedContents(List<Content> contents, int tokenCount, int droppedDuplicates, int droppedOverBudget) {}
+
+    public static class TokenBudgetContentInjectorBuilder extends DefaultContentInjectorBuilder {
+
+        private PromptTemplate promptTemplate;
+        private List<String> metadataKeysToInclude;
+        private Tokenizer tokenizer;
+        private Integer maxTokens;
+        private Double maxOverlap;
+        private EmbeddingModel embeddingModel;
+        private Double maxSimilarity;
+
+        TokenBudgetContentInjectorBuilder() {}
+
+        @Override
+        public TokenBudgetContentInjectorBuilder promptTemplate(PromptTemplate promptTemplate) {
+            this.promptTemplate = promptTemplate;
+            return this;
+        }
+
+        @Override
+        public TokenBudgetContentInjectorBuilder metadataKeysToInclude(List<String> metadataKeysToInclude) {
+            this.metadataKeysToInclude = metadataKeysToInclude;
+            return this;
+        }
+
+        public TokenBudgetContentInjectorBuilder tokenizer(Tokenizer tokenizer) {
+            this.tokenizer = tokenizer;
+            return this;
+        }
+
+        public TokenBudgetContentInjectorBuilder maxTokens(Integer maxTokens) {
+            this.maxTokens = maxTokens;
+            return this;
+        }
+
+        public TokenBudgetContentInjectorBuilder maxOverlap(Double maxOverlap) {
+            this.maxOverlap = maxOverlap;
+            return this;
+        }
+
+        public TokenBudgetContentInjectorBuilder embeddingModel(EmbeddingModel embeddingModel) {
+            this.embeddingModel = embeddingModel;
+            return this;
+        }
+
+        public TokenBudgetContentInjectorBuilder maxSimilarity(Double maxSimilarity) {
+            this.maxSimilarity = maxSimilarity;
+            return this;
+        }
+
+        @Override
+        public TokenBudgetContentInjector build() {
+            return new TokenBudgetContentInjector(
+                    promptTemplate,
+                    metadataKeysToInclude,
+                    tokenizer,
+                    maxTokens,
+                    maxOverlap,
+                    embeddingModel,
+                    maxSimilarity);
+        }
+
+        @Override
+        public String toString() {
+            return "TokenBudgetContentInjector.TokenBudgetContentInjectorBuilder(promptTemplate=" + this.promptTemplate
+                    + ", metadataKeysToInclude=" + this.metadataKeysToInclude
+                    + ", tokenizer=" + this.tokenizer
+                    + ", maxTokens=" + this.maxTokens
+                    + ", maxOverlap=" + this.maxOverlap
+                    + ", embeddingModel=" + this.embeddingModel
+                    + ", maxSimilarity=" + this.maxSimilarity + ")";
+        }
+    }
+}
@@ -4,6 +4,8 @@ import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.rag.query.Query;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Retrieves {@link Content}s from an underlying data source using a given {@link Query}.
@@ -35,4 +37,20 @@ public interface ContentRetriever {
      * @return A list of retrieved {@link Content}s.
      */
     List<Content> retrieve(Query query);
+
+    /**
+     * Asynchronously retrieves relevant {@link Content}s using a given {@link Query}.
+     * <br>
+     * By default, {@link #retrieve(Query)} is called using the provided {@link Executor}.
+     * Implementations that can retrieve without blocking (e.g., {@link EmbeddingStoreContentRetriever}
+     * when the underlying {@code EmbeddingModel} and {@code EmbeddingStore} are non-blocking)
+     * should override this method.
+     *
+     * @param query    The {@link Query} to use for retrieval.
+     * @param executor The {@link Executor} to run blocking retrieval on.
+     * @return A future of the list of retrieved {@link Content}s.
+     */
+    default CompletableFuture<List<Content>> retrieveAsync(Query query, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> retrieve(query), executor);
+    }
 }
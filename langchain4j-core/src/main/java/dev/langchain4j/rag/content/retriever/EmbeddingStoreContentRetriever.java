@@ -15,6 +15,8 @@ import dev.langchain4j.store.embedding.filter.Filter;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -72,6 +74,8 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
 
     private final String displayName;
 
+    private final boolean nonBlocking;
+
     public EmbeddingStoreContentRetriever(EmbeddingStore<TextSegment> embeddingStore,
                                           EmbeddingModel embeddingModel) {
         this(
@@ -126,6 +130,21 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
         this.maxResultsProvider = getOrDefault(dynamicMaxResults, DEFAULT_MAX_RESULTS);
         this.minScoreProvider = getOrDefault(dynamicMinScore, DEFAULT_MIN_SCORE);
         this.filterProvider = getOrDefault(dynamicFilter, DEFAULT_FILTER);
+        this.nonBlocking = (overrides(this.embeddingModel, EmbeddingModel.class, "embedAsync", String.class)
+                || overrides(this.embeddingModel, EmbeddingModel.class, "embedAllAsync", List.class))
+                && overrides(this.embeddingStore, EmbeddingStore.class, "searchAsync", EmbeddingSearchRequest.class);
+    }
+
+    /**
+     * Returns whether the class of the given object (or one of its superclasses)
+     * overrides the given default method of the interface.
+     */
+    private static boolean overrides(Object object, Class<?> type, String methodName, Class<?>... parameterTypes) {
+        try {
+            return object.getClass().getMethod(methodName, parameterTypes).getDeclaringClass() != type;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
     }
 
     private static EmbeddingModel loadEmbeddingModel() {
@@ -231,15 +250,38 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
 
         Embedding embeddedQuery = embeddingModel.embed(query.text()).content();
 
-        EmbeddingSearchRequest searchRequest = EmbeddingSearchRequest.builder()
+        EmbeddingSearchResult<TextSegment> searchResult = embeddingStore.search(searchRequest(query, embeddedQuery));
+
+        return toContents(searchResult);
+    }
+
+    /**
+     * If both the {@link EmbeddingModel} and the {@link EmbeddingStore} implement their asynchronous methods
+     * ({@link EmbeddingModel#embedAsync(String)} or {@link EmbeddingModel#embedAllAsync(List)},
+     * and {@link EmbeddingStore#searchAsync(EmbeddingSearchRequest)}), the query is embedded and searched
+     * through them, so no thread is blocked and the provided {@link Executor} is not used.
+     * Otherwise, {@link #retrieve(Query)} is run on the provided {@link Executor}.
+     */
+    @Override
+    public CompletableFuture<List<Content>> retrieveAsync(Query query, Executor executor) {
+        if (!nonBlocking) {
+            return CompletableFuture.supplyAsync(() -> retrieve(query), executor);
+        }
+        return embeddingModel.embedAsync(query.text())
+                .thenCompose(response -> embeddingStore.searchAsync(searchRequest(query, response.content())))
+                .thenApply(EmbeddingStoreContentRetriever::toContents);
+    }
+
+    private EmbeddingSearchRequest searchRequest(Query query, Embedding embeddedQuery) {
+        return EmbeddingSearchRequest.builder()
                 .queryEmbedding(embeddedQuery)
                 .maxResults(maxResultsProvider.apply(query))
                 .minScore(minScoreProvider.apply(query))
                 .filter(filterProvider.apply(query))
                 .build();
+    }
 
-        EmbeddingSearchResult<TextSegment> searchResult = embeddingStore.search(searchRequest);
-
+    private static List<Content> toContents(EmbeddingSearchResult<TextSegment> searchResult) {
         return searchResult.matches().stream()
                 .map(embeddingMatch -> Content.from(
                         embeddingMatch.embedded(),
@@ -0,0 +1,18 @@
+package dev.langchain4j.spi.executor;
+
+import dev.langchain4j.internal.DefaultExecutorProvider;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * A factory for creating the {@link ExecutorService} returned by
+ * {@link DefaultExecutorProvider#getDefaultExecutorService()} through SPI.
+ */
+public interface ExecutorServiceFactory {
+
+    /**
+     * Create a new {@link ExecutorService}.
+     * @return the new {@link ExecutorService}.
+     */
+    ExecutorService create();
+}
@@ -9,7 +9,9 @@ import dev.langchain4j.store.embedding.filter.Filter;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import static dev.langchain4j.internal.DefaultExecutorProvider.getDefaultExecutorService;
 import static dev.langchain4j.internal.Utils.randomUUID;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static java.util.Collections.singletonList;
@@ -78,6 +80,36 @@ public interface EmbeddingStore<Embedded> {
         throw new UnsupportedOperationException("Not supported yet.");
     }
 
+    /**
+     * Asynchronously adds multiple embeddings and their corresponding contents that have been embedded to the store.
+     * <br>
+     * By default, {@link #addAll(List, List)} is called on a shared default executor.
+     * Implementations backed by a non-blocking client should override {@link #addAllAsync(List, List, List)}
+     * so that no thread is blocked while the request is in flight.
+     *
+     * @param embeddings A list of embeddings to be added to the store.
+     * @param embedded   A list of original contents that were embedded.
+     * @return A future of the list of auto-generated IDs associated with the added embeddings.
+     */
+    default CompletableFuture<List<String>> addAllAsync(List<Embedding> embeddings, List<Embedded> embedded) {
+        final List<String> ids = generateIds(embeddings.size());
+        return addAllAsync(ids, embeddings, embedded).thenApply(ignored -> ids);
+    }
+
+    /**
+     * Asynchronously adds multiple embeddings and their corresponding contents that have been embedded to the store.
+     * <br>
+     * By default, {@link #addAll(List, List, List)} is called on a shared default executor.
+     *
+     * @param ids        A list of IDs associated with the added embeddings.
+     * @param embeddings A list of embeddings to be added to the store.
+     * @param embedded   A list of original contents that were embedded.
+     * @return A future that is completed once the embeddings are added.
+     */
+    default CompletableFuture<Void> addAllAsync(List<String> ids, List<Embedding> embeddings, List<Embedded> embedded) {
+        return CompletableFuture.runAsync(() -> addAll(ids, embeddings, embedded), getDefaultExecutorService());
+    }
+
     /**
      * Removes a single embedding from the store by ID.
      *
@@ -153,6 +185,20 @@ public interface EmbeddingStore<Embedded> {
         return new EmbeddingSearchResult<>(matches);
     }
 
+    /**
+     * Asynchronously searches for the most similar (closest in the embedding space) {@link Embedding}s.
+     * <br>
+     * By default, {@link #search(EmbeddingSearchRequest)} is called on a shared default executor.
+     * Implementations backed by a non-blocking client should override this method
+     * so that no thread is blocked while the search is in flight.
+     *
+     * @param request A request to search in an {@link EmbeddingStore}. Contains all search criteria.
+     * @return A future of the {@link EmbeddingSearchResult} containing all found {@link Embedding}s.
+     */
+    default CompletableFuture<EmbeddingSearchResult<Embedded>> searchAsync(EmbeddingSearchRequest request) {
+        return CompletableFuture.supplyAsync(() -> search(request), getDefaultExecutorService());
+    }
+
     /**
      * Finds the most relevant (closest in space) embeddings to the provided reference embedding.
      * By default, minScore is set to 0, which means that the results may include embeddings with low relevance.
@@ -15,6 +15,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
@@ -48,6 +49,11 @@ import static java.util.stream.Collectors.toList;
  * <br>
  * Including a document title or a short summary in each {@code TextSegment} is a common technique
  * to improve the quality of similarity searches.
+ * <br>
+ * <br>
+ * Optionally, an {@link Executor} can be specified to transform and split multiple documents in parallel
+ * (see {@link DocumentSplitter#splitAll(List, Executor)}). The resulting {@code TextSegment}s and their metadata
+ * are the same as when documents are processed sequentially.
  */
 public class EmbeddingStoreIngestor {
 
@@ -58,6 +64,7 @@ public class EmbeddingStoreIngestor {
     private final TextSegmentTransformer textSegmentTransformer;
     private final EmbeddingModel embeddingModel;
     private final EmbeddingStore<TextSegment> embeddingStore;
+    private final Executor executor;
 
     /**
      * Creates an instance of an {@code EmbeddingStoreIngestor}.
@@ -75,6 +82,28 @@ public class EmbeddingStoreIngestor {
                                   TextSegmentTransformer textSegmentTransformer,
                                   EmbeddingModel embeddingModel,
                                   EmbeddingStore<TextSegment> embeddingStore) {
+        this(documentTransformer, documentSplitter, textSegmentTransformer, embeddingModel, embeddingStore, null);
+    }
+
+    /**
+     * Creates an instance of an {@code EmbeddingStoreIngestor}.
+     *
+     * @param documentTransformer    The {@link DocumentTransformer} to use. Optional.
+     * @param documentSplitter       The {@link DocumentSplitter} to use. Optional.
+     *                               If none is specified, it tries to load one through SPI (see {@link DocumentSplitterFactory}).
+     * @param textSegmentTransformer The {@link TextSegmentTransformer} to use. Optional.
+     * @param embeddingModel         The {@link EmbeddingModel} to use. Mandatory.
+     *                               If none is specified, it tries to load one through SPI (see {@link EmbeddingModelFactory}).
+     * @param embeddingStore         The {@link EmbeddingStore} to use. Mandatory.
+     * @param executor               The {@link Executor} used to transform and split documents in parallel. Optional.
+     *                               If none is specified, documents are processed sequentially.
+     */
+    public EmbeddingStoreIngestor(DocumentTransformer documentTransformer,
+                                  DocumentSplitter documentSplitter,
+                                  TextSegmentTransformer textSegmentTransformer,
+                                  EmbeddingModel embeddingModel,
+                                  EmbeddingStore<TextSegment> embeddingStore,
+                                  Executor executor) {
         this.documentTransformer = documentTransformer;
         this.documentSplitter = getOrDefault(documentSplitter, EmbeddingStoreIngestor::loadDocumentSplitter);
         this.textSegmentTransformer = textSegmentTransformer;
@@ -83,6 +112,7 @@ public class EmbeddingStoreIngestor {
                 "embeddingModel"
         );
         this.embeddingStore = ensureNotNull(embeddingStore, "embeddingStore");
+        this.executor = executor;
     }
 
     private static DocumentSplitter loadDocumentSplitter() {
@@ -181,12 +211,16 @@ public class EmbeddingStoreIngestor {
         log.debug("Starting to ingest {} documents", documents.size());
 
         if (documentTransformer != null) {
-            documents = documentTransformer.transformAll(documents);
+            documents = executor == null
+                    ? documentTransformer.transformAll(documents)
+                    : documentTransformer.transformAll(documents, executor);
             log.debug("Documents were transformed into {} documents", documents.size());
         }
         List<TextSegment> segments;
         if (documentSplitter != null) {
-            segments = documentSplitter.splitAll(documents);
+            segments = executor == null
+                    ? documentSplitter.splitAll(documents)
+                    : documentSplitter.splitAll(documents, executor);
             log.debug("Documents were split into {} text segments", segments.size());
         } else {
             segments = documents.stream()
@@ -194,7 +228,9 @@ public class EmbeddingStoreIngestor {
                     .collect(toList());
         }
         if (textSegmentTransformer != null) {
-            segments = textSegmentTransformer.transformAll(segments);
+            segments = executor == null
+                    ? textSegmentTransformer.transformAll(segments)
+                    : textSegmentTransformer.transformAll(segments, executor);
             log.debug("Text segments were transformed into {} text segments", documents.size());
         }
 
@@ -230,6 +266,7 @@ public class EmbeddingStoreIngestor {
         private TextSegmentTransformer textSegmentTransformer;
         private EmbeddingModel embeddingModel;
         private EmbeddingStore<TextSegment> embeddingStore;
+        private Executor executor;
 
         /**
          * Creates a new EmbeddingStoreIngestor builder.
@@ -296,6 +333,22 @@ public class EmbeddingStoreIngestor {
             return this;
         }
 
+        /**
+         * Sets the executor used to transform and split multiple documents in parallel. Optional.
+         * If none is specified, documents are processed sequentially.
+         * <br>
+         * Transformation and splitting are CPU-bound, so an executor with a thread per core,
+         * such as {@link java.util.concurrent.ForkJoinPool#commonPool()}, is the best fit.
+         * The configured transformers and splitter must be thread-safe.
+         *
+         * @param executor the executor.
+         * @return {@code this}
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         /**
          * Builds the EmbeddingStoreIngestor.
          *
@@ -307,7 +360,8 @@ public class EmbeddingStoreIngestor {
                     documentSplitter,
                     textSegmentTransformer,
                     embeddingModel,
-                    embeddingStore
+                    embeddingStore,
+                    executor
             );
         }
     }
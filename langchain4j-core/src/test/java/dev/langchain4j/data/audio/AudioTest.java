@@ -0,0 +1,73 @@
+package dev.langchain4j.data.audio;
+
+import dev.langchain4j.data.binary.BinaryData;
+import java.net.URI;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+class AudioTest implements WithAssertions {
+
+    @Test
+    void builder() {
+        {
+            Audio audio = Audio.builder()
+                    .url("https://example.com/file.mp3")
+                    .base64Data("aGVsbG8=")
+                    .mimeType("audio/mpeg")
+                    .build();
+
+            assertThat(audio.url()).isEqualTo(URI.create("https://example.com/file.mp3"));
+            assertThat(audio.base64Data()).isEqualTo("aGVsbG8=");
+            assertThat(audio.binaryData().bytes()).isEqualTo("hello".getBytes());
+            assertThat(audio.mimeType()).isEqualTo("audio/mpeg");
+        }
+        {
+            Audio audio = Audio.builder().build();
+            assertThat(audio.url()).isNull();
+            assertThat(audio.base64Data()).isNull();
+            assertThat(audio.binaryData()).isNull();
+        }
+    }
+
+    @Test
+    void binary_data() {
+        Audio audio = Audio.builder()
+                .base64Data("ignored")
+                .binaryData(BinaryData.from("hello".getBytes()))
+                .build();
+
+        assertThat(audio.base64Data()).isEqualTo("aGVsbG8=");
+        assertThat(audio.binaryData()).isEqualTo(BinaryData.from("hello".getBytes()));
+        assertThat(audio.toString()).contains("binaryData = BinaryData { bytes = 5 }");
+
+        Audio replaced = Audio.builder()
+                .binaryData(BinaryData.from("hello".getBytes()))
+                .base64Data("aGVsbG8=")
+                .build();
+        assertThat(replaced.toString()).doesNotContain("binaryData");
+    }
+
+    @Test
+    void equals_hash() {
+        Audio audio1 = Audio.builder()
+                .url("https://example.com/file.mp3")
+                .binaryData(BinaryData.from("hello".getBytes()))
+                .build();
+        Audio audio2 = Audio.builder()
+                .url("https://example.com/file.mp3")
+                .binaryData(BinaryData.from("hello".getBytes()))
+                .build();
+        Audio audio3 = Audio.builder()
+                .url("https://example.com/file.mp3")
+                .base64Data("aGVsbG8=")
+                .build();
+
+        assertThat(audio1)
+                .isEqualTo(audio1)
+                .isNotEqualTo(null)
+                .isNotEqualTo(new Object())
+                .isEqualTo(audio2)
+                .hasSameHashCodeAs(audio2)
+                .isNotEqualTo(audio3);
+    }
+}
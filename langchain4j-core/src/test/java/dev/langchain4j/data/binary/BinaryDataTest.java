@@ -0,0 +1,160 @@
+package dev.langchain4j.data.binary;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinaryDataTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void should_read_file_only_when_needed() throws IOException {
+
+        // given
+        Path path = tempDir.resolve("image.png");
+        BinaryData binaryData = BinaryData.from(path);
+        byte[] bytes = randomBytes(100_000);
+
+        // when
+        Files.write(path, bytes);
+
+        // then
+        assertThat(binaryData.bytes()).isEqualTo(bytes);
+        assertThat(binaryData.base64()).isEqualTo(Base64.getEncoder().encodeToString(bytes));
+        assertThat(binaryData).isEqualTo(BinaryData.from(path)).hasToString("BinaryData { path = \"" + path + "\" }");
+    }
+
+    @Test
+    void should_write_base64() {
+
+        for (int size : new int[]{0, 1, 2, 3, 8191, 8192, 100_000}) {
+
+            // given
+            byte[] bytes = randomBytes(size);
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+            // when
+            BinaryData.from(bytes).writeBase64(outputStream);
+
+            // then
+            assertThat(outputStream.toString(ISO_8859_1)).isEqualTo(Base64.getEncoder().encodeToString(bytes));
+        }
+    }
+
+    @Test
+    void should_open_new_stream_from_supplier_each_time() {
+
+        // given
+        byte[] bytes = randomBytes(10);
+        AtomicInteger opened = new AtomicInteger();
+        BinaryData binaryData = BinaryData.from(() -> {
+            opened.incrementAndGet();
+            return new ByteArrayInputStream(bytes);
+        });
+
+        // when
+        byte[] first = binaryData.bytes();
+        byte[] second = binaryData.bytes();
+
+        // then
+        assertThat(first).isEqualTo(bytes);
+        assertThat(second).isEqualTo(bytes);
+        assertThat(opened).hasValue(2);
+    }
+
+    @Test
+    void should_keep_base64_data_as_is() {
+
+        // given
+        BinaryData binaryData = BinaryData.fromBase64("aGVsbG8=");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        binaryData.writeBase64(outputStream);
+
+        // then
+        assertThat(binaryData.base64()).isEqualTo("aGVsbG8=");
+        assertThat(outputStream.toString(ISO_8859_1)).isEqualTo("aGVsbG8=");
+        assertThat(binaryData.bytes()).isEqualTo("hello".getBytes());
+    }
+
+    @Test
+    void should_compare_payloads() {
+
+        BinaryData bytes = BinaryData.from("hello".getBytes());
+        BinaryData base64 = BinaryData.fromBase64("aGVsbG8=");
+
+        assertThat(bytes)
+                .isEqualTo(bytes)
+                .isEqualTo(BinaryData.from("hello".getBytes()))
+                .hasSameHashCodeAs(BinaryData.from("hello".getBytes()))
+                .isNotEqualTo(BinaryData.from("world".getBytes()))
+                .isNotEqualTo(base64)
+                .isNotEqualTo(null)
+                .hasToString("BinaryData { bytes = 5 }");
+        assertThat(base64)
+                .isEqualTo(base64)
+                .isEqualTo(BinaryData.fromBase64("aGVsbG8="))
+                .hasSameHashCodeAs(BinaryData.fromBase64("aGVsbG8="))
+                .isNotEqualTo(BinaryData.fromBase64("d29ybGQ="))
+                .isNotEqualTo(null)
+                .hasToString("BinaryData { base64Data = 8 characters }");
+        assertThat(BinaryData.from(tempDir))
+                .isEqualTo(BinaryData.from(tempDir))
+                .hasSameHashCodeAs(BinaryData.from(tempDir))
+                .isNotEqualTo(BinaryData.from(tempDir.resolve("other")))
+                .isNotEqualTo(null);
+        assertThat(BinaryData.from(() -> new ByteArrayInputStream(new byte[0])))
+                .hasToString("BinaryData { stream }");
+    }
+
+    @Test
+    void should_fail_to_read_missing_file() {
+
+        BinaryData binaryData = BinaryData.from(tempDir.resolve("missing.png"));
+
+        assertThatThrownBy(binaryData::bytes).isExactlyInstanceOf(UncheckedIOException.class);
+        assertThatThrownBy(binaryData::newInputStream).isExactlyInstanceOf(UncheckedIOException.class);
+        assertThatThrownBy(binaryData::base64).isExactlyInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    void should_write_base64_of_bytes_and_file() throws IOException {
+
+        // given
+        Path path = tempDir.resolve("file.bin");
+        Files.write(path, "hello".getBytes());
+        ByteArrayOutputStream fromBytes = new ByteArrayOutputStream();
+        ByteArrayOutputStream fromFile = new ByteArrayOutputStream();
+
+        // when
+        BinaryData.from("hello".getBytes()).writeBase64(fromBytes);
+        BinaryData.from(path).writeBase64(fromFile);
+
+        // then
+        assertThat(fromBytes.toString(ISO_8859_1)).isEqualTo("aGVsbG8=");
+        assertThat(fromFile.toString(ISO_8859_1)).isEqualTo("aGVsbG8=");
+        assertThat(BinaryData.fromBase64("aGVsbG8=").newInputStream().readAllBytes()).isEqualTo("hello".getBytes());
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -4,7 +4,10 @@ import dev.langchain4j.data.segment.TextSegment;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
@@ -34,4 +37,38 @@ class DocumentSplitterTest implements WithAssertions {
                         new TextSegment("abc", Metadata.metadata("foo", "bar")),
                         new TextSegment("def", Metadata.metadata("foo", "bar")));
     }
+
+    @Test
+    void split_all_in_parallel_keeps_order() {
+        List<Document> docs = IntStream.range(0, 1000)
+                .mapToObj(i -> Document.document("a" + i + " b" + i, Metadata.metadata("document", i)))
+                .collect(Collectors.toList());
+
+        WhitespaceSplitter splitter = new WhitespaceSplitter();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            assertThat(splitter.splitAll(docs, executor)).containsExactlyElementsOf(splitter.splitAll(docs));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void split_all_in_parallel_rethrows_failure() {
+        List<Document> docs = new ArrayList<>();
+        docs.add(Document.document("abc"));
+        docs.add(Document.document("def"));
+
+        DocumentSplitter failingSplitter = document -> {
+            throw new IllegalStateException("cannot split " + document.text());
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            assertThatThrownBy(() -> failingSplitter.splitAll(docs, executor))
+                    .isExactlyInstanceOf(IllegalStateException.class)
+                    .hasMessage("cannot split abc");
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -3,6 +3,7 @@ package dev.langchain4j.data.document;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
@@ -28,4 +29,20 @@ class DocumentTransformerTest implements WithAssertions {
                         Document.document("ABC XYZ", Metadata.metadata("lang", "en")),
                         Document.document("JKL 123", Metadata.metadata("lang", "en")));
     }
+
+    @Test
+    void transform_all_in_parallel() {
+        List<Document> docs = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            docs.add(Document.document("doc " + i, Metadata.metadata("keep", String.valueOf(i % 2 == 0))));
+        }
+        DocumentTransformer transformer = document -> document.metadata().getString("keep").equals("true")
+                ? Document.document(document.text().toUpperCase(Locale.ROOT), document.metadata())
+                : null;
+
+        List<Document> results = transformer.transformAll(docs, ForkJoinPool.commonPool());
+
+        assertThat(results).hasSize(50).containsExactlyElementsOf(transformer.transformAll(docs));
+        assertThat(results.get(1).text()).isEqualTo("DOC 2");
+    }
 }
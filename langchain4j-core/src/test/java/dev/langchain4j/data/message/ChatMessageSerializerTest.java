@@ -1,6 +1,7 @@
 package dev.langchain4j.data.message;
 
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.binary.BinaryData;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -92,6 +93,21 @@ class ChatMessageSerializerTest {
                         "{\"attributes\":{\"k1\":\"v1\", \"k2\":\"v2\"},\"type\":\"CUSTOM\"}"));
     }
 
+    @Test
+    void should_serialize_binary_data_as_base64_data() {
+
+        // given
+        UserMessage message = UserMessage.from(ImageContent.from(BinaryData.from("hello".getBytes()), "image/png"));
+
+        // when
+        String json = messageToJson(message);
+
+        // then
+        assertThat(json).isEqualToIgnoringWhitespace(
+                "{\"contents\":[{\"image\":{\"base64Data\":\"aGVsbG8=\",\"mimeType\":\"image/png\"},\"detailLevel\":\"LOW\",\"type\":\"IMAGE\"}],\"type\":\"USER\"}");
+        assertThat(messageFromJson(json)).isEqualTo(UserMessage.from(ImageContent.from("aGVsbG8=", "image/png")));
+    }
+
     @Test
     void should_serialize_and_deserialize_empty_list() {
 
@@ -0,0 +1,71 @@
+package dev.langchain4j.data.pdf;
+
+import dev.langchain4j.data.binary.BinaryData;
+import java.net.URI;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+class PdfFileTest implements WithAssertions {
+
+    @Test
+    void builder() {
+        {
+            PdfFile pdfFile = PdfFile.builder()
+                    .url("https://example.com/file.pdf")
+                    .base64Data("aGVsbG8=")
+                    .build();
+
+            assertThat(pdfFile.url()).isEqualTo(URI.create("https://example.com/file.pdf"));
+            assertThat(pdfFile.base64Data()).isEqualTo("aGVsbG8=");
+            assertThat(pdfFile.binaryData().bytes()).isEqualTo("hello".getBytes());
+        }
+        {
+            PdfFile pdfFile = PdfFile.builder().build();
+            assertThat(pdfFile.url()).isNull();
+            assertThat(pdfFile.base64Data()).isNull();
+            assertThat(pdfFile.binaryData()).isNull();
+        }
+    }
+
+    @Test
+    void binary_data() {
+        PdfFile pdfFile = PdfFile.builder()
+                .base64Data("ignored")
+                .binaryData(BinaryData.from("hello".getBytes()))
+                .build();
+
+        assertThat(pdfFile.base64Data()).isEqualTo("aGVsbG8=");
+        assertThat(pdfFile.binaryData()).isEqualTo(BinaryData.from("hello".getBytes()));
+        assertThat(pdfFile.toString()).contains("binaryData = BinaryData { bytes = 5 }");
+
+        PdfFile replaced = PdfFile.builder()
+                .binaryData(BinaryData.from("hello".getBytes()))
+                .base64Data("aGVsbG8=")
+                .build();
+        assertThat(replaced.toString()).doesNotContain("binaryData");
+    }
+
+    @Test
+    void equals_hash() {
+        PdfFile pdfFile1 = PdfFile.builder()
+                .url("https://example.com/file.pdf")
+                .binaryData(BinaryData.from("hello".getBytes()))
+                .build();
+        PdfFile pdfFile2 = PdfFile.builder()
+                .url("https://example.com/file.pdf")
+                .binaryData(BinaryData.from("hello".getBytes()))
+                .build();
+        PdfFile pdfFile3 = PdfFile.builder()
+                .url("https://example.com/file.pdf")
+                .base64Data("aGVsbG8=")
+                .build();
+
+        assertThat(pdfFile1)
+                .isEqualTo(pdfFile1)
+                .isNotEqualTo(null)
+                .isNotEqualTo(new Object())
+                .isEqualTo(pdfFile2)
+                .hasSameHashCodeAs(pdfFile2)
+                .isNotEqualTo(pdfFile3);
+    }
+}
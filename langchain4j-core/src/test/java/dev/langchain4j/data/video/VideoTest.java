@@ -0,0 +1,73 @@
+package dev.langchain4j.data.video;
+
+import dev.langchain4j.data.binary.BinaryData;
+import java.net.URI;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+class VideoTest implements WithAssertions {
+
+    @Test
+    void builder() {
+        {
+            Video video = Video.builder()
+                    .url("https://example.com/file.mp4")
+                    .base64Data("aGVsbG8=")
+                    .mimeType("video/mp4")
+                    .build();
+
+            assertThat(video.url()).isEqualTo(URI.create("https://example.com/file.mp4"));
+            assertThat(video.base64Data()).isEqualTo("aGVsbG8=");
+            assertThat(video.binaryData().bytes()).isEqualTo("hello".getBytes());
+            assertThat(video.mimeType()).isEqualTo("video/mp4");
+        }
+        {
+            Video video = Video.builder().build();
+            assertThat(video.url()).isNull();
+            assertThat(video.base64Data()).isNull();
+            assertThat(video.binaryData()).isNull();
+        }
+    }
+
+    @Test
+    void binary_data() {
+        Video video = Video.builder()
+                .base64Data("ignored")
+                .binaryData(BinaryData.from("hello".getBytes()))
+                .build();
+
+        assertThat(video.base64Data()).isEqualTo("aGVsbG8=");
+        assertThat(video.binaryData()).isEqualTo(BinaryData.from("hello".getBytes()));
+        assertThat(video.toString()).contains("binaryData = BinaryData { bytes = 5 }");
+
+        Video replaced = Video.builder()
+                .binaryData(BinaryData.from("hello".getBytes()))
+                .base64Data("aGVsbG8=")
+                .build();
+        assertThat(replaced.toString()).doesNotContain("binaryData");
+    }
+
+    @Test
+    void equals_hash() {
+        Video video1 = Video.builder()
+                .url("https://example.com/file.mp4")
+                .binaryData(BinaryData.from("hello".getBytes()))
+                .build();
+        Video video2 = Video.builder()
+                .url("https://example.com/file.mp4")
+                .binaryData(BinaryData.from("hello".getBytes()))
+                .build();
+        Video video3 = Video.builder()
+                .url("https://example.com/file.mp4")
+                .base64Data("aGVsbG8=")
+                .build();
+
+        assertThat(video1)
+                .isEqualTo(video1)
+                .isNotEqualTo(null)
+                .isNotEqualTo(new Object())
+                .isEqualTo(video2)
+                .hasSameHashCodeAs(video2)
+                .isNotEqualTo(video3);
+    }
+}
@@ -0,0 +1,123 @@
+package dev.langchain4j.internal;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.model.output.Response;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class DefaultExecutorProviderTest {
+
+    @Test
+    void should_return_shared_executor() {
+        assertThat(DefaultExecutorProvider.getDefaultExecutorService())
+                .isSameAs(DefaultExecutorProvider.getDefaultExecutorService());
+    }
+
+    @Test
+    void should_use_virtual_threads_when_available() throws Exception {
+
+        // given
+        boolean virtualThreadsAvailable = Runtime.version().feature() >= 21;
+
+        // when
+        ExecutorService executor = DefaultExecutorProvider.createVirtualThreadPerTaskExecutor();
+
+        // then
+        if (virtualThreadsAvailable) {
+            assertThat(executor).isNotNull();
+            Future<String> threadName = executor.submit(() -> Thread.currentThread().toString());
+            assertThat(threadName.get()).startsWith("VirtualThread");
+            executor.shutdown();
+        } else {
+            assertThat(executor).isNull();
+        }
+    }
+
+    @Test
+    void bounded_executor_should_not_exceed_max_threads() throws Exception {
+
+        // given
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) DefaultExecutorProvider.createBoundedPlatformThreadExecutor(2);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(5);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                finished.countDown();
+            });
+        }
+
+        // then
+        assertThat(executor.getPoolSize()).isEqualTo(2);
+        assertThat(executor.getQueue()).hasSize(3);
+
+        release.countDown();
+        assertThat(finished.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+    }
+
+    @Test
+    void bounded_executor_should_not_deadlock_when_all_threads_wait_for_nested_tasks() throws Exception {
+
+        // given
+        ExecutorService executor = DefaultExecutorProvider.createBoundedPlatformThreadExecutor(2);
+        List<List<String>> batches = asList(asList("a", "b"), asList("c"), asList("d", "e"));
+        CountDownLatch allOuterTasksStarted = new CountDownLatch(8);
+
+        // when
+        // like embedAllAsync -> embedAll -> embedInBatches on the same pool, with more outer tasks than threads
+        List<CompletableFuture<Response<List<Embedding>>>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                allOuterTasksStarted.countDown();
+                return EmbeddingBatchUtils.embedInBatches(batches, batch -> {
+                    List<Embedding> embeddings = new ArrayList<>();
+                    batch.forEach(text -> embeddings.add(Embedding.from(new float[]{text.charAt(0)})));
+                    return Response.from(embeddings);
+                }, 3, executor);
+            }, executor));
+        }
+
+        // then
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        assertThat(allOuterTasksStarted.getCount()).isZero();
+        for (CompletableFuture<Response<List<Embedding>>> future : futures) {
+            assertThat(future.get().content()).extracting(embedding -> embedding.vector()[0])
+                    .containsExactly((float) 'a', (float) 'b', (float) 'c', (float) 'd', (float) 'e');
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    void bounded_executor_should_run_tasks_submitted_from_its_threads_in_the_submitting_thread() throws Exception {
+
+        // given
+        ExecutorService executor = DefaultExecutorProvider.createBoundedPlatformThreadExecutor(1);
+
+        // when
+        Future<Boolean> sameThread = executor.submit(() -> {
+            Thread outer = Thread.currentThread();
+            return executor.submit(() -> Thread.currentThread() == outer).get(10, TimeUnit.SECONDS);
+        });
+
+        // then
+        assertThat(sameThread.get(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,187 @@
+package dev.langchain4j.internal;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+class EmbeddingBatchUtilsTest {
+
+    @Test
+    void should_partition_by_segment_count() {
+
+        // given
+        List<String> texts = List.of("a", "b", "c", "d", "e");
+
+        // when
+        List<List<String>> batches = EmbeddingBatchUtils.partition(texts, 2);
+
+        // then
+        assertThat(batches).containsExactly(List.of("a", "b"), List.of("c", "d"), List.of("e"));
+    }
+
+    @Test
+    void should_partition_by_segment_count_and_token_count() {
+
+        // given
+        List<String> texts = List.of("aaaa", "bb", "c", "dddddddd", "e", "f", "g");
+
+        // when
+        List<List<String>> batches = EmbeddingBatchUtils.partition(texts, 3, 6, String::length);
+
+        // then
+        assertThat(batches).containsExactly(
+                List.of("aaaa", "bb"),
+                List.of("c"),
+                List.of("dddddddd"), // exceeds the token limit on its own
+                List.of("e", "f", "g")
+        );
+    }
+
+    @Test
+    void should_embed_batches_sequentially() {
+
+        // given
+        List<List<String>> batches = List.of(List.of("1", "2"), List.of("3"));
+
+        // when
+        Response<List<Embedding>> response = EmbeddingBatchUtils.embedInBatches(batches, EMBEDDER, 1, null);
+
+        // then
+        assertThat(response.content()).extracting(embedding -> embedding.vector()[0])
+                .containsExactly(1f, 2f, 3f);
+        assertThat(response.tokenUsage().inputTokenCount()).isEqualTo(3);
+    }
+
+    @Test
+    void should_embed_batches_concurrently_preserving_order() {
+
+        // given
+        List<String> texts = IntStream.range(0, 100).mapToObj(String::valueOf).toList();
+        List<List<String>> batches = EmbeddingBatchUtils.partition(texts, 7);
+
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        Function<List<String>, Response<List<Embedding>>> slowEmbedder = batch -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(ThreadLocalRandom.current().nextInt(5, 20));
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            return EMBEDDER.apply(batch);
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+
+            // when
+            Response<List<Embedding>> response = EmbeddingBatchUtils.embedInBatches(batches, slowEmbedder, 3, executor);
+
+            // then
+            assertThat(response.content()).extracting(embedding -> (int) embedding.vector()[0])
+                    .containsExactlyElementsOf(IntStream.range(0, 100).boxed().toList());
+            assertThat(response.tokenUsage().inputTokenCount()).isEqualTo(100);
+            assertThat(maxInFlight.get()).isLessThanOrEqualTo(3);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void should_rethrow_exception_of_failed_batch() {
+
+        // given
+        List<List<String>> batches = List.of(List.of("1"), List.of("2"), List.of("3"));
+        IllegalStateException exception = new IllegalStateException("batch failed");
+
+        Function<List<String>, Response<List<Embedding>>> failingEmbedder = batch -> {
+            if (batch.contains("2")) {
+                throw exception;
+            }
+            return EMBEDDER.apply(batch);
+        };
+
+        // when-then
+        assertThatThrownBy(() -> EmbeddingBatchUtils.embedInBatches(batches, failingEmbedder, 2, null))
+                .isSameAs(exception);
+    }
+
+    @Test
+    void should_embed_batches_asynchronously_preserving_order() {
+
+        // given
+        List<String> texts = IntStream.range(0, 100).mapToObj(String::valueOf).toList();
+        List<List<String>> batches = EmbeddingBatchUtils.partition(texts, 7);
+
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        Function<List<String>, CompletableFuture<Response<List<Embedding>>>> asyncEmbedder = batch -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            CompletableFuture<Response<List<Embedding>>> future = new CompletableFuture<>();
+            CompletableFuture.delayedExecutor(ThreadLocalRandom.current().nextInt(5, 20), MILLISECONDS)
+                    .execute(() -> {
+                        inFlight.decrementAndGet();
+                        future.complete(EMBEDDER.apply(batch));
+                    });
+            return future;
+        };
+
+        // when
+        Response<List<Embedding>> response = EmbeddingBatchUtils.embedInBatchesAsync(batches, asyncEmbedder, 3).join();
+
+        // then
+        assertThat(response.content()).extracting(embedding -> (int) embedding.vector()[0])
+                .containsExactlyElementsOf(IntStream.range(0, 100).boxed().toList());
+        assertThat(response.tokenUsage().inputTokenCount()).isEqualTo(100);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void should_complete_exceptionally_when_batch_fails_asynchronously() {
+
+        // given
+        List<List<String>> batches = List.of(List.of("1"), List.of("2"), List.of("3"));
+        IllegalStateException exception = new IllegalStateException("batch failed");
+
+        List<List<String>> sentBatches = new ArrayList<>();
+        Function<List<String>, CompletableFuture<Response<List<Embedding>>>> failingEmbedder = batch -> {
+            sentBatches.add(batch);
+            if (batch.contains("2")) {
+                return CompletableFuture.failedFuture(exception);
+            }
+            return CompletableFuture.completedFuture(EMBEDDER.apply(batch));
+        };
+
+        // when
+        CompletableFuture<Response<List<Embedding>>> future =
+                EmbeddingBatchUtils.embedInBatchesAsync(batches, failingEmbedder, 1);
+
+        // then
+        assertThatThrownBy(future::join).hasCauseReference(exception);
+        assertThat(sentBatches).containsExactly(List.of("1"), List.of("2"));
+    }
+
+    private static final Function<List<String>, Response<List<Embedding>>> EMBEDDER = batch -> Response.from(
+            batch.stream()
+                    .map(text -> Embedding.from(new float[]{Float.parseFloat(text)}))
+                    .toList(),
+            new TokenUsage(batch.size())
+    );
+}
@@ -0,0 +1,100 @@
+package dev.langchain4j.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelUtilsTest {
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @Test
+    void should_map_concurrently_in_order_of_items() {
+
+        // given
+        Iterator<Integer> items = IntStream.range(0, 100).boxed().iterator();
+
+        // when
+        List<Integer> results;
+        try (Stream<Integer> stream = ParallelUtils.mapConcurrently(items, item -> {
+            sleep((100 - item) % 7);
+            return item * 2;
+        }, 8, executor)) {
+            results = stream.toList();
+        }
+
+        // then
+        assertThat(results).isEqualTo(IntStream.range(0, 100).map(i -> i * 2).boxed().toList());
+    }
+
+    @Test
+    void should_take_items_lazily_within_max_concurrency() {
+
+        // given
+        AtomicInteger takenItems = new AtomicInteger();
+        Iterator<Integer> items = IntStream.range(0, 1_000).boxed()
+                .peek(item -> takenItems.incrementAndGet())
+                .iterator();
+
+        // when
+        List<Integer> results;
+        try (Stream<Integer> stream = ParallelUtils.mapConcurrently(items, item -> item, 4, executor)) {
+            results = stream.limit(10).toList();
+        }
+
+        // then
+        assertThat(results).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(takenItems.get()).isLessThanOrEqualTo(10 + 4);
+    }
+
+    @Test
+    void should_rethrow_exception_of_mapper() {
+
+        // given
+        Iterator<Integer> items = IntStream.range(0, 10).boxed().iterator();
+
+        // when
+        Stream<Integer> stream = ParallelUtils.mapConcurrently(items, item -> {
+            if (item == 5) {
+                throw new IllegalStateException("item 5");
+            }
+            return item;
+        }, 3, executor);
+
+        // then
+        assertThatThrownBy(stream::toList)
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("item 5");
+    }
+
+    @Test
+    void should_pass_null_results_through() {
+
+        // given
+        Iterator<Integer> items = IntStream.range(0, 4).boxed().iterator();
+
+        // when
+        List<Integer> results = ParallelUtils.mapConcurrently(items, item -> item % 2 == 0 ? item : null, 2, executor)
+                .toList();
+
+        // then
+        assertThat(results).containsExactly(0, null, 2, null);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
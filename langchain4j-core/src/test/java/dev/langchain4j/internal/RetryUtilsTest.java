@@ -9,6 +9,8 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 class RetryUtilsTest {
@@ -124,4 +126,34 @@ class RetryUtilsTest {
         verify(mockAction, times(1)).call();
         verifyNoMoreInteractions(mockAction);
     }
+
+    @Test
+    void with_retry_async_succeeds_after_failed_attempts() {
+        AtomicInteger attempts = new AtomicInteger();
+        RetryUtils.RetryPolicy policy =
+                RetryUtils.retryPolicyBuilder().delayMillis(10).build();
+
+        CompletableFuture<String> result = policy.withRetryAsync(() -> attempts.incrementAndGet() < 3
+                ? CompletableFuture.failedFuture(new RuntimeException("attempt failed"))
+                : CompletableFuture.completedFuture("Success"), 3);
+
+        assertThat(result.join()).isEqualTo("Success");
+        assertThat(attempts.get()).isEqualTo(3);
+    }
+
+    @Test
+    void with_retry_async_fails_when_max_attempts_reached() {
+        AtomicInteger attempts = new AtomicInteger();
+        RuntimeException exception = new RuntimeException("attempt failed");
+        RetryUtils.RetryPolicy policy =
+                RetryUtils.retryPolicyBuilder().delayMillis(10).build();
+
+        CompletableFuture<String> result = policy.withRetryAsync(() -> {
+            attempts.incrementAndGet();
+            throw exception;
+        }, 2);
+
+        assertThatThrownBy(result::join).hasRootCause(exception);
+        assertThat(attempts.get()).isEqualTo(2);
+    }
 }
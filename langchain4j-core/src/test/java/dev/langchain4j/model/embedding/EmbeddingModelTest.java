@@ -70,4 +70,15 @@ class EmbeddingModelTest implements WithAssertions {
                 .withMessageContaining("Expected a single embedding, but got 2");
         assertThat(model.dimension()).isEqualTo(0);
     }
+
+    @Test
+    void embed_async() {
+        EmbeddingModel model = new EmbeddingModelImpl();
+
+        String abcDef = "abc def";
+        Response<Embedding> response = model.embedAsync(abcDef).join();
+
+        assertThat(response.content().vector()).containsExactly(abcDef.length(), abcDef.hashCode());
+        assertThat(response.tokenUsage()).isEqualTo(new TokenUsage(abcDef.length()));
+    }
 }
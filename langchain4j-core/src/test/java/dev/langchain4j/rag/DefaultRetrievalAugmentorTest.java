@@ -7,6 +7,7 @@ import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.spy;
@@ -120,11 +121,15 @@ class DefaultRetrievalAugmentorTest {
         verify(queryRouter).route(query2);
         verifyNoMoreInteractions(queryRouter);
 
+        verify(contentRetriever1).retrieveAsync(eq(query1), any());
         verify(contentRetriever1).retrieve(query1);
+        verify(contentRetriever1).retrieveAsync(eq(query2), any());
         verify(contentRetriever1).retrieve(query2);
         verifyNoMoreInteractions(contentRetriever1);
 
+        verify(contentRetriever2).retrieveAsync(eq(query1), any());
         verify(contentRetriever2).retrieve(query1);
+        verify(contentRetriever2).retrieveAsync(eq(query2), any());
         verify(contentRetriever2).retrieve(query2);
         verifyNoMoreInteractions(contentRetriever2);
 
@@ -201,9 +206,11 @@ class DefaultRetrievalAugmentorTest {
         verify(queryRouter).route(query);
         verifyNoMoreInteractions(queryRouter);
 
+        verify(contentRetriever1).retrieveAsync(eq(query), any());
         verify(contentRetriever1).retrieve(query);
         verifyNoMoreInteractions(contentRetriever1);
 
+        verify(contentRetriever2).retrieveAsync(eq(query), any());
         verify(contentRetriever2).retrieve(query);
         verifyNoMoreInteractions(contentRetriever2);
 
@@ -0,0 +1,282 @@
+package dev.langchain4j.rag.content.injector;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.ExampleTestTokenizer;
+import dev.langchain4j.model.Tokenizer;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.rag.content.ContentMetadata;
+import dev.langchain4j.rag.content.injector.TokenBudgetContentInjector.PackedContents;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenBudgetContentInjectorTest {
+
+    @Test
+    void should_pack_contents_in_order_until_budget_is_exhausted() {
+
+        // given
+        List<Content> contents = List.of(
+                Content.from("one two three"),
+                Content.from("four five six"),
+                Content.from("seven eight nine ten"));
+
+        TokenBudgetContentInjector injector = TokenBudgetContentInjector.builder()
+                .tokenizer(new ExampleTestTokenizer())
+                .maxTokens(8)
+                .build();
+
+        // when
+        PackedContents packed = injector.pack(contents);
+
+        // then
+        assertThat(packed.contents()).containsExactly(contents.get(0), contents.get(1));
+        assertThat(packed.tokenCount()).isEqualTo(3 + 1 + 3); // including the separator
+        assertThat(packed.droppedDuplicates()).isZero();
+        assertThat(packed.droppedOverBudget()).isEqualTo(1);
+    }
+
+    @Test
+    void should_truncate_first_content_exceeding_budget_at_word_boundary() {
+
+        // given
+        Map<ContentMetadata, Object> contentMetadata = Map.of(ContentMetadata.SCORE, 0.7);
+        List<Content> contents = List.of(
+                Content.from("one two three"),
+                Content.from(TextSegment.from("four five six", Metadata.from("source", "b")), contentMetadata),
+                Content.from("seven eight"));
+
+        TokenBudgetContentInjector injector = TokenBudgetContentInjector.builder()
+                .tokenizer(new ExampleTestTokenizer())
+                .maxTokens(6)
+                .build();
+
+        // when
+        PackedContents packed = injector.pack(contents);
+
+        // then
+        assertThat(packed.contents()).hasSize(2);
+        assertThat(packed.contents().get(0)).isEqualTo(contents.get(0));
+        Content truncated = packed.contents().get(1);
+        assertThat(truncated.textSegment().text()).isEqualTo("four five");
+        assertThat(truncated.textSegment().metadata()).isEqualTo(Metadata.from("source", "b"));
+        assertThat(truncated.metadata()).isEqualTo(contentMetadata);
+        assertThat(packed.tokenCount()).isEqualTo(6);
+        assertThat(packed.droppedOverBudget()).isEqualTo(1);
+    }
+
+    @Test
+    void should_truncate_content_without_word_boundaries_between_code_points() {
+
+        // given
+        Tokenizer codePointTokenizer = mock(Tokenizer.class);
+        when(codePointTokenizer.estimateTokenCountInText(anyString()))
+                .thenAnswer(invocation -> {
+                    String text = invocation.getArgument(0);
+                    return text.codePointCount(0, text.length());
+                });
+
+        TokenBudgetContentInjector injector = TokenBudgetContentInjector.builder()
+                .tokenizer(codePointTokenizer)
+                .maxTokens(5)
+                .build();
+
+        // when-then
+        assertThat(injector.pack(List.of(Content.from("敏捷的棕色狐狸跳过懒狗"))).contents())
+                .extracting(content -> content.textSegment().text())
+                .containsExactly("敏捷的棕色");
+
+        assertThat(injector.pack(List.of(Content.from("averylongword and more"))).contents())
+                .extracting(content -> content.textSegment().text())
+                .containsExactly("avery");
+
+        assertThat(injector.pack(List.of(Content.from("😀😀😀😀😀😀"))).contents())
+                .extracting(content -> content.textSegment().text())
+                .containsExactly("😀😀😀😀😀");
+    }
+
+    @Test
+    void should_drop_near_duplicates_by_word_overlap() {
+
+        // given
+        List<Content> contents = List.of(
+                Content.from("The quick brown fox jumps over the lazy dog"),
+                Content.from("the quick brown fox jumps over the lazy dog!"),
+                Content.from("Bananas are yellow and rich in potassium"));
+
+        TokenBudgetContentInjector injector = TokenBudgetContentInjector.builder()
+                .tokenizer(new ExampleTestTokenizer())
+                .maxTokens(100)
+                .build();
+
+        // when
+        PackedContents packed = injector.pack(contents);
+
+        // then
+        assertThat(packed.contents()).containsExactly(contents.get(0), contents.get(2));
+        assertThat(packed.droppedDuplicates()).isEqualTo(1);
+        assertThat(packed.tokenCount()).isEqualTo(9 + 1 + 7);
+    }
+
+    @Test
+    void should_keep_near_duplicates_when_overlap_check_is_disabled() {
+
+        // given
+        List<Content> contents = List.of(
+                Content.from("The quick brown fox jumps over the lazy dog"),
+                Content.from("the quick brown fox jumps over the lazy dog!"));
+
+        TokenBudgetContentInjector injector = TokenBudgetContentInjector.builder()
+                .tokenizer(new ExampleTestTokenizer())
+                .maxTokens(100)
+                .maxOverlap(1.0)
+                .build();
+
+        // when
+        PackedContents packed = injector.pack(contents);
+
+        // then
+        assertThat(packed.contents()).containsExactlyElementsOf(contents);
+    }
+
+    @Test
+    void should_compare_non_latin_contents_by_their_words() {
+
+        // given
+        List<Content> contents = List.of(
+                Content.from("Быстрая бурая лиса прыгает через ленивую собаку"),
+                Content.from("быстрая бурая лиса прыгает через ленивую собаку!"),
+                Content.from("Бананы жёлтые и богаты калием"),
+                Content.from("敏捷的 棕色 狐狸 跳过 懒狗"));
+
+        TokenBudgetContentInjector injector = TokenBudgetContentInjector.builder()
+                .tokenizer(new ExampleTestTokenizer())
+                .maxTokens(100)
+                .build();
+
+        // when
+        PackedContents packed = injector.pack(contents);
+
+        // then
+        assertThat(packed.contents()).containsExactly(contents.get(0), contents.get(2), contents.get(3));
+        assertThat(packed.droppedDuplicates()).isEqualTo(1);
+    }
+
+    @Test
+    void should_not_compute_shingles_of_text_without_words() {
+        assertThat(TokenBudgetContentInjector.shingles("!!! ... ???")).isEmpty();
+        assertThat(TokenBudgetContentInjector.shingles("")).isEmpty();
+        assertThat(TokenBudgetContentInjector.shingles("Привет, мир!"))
+                .isEqualTo(TokenBudgetContentInjector.shingles("привет мир"))
+                .isNotEqualTo(TokenBudgetContentInjector.shingles("Пока, мир!"));
+    }
+
+    @Test
+    void should_drop_near_duplicates_by_embedding_similarity_with_single_embedding_request() {
+
+        // given
+        List<Content> contents = List.of(
+                Content.from("Bananas are yellow"),
+                Content.from("A banana has a yellow peel"),
+                Content.from("Apples are red"));
+
+        EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+        when(embeddingModel.embedAll(anyList())).thenReturn(Response.from(List.of(
+                Embedding.from(new float[] {1, 0}),
+                Embedding.from(new float[] {0.99f, 0.01f}),
+                Embedding.from(new float[] {0, 1}))));
+
+        TokenBudgetContentInjector injector = TokenBudgetContentInjector.builder()
+                .tokenizer(new ExampleTestTokenizer())
+                .maxTokens(100)
+                .embeddingModel(embeddingModel)
+                .maxSimilarity(0.95)
+                .build();
+
+        // when
+        PackedContents packed = injector.pack(contents);
+
+        // then
+        assertThat(packed.contents()).containsExactly(contents.get(0), contents.get(2));
+        assertThat(packed.droppedDuplicates()).isEqualTo(1);
+        verify(embeddingModel, times(1)).embedAll(anyList());
+    }
+
+    @Test
+    void should_inject_packed_contents() {
+
+        // given
+        UserMessage userMessage = UserMessage.from("Tell me about bananas.");
+
+        List<Content> contents = List.of(
+                Content.from("Bananas are awesome!"),
+                Content.from("Bananas are awesome!"),
+                Content.from("Bananas are rich in potassium and grow in tropical regions"));
+
+        ContentInjector injector = TokenBudgetContentInjector.builder()
+                .tokenizer(new ExampleTestTokenizer())
+                .maxTokens(8)
+                .build();
+
+        // when
+        ChatMessage injected = injector.inject(contents, (ChatMessage) userMessage);
+
+        // then
+        assertThat(((UserMessage) injected).singleText()).isEqualTo("""
+                Tell me about bananas.
+
+                Answer using the following information:
+                Bananas are awesome!
+
+                Bananas are rich in""");
+    }
+
+    @Test
+    void should_not_inject_when_no_content() {
+
+        // given
+        UserMessage userMessage = UserMessage.from("Tell me about bananas.");
+
+        ContentInjector injector = TokenBudgetContentInjector.builder()
+                .tokenizer(new ExampleTestTokenizer())
+                .maxTokens(10)
+                .build();
+
+        // when
+        ChatMessage injected = injector.inject(emptyList(), (ChatMessage) userMessage);
+
+        // then
+        assertThat(injected).isEqualTo(userMessage);
+    }
+
+    @Test
+    void should_fail_without_tokenizer_or_budget() {
+
+        assertThatThrownBy(() -> TokenBudgetContentInjector.builder().maxTokens(10).build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("tokenizer");
+
+        assertThatThrownBy(() -> TokenBudgetContentInjector.builder()
+                .tokenizer(new ExampleTestTokenizer())
+                .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maxTokens");
+    }
+}
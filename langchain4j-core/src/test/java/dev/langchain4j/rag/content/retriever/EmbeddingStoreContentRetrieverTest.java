@@ -4,6 +4,7 @@ import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
+import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.rag.query.Query;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
@@ -13,8 +14,13 @@ import dev.langchain4j.store.embedding.filter.Filter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -70,6 +76,59 @@ class EmbeddingStoreContentRetrieverTest {
         verifyNoMoreInteractions(EMBEDDING_MODEL);
     }
 
+    @Test
+    void should_retrieve_async() {
+
+        // given
+        when(EMBEDDING_MODEL.embedAsync(anyString())).thenReturn(completedFuture(Response.from(EMBEDDING)));
+        when(EMBEDDING_STORE.searchAsync(any())).thenReturn(completedFuture(new EmbeddingSearchResult<>(asList(
+                new EmbeddingMatch<>(0.9, "id 1", null, TextSegment.from("content 1"))
+        ))));
+        ContentRetriever contentRetriever = new EmbeddingStoreContentRetriever(EMBEDDING_STORE, EMBEDDING_MODEL);
+
+        // when
+        List<Content> contents = contentRetriever.retrieveAsync(QUERY, command -> {
+            throw new AssertionError("executor must not be used");
+        }).join();
+
+        // then
+        assertThat(contents).extracting(content -> content.textSegment().text()).containsExactly("content 1");
+        verify(EMBEDDING_STORE).searchAsync(EmbeddingSearchRequest.builder()
+                .queryEmbedding(EMBEDDING)
+                .maxResults(DEFAULT_MAX_RESULTS)
+                .minScore(DEFAULT_MIN_SCORE)
+                .build());
+        verifyNoMoreInteractions(EMBEDDING_STORE);
+        verify(EMBEDDING_MODEL).embedAsync(QUERY.text());
+        verifyNoMoreInteractions(EMBEDDING_MODEL);
+    }
+
+    @Test
+    void should_retrieve_async_on_executor_when_model_and_store_are_blocking() {
+
+        // given
+        EmbeddingModel blockingModel = new EmbeddingModel() {
+
+            @Override
+            public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+                return Response.from(singletonList(EMBEDDING));
+            }
+        };
+        EmbeddingStore<TextSegment> blockingStore = new BlockingEmbeddingStore();
+        ContentRetriever contentRetriever = new EmbeddingStoreContentRetriever(blockingStore, blockingModel);
+        AtomicInteger executedTasks = new AtomicInteger();
+
+        // when
+        List<Content> contents = contentRetriever.retrieveAsync(QUERY, command -> {
+            executedTasks.incrementAndGet();
+            command.run();
+        }).join();
+
+        // then
+        assertThat(contents).extracting(content -> content.textSegment().text()).containsExactly("content 1");
+        assertThat(executedTasks.get()).isEqualTo(1);
+    }
+
     @Test
     void should_retrieve_builder() {
 
@@ -335,4 +394,36 @@ class EmbeddingStoreContentRetrieverTest {
         // then
         assertThat(result).contains(EmbeddingStoreContentRetriever.DEFAULT_DISPLAY_NAME);
     }
+
+    /**
+     * Implements only the blocking search.
+     */
+    private static class BlockingEmbeddingStore implements EmbeddingStore<TextSegment> {
+
+        @Override
+        public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
+            return new EmbeddingSearchResult<>(singletonList(
+                    new EmbeddingMatch<>(0.9, "id 1", null, TextSegment.from("content 1"))));
+        }
+
+        @Override
+        public String add(Embedding embedding) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(String id, Embedding embedding) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String add(Embedding embedding, TextSegment textSegment) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<String> addAll(List<Embedding> embeddings) {
+            throw new UnsupportedOperationException();
+        }
+    }
 }
@@ -4,6 +4,8 @@ import static dev.langchain4j.data.segment.TextSegment.textSegment;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -19,6 +21,7 @@ import dev.langchain4j.data.segment.TextSegmentTransformer;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.TokenUsage;
+import java.util.concurrent.Executor;
 import org.junit.jupiter.api.Test;
 
 class EmbeddingStoreIngestorTest {
@@ -192,4 +195,37 @@ class EmbeddingStoreIngestorTest {
 
         assertThat(ingestionResult.tokenUsage()).isEqualTo(tokenUsage);
     }
+
+    @Test
+    void should_split_with_executor_when_specified() {
+
+        // given
+        Document document = Document.from("Some text");
+        TextSegment textSegment = textSegment("Some text");
+        Executor executor = Runnable::run;
+
+        DocumentSplitter documentSplitter = mock(DocumentSplitter.class);
+        when(documentSplitter.splitAll(anyList(), eq(executor))).thenReturn(singletonList(textSegment));
+
+        EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+        when(embeddingModel.embedAll(singletonList(textSegment)))
+                .thenReturn(Response.from(singletonList(Embedding.from(new float[] {1}))));
+
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .documentSplitter(documentSplitter)
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .executor(executor)
+                .build();
+
+        // when
+        ingestor.ingest(document);
+
+        // then
+        verify(documentSplitter).splitAll(singletonList(document), executor);
+        verifyNoMoreInteractions(documentSplitter);
+        verify(embeddingStore).addAll(singletonList(Embedding.from(new float[] {1})), singletonList(textSegment));
+    }
 }
@@ -84,4 +84,18 @@ class EmbeddingStoreTest implements WithAssertions {
         assertThat(store.findRelevant("abc", referenceEmbedding, 12))
                 .contains(new EmbeddingMatch<>(0.5, "id", referenceEmbedding, "abc, [0.5, 1.5], 12, 0.00"));
     }
+
+    @Test
+    void search_async_delegates_to_search() {
+        EmbeddingStore<String> store = new MinimalEmbeddingStore();
+
+        Embedding referenceEmbedding = new Embedding(new float[] {0.5f, 1.5f});
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(referenceEmbedding)
+                .maxResults(12)
+                .build();
+
+        assertThat(store.searchAsync(request).join().matches())
+                .contains(new EmbeddingMatch<>(0.5, "id", referenceEmbedding, "[0.5, 1.5], 12, 0.00"));
+    }
 }
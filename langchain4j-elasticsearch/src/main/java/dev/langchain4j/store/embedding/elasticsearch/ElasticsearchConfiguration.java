@@ -1,15 +1,36 @@
 package dev.langchain4j.store.embedding.elasticsearch;
 
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 public abstract class ElasticsearchConfiguration {
-    abstract SearchResponse<Document> internalSearch(ElasticsearchClient client,
+
+    abstract SearchRequest searchRequest(String indexName,
+                                         EmbeddingSearchRequest embeddingSearchRequest) throws IOException;
+
+    SearchResponse<Document> internalSearch(ElasticsearchClient client,
                                             String indexName,
                                             EmbeddingSearchRequest embeddingSearchRequest)
-            throws ElasticsearchException, IOException;
+            throws ElasticsearchException, IOException {
+        return client.search(searchRequest(indexName, embeddingSearchRequest), Document.class);
+    }
+
+    CompletableFuture<SearchResponse<Document>> internalSearchAsync(ElasticsearchAsyncClient client,
+                                                                   String indexName,
+                                                                   EmbeddingSearchRequest embeddingSearchRequest) {
+        SearchRequest searchRequest;
+        try {
+            searchRequest = searchRequest(indexName, embeddingSearchRequest);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return client.search(searchRequest, Document.class);
+    }
 }
@@ -1,11 +1,8 @@
 package dev.langchain4j.store.embedding.elasticsearch;
 
-import co.elastic.clients.elasticsearch.ElasticsearchClient;
-import co.elastic.clients.elasticsearch._types.ElasticsearchException;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch._types.query_dsl.ScriptScoreQuery;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
-import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.json.JsonData;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -13,8 +10,6 @@ import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.filter.Filter;
 
-import java.io.IOException;
-
 /**
  * Represents an <a href="https://www.elastic.co/">Elasticsearch</a> index as an embedding store.
  * Current implementation assumes the index uses the cosine distance metric.
@@ -41,17 +36,13 @@ public class ElasticsearchConfigurationScript extends ElasticsearchConfiguration
     }
 
     @Override
-    SearchResponse<Document> internalSearch(ElasticsearchClient client,
-                                                   String indexName,
-                                                   EmbeddingSearchRequest embeddingSearchRequest) throws ElasticsearchException, IOException {
+    SearchRequest searchRequest(String indexName,
+                                EmbeddingSearchRequest embeddingSearchRequest) throws JsonProcessingException {
         ScriptScoreQuery scriptScoreQuery = buildDefaultScriptScoreQuery(embeddingSearchRequest.queryEmbedding().vector(),
                 (float) embeddingSearchRequest.minScore(), embeddingSearchRequest.filter());
-        return client.search(
-                SearchRequest.of(s -> s.index(indexName)
-                        .query(n -> n.scriptScore(scriptScoreQuery))
-                        .size(embeddingSearchRequest.maxResults())),
-                Document.class
-        );
+        return SearchRequest.of(s -> s.index(indexName)
+                .query(n -> n.scriptScore(scriptScoreQuery))
+                .size(embeddingSearchRequest.maxResults()));
     }
 
     private ScriptScoreQuery buildDefaultScriptScoreQuery(float[] vector, float minScore,
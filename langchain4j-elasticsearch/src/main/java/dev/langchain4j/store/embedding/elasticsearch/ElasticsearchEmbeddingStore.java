@@ -1,5 +1,6 @@
 package dev.langchain4j.store.embedding.elasticsearch;
 
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.BulkIndexByScrollFailure;
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
@@ -38,6 +39,8 @@ import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static dev.langchain4j.internal.Utils.*;
 import static dev.langchain4j.internal.ValidationUtils.*;
@@ -59,6 +62,7 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
 
     private final ElasticsearchConfiguration configuration;
     private final ElasticsearchClient client;
+    private final ElasticsearchAsyncClient asyncClient;
     private final String indexName;
 
     /**
@@ -126,6 +130,7 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
         ElasticsearchTransport transport = new RestClientTransport(restClientBuilder.build(), new JacksonJsonpMapper());
 
         this.client = new ElasticsearchClient(transport);
+        this.asyncClient = new ElasticsearchAsyncClient(transport);
         this.indexName = ensureNotNull(indexName, "indexName");
     }
 
@@ -143,6 +148,7 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
 
         this.configuration = configuration;
         this.client = new ElasticsearchClient(transport);
+        this.asyncClient = new ElasticsearchAsyncClient(transport);
         this.indexName = ensureNotNull(indexName, "indexName");
     }
 
@@ -297,6 +303,23 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
         }
     }
 
+    /**
+     * Searches using {@link ElasticsearchAsyncClient}, without blocking a thread while the search is in flight.
+     */
+    @Override
+    public CompletableFuture<EmbeddingSearchResult<TextSegment>> searchAsync(EmbeddingSearchRequest embeddingSearchRequest) {
+        log.debug("findRelevant([...{}...], {}, {})", embeddingSearchRequest.queryEmbedding().vector().length,
+                embeddingSearchRequest.maxResults(), embeddingSearchRequest.minScore());
+        return configuration.internalSearchAsync(asyncClient, indexName, embeddingSearchRequest)
+                .handle((response, error) -> {
+                    if (error != null) {
+                        throw new ElasticsearchRequestFailedException(unwrap(error));
+                    }
+                    log.trace("found [{}] results", response);
+                    return new EmbeddingSearchResult<>(toMatches(response));
+                });
+    }
+
     @Override
     public void removeAll(Collection<String> ids) {
         ensureNotEmpty(ids, "ids");
@@ -349,7 +372,34 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
         }
     }
 
+    /**
+     * Indexes using {@link ElasticsearchAsyncClient}, without blocking a thread while the request is in flight.
+     */
+    @Override
+    public CompletableFuture<Void> addAllAsync(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
+        if (isNullOrEmpty(ids) || isNullOrEmpty(embeddings)) {
+            log.info("[do not add empty embeddings to elasticsearch]");
+            return CompletableFuture.completedFuture(null);
+        }
+        ensureTrue(ids.size() == embeddings.size(), "ids size is not equal to embeddings size");
+        ensureTrue(embedded == null || embeddings.size() == embedded.size(), "embeddings size is not equal to embedded size");
+
+        return asyncClient.bulk(bulkIndexRequest(ids, embeddings, embedded))
+                .handle((response, error) -> {
+                    if (error != null) {
+                        throw new ElasticsearchRequestFailedException(unwrap(error));
+                    }
+                    handleBulkResponseErrors(response);
+                    return null;
+                });
+    }
+
     private void bulkIndex(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) throws IOException {
+        BulkResponse response = client.bulk(bulkIndexRequest(ids, embeddings, embedded));
+        handleBulkResponseErrors(response);
+    }
+
+    private BulkRequest bulkIndexRequest(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
         int size = ids.size();
         log.debug("calling bulkIndex with [{}] elements", size);
         BulkRequest.Builder bulkBuilder = new BulkRequest.Builder();
@@ -366,8 +416,11 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
                     .document(document)));
         }
 
-        BulkResponse response = client.bulk(bulkBuilder.build());
-        handleBulkResponseErrors(response);
+        return bulkBuilder.build();
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
     }
 
     private void handleBulkResponseErrors(BulkResponse response) {
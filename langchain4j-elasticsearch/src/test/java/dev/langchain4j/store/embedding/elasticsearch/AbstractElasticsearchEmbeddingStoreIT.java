@@ -1,18 +1,24 @@
 package dev.langchain4j.store.embedding.elasticsearch;
 
+import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.List;
 
 import static dev.langchain4j.internal.Utils.randomUUID;
+import static dev.langchain4j.store.embedding.TestUtils.awaitUntilAsserted;
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -76,6 +82,29 @@ abstract class AbstractElasticsearchEmbeddingStoreIT extends EmbeddingStoreWithF
         return embeddingModel;
     }
 
+    @Test
+    void should_add_and_search_async() {
+
+        // given
+        TextSegment segment = TextSegment.from("hello");
+        Embedding embedding = embeddingModel.embed(segment).content();
+        EmbeddingSearchRequest searchRequest = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embedding)
+                .maxResults(10)
+                .build();
+
+        // when
+        List<String> ids = embeddingStore.addAllAsync(List.of(embedding), List.of(segment)).join();
+
+        // then
+        awaitUntilAsserted(() -> {
+            List<EmbeddingMatch<TextSegment>> matches = embeddingStore.searchAsync(searchRequest).join().matches();
+            assertThat(matches).hasSize(1);
+            assertThat(matches.get(0).embeddingId()).isEqualTo(ids.get(0));
+            assertThat(matches.get(0).embedded()).isEqualTo(segment);
+        });
+    }
+
     @Override
     protected void ensureStoreIsEmpty() {
         // TODO fix
@@ -19,9 +19,11 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import static com.azure.ai.inference.models.EmbeddingEncodingFormat.BASE64;
 import static dev.langchain4j.data.embedding.Embedding.from;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static dev.langchain4j.model.github.InternalGitHubModelHelper.setupEmbeddingsBuilder;
+import static dev.langchain4j.model.github.InternalGitHubModelHelper.vectorFrom;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
 import static java.util.stream.Collectors.toList;
 
@@ -98,9 +100,9 @@ public class GitHubModelsEmbeddingModel extends DimensionAwareEmbeddingModel {
 
             List<String> batch = texts.subList(i, Math.min(i + BATCH_SIZE, texts.size()));
 
-            EmbeddingsResult result = client.embed(batch, dimensions, null, null, modelName, null);
+            EmbeddingsResult result = client.embed(batch, dimensions, BASE64, null, modelName, null);
             for (EmbeddingItem embeddingItem : result.getData()) {
-                Embedding embedding = from(embeddingItem.getEmbeddingList());
+                Embedding embedding = from(vectorFrom(embeddingItem, BASE64));
                 embeddings.add(embedding);
             }
             inputTokenCount += result.getUsage().getPromptTokens();
@@ -20,6 +20,8 @@ import com.azure.ai.inference.models.ChatRequestUserMessage;
 import com.azure.ai.inference.models.ChatResponseMessage;
 import com.azure.ai.inference.models.CompletionsFinishReason;
 import com.azure.ai.inference.models.CompletionsUsage;
+import com.azure.ai.inference.models.EmbeddingEncodingFormat;
+import com.azure.ai.inference.models.EmbeddingItem;
 import com.azure.ai.inference.models.FunctionCall;
 import com.azure.ai.inference.models.FunctionDefinition;
 import com.azure.core.credential.AzureKeyCredential;
@@ -54,8 +56,10 @@ import dev.langchain4j.model.output.TokenUsage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -70,6 +74,7 @@ import static dev.langchain4j.model.output.FinishReason.CONTENT_FILTER;
 import static dev.langchain4j.model.output.FinishReason.LENGTH;
 import static dev.langchain4j.model.output.FinishReason.STOP;
 import static dev.langchain4j.model.output.FinishReason.TOOL_EXECUTION;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
 import static java.time.Duration.ofSeconds;
 import static java.util.stream.Collectors.toList;
 
@@ -390,6 +395,26 @@ class InternalGitHubModelHelper {
         return exceptionFinishReason;
     }
 
+    /**
+     * Converts an embedding returned by the Azure AI Inference API into a {@code float[]},
+     * according to the encoding format that was requested.
+     * Base64-encoded embeddings (little-endian IEEE 754 floats) are decoded without boxing.
+     */
+    static float[] vectorFrom(EmbeddingItem embeddingItem, EmbeddingEncodingFormat encodingFormat) {
+        if (EmbeddingEncodingFormat.BASE64.equals(encodingFormat)) {
+            byte[] bytes = Base64.getDecoder().decode(embeddingItem.getEmbedding().toObject(String.class));
+            float[] vector = new float[bytes.length / Float.BYTES];
+            ByteBuffer.wrap(bytes).order(LITTLE_ENDIAN).asFloatBuffer().get(vector);
+            return vector;
+        }
+        List<Float> values = embeddingItem.getEmbeddingList();
+        float[] vector = new float[values.size()];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = values.get(i);
+        }
+        return vector;
+    }
+
     static ChatModelRequest createModelListenerRequest(ChatCompletionsOptions options,
                                                        List<ChatMessage> messages,
                                                        List<ToolSpecification> toolSpecifications) {
@@ -0,0 +1,53 @@
+package dev.langchain4j.model.github;
+
+import com.azure.ai.inference.models.EmbeddingItem;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+import static com.azure.ai.inference.models.EmbeddingEncodingFormat.BASE64;
+import static com.azure.ai.inference.models.EmbeddingEncodingFormat.FLOAT;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InternalGitHubModelHelperTest {
+
+    @Test
+    void should_decode_base64_embedding() throws IOException {
+
+        // given
+        ByteBuffer buffer = ByteBuffer.allocate(3 * Float.BYTES).order(LITTLE_ENDIAN);
+        buffer.putFloat(1.0f).putFloat(-2.5f).putFloat(0.125f);
+        String base64 = Base64.getEncoder().encodeToString(buffer.array());
+        EmbeddingItem embeddingItem = embeddingItem("{\"embedding\":\"" + base64 + "\",\"index\":0}");
+
+        // when
+        float[] vector = InternalGitHubModelHelper.vectorFrom(embeddingItem, BASE64);
+
+        // then
+        assertThat(vector).containsExactly(1.0f, -2.5f, 0.125f);
+    }
+
+    @Test
+    void should_convert_float_array_embedding() throws IOException {
+
+        // given
+        EmbeddingItem embeddingItem = embeddingItem("{\"embedding\":[1.0,-2.5,0.125],\"index\":0}");
+
+        // when
+        float[] vector = InternalGitHubModelHelper.vectorFrom(embeddingItem, FLOAT);
+
+        // then
+        assertThat(vector).containsExactly(1.0f, -2.5f, 0.125f);
+    }
+
+    private static EmbeddingItem embeddingItem(String json) throws IOException {
+        try (JsonReader reader = JsonProviders.createReader(json)) {
+            return EmbeddingItem.fromJson(reader);
+        }
+    }
+}
@@ -6,6 +6,10 @@ import dev.langchain4j.http.client.sse.DefaultServerSentEventParser;
 import dev.langchain4j.http.client.sse.ServerSentEventListener;
 import dev.langchain4j.http.client.sse.ServerSentEventParser;
 
+import java.util.concurrent.CompletableFuture;
+
+import static dev.langchain4j.internal.DefaultExecutorProvider.getDefaultExecutorService;
+
 /**
  * A client for executing HTTP requests both synchronously and asynchronously.
  * This interface is currently experimental and subject to change.
@@ -24,6 +28,21 @@ public interface HttpClient {
      */
     SuccessfulHttpResponse execute(HttpRequest request) throws HttpException, RuntimeException;
 
+    /**
+     * Executes a given HTTP request asynchronously and returns a future of the response.
+     * <p>
+     * By default, {@link #execute(HttpRequest)} is called on a shared default executor.
+     * Implementations backed by a non-blocking client should override this method
+     * so that no thread is blocked while the request is in flight.
+     *
+     * @param request the HTTP request to be executed.
+     * @return a future of the {@link SuccessfulHttpResponse}, which is completed exceptionally
+     * with an {@link HttpException} if the server returns a client (4XX) or server (5XX) error response
+     */
+    default CompletableFuture<SuccessfulHttpResponse> executeAsync(HttpRequest request) {
+        return CompletableFuture.supplyAsync(() -> execute(request), getDefaultExecutorService());
+    }
+
     /**
      * Executes a given HTTP request asynchronously with server-sent events (SSE) handling.
      * This method returns immediately while processing continues on a separate thread.
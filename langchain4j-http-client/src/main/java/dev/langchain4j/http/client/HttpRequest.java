@@ -5,11 +5,13 @@ import dev.langchain4j.Experimental;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static dev.langchain4j.internal.Utils.isNullOrEmpty;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
 
@@ -20,12 +22,15 @@ public class HttpRequest {
     private final String url;
     private final Map<String, List<String>> headers;
     private final String body;
+    private final Supplier<byte[]> bodySupplier;
+    private volatile byte[] bodyBytes;
 
     public HttpRequest(Builder builder) {
         this.method = ensureNotNull(builder.method, "method");
         this.url = ensureNotBlank(builder.url, "url");
         this.headers = builder.headers == null ? emptyMap() : new HashMap<>(builder.headers);
         this.body = builder.body;
+        this.bodySupplier = builder.bodySupplier;
     }
 
     public HttpMethod method() {
@@ -40,8 +45,43 @@ public class HttpRequest {
         return headers;
     }
 
+    /**
+     * Returns the body of this request as a {@link String}.
+     * If the body was provided via {@link Builder#bodySupplier(Supplier)},
+     * it is produced (once) and decoded as UTF-8.
+     *
+     * @return the body, or {@code null} if this request has no body
+     */
     public String body() {
-        return body;
+        if (body != null) {
+            return body;
+        }
+        byte[] bytes = bodyBytes();
+        return bytes == null ? null : new String(bytes, UTF_8);
+    }
+
+    /**
+     * Returns the body of this request as UTF-8 encoded bytes.
+     * If the body was provided via {@link Builder#bodySupplier(Supplier)},
+     * the supplier is invoked only on the first call and the result is reused afterwards.
+     * This allows callers to prepare several alternative requests
+     * while paying the cost of serialization only for the one that is actually executed.
+     *
+     * @return the body, or {@code null} if this request has no body
+     */
+    public byte[] bodyBytes() {
+        byte[] bytes = bodyBytes;
+        if (bytes == null) {
+            if (body != null) {
+                bytes = body.getBytes(UTF_8);
+            } else if (bodySupplier != null) {
+                bytes = bodySupplier.get();
+            } else {
+                return null;
+            }
+            bodyBytes = bytes;
+        }
+        return bytes;
     }
 
     public static Builder builder() {
@@ -54,6 +94,7 @@ public class HttpRequest {
         private String url;
         private Map<String, List<String>> headers;
         private String body;
+        private Supplier<byte[]> bodySupplier;
 
         private Builder() {
         }
@@ -111,6 +152,20 @@ public class HttpRequest {
 
         public Builder body(String body) {
             this.body = body;
+            this.bodySupplier = null;
+            return this;
+        }
+
+        /**
+         * Sets a supplier that lazily produces the UTF-8 encoded body of the request.
+         * The supplier is invoked at most once, when the body is first needed.
+         *
+         * @param bodySupplier the supplier of the body bytes
+         * @return this builder
+         */
+        public Builder bodySupplier(Supplier<byte[]> bodySupplier) {
+            this.bodySupplier = bodySupplier;
+            this.body = null;
             return this;
         }
 
@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Map;
 
 import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyMap;
 
 @Experimental
@@ -14,12 +15,14 @@ public class SuccessfulHttpResponse {
 
     private final int statusCode;
     private final Map<String, List<String>> headers;
-    private final String body;
+    private volatile String body;
+    private final byte[] bodyBytes;
 
     public SuccessfulHttpResponse(Builder builder) {
         this.statusCode = ensureBetween(builder.statusCode, 200, 299, "statusCode");
         this.headers = builder.headers == null ? emptyMap() : new HashMap<>(builder.headers);
         this.body = builder.body;
+        this.bodyBytes = builder.bodyBytes;
     }
 
     public int statusCode() {
@@ -30,10 +33,35 @@ public class SuccessfulHttpResponse {
         return headers;
     }
 
+    /**
+     * Returns the body of this response as a {@link String}.
+     * If the body was provided as bytes, it is decoded as UTF-8 on the first call.
+     *
+     * @return the body, or {@code null} if this response has no body
+     */
     public String body() {
+        String body = this.body;
+        if (body == null && bodyBytes != null) {
+            body = new String(bodyBytes, UTF_8);
+            this.body = body;
+        }
         return body;
     }
 
+    /**
+     * Returns the raw (UTF-8 encoded) body of this response.
+     * Prefer this method over {@link #body()} when the body is going to be deserialized,
+     * as it avoids an intermediate {@link String} copy.
+     *
+     * @return the body, or {@code null} if this response has no body
+     */
+    public byte[] bodyBytes() {
+        if (bodyBytes != null) {
+            return bodyBytes;
+        }
+        return body == null ? null : body.getBytes(UTF_8);
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -43,6 +71,7 @@ public class SuccessfulHttpResponse {
         private int statusCode;
         private Map<String, List<String>> headers;
         private String body;
+        private byte[] bodyBytes;
 
         private Builder() {
         }
@@ -59,6 +88,13 @@ public class SuccessfulHttpResponse {
 
         public Builder body(String body) {
             this.body = body;
+            this.bodyBytes = null;
+            return this;
+        }
+
+        public Builder bodyBytes(byte[] bodyBytes) {
+            this.bodyBytes = bodyBytes;
+            this.body = null;
             return this;
         }
 
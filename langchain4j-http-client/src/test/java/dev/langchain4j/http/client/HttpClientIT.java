@@ -104,6 +104,41 @@ public abstract class HttpClientIT {
         }
     }
 
+    @Test
+    void should_return_successful_http_response_execute_async() {
+
+        for (HttpClient client : clients()) {
+
+            // given
+            HttpRequest request = HttpRequest.builder()
+                    .method(POST)
+                    .url("https://api.openai.com/v1/chat/completions")
+                    .addHeader("Authorization", "Bearer " + OPENAI_API_KEY)
+                    .addHeader("Content-Type", "application/json")
+                    .body(
+                            """
+                            {
+                                "model": "gpt-4o-mini",
+                                "messages": [
+                                    {
+                                        "role" : "user",
+                                        "content" : "What is the capital of Germany?"
+                                    }
+                                ]
+                            }
+                            """)
+                    .build();
+
+            // when
+            SuccessfulHttpResponse response = client.executeAsync(request).join();
+
+            // then
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.headers()).isNotEmpty();
+            assertThat(response.body()).contains("Berlin");
+        }
+    }
+
     @Test
     void should_throw_401_sync() {
 
@@ -7,9 +7,12 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static dev.langchain4j.http.client.HttpMethod.GET;
+import static dev.langchain4j.http.client.HttpMethod.POST;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
@@ -65,6 +68,59 @@ class HttpRequestTest {
                 .hasMessage("path cannot be null or blank");
     }
 
+    @Test
+    void should_produce_lazy_body_only_once_and_only_when_needed() {
+
+        // given
+        AtomicInteger invocations = new AtomicInteger();
+
+        // when
+        HttpRequest request = HttpRequest.builder()
+                .method(POST)
+                .url("http://example.com")
+                .bodySupplier(() -> {
+                    invocations.incrementAndGet();
+                    return "{\"name\":\"Klaus\"}".getBytes(UTF_8);
+                })
+                .build();
+
+        // then
+        assertThat(invocations).hasValue(0);
+
+        assertThat(request.bodyBytes()).isEqualTo("{\"name\":\"Klaus\"}".getBytes(UTF_8));
+        assertThat(request.body()).isEqualTo("{\"name\":\"Klaus\"}");
+        assertThat(invocations).hasValue(1);
+    }
+
+    @Test
+    void should_encode_string_body_as_utf8() {
+
+        // given
+        HttpRequest request = HttpRequest.builder()
+                .method(POST)
+                .url("http://example.com")
+                .body("Grüße")
+                .build();
+
+        // then
+        assertThat(request.body()).isEqualTo("Grüße");
+        assertThat(request.bodyBytes()).isEqualTo("Grüße".getBytes(UTF_8));
+    }
+
+    @Test
+    void should_return_null_body_when_not_set() {
+
+        // given
+        HttpRequest request = HttpRequest.builder()
+                .method(GET)
+                .url("http://example.com")
+                .build();
+
+        // then
+        assertThat(request.body()).isNull();
+        assertThat(request.bodyBytes()).isNull();
+    }
+
     @Test
     void should_add_single_header() {
 
@@ -7,6 +7,7 @@ import static java.util.stream.Collectors.toList;
 
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.http.client.HttpClientBuilder;
 import dev.langchain4j.model.embedding.DimensionAwareEmbeddingModel;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.jina.internal.api.JinaEmbeddingRequest;
@@ -41,10 +42,13 @@ public class JinaEmbeddingModel extends DimensionAwareEmbeddingModel {
             Integer maxRetries,
             Boolean logRequests,
             Boolean logResponses) {
-        this(baseUrl, apiKey, modelName, timeout, maxRetries, false, logRequests, logResponses);
+        this(null, baseUrl, apiKey, modelName, timeout, maxRetries, false, logRequests, logResponses);
     }
 
-    @Builder
+    /**
+     * @deprecated Please use {@code builder()} instead.
+     */
+    @Deprecated
     public JinaEmbeddingModel(
             String baseUrl,
             String apiKey,
@@ -54,7 +58,22 @@ public class JinaEmbeddingModel extends DimensionAwareEmbeddingModel {
             Boolean lateChunking,
             Boolean logRequests,
             Boolean logResponses) {
+        this(null, baseUrl, apiKey, modelName, timeout, maxRetries, lateChunking, logRequests, logResponses);
+    }
+
+    @Builder
+    private JinaEmbeddingModel(
+            HttpClientBuilder httpClientBuilder,
+            String baseUrl,
+            String apiKey,
+            String modelName,
+            Duration timeout,
+            Integer maxRetries,
+            Boolean lateChunking,
+            Boolean logRequests,
+            Boolean logResponses) {
         this.client = JinaClient.builder()
+                .httpClientBuilder(httpClientBuilder)
                 .baseUrl(getOrDefault(baseUrl, DEFAULT_BASE_URL))
                 .apiKey(apiKey)
                 .timeout(getOrDefault(timeout, ofSeconds(60)))
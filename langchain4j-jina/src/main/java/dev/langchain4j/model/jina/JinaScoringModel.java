@@ -1,6 +1,7 @@
 package dev.langchain4j.model.jina;
 
 import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.http.client.HttpClientBuilder;
 import dev.langchain4j.model.jina.internal.api.JinaRerankingRequest;
 import dev.langchain4j.model.jina.internal.api.JinaRerankingResponse;
 import dev.langchain4j.model.jina.internal.client.JinaClient;
@@ -32,7 +33,10 @@ public class JinaScoringModel implements ScoringModel {
     private final String modelName;
     private final Integer maxRetries;
 
-    @Builder
+    /**
+     * @deprecated Please use {@code builder()} instead.
+     */
+    @Deprecated
     public JinaScoringModel(String baseUrl,
                             String apiKey,
                             String modelName,
@@ -40,7 +44,20 @@ public class JinaScoringModel implements ScoringModel {
                             Integer maxRetries,
                             Boolean logRequests,
                             Boolean logResponses) {
+        this(null, baseUrl, apiKey, modelName, timeout, maxRetries, logRequests, logResponses);
+    }
+
+    @Builder
+    private JinaScoringModel(HttpClientBuilder httpClientBuilder,
+                             String baseUrl,
+                             String apiKey,
+                             String modelName,
+                             Duration timeout,
+                             Integer maxRetries,
+                             Boolean logRequests,
+                             Boolean logResponses) {
         this.client = JinaClient.builder()
+                .httpClientBuilder(httpClientBuilder)
                 .baseUrl(getOrDefault(baseUrl, DEFAULT_BASE_URL))
                 .apiKey(ensureNotBlank(apiKey, "apiKey"))
                 .timeout(getOrDefault(timeout, ofSeconds(60)))
@@ -1,84 +1,91 @@
 package dev.langchain4j.model.jina.internal.client;
 
 import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
+import static dev.langchain4j.http.client.HttpMethod.POST;
+import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import dev.langchain4j.internal.Utils;
+import dev.langchain4j.http.client.HttpClient;
+import dev.langchain4j.http.client.HttpClientBuilder;
+import dev.langchain4j.http.client.HttpClientBuilderLoader;
+import dev.langchain4j.http.client.HttpRequest;
+import dev.langchain4j.http.client.SuccessfulHttpResponse;
+import dev.langchain4j.http.client.log.LoggingHttpClient;
 import dev.langchain4j.model.jina.internal.api.*;
 import java.io.IOException;
 import java.time.Duration;
 import lombok.Builder;
-import okhttp3.OkHttpClient;
-import retrofit2.Retrofit;
-import retrofit2.converter.jackson.JacksonConverterFactory;
 
 public class JinaClient {
 
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(INDENT_OUTPUT);
 
-    private final JinaApi jinaApi;
+    private final HttpClient httpClient;
+    private final String baseUrl;
     private final String authorizationHeader;
 
     @Builder
-    JinaClient(String baseUrl, String apiKey, Duration timeout, boolean logRequests, boolean logResponses) {
+    JinaClient(HttpClientBuilder httpClientBuilder,
+               String baseUrl,
+               String apiKey,
+               Duration timeout,
+               boolean logRequests,
+               boolean logResponses) {
 
-        OkHttpClient.Builder okHttpClientBuilder = new OkHttpClient.Builder()
-                .callTimeout(timeout)
-                .connectTimeout(timeout)
-                .readTimeout(timeout)
-                .writeTimeout(timeout);
+        httpClientBuilder = getOrDefault(httpClientBuilder, HttpClientBuilderLoader::loadHttpClientBuilder);
 
-        if (logRequests) {
-            okHttpClientBuilder.addInterceptor(new RequestLoggingInterceptor());
-        }
-        if (logResponses) {
-            okHttpClientBuilder.addInterceptor(new ResponseLoggingInterceptor());
-        }
-
-        Retrofit retrofit = new Retrofit.Builder()
-                .baseUrl(Utils.ensureTrailingForwardSlash(baseUrl))
-                .client(okHttpClientBuilder.build())
-                .addConverterFactory(JacksonConverterFactory.create(OBJECT_MAPPER))
+        HttpClient httpClient = httpClientBuilder
+                .connectTimeout(getOrDefault(timeout, httpClientBuilder.connectTimeout()))
+                .readTimeout(getOrDefault(timeout, httpClientBuilder.readTimeout()))
                 .build();
 
-        this.jinaApi = retrofit.create(JinaApi.class);
+        if (logRequests || logResponses) {
+            this.httpClient = new LoggingHttpClient(httpClient, logRequests, logResponses);
+        } else {
+            this.httpClient = httpClient;
+        }
+
+        this.baseUrl = ensureNotBlank(baseUrl, "baseUrl");
         this.authorizationHeader = "Bearer " + ensureNotBlank(apiKey, "apiKey");
     }
 
     public JinaEmbeddingResponse embed(JinaEmbeddingRequest request) {
+        return post("v1/embeddings", request, JinaEmbeddingResponse.class);
+    }
+
+    public JinaRerankingResponse rerank(JinaRerankingRequest request) {
+        return post("rerank", request, JinaRerankingResponse.class);
+    }
+
+    private <T> T post(String path, Object request, Class<T> responseType) {
+
+        HttpRequest httpRequest = HttpRequest.builder()
+                .method(POST)
+                .url(baseUrl, path)
+                .addHeader("Content-Type", "application/json")
+                .addHeader("Authorization", authorizationHeader)
+                .bodySupplier(() -> toJson(request))
+                .build();
+
+        SuccessfulHttpResponse response = httpClient.execute(httpRequest);
+
+        return fromJson(response.bodyBytes(), responseType);
+    }
+
+    private static byte[] toJson(Object object) {
         try {
-            retrofit2.Response<JinaEmbeddingResponse> retrofitResponse =
-                    jinaApi.embed(request, authorizationHeader).execute();
-            if (retrofitResponse.isSuccessful()) {
-                return retrofitResponse.body();
-            } else {
-                throw toException(retrofitResponse);
-            }
+            return OBJECT_MAPPER.writeValueAsBytes(object);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
-    public JinaRerankingResponse rerank(JinaRerankingRequest request) {
+    private static <T> T fromJson(byte[] json, Class<T> type) {
         try {
-            retrofit2.Response<JinaRerankingResponse> retrofitResponse =
-                    jinaApi.rerank(request, authorizationHeader).execute();
-
-            if (retrofitResponse.isSuccessful()) {
-                return retrofitResponse.body();
-            } else {
-                throw toException(retrofitResponse);
-            }
+            return OBJECT_MAPPER.readValue(json, type);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
-
-    private static RuntimeException toException(retrofit2.Response<?> response) throws IOException {
-        int code = response.code();
-        String body = response.errorBody().string();
-        String errorMessage = String.format("status code: %s; body: %s", code, body);
-        return new RuntimeException(errorMessage);
-    }
 }
@@ -6,6 +6,7 @@ import com.github.tjake.jlama.model.bert.BertModel;
 import com.github.tjake.jlama.model.functions.Generator;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import dev.langchain4j.internal.RetryUtils;
 import dev.langchain4j.model.embedding.DimensionAwareEmbeddingModel;
 import dev.langchain4j.model.jlama.spi.JlamaEmbeddingModelBuilderFactory;
@@ -14,16 +15,31 @@ import lombok.Builder;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
+import static dev.langchain4j.internal.EmbeddingBatchUtils.embedInBatches;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
 
 public class JlamaEmbeddingModel extends DimensionAwareEmbeddingModel {
+
+    static final int DEFAULT_MAX_SEGMENTS_PER_TASK = 16;
+
     private final BertModel model;
     private final Generator.PoolingType poolingType;
-
-    @Builder
+    private final int maxSegmentsPerTask;
+    private final int parallelism;
+    private final Executor executor;
+
+    /**
+     * @deprecated Please use {@code builder()} instead.
+     */
+    @Deprecated
     public JlamaEmbeddingModel(Path modelCachePath,
                                String modelName,
                                String authToken,
@@ -31,6 +47,29 @@ public class JlamaEmbeddingModel extends DimensionAwareEmbeddingModel {
                                Boolean quantizeModelAtRuntime,
                                Generator.PoolingType poolingType,
                                Path workingDirectory) {
+        this(modelCachePath, modelName, authToken, threadCount, quantizeModelAtRuntime, poolingType, workingDirectory,
+                null, null, null);
+    }
+
+    /**
+     * {@link #embedAll(List)} embeds one segment at a time by default.
+     * Each forward pass already uses the {@code threadCount} threads of the model, so a {@code parallelism}
+     * greater than 1 only pays off when those threads leave cores idle (e.g., a small {@code threadCount}):
+     * the segments are then grouped into tasks of at most {@code maxSegmentsPerTask} segments (16 by default)
+     * of similar token length, and up to {@code parallelism} tasks run concurrently on {@code executor}
+     * (the shared default executor by default).
+     */
+    @Builder
+    private JlamaEmbeddingModel(Path modelCachePath,
+                                String modelName,
+                                String authToken,
+                                Integer threadCount,
+                                Boolean quantizeModelAtRuntime,
+                                Generator.PoolingType poolingType,
+                                Path workingDirectory,
+                                Integer maxSegmentsPerTask,
+                                Integer parallelism,
+                                Executor executor) {
 
         JlamaModelRegistry registry = JlamaModelRegistry.getOrCreate(modelCachePath);
         JlamaModel jlamaModel = RetryUtils.withRetry(() -> registry.downloadModel(modelName, Optional.ofNullable(authToken)), 3);
@@ -55,6 +94,9 @@ public class JlamaEmbeddingModel extends DimensionAwareEmbeddingModel {
         this.dimension = model.getConfig().embeddingLength;
 
         this.poolingType = poolingType == null ? Generator.PoolingType.MODEL : poolingType;
+        this.maxSegmentsPerTask = ensureGreaterThanZero(getOrDefault(maxSegmentsPerTask, DEFAULT_MAX_SEGMENTS_PER_TASK), "maxSegmentsPerTask");
+        this.parallelism = ensureGreaterThanZero(getOrDefault(parallelism, 1), "parallelism");
+        this.executor = getOrDefault(executor, DefaultExecutorProvider::getDefaultExecutorService);
     }
 
     public static JlamaEmbeddingModelBuilder builder() {
@@ -64,15 +106,81 @@ public class JlamaEmbeddingModel extends DimensionAwareEmbeddingModel {
         return new JlamaEmbeddingModelBuilder();
     }
 
+    /**
+     * Jlama runs a forward pass per segment: its BERT models have no attention mask,
+     * so segments cannot be padded or packed into a shared forward pass without attending to each other.
+     * When {@code parallelism} is greater than 1, segments are instead grouped into tasks of segments of similar
+     * token length, and up to {@code parallelism} tasks run concurrently, longest first,
+     * so that they finish at about the same time.
+     */
     @Override
     public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
-        List<Embedding> embeddings = new ArrayList<>();
+        if (parallelism == 1 || textSegments.size() <= 1) {
+            List<Embedding> embeddings = new ArrayList<>(textSegments.size());
+            for (TextSegment textSegment : textSegments) {
+                embeddings.add(embedText(textSegment.text()));
+            }
+            return Response.from(embeddings);
+        }
 
-        textSegments.forEach(textSegment -> {
-            embeddings.add(Embedding.from(model.embed(textSegment.text(), poolingType)));
-        });
+        int[] tokenCounts = new int[textSegments.size()];
+        for (int i = 0; i < tokenCounts.length; i++) {
+            tokenCounts[i] = model.getTokenizer().encode(textSegments.get(i).text()).length;
+        }
+        List<int[]> groups = partitionByLength(tokenCounts, maxSegmentsPerTask);
+
+        List<List<String>> textGroups = new ArrayList<>(groups.size());
+        for (int[] group : groups) {
+            List<String> texts = new ArrayList<>(group.length);
+            for (int index : group) {
+                texts.add(textSegments.get(index).text());
+            }
+            textGroups.add(texts);
+        }
+        List<Embedding> groupedEmbeddings = embedInBatches(textGroups, texts -> {
+            List<Embedding> embeddings = new ArrayList<>(texts.size());
+            for (String text : texts) {
+                embeddings.add(embedText(text));
+            }
+            return Response.from(embeddings);
+        }, parallelism, executor).content();
+
+        // the embeddings are in the order of the groups, put them back in the order of the segments
+        Embedding[] embeddings = new Embedding[textSegments.size()];
+        int next = 0;
+        for (int[] group : groups) {
+            for (int index : group) {
+                embeddings[index] = groupedEmbeddings.get(next++);
+            }
+        }
+        return Response.from(Arrays.asList(embeddings));
+    }
 
-        return Response.from(embeddings);
+    private Embedding embedText(String text) {
+        return Embedding.from(model.embed(text, poolingType));
+    }
+
+    /**
+     * Returns the indices of the given token counts, grouped into groups of at most {@code maxGroupSize} indices,
+     * where each group contains indices of similar token count. Groups are ordered from the longest to the shortest.
+     */
+    static List<int[]> partitionByLength(int[] tokenCounts, int maxGroupSize) {
+        Integer[] order = new Integer[tokenCounts.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt((Integer i) -> tokenCounts[i]).reversed());
+
+        List<int[]> groups = new ArrayList<>();
+        for (int from = 0; from < order.length; from += maxGroupSize) {
+            int to = Math.min(from + maxGroupSize, order.length);
+            int[] group = new int[to - from];
+            for (int i = from; i < to; i++) {
+                group[i - from] = order[i];
+            }
+            groups.add(group);
+        }
+        return groups;
     }
 
     public static class JlamaEmbeddingModelBuilder {
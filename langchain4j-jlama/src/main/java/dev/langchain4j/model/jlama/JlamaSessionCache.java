@@ -0,0 +1,144 @@
+package dev.langchain4j.model.jlama;
+
+import com.github.tjake.jlama.model.AbstractModel;
+import com.github.tjake.jlama.model.functions.Generator;
+import com.github.tjake.jlama.safetensors.Config;
+import com.github.tjake.jlama.safetensors.prompt.PromptContext;
+import com.github.tjake.jlama.safetensors.tokenizer.Tokenizer;
+import com.github.tjake.jlama.tensor.AbstractTensor;
+import com.github.tjake.jlama.tensor.KvBufferCache;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
+
+/**
+ * Keeps the KV cache of recent conversations, so that the next turn of a conversation only needs to prefill
+ * the messages added since the previous turn, instead of the whole history.
+ * <p>
+ * A conversation is matched to a session by its prompt: a session is reused when the text it has already processed
+ * (the previous prompt followed by the generated response) is a prefix of the new prompt.
+ * Different conversations (e.g., different {@code @MemoryId}s of an AI service) therefore use different sessions,
+ * without the memory id having to be passed to the model. A session is used by one request at a time.
+ * <p>
+ * Sessions that were not used for longer than the idle timeout are evicted,
+ * and the least recently used sessions are evicted when the estimated size of all cached KV buffers
+ * exceeds the memory budget.
+ * <p>
+ * {@link AbstractModel#generate} discards the KV buffer of the session at the end of each call,
+ * so this class runs prefill and decoding itself, on KV buffers that it owns.
+ * The prefill and decoding loop follows {@link AbstractModel#generate} of Jlama 0.8.3
+ * (see {@code jlama.version} in the module's pom), and must be revisited when Jlama is upgraded.
+ * The matching and eviction of sessions is done by {@link JlamaSessionPool}.
+ */
+class JlamaSessionCache {
+
+    static final long DEFAULT_MAX_BYTES = 1024L * 1024 * 1024;
+    static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+    private final AbstractModel model;
+    private final Config config;
+    private final Tokenizer tokenizer;
+    private final JlamaSessionPool<KvBufferCache.KvBuffer> sessions;
+
+    JlamaSessionCache(AbstractModel model, long maxBytes, Duration idleTimeout) {
+        this.model = model;
+        this.config = model.getConfig();
+        this.tokenizer = model.getTokenizer();
+        KvBufferCache kvBufferCache = new KvBufferCache(model);
+        // keys and values, for each layer
+        long bytesPerToken = 2L * config.dctx().numberOfLayers * config.dctx().kvSegmentLength * model.getWorkingDType().size();
+        this.sessions = new JlamaSessionPool<>(kvBufferCache::getEphemeralKvBuffer, KvBufferCache.KvBuffer::close,
+                bytesPerToken, maxBytes, idleTimeout, System::nanoTime);
+    }
+
+    /**
+     * Generates a response like {@link AbstractModel#generate}, reusing the KV cache of the session
+     * whose processed text is the longest prefix of the prompt.
+     * Tools are not supported, since the tool calls are parsed by {@link AbstractModel#generate}.
+     */
+    Generator.Response generate(PromptContext promptContext, float temperature, int maxTokens, BiConsumer<String, Float> onToken) {
+        String prompt = promptContext.getPrompt();
+        JlamaSessionPool.Session<KvBufferCache.KvBuffer> session = sessions.acquire(prompt);
+        boolean keep = false;
+        try {
+            int[] promptTokens = session.position == 0
+                    ? model.encodePrompt(promptContext)
+                    : encodeContinuation(prompt.substring(session.text.length()));
+            if (session.position > 0 && session.position + promptTokens.length >= config.contextLength) {
+                // the conversation no longer fits after the cached part, start over
+                session.clear();
+                promptTokens = model.encodePrompt(promptContext);
+            }
+            if (promptTokens.length >= config.contextLength || promptTokens.length >= maxTokens) {
+                throw new IllegalArgumentException("Prompt exceeds max tokens");
+            }
+
+            StringBuilder responseText = new StringBuilder();
+            StringBuilder processedResponseText = new StringBuilder();
+            Generator.FinishReason finishReason = Generator.FinishReason.MAX_TOKENS;
+            int limit = Math.min(config.contextLength, session.position + maxTokens);
+            int generatedTokens = 0;
+
+            long promptStart = System.currentTimeMillis();
+            AbstractTensor logits = model.makeDenseTensor(config.vocabularySize);
+            try {
+                AbstractTensor output = model.batchForward(promptTokens, session.position, session.buffer);
+                session.position += promptTokens.length;
+                long promptTimeMs = System.currentTimeMillis() - promptStart;
+                float promptMsPerToken = (float) promptTimeMs / promptTokens.length;
+
+                AbstractTensor last = output.slice(output.shape().first() - 1);
+                int next = model.sample(last, temperature, ThreadLocalRandom.current().nextFloat(), logits);
+                output.close();
+
+                long generateStart = System.currentTimeMillis();
+                while (true) {
+                    if (config.eosTokens.contains(next)) {
+                        finishReason = Generator.FinishReason.STOP_TOKEN;
+                        break;
+                    }
+                    String token = tokenizer.decode(next);
+                    processedResponseText.append(token);
+                    if (!tokenizer.getModel().isSpecialToken(next)) {
+                        responseText.append(token);
+                        float msPerToken = generatedTokens == 0
+                                ? promptMsPerToken
+                                : (float) (System.currentTimeMillis() - generateStart) / generatedTokens;
+                        onToken.accept(token, msPerToken);
+                    }
+                    if (session.position >= limit) {
+                        break;
+                    }
+                    output = model.forward(next, session.position, session.buffer, Optional.empty());
+                    session.position++;
+                    generatedTokens++;
+                    next = model.sample(output, temperature, ThreadLocalRandom.current().nextFloat(), logits);
+                    output.close();
+                }
+
+                // only the tokens that were fed back into the model are part of the cached state
+                if (finishReason == Generator.FinishReason.STOP_TOKEN) {
+                    session.text = prompt + processedResponseText;
+                    keep = true;
+                }
+                return new Generator.Response(responseText.toString(), processedResponseText.toString(), finishReason,
+                        promptTokens.length, generatedTokens, promptTimeMs, System.currentTimeMillis() - generateStart);
+            } finally {
+                logits.close();
+            }
+        } finally {
+            sessions.release(session, keep);
+        }
+    }
+
+    private int[] encodeContinuation(String text) {
+        long[] encoded = tokenizer.encode(text);
+        if (encoded.length > 0 && encoded[0] == config.bosToken) {
+            encoded = Arrays.copyOfRange(encoded, 1, encoded.length);
+        }
+        return Arrays.stream(encoded).mapToInt(Math::toIntExact).toArray();
+    }
+}
@@ -0,0 +1,157 @@
+package dev.langchain4j.model.jlama;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * The bookkeeping of {@link JlamaSessionCache}, independent of the model: matches prompts to sessions
+ * and evicts sessions, but does not run the model.
+ * <p>
+ * A session is reused when the text it has already processed is a prefix of the new prompt;
+ * of several such sessions, the one with the longest text is used. A session is used by one request at a time.
+ * Sessions that were not used for longer than the idle timeout are evicted,
+ * and the least recently used sessions are evicted when the estimated size of all buffers exceeds the budget.
+ *
+ * @param <B> the type of the KV buffer of a session.
+ */
+class JlamaSessionPool<B> {
+
+    private final Supplier<B> bufferFactory;
+    private final Consumer<B> bufferCloser;
+    private final long bytesPerToken;
+    private final long maxBytes;
+    private final long idleTimeoutNanos;
+    private final LongSupplier nanoTime;
+
+    private final List<Session<B>> sessions = new ArrayList<>(); // guarded by this
+
+    JlamaSessionPool(Supplier<B> bufferFactory,
+                     Consumer<B> bufferCloser,
+                     long bytesPerToken,
+                     long maxBytes,
+                     Duration idleTimeout,
+                     LongSupplier nanoTime) {
+        this.bufferFactory = bufferFactory;
+        this.bufferCloser = bufferCloser;
+        this.bytesPerToken = bytesPerToken;
+        this.maxBytes = maxBytes;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Returns the unused session whose processed text is the longest proper prefix of the prompt,
+     * or a new, empty session if there is none. The session is in use until it is released.
+     */
+    synchronized Session<B> acquire(String prompt) {
+        evictIdle(nanoTime.getAsLong());
+        Session<B> best = null;
+        for (Session<B> session : sessions) {
+            if (!session.inUse
+                    && session.text.length() < prompt.length()
+                    && prompt.startsWith(session.text)
+                    && (best == null || session.text.length() > best.text.length())) {
+                best = session;
+            }
+        }
+        if (best == null) {
+            best = new Session<>(bufferFactory, bufferCloser, nanoTime.getAsLong());
+            sessions.add(best);
+        }
+        best.inUse = true;
+        return best;
+    }
+
+    /**
+     * Releases a session. A session whose buffer does not match its text (e.g., after a failure
+     * or an interrupted generation) must not be kept, and is discarded.
+     */
+    synchronized void release(Session<B> session, boolean keep) {
+        session.inUse = false;
+        session.lastUsedNanos = nanoTime.getAsLong();
+        if (!keep) {
+            sessions.remove(session);
+            session.close();
+            return;
+        }
+        evictLeastRecentlyUsed();
+    }
+
+    synchronized int size() {
+        return sessions.size();
+    }
+
+    private void evictIdle(long now) {
+        Iterator<Session<B>> iterator = sessions.iterator();
+        while (iterator.hasNext()) {
+            Session<B> session = iterator.next();
+            if (!session.inUse && now - session.lastUsedNanos > idleTimeoutNanos) {
+                iterator.remove();
+                session.close();
+            }
+        }
+    }
+
+    private void evictLeastRecentlyUsed() {
+        long totalBytes = 0;
+        for (Session<B> session : sessions) {
+            totalBytes += session.position * bytesPerToken;
+        }
+        while (totalBytes > maxBytes) {
+            Session<B> leastRecentlyUsed = null;
+            for (Session<B> session : sessions) {
+                if (!session.inUse && (leastRecentlyUsed == null || session.lastUsedNanos < leastRecentlyUsed.lastUsedNanos)) {
+                    leastRecentlyUsed = session;
+                }
+            }
+            if (leastRecentlyUsed == null) {
+                return;
+            }
+            totalBytes -= leastRecentlyUsed.position * bytesPerToken;
+            sessions.remove(leastRecentlyUsed);
+            leastRecentlyUsed.close();
+        }
+    }
+
+    /**
+     * A conversation: the text processed so far, and the KV buffer holding its first {@code position} tokens.
+     */
+    static class Session<B> {
+
+        private final Supplier<B> bufferFactory;
+        private final Consumer<B> bufferCloser;
+
+        B buffer;
+        String text = "";
+        int position;
+
+        private boolean inUse;
+        private long lastUsedNanos;
+
+        private Session(Supplier<B> bufferFactory, Consumer<B> bufferCloser, long nowNanos) {
+            this.bufferFactory = bufferFactory;
+            this.bufferCloser = bufferCloser;
+            this.buffer = bufferFactory.get();
+            this.lastUsedNanos = nowNanos;
+        }
+
+        /**
+         * Starts over with an empty buffer, e.g., when the conversation no longer fits into the context.
+         */
+        void clear() {
+            bufferCloser.accept(buffer);
+            buffer = bufferFactory.get();
+            text = "";
+            position = 0;
+        }
+
+        private void close() {
+            bufferCloser.accept(buffer);
+        }
+    }
+}
@@ -28,11 +28,13 @@ import dev.langchain4j.model.output.TokenUsage;
 import lombok.Builder;
 
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.model.jlama.JlamaLanguageModel.toFinishReason;
 import static dev.langchain4j.model.jlama.Json.fromJson;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
@@ -41,9 +43,12 @@ public class JlamaStreamingChatModel implements StreamingChatLanguageModel {
     private final AbstractModel model;
     private final Float temperature;
     private final Integer maxTokens;
-    private final UUID id = UUID.randomUUID();
+    private final JlamaSessionCache sessionCache;
 
-    @Builder
+    /**
+     * @deprecated Please use {@code builder()} instead.
+     */
+    @Deprecated
     public JlamaStreamingChatModel(Path modelCachePath,
                                    String modelName,
                                    String authToken,
@@ -53,6 +58,32 @@ public class JlamaStreamingChatModel implements StreamingChatLanguageModel {
                                    DType workingQuantizedType,
                                    Float temperature,
                                    Integer maxTokens) {
+        this(modelCachePath, modelName, authToken, threadCount, quantizeModelAtRuntime, workingDirectory,
+                workingQuantizedType, temperature, maxTokens, null, null, null);
+    }
+
+    /**
+     * If {@code cacheSessions} is enabled, the KV cache of each conversation is kept between turns,
+     * so that each turn only prefills the messages added since the previous turn.
+     * Conversations are matched to cached sessions by their history, so each chat memory
+     * (e.g., each {@code @MemoryId} of an AI service) gets its own session.
+     * Cached sessions are evicted after {@code sessionIdleTimeout} (10 minutes by default), and the least recently used ones
+     * are evicted when their estimated size exceeds {@code maxSessionCacheBytes} (1 GiB by default).
+     * Requests with tools are not cached.
+     */
+    @Builder
+    private JlamaStreamingChatModel(Path modelCachePath,
+                                    String modelName,
+                                    String authToken,
+                                    Integer threadCount,
+                                    Boolean quantizeModelAtRuntime,
+                                    Path workingDirectory,
+                                    DType workingQuantizedType,
+                                    Float temperature,
+                                    Integer maxTokens,
+                                    Boolean cacheSessions,
+                                    Long maxSessionCacheBytes,
+                                    Duration sessionIdleTimeout) {
         JlamaModelRegistry registry = JlamaModelRegistry.getOrCreate(modelCachePath);
         JlamaModel jlamaModel = RetryUtils.withRetry(() -> registry.downloadModel(modelName, Optional.ofNullable(authToken)), 3);
 
@@ -72,6 +103,11 @@ public class JlamaStreamingChatModel implements StreamingChatLanguageModel {
         this.model = loader.load();
         this.temperature = temperature == null ? 0.3f : temperature;
         this.maxTokens = maxTokens == null ? model.getConfig().contextLength : maxTokens;
+        this.sessionCache = cacheSessions != null && cacheSessions
+                ? new JlamaSessionCache(model,
+                        getOrDefault(maxSessionCacheBytes, JlamaSessionCache.DEFAULT_MAX_BYTES),
+                        getOrDefault(sessionIdleTimeout, JlamaSessionCache.DEFAULT_IDLE_TIMEOUT))
+                : null;
     }
 
     public static JlamaStreamingChatModelBuilder builder() {
@@ -132,9 +168,9 @@ public class JlamaStreamingChatModel implements StreamingChatLanguageModel {
         PromptContext promptContext = tools.isEmpty() ? promptBuilder.build() : promptBuilder.build(tools);
 
         try {
-            Generator.Response r = model.generate(id, promptContext, temperature, maxTokens, (token, time) -> {
-                handler.onNext(token);
-            });
+            Generator.Response r = sessionCache != null && tools.isEmpty()
+                    ? sessionCache.generate(promptContext, temperature, maxTokens, (token, time) -> handler.onNext(token))
+                    : model.generate(UUID.randomUUID(), promptContext, temperature, maxTokens, (token, time) -> handler.onNext(token));
 
             if (r.finishReason == Generator.FinishReason.TOOL_CALL) {
                 List<ToolExecutionRequest> toolCalls = r.toolCalls.stream().map(f -> ToolExecutionRequest.builder()
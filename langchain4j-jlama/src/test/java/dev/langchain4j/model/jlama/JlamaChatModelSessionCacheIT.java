@@ -0,0 +1,55 @@
+package dev.langchain4j.model.jlama;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.langchain4j.model.output.FinishReason.STOP;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JlamaChatModelSessionCacheIT {
+
+    static File tmpDir;
+    static ChatLanguageModel model;
+
+    @BeforeAll
+    static void setup() {
+        tmpDir = new File(System.getProperty("java.io.tmpdir") + File.separator + "jlama_tests");
+        tmpDir.mkdirs();
+
+        model = JlamaChatModel.builder()
+                .modelName("tjake/Llama-3.2-1B-Instruct-JQ4")
+                .modelCachePath(tmpDir.toPath())
+                .temperature(0.0f)
+                .maxTokens(256)
+                .cacheSessions(true)
+                .build();
+    }
+
+    @Test
+    void should_prefill_only_new_messages_of_a_conversation() {
+
+        // given
+        List<ChatMessage> messages = new ArrayList<>();
+        messages.add(UserMessage.from("My name is Klaus. Reply with a short greeting."));
+        Response<AiMessage> first = model.generate(messages);
+        assertThat(first.finishReason()).isEqualTo(STOP);
+        messages.add(first.content());
+        messages.add(UserMessage.from("What is my name? Reply with one word."));
+
+        // when
+        Response<AiMessage> second = model.generate(messages);
+
+        // then
+        assertThat(second.content().text()).containsIgnoringCase("Klaus");
+        assertThat(second.tokenUsage().inputTokenCount()).isLessThan(first.tokenUsage().inputTokenCount());
+    }
+}
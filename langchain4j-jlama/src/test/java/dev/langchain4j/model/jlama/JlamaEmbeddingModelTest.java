@@ -0,0 +1,26 @@
+package dev.langchain4j.model.jlama;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JlamaEmbeddingModelTest {
+
+    @Test
+    void should_partition_by_length_longest_first() {
+
+        // given
+        int[] tokenCounts = {5, 120, 7, 64, 3, 118, 60};
+
+        // when
+        List<int[]> groups = JlamaEmbeddingModel.partitionByLength(tokenCounts, 3);
+
+        // then
+        assertThat(groups).hasSize(3);
+        assertThat(groups.get(0)).containsExactly(1, 5, 3);
+        assertThat(groups.get(1)).containsExactly(6, 2, 0);
+        assertThat(groups.get(2)).containsExactly(4);
+    }
+}
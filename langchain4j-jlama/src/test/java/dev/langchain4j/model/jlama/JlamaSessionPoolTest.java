@@ -0,0 +1,200 @@
+package dev.langchain4j.model.jlama;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JlamaSessionPoolTest {
+
+    private final AtomicInteger createdBuffers = new AtomicInteger();
+    private final List<Integer> closedBuffers = new ArrayList<>();
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void should_reuse_session_with_longest_prefix_of_prompt() {
+
+        // given
+        JlamaSessionPool<Integer> pool = pool(1000);
+        JlamaSessionPool.Session<Integer> shorter = pool.acquire("Hello?");
+        JlamaSessionPool.Session<Integer> longer = pool.acquire("Hello, world?");
+        shorter.text = "Hello";
+        shorter.position = 5;
+        longer.text = "Hello, world";
+        longer.position = 12;
+        pool.release(shorter, true);
+        pool.release(longer, true);
+
+        // when
+        JlamaSessionPool.Session<Integer> session = pool.acquire("Hello, world! How are you?");
+
+        // then
+        assertThat(session).isSameAs(longer);
+        assertThat(session).isNotSameAs(shorter);
+        assertThat(session.position).isEqualTo(12);
+        assertThat(createdBuffers.get()).isEqualTo(2);
+    }
+
+    @Test
+    void should_start_new_session_when_no_session_is_a_prefix_of_prompt() {
+
+        // given
+        JlamaSessionPool<Integer> pool = pool(1000);
+        JlamaSessionPool.Session<Integer> previous = process(pool, "Hello, world", 12);
+
+        // when
+        JlamaSessionPool.Session<Integer> session = pool.acquire("Hello, there");
+
+        // then
+        assertThat(session).isNotSameAs(previous);
+        assertThat(session.text).isEmpty();
+        assertThat(session.position).isZero();
+        assertThat(pool.size()).isEqualTo(2);
+    }
+
+    @Test
+    void should_not_reuse_session_for_identical_prompt() {
+
+        // given
+        JlamaSessionPool<Integer> pool = pool(1000);
+        JlamaSessionPool.Session<Integer> previous = process(pool, "Hello", 5);
+
+        // when
+        JlamaSessionPool.Session<Integer> session = pool.acquire("Hello");
+
+        // then
+        assertThat(session).isNotSameAs(previous);
+    }
+
+    @Test
+    void should_not_share_session_in_use() {
+
+        // given
+        JlamaSessionPool<Integer> pool = pool(1000);
+        process(pool, "Hello", 5);
+        JlamaSessionPool.Session<Integer> first = pool.acquire("Hello, world");
+
+        // when
+        JlamaSessionPool.Session<Integer> second = pool.acquire("Hello, world");
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.position).isZero();
+    }
+
+    @Test
+    void should_discard_session_that_is_not_kept() {
+
+        // given
+        JlamaSessionPool<Integer> pool = pool(1000);
+        JlamaSessionPool.Session<Integer> session = pool.acquire("Hello");
+        session.text = "Hello";
+        session.position = 5;
+
+        // when
+        // e.g., the generation failed or stopped before the stop token, so the buffer does not match the text
+        pool.release(session, false);
+
+        // then
+        assertThat(pool.size()).isZero();
+        assertThat(closedBuffers).containsExactly(session.buffer);
+        assertThat(pool.acquire("Hello, world")).isNotSameAs(session);
+    }
+
+    @Test
+    void should_replace_buffer_when_session_is_cleared() {
+
+        // given
+        JlamaSessionPool<Integer> pool = pool(1000);
+        JlamaSessionPool.Session<Integer> session = process(pool, "Hello", 5);
+        Integer previousBuffer = session.buffer;
+        pool.acquire("Hello, world");
+
+        // when
+        // e.g., the conversation no longer fits into the context
+        session.clear();
+
+        // then
+        assertThat(session.buffer).isNotEqualTo(previousBuffer);
+        assertThat(session.text).isEmpty();
+        assertThat(session.position).isZero();
+        assertThat(closedBuffers).containsExactly(previousBuffer);
+    }
+
+    @Test
+    void should_evict_idle_sessions() {
+
+        // given
+        JlamaSessionPool<Integer> pool = pool(1000);
+        JlamaSessionPool.Session<Integer> idle = process(pool, "Hello", 5);
+        now.addAndGet(Duration.ofMinutes(2).toNanos());
+
+        // when
+        JlamaSessionPool.Session<Integer> session = pool.acquire("Hello, world");
+
+        // then
+        assertThat(session).isNotSameAs(idle);
+        assertThat(closedBuffers).containsExactly(idle.buffer);
+        assertThat(pool.size()).isEqualTo(1);
+    }
+
+    @Test
+    void should_evict_least_recently_used_sessions_when_over_budget() {
+
+        // given
+        // 2 bytes per token, room for 20 tokens
+        JlamaSessionPool<Integer> pool = pool(40);
+        JlamaSessionPool.Session<Integer> oldest = process(pool, "a", 8);
+        now.incrementAndGet();
+        JlamaSessionPool.Session<Integer> middle = process(pool, "b", 8);
+        now.incrementAndGet();
+
+        // when
+        JlamaSessionPool.Session<Integer> newest = process(pool, "c", 8);
+
+        // then
+        assertThat(pool.size()).isEqualTo(2);
+        assertThat(closedBuffers).containsExactly(oldest.buffer);
+        assertThat(pool.acquire("b, and more")).isSameAs(middle);
+        assertThat(pool.acquire("c, and more")).isSameAs(newest);
+    }
+
+    @Test
+    void should_not_evict_sessions_in_use_when_over_budget() {
+
+        // given
+        JlamaSessionPool<Integer> pool = pool(10);
+        JlamaSessionPool.Session<Integer> inUse = pool.acquire("a");
+        inUse.position = 100;
+
+        // when
+        process(pool, "b", 100);
+
+        // then
+        assertThat(closedBuffers).doesNotContain(inUse.buffer);
+        assertThat(pool.size()).isEqualTo(1);
+    }
+
+    private JlamaSessionPool<Integer> pool(long maxBytes) {
+        return new JlamaSessionPool<>(
+                createdBuffers::incrementAndGet,
+                closedBuffers::add,
+                2,
+                maxBytes,
+                Duration.ofMinutes(1),
+                now::get);
+    }
+
+    private static JlamaSessionPool.Session<Integer> process(JlamaSessionPool<Integer> pool, String text, int tokens) {
+        JlamaSessionPool.Session<Integer> session = pool.acquire(text + "?");
+        session.text = text;
+        session.position = tokens;
+        pool.release(session, true);
+        return session;
+    }
+}
@@ -65,7 +65,7 @@ public class LocalAiEmbeddingModel extends DimensionAwareEmbeddingModel {
         EmbeddingResponse response = withRetry(() -> client.embedding(request).execute(), maxRetries);
 
         List<Embedding> embeddings = response.data().stream()
-                .map(openAiEmbedding -> Embedding.from(openAiEmbedding.embedding()))
+                .map(openAiEmbedding -> Embedding.from(openAiEmbedding.vector()))
                 .collect(toList());
 
         return Response.from(embeddings);
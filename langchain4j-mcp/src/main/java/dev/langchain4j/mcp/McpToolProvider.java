@@ -1,6 +1,7 @@
 package dev.langchain4j.mcp;
 
 import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import dev.langchain4j.internal.Utils;
 import dev.langchain4j.mcp.client.McpClient;
 import dev.langchain4j.service.tool.ToolProvider;
@@ -9,6 +10,8 @@ import dev.langchain4j.service.tool.ToolProviderResult;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,10 +31,17 @@ public class McpToolProvider implements ToolProvider {
 
     @Override
     public ToolProviderResult provideTools(final ToolProviderRequest request) {
-        ToolProviderResult.Builder builder = ToolProviderResult.builder();
+        // query all servers at the same time, so that a cold start costs one round trip instead of one per server
+        List<CompletableFuture<List<ToolSpecification>>> toolLists = new ArrayList<>(mcpClients.size());
         for (McpClient mcpClient : mcpClients) {
+            toolLists.add(listTools(mcpClient));
+        }
+
+        ToolProviderResult.Builder builder = ToolProviderResult.builder();
+        for (int i = 0; i < mcpClients.size(); i++) {
+            McpClient mcpClient = mcpClients.get(i);
             try {
-                List<ToolSpecification> toolSpecifications = mcpClient.listTools();
+                List<ToolSpecification> toolSpecifications = join(toolLists.get(i));
                 for (ToolSpecification toolSpecification : toolSpecifications) {
                     builder.add(
                             toolSpecification, (executionRequest, memoryId) -> mcpClient.executeTool(executionRequest));
@@ -47,6 +57,28 @@ public class McpToolProvider implements ToolProvider {
         return builder.build();
     }
 
+    private CompletableFuture<List<ToolSpecification>> listTools(McpClient mcpClient) {
+        if (mcpClients.size() > 1) {
+            return CompletableFuture.supplyAsync(mcpClient::listTools, DefaultExecutorProvider.getDefaultExecutorService());
+        }
+        try {
+            return CompletableFuture.completedFuture(mcpClient.listTools());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static List<ToolSpecification> join(CompletableFuture<List<ToolSpecification>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -11,6 +11,7 @@ import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
 import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import dev.langchain4j.mcp.client.logging.DefaultMcpLogMessageHandler;
 import dev.langchain4j.mcp.client.logging.McpLogMessageHandler;
 import dev.langchain4j.mcp.client.protocol.CancellationNotification;
@@ -24,17 +25,17 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-// TODO: currently we request a new list of tools every time, so we should
-// add support for the `ToolListChangedNotification` message, and then we can
-// cache the list
 public class DefaultMcpClient implements McpClient {
 
     private static final Logger log = LoggerFactory.getLogger(DefaultMcpClient.class);
@@ -50,6 +51,10 @@ public class DefaultMcpClient implements McpClient {
     private final Map<Long, CompletableFuture<JsonNode>> pendingOperations = new ConcurrentHashMap<>();
     private final McpOperationHandler messageHandler;
     private final McpLogMessageHandler logHandler;
+    private final boolean cacheToolList;
+    private final Executor executor;
+    private final AtomicReference<CompletableFuture<List<ToolSpecification>>> toolListCache =
+            new AtomicReference<>();
 
     public DefaultMcpClient(Builder builder) {
         transport = ensureNotNull(builder.transport, "transport");
@@ -61,17 +66,26 @@ public class DefaultMcpClient implements McpClient {
         toolExecutionTimeoutErrorMessage =
                 getOrDefault(builder.toolExecutionTimeoutErrorMessage, "There was a timeout executing the tool");
         RESULT_TIMEOUT = JsonNodeFactory.instance.objectNode();
-        messageHandler = new McpOperationHandler(pendingOperations, transport, logHandler::handleLogMessage);
+        executor = getOrDefault(builder.executor, DefaultExecutorProvider::getDefaultExecutorService);
+        messageHandler = new McpOperationHandler(
+                pendingOperations, transport, logHandler::handleLogMessage, this::onToolListChanged);
         ((ObjectNode) RESULT_TIMEOUT)
                 .putObject("result")
                 .putArray("content")
                 .addObject()
                 .put("type", "text")
                 .put("text", toolExecutionTimeoutErrorMessage);
-        initialize();
+        JsonNode initializeResult = initialize();
+        // without list_changed notifications, a cached list could silently go stale
+        cacheToolList = getOrDefault(builder.cacheToolList, () -> advertisesToolListChanged(initializeResult));
     }
 
-    private void initialize() {
+    private static boolean advertisesToolListChanged(JsonNode initializeResult) {
+        return initializeResult != null
+                && initializeResult.path("capabilities").path("tools").path("listChanged").asBoolean(false);
+    }
+
+    private JsonNode initialize() {
         transport.start(messageHandler);
         long operationId = idGenerator.getAndIncrement();
         McpInitializeRequest request = new McpInitializeRequest(operationId);
@@ -80,6 +94,7 @@ public class DefaultMcpClient implements McpClient {
         try {
             JsonNode capabilities = transport.initialize(request).get();
             log.debug("MCP server capabilities: {}", capabilities.get("result"));
+            return capabilities.get("result");
         } catch (Exception e) {
             throw new RuntimeException(e);
         } finally {
@@ -98,26 +113,112 @@ public class DefaultMcpClient implements McpClient {
 
         InitializeParams.Capabilities capabilities = new InitializeParams.Capabilities();
         InitializeParams.Capabilities.Roots roots = new InitializeParams.Capabilities.Roots();
-        roots.setListChanged(false); // TODO: listChanged is not supported yet
+        roots.setListChanged(false); // the client does not expose any roots
         capabilities.setRoots(roots);
         params.setCapabilities(capabilities);
 
         return params;
     }
 
+    /**
+     * Returns the tools provided by the server. If caching is enabled,
+     * the list is obtained from the server only once and then served from the cache
+     * until the server sends a "notifications/tools/list_changed" notification
+     * or {@link #evictToolListCache()} is called. Concurrent callers share a single
+     * in-flight request.
+     */
     @Override
     public List<ToolSpecification> listTools() {
+        if (!cacheToolList) {
+            return obtainToolList();
+        }
+        while (true) {
+            CompletableFuture<List<ToolSpecification>> cached = toolListCache.get();
+            if (cached == null) {
+                CompletableFuture<List<ToolSpecification>> fresh = new CompletableFuture<>();
+                if (!toolListCache.compareAndSet(null, fresh)) {
+                    continue;
+                }
+                try {
+                    fresh.complete(obtainToolList());
+                } catch (RuntimeException e) {
+                    // don't cache failures, the next call will retry
+                    toolListCache.compareAndSet(fresh, null);
+                    fresh.completeExceptionally(e);
+                    throw e;
+                }
+                cached = fresh;
+            }
+            try {
+                return cached.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Discards the cached list of tools, so that the next call to {@link #listTools()}
+     * obtains a fresh list from the server.
+     */
+    public void evictToolListCache() {
+        toolListCache.set(null);
+    }
+
+    private void onToolListChanged() {
+        if (!cacheToolList) {
+            return;
+        }
+        log.debug("MCP server tool list changed, refreshing the cached tool list");
+        evictToolListCache();
+        CompletableFuture<List<ToolSpecification>> fresh = new CompletableFuture<>();
+        if (!toolListCache.compareAndSet(null, fresh)) {
+            return; // a caller of listTools() is already obtaining the new list
+        }
+        // this runs on the transport's receiving thread, so the refresh must not block it:
+        // the request is sent without waiting for the response, which is parsed on the executor
+        obtainToolListAsync().whenComplete((toolList, error) -> {
+            if (error == null) {
+                fresh.complete(toolList);
+            } else {
+                log.warn("Failed to refresh the list of tools from the MCP server", error);
+                toolListCache.compareAndSet(fresh, null);
+                fresh.completeExceptionally(error);
+            }
+        });
+    }
+
+    private CompletableFuture<List<ToolSpecification>> obtainToolListAsync() {
+        McpListToolsRequest operation = new McpListToolsRequest(idGenerator.getAndIncrement());
+        return transport.executeOperationWithResponse(operation)
+                .orTimeout(toolListTimeoutMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((result, error) -> pendingOperations.remove(operation.getId()))
+                .thenApplyAsync(DefaultMcpClient::toToolList, executor);
+    }
+
+    private List<ToolSpecification> obtainToolList() {
         McpListToolsRequest operation = new McpListToolsRequest(idGenerator.getAndIncrement());
         CompletableFuture<JsonNode> resultFuture = transport.executeOperationWithResponse(operation);
         JsonNode result = null;
         try {
-            result = resultFuture.get();
-        } catch (InterruptedException | ExecutionException e) {
+            result = resultFuture.get(toolListTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException | ExecutionException | TimeoutException e) {
             throw new RuntimeException(e);
         } finally {
             pendingOperations.remove(operation.getId());
         }
 
+        return toToolList(result);
+    }
+
+    private long toolListTimeoutMillis() {
+        return toolExecutionTimeout.toMillis() == 0 ? Integer.MAX_VALUE : toolExecutionTimeout.toMillis();
+    }
+
+    private static List<ToolSpecification> toToolList(JsonNode result) {
         return ToolSpecificationHelper.toolSpecificationListFromMcpResponse(
                 (ArrayNode) result.get("result").get("tools"));
     }
@@ -167,6 +268,8 @@ public class DefaultMcpClient implements McpClient {
         private String protocolVersion;
         private Duration toolExecutionTimeout;
         private McpLogMessageHandler logHandler;
+        private Boolean cacheToolList;
+        private Executor executor;
 
         public Builder transport(McpTransport transport) {
             this.transport = transport;
@@ -206,7 +309,8 @@ public class DefaultMcpClient implements McpClient {
 
         /**
          * Sets the timeout for tool execution.
-         * This value applies to each tool execution individually.
+         * This value applies to each tool execution individually,
+         * and also to each request for the list of tools.
          * The default value is 60 seconds.
          */
         public Builder toolExecutionTimeout(Duration toolExecutionTimeout) {
@@ -231,6 +335,29 @@ public class DefaultMcpClient implements McpClient {
             return this;
         }
 
+        /**
+         * Sets whether the client caches the list of tools provided by the server.
+         * The cached list is refreshed when the server sends a
+         * "notifications/tools/list_changed" notification. It can also be discarded
+         * manually using {@link DefaultMcpClient#evictToolListCache()}.
+         * By default, the list is cached only if the server advertises the
+         * "tools.listChanged" capability, that is, if it promises to send that notification.
+         */
+        public Builder cacheToolList(boolean cacheToolList) {
+            this.cacheToolList = cacheToolList;
+            return this;
+        }
+
+        /**
+         * Sets the executor on which the list of tools is refreshed in the background
+         * when the server notifies that it has changed.
+         * The default value is the executor shared by langchain4j components.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         public DefaultMcpClient build() {
             return new DefaultMcpClient(this);
         }
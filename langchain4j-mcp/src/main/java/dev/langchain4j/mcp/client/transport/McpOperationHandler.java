@@ -21,14 +21,30 @@ public class McpOperationHandler {
     private static final Logger log = LoggerFactory.getLogger(McpOperationHandler.class);
     private final McpTransport transport;
     private final Consumer<McpLogMessage> logMessageConsumer;
+    private final Runnable toolListChangedListener;
 
     public McpOperationHandler(
             Map<Long, CompletableFuture<JsonNode>> pendingOperations,
             McpTransport transport,
             Consumer<McpLogMessage> logMessageConsumer) {
+        this(pendingOperations, transport, logMessageConsumer, null);
+    }
+
+    /**
+     * @param toolListChangedListener called when the server sends a
+     *                                "notifications/tools/list_changed" notification.
+     *                                It is invoked on the transport's receiving thread,
+     *                                so it must not block waiting for another server response.
+     */
+    public McpOperationHandler(
+            Map<Long, CompletableFuture<JsonNode>> pendingOperations,
+            McpTransport transport,
+            Consumer<McpLogMessage> logMessageConsumer,
+            Runnable toolListChangedListener) {
         this.pendingOperations = pendingOperations;
         this.transport = transport;
         this.logMessageConsumer = logMessageConsumer;
+        this.toolListChangedListener = toolListChangedListener;
     }
 
     public void handle(JsonNode message) {
@@ -56,6 +72,11 @@ public class McpOperationHandler {
             } else {
                 log.warn("Received log message without params: {}", message);
             }
+        } else if (message.has("method")
+                && message.get("method").asText().equals("notifications/tools/list_changed")) {
+            if (toolListChangedListener != null) {
+                toolListChangedListener.run();
+            }
         } else {
             log.warn("Received unknown message: {}", message);
         }
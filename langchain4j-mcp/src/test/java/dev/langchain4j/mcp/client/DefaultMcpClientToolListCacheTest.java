@@ -0,0 +1,239 @@
+package dev.langchain4j.mcp.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.mcp.client.protocol.McpClientMessage;
+import dev.langchain4j.mcp.client.protocol.McpInitializeRequest;
+import dev.langchain4j.mcp.client.protocol.McpListToolsRequest;
+import dev.langchain4j.mcp.client.transport.McpOperationHandler;
+import dev.langchain4j.mcp.client.transport.McpTransport;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class DefaultMcpClientToolListCacheTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    void should_cache_tool_list() {
+
+        // given
+        FakeTransport transport = new FakeTransport();
+        DefaultMcpClient client =
+                new DefaultMcpClient.Builder().transport(transport).build();
+
+        // when
+        List<ToolSpecification> first = client.listTools();
+        List<ToolSpecification> second = client.listTools();
+
+        // then
+        assertThat(first).extracting(ToolSpecification::name).containsExactly("tool1");
+        assertThat(second).isSameAs(first);
+        assertThat(transport.listToolsRequests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void should_refresh_tool_list_when_server_sends_list_changed_notification() {
+
+        // given
+        FakeTransport transport = new FakeTransport();
+        DefaultMcpClient client =
+                new DefaultMcpClient.Builder().transport(transport).build();
+        client.listTools();
+
+        // when
+        transport.sendToolListChangedNotification();
+
+        // then
+        // whether the background refresh or this call obtains the new list, the server is asked only once
+        assertThat(client.listTools()).extracting(ToolSpecification::name).containsExactly("tool2");
+        assertThat(transport.listToolsRequests.get()).isEqualTo(2);
+    }
+
+    @Test
+    void should_refresh_tool_list_on_client_executor() {
+
+        // given
+        FakeTransport transport = new FakeTransport();
+        AtomicInteger executedTasks = new AtomicInteger();
+        DefaultMcpClient client = new DefaultMcpClient.Builder()
+                .transport(transport)
+                .executor(task -> {
+                    executedTasks.incrementAndGet();
+                    task.run();
+                })
+                .build();
+        client.listTools();
+
+        // when
+        transport.sendToolListChangedNotification();
+
+        // then
+        assertThat(executedTasks.get()).isEqualTo(1);
+        assertThat(transport.listToolsRequests.get()).isEqualTo(2);
+        assertThat(client.listTools()).extracting(ToolSpecification::name).containsExactly("tool2");
+        assertThat(transport.listToolsRequests.get()).isEqualTo(2);
+    }
+
+    @Test
+    void should_not_cache_tool_list_when_disabled() {
+
+        // given
+        FakeTransport transport = new FakeTransport();
+        DefaultMcpClient client = new DefaultMcpClient.Builder()
+                .transport(transport)
+                .cacheToolList(false)
+                .build();
+
+        // when
+        client.listTools();
+        List<ToolSpecification> second = client.listTools();
+
+        // then
+        assertThat(second).extracting(ToolSpecification::name).containsExactly("tool2");
+        assertThat(transport.listToolsRequests.get()).isEqualTo(2);
+    }
+
+    @Test
+    void should_not_cache_tool_list_by_default_when_server_does_not_advertise_list_changed() {
+
+        // given
+        FakeTransport transport = new FakeTransport(false);
+        DefaultMcpClient client =
+                new DefaultMcpClient.Builder().transport(transport).build();
+
+        // when
+        client.listTools();
+        List<ToolSpecification> second = client.listTools();
+
+        // then
+        assertThat(second).extracting(ToolSpecification::name).containsExactly("tool2");
+        assertThat(transport.listToolsRequests.get()).isEqualTo(2);
+    }
+
+    @Test
+    void should_cache_tool_list_when_enabled_even_if_server_does_not_advertise_list_changed() {
+
+        // given
+        FakeTransport transport = new FakeTransport(false);
+        DefaultMcpClient client = new DefaultMcpClient.Builder()
+                .transport(transport)
+                .cacheToolList(true)
+                .build();
+
+        // when
+        client.listTools();
+        client.listTools();
+
+        // then
+        assertThat(transport.listToolsRequests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void should_time_out_refreshing_tool_list() {
+
+        // given
+        FakeTransport transport = new FakeTransport(true);
+        DefaultMcpClient client = new DefaultMcpClient.Builder()
+                .transport(transport)
+                .toolExecutionTimeout(Duration.ofMillis(100))
+                .build();
+        client.listTools();
+        transport.respond = false;
+
+        // when
+        transport.sendToolListChangedNotification();
+
+        // then
+        assertThatThrownBy(client::listTools).isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(client::listTools).hasRootCauseInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    void should_obtain_tool_list_again_after_eviction() {
+
+        // given
+        FakeTransport transport = new FakeTransport();
+        DefaultMcpClient client =
+                new DefaultMcpClient.Builder().transport(transport).build();
+        client.listTools();
+
+        // when
+        client.evictToolListCache();
+
+        // then
+        assertThat(client.listTools()).extracting(ToolSpecification::name).containsExactly("tool2");
+    }
+
+    /**
+     * Responds to "tools/list" with a single tool whose name contains the number of the request.
+     */
+    private static class FakeTransport implements McpTransport {
+
+        private final AtomicInteger listToolsRequests = new AtomicInteger();
+        private final boolean advertiseToolListChanged;
+        private volatile boolean respond = true;
+        private McpOperationHandler messageHandler;
+
+        FakeTransport() {
+            this(true);
+        }
+
+        FakeTransport(boolean advertiseToolListChanged) {
+            this.advertiseToolListChanged = advertiseToolListChanged;
+        }
+
+        @Override
+        public void start(McpOperationHandler messageHandler) {
+            this.messageHandler = messageHandler;
+        }
+
+        @Override
+        public CompletableFuture<JsonNode> initialize(McpInitializeRequest request) {
+            ObjectNode response = OBJECT_MAPPER.createObjectNode();
+            response.putObject("result")
+                    .putObject("capabilities")
+                    .putObject("tools")
+                    .put("listChanged", advertiseToolListChanged);
+            return CompletableFuture.completedFuture(response);
+        }
+
+        @Override
+        public CompletableFuture<JsonNode> executeOperationWithResponse(McpClientMessage request) {
+            if (!(request instanceof McpListToolsRequest)) {
+                throw new UnsupportedOperationException();
+            }
+            if (!respond) {
+                return new CompletableFuture<>();
+            }
+            ObjectNode response = OBJECT_MAPPER.createObjectNode();
+            ObjectNode tool = response.putObject("result").putArray("tools").addObject();
+            tool.put("name", "tool" + listToolsRequests.incrementAndGet());
+            tool.put("description", "A tool");
+            tool.putObject("inputSchema").put("type", "object").putObject("properties");
+            return CompletableFuture.completedFuture(response);
+        }
+
+        @Override
+        public void executeOperationWithoutResponse(McpClientMessage request) {}
+
+        void sendToolListChangedNotification() {
+            ObjectNode notification = OBJECT_MAPPER.createObjectNode();
+            notification.put("jsonrpc", "2.0");
+            notification.put("method", "notifications/tools/list_changed");
+            messageHandler.handle(notification);
+        }
+
+        @Override
+        public void close() {}
+    }
+}
@@ -0,0 +1,116 @@
+package dev.langchain4j.micrometer;
+
+import dev.langchain4j.model.output.TokenUsage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * The meters of a single provider/model combination.
+ * They are registered once and then only recorded to, so the recording path does not look up meters in the registry.
+ */
+class ChatModelMeters {
+
+    static final String DURATION = "langchain4j.chat.model.duration";
+    static final String TOKENS = "langchain4j.chat.model.tokens";
+    static final String OUTPUT_TOKENS_PER_SECOND = "langchain4j.chat.model.output.tokens.per.second";
+    static final String ERRORS = "langchain4j.chat.model.errors";
+    static final String TIME_TO_FIRST_TOKEN = "langchain4j.chat.model.time.to.first.token";
+    static final String INTER_TOKEN_LATENCY = "langchain4j.chat.model.inter.token.latency";
+
+    private final MeterRegistry registry;
+    private final Tags tags;
+
+    private final Timer successDuration;
+    private final Timer errorDuration;
+    private final Counter inputTokens;
+    private final Counter outputTokens;
+    private final DistributionSummary outputTokensPerSecond;
+    private final Timer timeToFirstToken;
+    private final Timer interTokenLatency;
+    private final Map<Class<?>, Counter> errorsByType = new ConcurrentHashMap<>();
+
+    ChatModelMeters(MeterRegistry registry, Tags tags, boolean publishPercentileHistogram) {
+        this.registry = registry;
+        this.tags = tags;
+        this.successDuration = timer(DURATION, "Duration of chat model requests", tags.and("outcome", "success"),
+                publishPercentileHistogram);
+        this.errorDuration = timer(DURATION, "Duration of chat model requests", tags.and("outcome", "error"),
+                publishPercentileHistogram);
+        this.inputTokens = Counter.builder(TOKENS)
+                .description("Number of tokens used by chat model requests")
+                .baseUnit("tokens")
+                .tags(tags.and("type", "input"))
+                .register(registry);
+        this.outputTokens = Counter.builder(TOKENS)
+                .description("Number of tokens used by chat model requests")
+                .baseUnit("tokens")
+                .tags(tags.and("type", "output"))
+                .register(registry);
+        this.outputTokensPerSecond = DistributionSummary.builder(OUTPUT_TOKENS_PER_SECOND)
+                .description("Output tokens per second of chat model requests, from request start to completion")
+                .baseUnit("tokens")
+                .tags(tags)
+                .publishPercentileHistogram(publishPercentileHistogram)
+                .register(registry);
+        this.timeToFirstToken = timer(TIME_TO_FIRST_TOKEN, "Time until the first partial response of a streaming chat model request",
+                tags, publishPercentileHistogram);
+        this.interTokenLatency = timer(INTER_TOKEN_LATENCY, "Time between consecutive partial responses of a streaming chat model request",
+                tags, publishPercentileHistogram);
+    }
+
+    private Timer timer(String name, String description, Tags tags, boolean publishPercentileHistogram) {
+        return Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .publishPercentileHistogram(publishPercentileHistogram)
+                .register(registry);
+    }
+
+    void recordSuccess(long durationNanos, TokenUsage tokenUsage) {
+        if (durationNanos >= 0) {
+            successDuration.record(durationNanos, NANOSECONDS);
+        }
+        if (tokenUsage == null) {
+            return;
+        }
+        if (tokenUsage.inputTokenCount() != null) {
+            inputTokens.increment(tokenUsage.inputTokenCount());
+        }
+        Integer outputTokenCount = tokenUsage.outputTokenCount();
+        if (outputTokenCount != null) {
+            outputTokens.increment(outputTokenCount);
+            if (durationNanos > 0) {
+                outputTokensPerSecond.record(outputTokenCount * 1_000_000_000d / durationNanos);
+            }
+        }
+    }
+
+    void recordError(long durationNanos, Throwable error) {
+        if (durationNanos >= 0) {
+            errorDuration.record(durationNanos, NANOSECONDS);
+        }
+        Counter errors = errorsByType.get(error.getClass());
+        if (errors == null) {
+            errors = errorsByType.computeIfAbsent(error.getClass(), type -> Counter.builder(ERRORS)
+                    .description("Number of failed chat model requests")
+                    .tags(tags.and("error", type.getSimpleName()))
+                    .register(registry));
+        }
+        errors.increment();
+    }
+
+    void recordStreaming(long timeToFirstTokenNanos, long[] interTokenNanos, int interTokenCount) {
+        timeToFirstToken.record(timeToFirstTokenNanos, NANOSECONDS);
+        for (int i = 0; i < interTokenCount; i++) {
+            interTokenLatency.record(interTokenNanos[i], NANOSECONDS);
+        }
+    }
+}
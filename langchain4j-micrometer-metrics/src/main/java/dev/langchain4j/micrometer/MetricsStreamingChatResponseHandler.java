@@ -0,0 +1,71 @@
+package dev.langchain4j.micrometer;
+
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import io.micrometer.core.instrument.Clock;
+
+import java.util.Arrays;
+
+import static dev.langchain4j.micrometer.MicrometerChatModelListener.modelName;
+
+/**
+ * Measures the time to first token and the time between tokens of a single streaming response.
+ * <p>
+ * The callbacks of a single response are invoked one after another, so the timings are kept in plain fields
+ * and recorded into the meters only once the response completes,
+ * when the model name is known even if the request does not specify it.
+ */
+class MetricsStreamingChatResponseHandler implements StreamingChatResponseHandler {
+
+    private final ChatRequest chatRequest;
+    private final StreamingChatResponseHandler delegate;
+    private final MicrometerChatModelListener listener;
+    private final Clock clock;
+    private final long startTime;
+
+    private long lastTokenTime = -1;
+    private long timeToFirstToken = -1;
+    private long[] interTokenNanos = new long[64];
+    private int interTokenCount;
+
+    MetricsStreamingChatResponseHandler(ChatRequest chatRequest,
+                                        StreamingChatResponseHandler delegate,
+                                        MicrometerChatModelListener listener,
+                                        Clock clock) {
+        this.chatRequest = chatRequest;
+        this.delegate = delegate;
+        this.listener = listener;
+        this.clock = clock;
+        this.startTime = clock.monotonicTime();
+    }
+
+    @Override
+    public void onPartialResponse(String partialResponse) {
+        long now = clock.monotonicTime();
+        if (lastTokenTime < 0) {
+            timeToFirstToken = now - startTime;
+        } else {
+            if (interTokenCount == interTokenNanos.length) {
+                interTokenNanos = Arrays.copyOf(interTokenNanos, interTokenCount * 2);
+            }
+            interTokenNanos[interTokenCount++] = now - lastTokenTime;
+        }
+        lastTokenTime = now;
+        delegate.onPartialResponse(partialResponse);
+    }
+
+    @Override
+    public void onCompleteResponse(ChatResponse completeResponse) {
+        if (timeToFirstToken >= 0) {
+            listener.meters(modelName(chatRequest, completeResponse))
+                    .recordStreaming(timeToFirstToken, interTokenNanos, interTokenCount);
+        }
+        delegate.onCompleteResponse(completeResponse);
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        delegate.onError(error);
+    }
+}
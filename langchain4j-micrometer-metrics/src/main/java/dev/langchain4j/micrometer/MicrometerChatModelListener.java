@@ -0,0 +1,183 @@
+package dev.langchain4j.micrometer;
+
+import dev.langchain4j.Experimental;
+import dev.langchain4j.model.chat.listener.ChatModelErrorContext;
+import dev.langchain4j.model.chat.listener.ChatModelListener;
+import dev.langchain4j.model.chat.listener.ChatModelRequestContext;
+import dev.langchain4j.model.chat.listener.ChatModelResponseContext;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.Utils.isNullOrBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * A {@link ChatModelListener} that records chat model metrics into a Micrometer {@link MeterRegistry}:
+ * <pre>
+ * - {@code langchain4j.chat.model.duration}: request latency, tagged with {@code outcome} ({@code success} or {@code error})
+ * - {@code langchain4j.chat.model.tokens}: token usage, tagged with {@code type} ({@code input} or {@code output})
+ * - {@code langchain4j.chat.model.output.tokens.per.second}: output tokens per second of each request
+ * - {@code langchain4j.chat.model.errors}: failed requests, tagged with {@code error} (the exception type)
+ * </pre>
+ * All meters are tagged with {@code provider} and {@code model}.
+ * The model name is taken from the request parameters or, if not set there, from the response metadata.
+ * The error rate can be derived from the {@code outcome} tag of {@code langchain4j.chat.model.duration}.
+ * <p>
+ * Streaming models report a request only once it is complete. To also record the time to first token
+ * ({@code langchain4j.chat.model.time.to.first.token}) and the time between tokens
+ * ({@code langchain4j.chat.model.inter.token.latency}), wrap the handler with {@link #instrument(ChatRequest, StreamingChatResponseHandler)}.
+ * <p>
+ * Meters are registered once per model and cached, so recording does not take locks
+ * and does not look up meters in the registry.
+ * Retries performed inside the model client are not visible to listeners;
+ * a request that succeeds after a retry is recorded as a single successful request.
+ */
+@Experimental
+public class MicrometerChatModelListener implements ChatModelListener {
+
+    static final String UNKNOWN = "unknown";
+
+    private static final Object START_TIME_KEY = new Object();
+
+    private final MeterRegistry registry;
+    private final Clock clock;
+    private final Tags tags;
+    private final boolean publishPercentileHistogram;
+    private final Map<String, ChatModelMeters> metersByModel = new ConcurrentHashMap<>();
+
+    private MicrometerChatModelListener(Builder builder) {
+        this.registry = ensureNotNull(builder.meterRegistry, "meterRegistry");
+        this.clock = registry.config().clock();
+        this.tags = Tags.of("provider", isNullOrBlank(builder.provider) ? UNKNOWN : builder.provider)
+                .and(getOrDefault(builder.tags, Tags.empty()));
+        this.publishPercentileHistogram = getOrDefault(builder.publishPercentileHistogram, true);
+    }
+
+    public static MicrometerChatModelListener create(MeterRegistry meterRegistry) {
+        return builder().meterRegistry(meterRegistry).build();
+    }
+
+    @Override
+    public void onRequest(ChatModelRequestContext requestContext) {
+        requestContext.attributes().put(START_TIME_KEY, clock.monotonicTime());
+    }
+
+    @Override
+    public void onResponse(ChatModelResponseContext responseContext) {
+        String modelName = modelName(responseContext.chatRequest(), responseContext.chatResponse());
+        meters(modelName).recordSuccess(elapsedNanos(responseContext.attributes()), responseContext.chatResponse().tokenUsage());
+    }
+
+    @Override
+    public void onError(ChatModelErrorContext errorContext) {
+        String modelName = modelName(errorContext.chatRequest(), null);
+        meters(modelName).recordError(elapsedNanos(errorContext.attributes()), unwrap(errorContext.error()));
+    }
+
+    /**
+     * Wraps the given handler so that the time to first token and the time between tokens are recorded
+     * when the streaming response completes. Measuring starts when this method is called,
+     * so it should be called right before the request is sent:
+     * <pre>
+     * model.chat(chatRequest, listener.instrument(chatRequest, handler));
+     * </pre>
+     * The model name of these meters is resolved like for the other meters (from the request parameters or,
+     * if not set there, from the response metadata), so that all meters of a request share the same {@code model} tag.
+     *
+     * @param chatRequest the request whose response is handled, or {@code null} if it is not available.
+     * @param handler     the handler to wrap.
+     * @return the wrapping handler.
+     */
+    public StreamingChatResponseHandler instrument(ChatRequest chatRequest, StreamingChatResponseHandler handler) {
+        return new MetricsStreamingChatResponseHandler(chatRequest, ensureNotNull(handler, "handler"), this, clock);
+    }
+
+    ChatModelMeters meters(String modelName) {
+        ChatModelMeters meters = metersByModel.get(modelName);
+        if (meters == null) {
+            meters = metersByModel.computeIfAbsent(modelName, name ->
+                    new ChatModelMeters(registry, tags.and("model", name), publishPercentileHistogram));
+        }
+        return meters;
+    }
+
+    private long elapsedNanos(Map<Object, Object> attributes) {
+        Object startTime = attributes.get(START_TIME_KEY);
+        return startTime instanceof Long start ? clock.monotonicTime() - start : -1;
+    }
+
+    static String modelName(ChatRequest chatRequest, ChatResponse chatResponse) {
+        if (chatRequest != null && chatRequest.parameters() != null && !isNullOrBlank(chatRequest.parameters().modelName())) {
+            return chatRequest.parameters().modelName();
+        }
+        if (chatResponse != null && chatResponse.metadata() != null && !isNullOrBlank(chatResponse.metadata().modelName())) {
+            return chatResponse.metadata().modelName();
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * Model clients often wrap the actual cause into a plain {@link RuntimeException} (e.g., when retrying).
+     */
+    private static Throwable unwrap(Throwable error) {
+        while (error.getClass() == RuntimeException.class && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private MeterRegistry meterRegistry;
+        private String provider;
+        private Iterable<Tag> tags;
+        private Boolean publishPercentileHistogram;
+
+        public Builder meterRegistry(MeterRegistry meterRegistry) {
+            this.meterRegistry = meterRegistry;
+            return this;
+        }
+
+        /**
+         * Sets the value of the {@code provider} tag (e.g., "openai"). The default value is "unknown".
+         */
+        public Builder provider(String provider) {
+            this.provider = provider;
+            return this;
+        }
+
+        /**
+         * Sets additional tags that are added to all meters.
+         */
+        public Builder tags(Iterable<Tag> tags) {
+            this.tags = tags;
+            return this;
+        }
+
+        /**
+         * Sets whether histogram buckets are published for latencies and throughput,
+         * so that percentiles can be aggregated by the monitoring system. The default value is true.
+         */
+        public Builder publishPercentileHistogram(Boolean publishPercentileHistogram) {
+            this.publishPercentileHistogram = publishPercentileHistogram;
+            return this;
+        }
+
+        public MicrometerChatModelListener build() {
+            return new MicrometerChatModelListener(this);
+        }
+    }
+}
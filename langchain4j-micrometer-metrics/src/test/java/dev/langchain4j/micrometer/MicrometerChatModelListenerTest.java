@@ -0,0 +1,196 @@
+package dev.langchain4j.micrometer;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.chat.listener.ChatModelErrorContext;
+import dev.langchain4j.model.chat.listener.ChatModelRequestContext;
+import dev.langchain4j.model.chat.listener.ChatModelResponseContext;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.ChatRequestParameters;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.ChatResponseMetadata;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import dev.langchain4j.model.output.TokenUsage;
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static dev.langchain4j.micrometer.ChatModelMeters.DURATION;
+import static dev.langchain4j.micrometer.ChatModelMeters.ERRORS;
+import static dev.langchain4j.micrometer.ChatModelMeters.INTER_TOKEN_LATENCY;
+import static dev.langchain4j.micrometer.ChatModelMeters.OUTPUT_TOKENS_PER_SECOND;
+import static dev.langchain4j.micrometer.ChatModelMeters.TIME_TO_FIRST_TOKEN;
+import static dev.langchain4j.micrometer.ChatModelMeters.TOKENS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicrometerChatModelListenerTest {
+
+    MockClock clock = new MockClock();
+    SimpleMeterRegistry registry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+
+    MicrometerChatModelListener listener = MicrometerChatModelListener.builder()
+            .meterRegistry(registry)
+            .provider("test-provider")
+            .build();
+
+    ChatRequest chatRequest = ChatRequest.builder()
+            .messages(UserMessage.from("hi"))
+            .parameters(ChatRequestParameters.builder().modelName("test-model").build())
+            .build();
+
+    @Test
+    void should_record_duration_and_token_usage() {
+
+        // given
+        Map<Object, Object> attributes = new ConcurrentHashMap<>();
+        ChatResponse chatResponse = ChatResponse.builder()
+                .aiMessage(AiMessage.from("hello"))
+                .tokenUsage(new TokenUsage(10, 50))
+                .build();
+
+        // when
+        listener.onRequest(new ChatModelRequestContext(chatRequest, attributes));
+        clock.add(500, MILLISECONDS);
+        listener.onResponse(new ChatModelResponseContext(chatResponse, chatRequest, attributes));
+
+        // then
+        Timer duration = registry.get(DURATION)
+                .tags("provider", "test-provider", "model", "test-model", "outcome", "success")
+                .timer();
+        assertThat(duration.count()).isEqualTo(1);
+        assertThat(duration.totalTime(MILLISECONDS)).isEqualTo(500);
+
+        assertThat(registry.get(TOKENS).tags("type", "input").counter().count()).isEqualTo(10);
+        assertThat(registry.get(TOKENS).tags("type", "output").counter().count()).isEqualTo(50);
+        assertThat(registry.get(OUTPUT_TOKENS_PER_SECOND).summary().max()).isEqualTo(100);
+    }
+
+    @Test
+    void should_take_model_name_from_response_when_not_set_in_request() {
+
+        // given
+        ChatRequest chatRequest = ChatRequest.builder().messages(UserMessage.from("hi")).build();
+        Map<Object, Object> attributes = new ConcurrentHashMap<>();
+        ChatResponse chatResponse = ChatResponse.builder()
+                .aiMessage(AiMessage.from("hello"))
+                .metadata(ChatResponseMetadata.builder().modelName("response-model").build())
+                .build();
+
+        // when
+        listener.onRequest(new ChatModelRequestContext(chatRequest, attributes));
+        clock.add(100, MILLISECONDS);
+        listener.onResponse(new ChatModelResponseContext(chatResponse, chatRequest, attributes));
+
+        // then
+        assertThat(registry.get(DURATION).tags("model", "response-model", "outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void should_record_errors_by_type() {
+
+        // given
+        Map<Object, Object> attributes = new ConcurrentHashMap<>();
+        RuntimeException error = new RuntimeException(new SocketTimeoutException("timeout"));
+
+        // when
+        listener.onRequest(new ChatModelRequestContext(chatRequest, attributes));
+        clock.add(200, MILLISECONDS);
+        listener.onError(new ChatModelErrorContext(error, chatRequest, attributes));
+        listener.onError(new ChatModelErrorContext(new IllegalStateException(), chatRequest, new ConcurrentHashMap<>()));
+
+        // then
+        assertThat(registry.get(ERRORS).tags("error", "SocketTimeoutException").counter().count()).isEqualTo(1);
+        assertThat(registry.get(ERRORS).tags("error", "IllegalStateException").counter().count()).isEqualTo(1);
+
+        Timer duration = registry.get(DURATION).tags("outcome", "error").timer();
+        assertThat(duration.count()).isEqualTo(1); // the second error has no start time
+        assertThat(duration.totalTime(MILLISECONDS)).isEqualTo(200);
+    }
+
+    @Test
+    void should_record_time_to_first_token_and_inter_token_latency() {
+
+        // given
+        List<String> tokens = new ArrayList<>();
+        StreamingChatResponseHandler handler = listener.instrument(chatRequest, new StreamingChatResponseHandler() {
+
+            @Override
+            public void onPartialResponse(String partialResponse) {
+                tokens.add(partialResponse);
+            }
+
+            @Override
+            public void onCompleteResponse(ChatResponse completeResponse) {
+            }
+
+            @Override
+            public void onError(Throwable error) {
+            }
+        });
+
+        // when
+        clock.add(300, MILLISECONDS);
+        handler.onPartialResponse("Hel");
+        for (int i = 0; i < 100; i++) {
+            clock.add(20, MILLISECONDS);
+            handler.onPartialResponse("lo");
+        }
+        handler.onCompleteResponse(ChatResponse.builder()
+                .aiMessage(AiMessage.from("Hello"))
+                // providers may report a versioned model name, the request one is used for all meters
+                .metadata(ChatResponseMetadata.builder().modelName("test-model-2024-08-06").build())
+                .build());
+
+        // then
+        assertThat(tokens).hasSize(101);
+
+        Timer timeToFirstToken = registry.get(TIME_TO_FIRST_TOKEN).tags("model", "test-model").timer();
+        assertThat(timeToFirstToken.count()).isEqualTo(1);
+        assertThat(timeToFirstToken.totalTime(MILLISECONDS)).isEqualTo(300);
+
+        Timer interTokenLatency = registry.get(INTER_TOKEN_LATENCY).tags("model", "test-model").timer();
+        assertThat(interTokenLatency.count()).isEqualTo(100);
+        assertThat(interTokenLatency.max(MILLISECONDS)).isEqualTo(20);
+    }
+
+    @Test
+    void should_tag_streaming_meters_with_response_model_name_when_request_does_not_specify_it() {
+
+        // given
+        StreamingChatResponseHandler handler = listener.instrument(null, new StreamingChatResponseHandler() {
+
+            @Override
+            public void onPartialResponse(String partialResponse) {
+            }
+
+            @Override
+            public void onCompleteResponse(ChatResponse completeResponse) {
+            }
+
+            @Override
+            public void onError(Throwable error) {
+            }
+        });
+
+        // when
+        clock.add(100, MILLISECONDS);
+        handler.onPartialResponse("Hello");
+        handler.onCompleteResponse(ChatResponse.builder()
+                .aiMessage(AiMessage.from("Hello"))
+                .metadata(ChatResponseMetadata.builder().modelName("test-model-2024-08-06").build())
+                .build());
+
+        // then
+        Timer timeToFirstToken = registry.get(TIME_TO_FIRST_TOKEN).tags("model", "test-model-2024-08-06").timer();
+        assertThat(timeToFirstToken.totalTime(MILLISECONDS)).isEqualTo(100);
+    }
+}
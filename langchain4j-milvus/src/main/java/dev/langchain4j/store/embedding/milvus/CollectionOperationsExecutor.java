@@ -1,10 +1,9 @@
 package dev.langchain4j.store.embedding.milvus;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import io.milvus.client.MilvusServiceClient;
-import io.milvus.common.clientenum.ConsistencyLevelEnum;
 import io.milvus.grpc.FlushResponse;
 import io.milvus.grpc.MutationResult;
-import io.milvus.grpc.QueryResults;
 import io.milvus.grpc.SearchResults;
 import io.milvus.param.IndexType;
 import io.milvus.param.MetricType;
@@ -12,10 +11,8 @@ import io.milvus.param.R;
 import io.milvus.param.RpcStatus;
 import io.milvus.param.collection.*;
 import io.milvus.param.dml.InsertParam;
-import io.milvus.param.dml.QueryParam;
 import io.milvus.param.dml.SearchParam;
 import io.milvus.param.index.CreateIndexParam;
-import io.milvus.response.QueryResultsWrapper;
 import io.milvus.response.SearchResultsWrapper;
 
 import java.util.List;
@@ -103,6 +100,13 @@ class CollectionOperationsExecutor {
         checkResponseNotFailed(response);
     }
 
+    static ListenableFuture<R<MutationResult>> insertAsync(MilvusServiceClient milvusClient,
+                                                           String collectionName,
+                                                           List<InsertParam.Field> fields) {
+        InsertParam request = buildInsertRequest(collectionName, fields);
+        return milvusClient.insertAsync(request);
+    }
+
     static void loadCollectionInMemory(MilvusServiceClient milvusClient, String collectionName) {
         LoadCollectionParam request = buildLoadCollectionInMemoryRequest(collectionName);
         R<RpcStatus> response = milvusClient.loadCollection(request);
@@ -116,18 +120,6 @@ class CollectionOperationsExecutor {
         return new SearchResultsWrapper(response.getData().getResults());
     }
 
-    static QueryResultsWrapper queryForVectors(MilvusServiceClient milvusClient,
-                                               String collectionName,
-                                               FieldDefinition fieldDefinition,
-                                               List<String> rowIds,
-                                               ConsistencyLevelEnum consistencyLevel) {
-        QueryParam request = buildQueryRequest(collectionName, fieldDefinition, rowIds, consistencyLevel);
-        R<QueryResults> response = milvusClient.query(request);
-        checkResponseNotFailed(response);
-
-        return new QueryResultsWrapper(response.getData());
-    }
-
     static void removeForVector(MilvusServiceClient milvusClient,
                                 String collectionName,
                                 String expr) {
@@ -135,7 +127,7 @@ class CollectionOperationsExecutor {
         checkResponseNotFailed(response);
     }
 
-    private static <T> void checkResponseNotFailed(R<T> response) {
+    static <T> void checkResponseNotFailed(R<T> response) {
         if (response == null) {
             throw new RequestToMilvusFailedException("Request to Milvus DB failed. Response is null");
         } else if (response.getStatus() != R.Status.Success.getCode()) {
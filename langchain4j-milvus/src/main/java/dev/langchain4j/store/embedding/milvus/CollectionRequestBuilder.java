@@ -9,16 +9,14 @@ import io.milvus.param.collection.HasCollectionParam;
 import io.milvus.param.collection.LoadCollectionParam;
 import io.milvus.param.dml.DeleteParam;
 import io.milvus.param.dml.InsertParam;
-import io.milvus.param.dml.QueryParam;
 import io.milvus.param.dml.SearchParam;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static dev.langchain4j.store.embedding.milvus.MilvusEmbeddingStore.*;
-import static java.lang.String.format;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
-import static java.util.stream.Collectors.joining;
 
 class CollectionRequestBuilder {
 
@@ -59,7 +57,18 @@ class CollectionRequestBuilder {
                                           Filter filter,
                                           int maxResults,
                                           MetricType metricType,
-                                          ConsistencyLevelEnum consistencyLevel) {
+                                          ConsistencyLevelEnum consistencyLevel,
+                                          boolean retrieveEmbeddings) {
+        List<String> outFields = new ArrayList<>(asList(
+                fieldDefinition.getIdFieldName(),
+                fieldDefinition.getTextFieldName(),
+                fieldDefinition.getMetadataFieldName()
+        ));
+        if (retrieveEmbeddings) {
+            // vectors are returned by the search itself, so that no additional query is needed
+            outFields.add(fieldDefinition.getVectorFieldName());
+        }
+
         SearchParam.Builder builder = SearchParam.newBuilder()
                 .withCollectionName(collectionName)
                 .withVectors(singletonList(vector))
@@ -67,7 +76,7 @@ class CollectionRequestBuilder {
                 .withTopK(maxResults)
                 .withMetricType(metricType)
                 .withConsistencyLevel(consistencyLevel)
-                .withOutFields(asList(fieldDefinition.getIdFieldName(), fieldDefinition.getTextFieldName(), fieldDefinition.getMetadataFieldName()));
+                .withOutFields(outFields);
 
         if (filter != null) {
             builder.withExpr(MilvusMetadataFilterMapper.map(filter, fieldDefinition.getMetadataFieldName()));
@@ -76,18 +85,6 @@ class CollectionRequestBuilder {
         return builder.build();
     }
 
-    static QueryParam buildQueryRequest(String collectionName,
-                                        FieldDefinition fieldDefinition,
-                                        List<String> rowIds,
-                                        ConsistencyLevelEnum consistencyLevel) {
-        return QueryParam.newBuilder()
-                .withCollectionName(collectionName)
-                .withExpr(buildQueryExpression(rowIds, fieldDefinition.getIdFieldName()))
-                .withConsistencyLevel(consistencyLevel)
-                .withOutFields(singletonList(fieldDefinition.getVectorFieldName()))
-                .build();
-    }
-
     static DeleteParam buildDeleteRequest(String collectionName,
                                           String expr) {
         return DeleteParam.newBuilder()
@@ -95,10 +92,4 @@ class CollectionRequestBuilder {
                 .withExpr(expr)
                 .build();
     }
-
-    private static String buildQueryExpression(List<String> rowIds, String idFieldName) {
-        return rowIds.stream()
-                .map(id -> format("%s == '%s'", idFieldName, id))
-                .collect(joining(" || "));
-    }
 }
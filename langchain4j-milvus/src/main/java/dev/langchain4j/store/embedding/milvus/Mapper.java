@@ -9,24 +9,18 @@ import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
 import dev.langchain4j.store.embedding.RelevanceScore;
-import io.milvus.client.MilvusServiceClient;
-import io.milvus.common.clientenum.ConsistencyLevelEnum;
-import io.milvus.exception.ParamException;
-import io.milvus.response.QueryResultsWrapper;
 import io.milvus.response.QueryResultsWrapper.RowRecord;
 import io.milvus.response.SearchResultsWrapper;
 
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import static com.google.gson.ToNumberPolicy.LONG_OR_DOUBLE;
 import static dev.langchain4j.internal.Utils.isNullOrBlank;
 import static dev.langchain4j.internal.Utils.isNullOrEmpty;
-import static dev.langchain4j.store.embedding.milvus.CollectionOperationsExecutor.queryForVectors;
 import static dev.langchain4j.store.embedding.milvus.Generator.generateEmptyJsons;
 import static dev.langchain4j.store.embedding.milvus.Generator.generateEmptyScalars;
 import static java.util.stream.Collectors.toList;
@@ -62,30 +56,17 @@ class Mapper {
                 .collect(toList());
     }
 
-    static List<EmbeddingMatch<TextSegment>> toEmbeddingMatches(MilvusServiceClient milvusClient,
-                                                                SearchResultsWrapper resultsWrapper,
-                                                                String collectionName,
+    static List<EmbeddingMatch<TextSegment>> toEmbeddingMatches(SearchResultsWrapper resultsWrapper,
                                                                 FieldDefinition fieldDefinition,
-                                                                ConsistencyLevelEnum consistencyLevel,
-                                                                boolean queryForVectorOnSearch) {
+                                                                boolean retrieveEmbeddingsOnSearch) {
         List<EmbeddingMatch<TextSegment>> matches = new ArrayList<>();
 
-        Map<String, Embedding> idToEmbedding = new HashMap<>();
-        if (queryForVectorOnSearch) {
-            try {
-                List<String> rowIds = (List<String>) resultsWrapper.getFieldWrapper(fieldDefinition.getIdFieldName()).getFieldData();
-                idToEmbedding.putAll(queryEmbeddings(milvusClient, collectionName, fieldDefinition, rowIds, consistencyLevel));
-            } catch (ParamException e) {
-                // There is no way to check if the result is empty or not.
-                // If the result is empty, the exception will be thrown.
-            }
-        }
-
         for (int i = 0; i < resultsWrapper.getRowRecords().size(); i++) {
             double score = resultsWrapper.getIDScore(0).get(i).getScore();
             String rowId = resultsWrapper.getIDScore(0).get(i).getStrID();
-            Embedding embedding = idToEmbedding.get(rowId);
-            TextSegment textSegment = toTextSegment(resultsWrapper.getRowRecords().get(i), fieldDefinition);
+            RowRecord rowRecord = resultsWrapper.getRowRecords().get(i);
+            Embedding embedding = retrieveEmbeddingsOnSearch ? toEmbedding(rowRecord, fieldDefinition) : null;
+            TextSegment textSegment = toTextSegment(rowRecord, fieldDefinition);
             EmbeddingMatch<TextSegment> embeddingMatch = new EmbeddingMatch<>(
                     RelevanceScore.fromCosineSimilarity(score),
                     rowId,
@@ -98,6 +79,15 @@ class Mapper {
         return matches;
     }
 
+    @SuppressWarnings("unchecked")
+    private static Embedding toEmbedding(RowRecord rowRecord, FieldDefinition fieldDefinition) {
+        if (!rowRecord.contains(fieldDefinition.getVectorFieldName())) {
+            return null;
+        }
+        List<Float> vector = (List<Float>) rowRecord.get(fieldDefinition.getVectorFieldName());
+        return Embedding.from(vector);
+    }
+
     private static TextSegment toTextSegment(RowRecord rowRecord, FieldDefinition fieldDefinition) {
 
         Object textField = rowRecord.get(fieldDefinition.getTextFieldName());
@@ -124,27 +114,4 @@ class Mapper {
         });
         return Metadata.from(metadataMap);
     }
-
-    private static Map<String, Embedding> queryEmbeddings(MilvusServiceClient milvusClient,
-                                                          String collectionName,
-                                                          FieldDefinition fieldDefinition,
-                                                          List<String> rowIds,
-                                                          ConsistencyLevelEnum consistencyLevel) {
-        QueryResultsWrapper queryResultsWrapper = queryForVectors(
-                milvusClient,
-                collectionName,
-                fieldDefinition,
-                rowIds,
-                consistencyLevel
-        );
-
-        Map<String, Embedding> idToEmbedding = new HashMap<>();
-        for (RowRecord row : queryResultsWrapper.getRowRecords()) {
-            String id = row.get(fieldDefinition.getIdFieldName()).toString();
-            List<Float> vector = (List<Float>) row.get(fieldDefinition.getVectorFieldName());
-            idToEmbedding.put(id, Embedding.from(vector));
-        }
-
-        return idToEmbedding;
-    }
 }
@@ -1,5 +1,7 @@
 package dev.langchain4j.store.embedding.milvus;
 
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
@@ -11,26 +13,45 @@ import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.filter.Filter;
 import io.milvus.client.MilvusServiceClient;
 import io.milvus.common.clientenum.ConsistencyLevelEnum;
+import io.milvus.grpc.MutationResult;
 import io.milvus.param.ConnectParam;
 import io.milvus.param.IndexType;
 import io.milvus.param.MetricType;
+import io.milvus.param.R;
 import io.milvus.param.dml.InsertParam;
 import io.milvus.param.dml.SearchParam;
 import io.milvus.response.SearchResultsWrapper;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.isNullOrEmpty;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.internal.ValidationUtils.ensureTrue;
+import static dev.langchain4j.store.embedding.milvus.CollectionOperationsExecutor.checkResponseNotFailed;
 import static dev.langchain4j.store.embedding.milvus.CollectionOperationsExecutor.createCollection;
 import static dev.langchain4j.store.embedding.milvus.CollectionOperationsExecutor.createIndex;
 import static dev.langchain4j.store.embedding.milvus.CollectionOperationsExecutor.flush;
 import static dev.langchain4j.store.embedding.milvus.CollectionOperationsExecutor.hasCollection;
 import static dev.langchain4j.store.embedding.milvus.CollectionOperationsExecutor.insert;
+import static dev.langchain4j.store.embedding.milvus.CollectionOperationsExecutor.insertAsync;
 import static dev.langchain4j.store.embedding.milvus.CollectionOperationsExecutor.loadCollectionInMemory;
 import static dev.langchain4j.store.embedding.milvus.CollectionOperationsExecutor.removeForVector;
 import static dev.langchain4j.store.embedding.milvus.CollectionRequestBuilder.buildSearchRequest;
@@ -57,7 +78,9 @@ import static java.util.stream.Collectors.toList;
  * Supports storing {@link Metadata} and filtering by it using a {@link Filter}
  * (provided inside an {@link EmbeddingSearchRequest}).
  */
-public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
+public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment>, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(MilvusEmbeddingStore.class);
 
     private static final String DEFAULT_ID_FIELD_NAME = "id";
     private static final String DEFAULT_TEXT_FIELD_NAME = "text";
@@ -71,7 +94,15 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
     private final boolean retrieveEmbeddingsOnSearch;
     private final boolean autoFlushOnInsert;
     private final FieldDefinition fieldDefinition;
+    private final int insertBatchSize;
+    private final int maxConcurrentInserts;
+    private final ScheduledFuture<?> periodicFlush;
+    private final AtomicBoolean flushPending = new AtomicBoolean(false);
 
+    /**
+     * @deprecated use {@link #builder()} instead
+     */
+    @Deprecated
     public MilvusEmbeddingStore(
             String host,
             Integer port,
@@ -91,6 +122,57 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
             String textFieldName,
             String metadataFiledName,
             String vectorFiledName
+    ) {
+        this(host, port, collectionName, dimension, indexType, metricType, uri, token, username, password,
+            consistencyLevel, retrieveEmbeddingsOnSearch, autoFlushOnInsert, databaseName,
+            idFieldName, textFieldName, metadataFiledName, vectorFiledName, null, null, null);
+    }
+
+    /**
+     * @deprecated use {@link #builder()} instead
+     */
+    @Deprecated
+    public MilvusEmbeddingStore(
+        MilvusServiceClient milvusClient,
+        String collectionName,
+        Integer dimension,
+        IndexType indexType,
+        MetricType metricType,
+        ConsistencyLevelEnum consistencyLevel,
+        Boolean retrieveEmbeddingsOnSearch,
+        Boolean autoFlushOnInsert,
+        String idFieldName,
+        String textFieldName,
+        String metadataFiledName,
+        String vectorFiledName
+    ) {
+        this(milvusClient, collectionName, dimension, indexType, metricType, consistencyLevel,
+            retrieveEmbeddingsOnSearch, autoFlushOnInsert, idFieldName, textFieldName, metadataFiledName,
+            vectorFiledName, null, null, null);
+    }
+
+    public MilvusEmbeddingStore(
+            String host,
+            Integer port,
+            String collectionName,
+            Integer dimension,
+            IndexType indexType,
+            MetricType metricType,
+            String uri,
+            String token,
+            String username,
+            String password,
+            ConsistencyLevelEnum consistencyLevel,
+            Boolean retrieveEmbeddingsOnSearch,
+            Boolean autoFlushOnInsert,
+            String databaseName,
+            String idFieldName,
+            String textFieldName,
+            String metadataFiledName,
+            String vectorFiledName,
+            Integer insertBatchSize,
+            Integer maxConcurrentInserts,
+            Duration autoFlushInterval
     ) {
         this(
             createMilvusClient(host, port, uri, token, username, password, databaseName),
@@ -104,7 +186,10 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
             idFieldName,
             textFieldName,
             metadataFiledName,
-            vectorFiledName
+            vectorFiledName,
+            insertBatchSize,
+            maxConcurrentInserts,
+            autoFlushInterval
         );
     }
 
@@ -121,7 +206,10 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
         String idFieldName,
         String textFieldName,
         String metadataFiledName,
-        String vectorFiledName
+        String vectorFiledName,
+        Integer insertBatchSize,
+        Integer maxConcurrentInserts,
+        Duration autoFlushInterval
     ) {
         this.milvusClient = ensureNotNull(milvusClient, "milvusClient");
         this.collectionName = getOrDefault(collectionName, "default");
@@ -134,6 +222,8 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
             getOrDefault(textFieldName, DEFAULT_TEXT_FIELD_NAME),
             getOrDefault(metadataFiledName, DEFAULT_METADATA_FIELD_NAME),
             getOrDefault(vectorFiledName, DEFAULT_VECTOR_FIELD_NAME));
+        this.insertBatchSize = ensureGreaterThanZero(getOrDefault(insertBatchSize, 1000), "insertBatchSize");
+        this.maxConcurrentInserts = ensureGreaterThanZero(getOrDefault(maxConcurrentInserts, 1), "maxConcurrentInserts");
 
         if (!hasCollection(this.milvusClient, this.collectionName)) {
             createCollection(this.milvusClient, this.collectionName, this.fieldDefinition, ensureNotNull(dimension, "dimension"));
@@ -141,6 +231,53 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
         }
 
         loadCollectionInMemory(this.milvusClient, collectionName);
+
+        if (autoFlushInterval != null) {
+            long intervalMillis = autoFlushInterval.toMillis();
+            ensureTrue(intervalMillis > 0, "autoFlushInterval must be positive");
+            this.periodicFlush = PeriodicFlush.schedule(this, intervalMillis);
+        } else {
+            this.periodicFlush = null;
+        }
+    }
+
+    /**
+     * Flushes a store periodically on a daemon thread shared by all stores.
+     * The store is only weakly referenced, so the task cancels itself once
+     * a store that was never closed has been garbage collected.
+     */
+    private static class PeriodicFlush implements Runnable {
+
+        private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "milvus-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        private final WeakReference<MilvusEmbeddingStore> store;
+        private volatile ScheduledFuture<?> future;
+
+        private PeriodicFlush(MilvusEmbeddingStore store) {
+            this.store = new WeakReference<>(store);
+        }
+
+        static ScheduledFuture<?> schedule(MilvusEmbeddingStore store, long intervalMillis) {
+            PeriodicFlush task = new PeriodicFlush(store);
+            task.future = SCHEDULER.scheduleWithFixedDelay(task, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+            return task.future;
+        }
+
+        @Override
+        public void run() {
+            MilvusEmbeddingStore store = this.store.get();
+            if (store == null) {
+                if (future != null) {
+                    future.cancel(false);
+                }
+                return;
+            }
+            store.flushIfPending();
+        }
     }
 
 
@@ -201,17 +338,15 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
                 embeddingSearchRequest.filter(),
                 embeddingSearchRequest.maxResults(),
                 metricType,
-                consistencyLevel
+                consistencyLevel,
+                retrieveEmbeddingsOnSearch
         );
 
         SearchResultsWrapper resultsWrapper = CollectionOperationsExecutor.search(milvusClient, searchParam);
 
         List<EmbeddingMatch<TextSegment>> matches = toEmbeddingMatches(
-                milvusClient,
                 resultsWrapper,
-                collectionName,
                 fieldDefinition,
-                consistencyLevel,
                 retrieveEmbeddingsOnSearch
         );
 
@@ -235,15 +370,111 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
         if (isNullOrEmpty(ids) || isNullOrEmpty(ids) || isNullOrEmpty(embeddings)) {
             return;
         }
+        if (ids.size() <= insertBatchSize) {
+            insert(this.milvusClient, this.collectionName, toFields(ids, embeddings, textSegments));
+        } else {
+            insertInBatches(ids, embeddings, textSegments);
+        }
+
+        if (periodicFlush != null) {
+            flushPending.set(true);
+        } else if (autoFlushOnInsert) {
+            flush(this.milvusClient, this.collectionName);
+        }
+    }
+
+    /**
+     * Sends batches of at most {@code insertBatchSize} rows through the async client,
+     * with at most {@code maxConcurrentInserts} requests in flight.
+     * No further batches are sent once a batch has failed.
+     */
+    private void insertInBatches(List<String> ids, List<Embedding> embeddings, List<TextSegment> textSegments) {
+        Semaphore permits = new Semaphore(maxConcurrentInserts);
+        AtomicBoolean failed = new AtomicBoolean(false);
+        List<ListenableFuture<R<MutationResult>>> futures = new ArrayList<>();
+
+        for (int from = 0; from < ids.size() && !failed.get(); from += insertBatchSize) {
+            int to = Math.min(from + insertBatchSize, ids.size());
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RequestToMilvusFailedException("Interrupted while inserting into Milvus", e);
+            }
+            ListenableFuture<R<MutationResult>> future = insertAsync(
+                    this.milvusClient,
+                    this.collectionName,
+                    toFields(
+                            ids.subList(from, to),
+                            embeddings.subList(from, to),
+                            isNullOrEmpty(textSegments) ? null : textSegments.subList(from, to)
+                    )
+            );
+            future.addListener(() -> {
+                if (!isSuccessful(future)) {
+                    failed.set(true);
+                }
+                permits.release();
+            }, MoreExecutors.directExecutor());
+            futures.add(future);
+        }
+
+        for (ListenableFuture<R<MutationResult>> future : futures) {
+            try {
+                checkResponseNotFailed(future.get());
+            } catch (ExecutionException e) {
+                throw new RequestToMilvusFailedException("Request to Milvus DB failed", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RequestToMilvusFailedException("Interrupted while inserting into Milvus", e);
+            }
+        }
+    }
+
+    private static boolean isSuccessful(Future<R<MutationResult>> future) {
+        try {
+            R<MutationResult> response = future.get();
+            return response != null && response.getStatus() == R.Status.Success.getCode();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private List<InsertParam.Field> toFields(List<String> ids, List<Embedding> embeddings, List<TextSegment> textSegments) {
         List<InsertParam.Field> fields = new ArrayList<>();
         fields.add(new InsertParam.Field(fieldDefinition.getIdFieldName(), ids));
         fields.add(new InsertParam.Field(fieldDefinition.getTextFieldName(), toScalars(textSegments, ids.size())));
         fields.add(new InsertParam.Field(fieldDefinition.getMetadataFieldName(), toMetadataJsons(textSegments, ids.size())));
         fields.add(new InsertParam.Field(fieldDefinition.getVectorFieldName(), toVectors(embeddings)));
+        return fields;
+    }
 
-        insert(this.milvusClient, this.collectionName, fields);
-        if (autoFlushOnInsert) {
-            flush(this.milvusClient, this.collectionName);
+    private void flushIfPending() {
+        if (flushPending.getAndSet(false)) {
+            try {
+                flush(this.milvusClient, this.collectionName);
+            } catch (RuntimeException e) {
+                flushPending.set(true);
+                log.warn("Failed to flush Milvus collection '{}', will retry", collectionName, e);
+            }
+        }
+    }
+
+    /**
+     * Stops periodic flushing (if {@code autoFlushInterval} is configured),
+     * flushing the inserts that have not been flushed yet.
+     * The Milvus client is not closed.
+     * <p>
+     * Stores configured with {@code autoFlushInterval} must be closed when no longer used:
+     * otherwise the inserts made since the last periodic flush are not flushed by the store.
+     */
+    @Override
+    public void close() {
+        if (periodicFlush != null) {
+            periodicFlush.cancel(false);
+            if (flushPending.getAndSet(false)) {
+                flush(this.milvusClient, this.collectionName);
+            }
         }
     }
 
@@ -332,7 +563,9 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
         private String textFieldName;
         private String metadataFieldName;
         private String vectorFieldName;
-
+        private Integer insertBatchSize;
+        private Integer maxConcurrentInserts;
+        private Duration autoFlushInterval;
 
         public Builder milvusClient(MilvusServiceClient milvusClient) {
             this.milvusClient = milvusClient;
@@ -448,11 +681,11 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
         }
 
         /**
-         * @param retrieveEmbeddingsOnSearch During a similarity search in Milvus (when calling findRelevant()),
-         *                                   the embedding itself is not retrieved.
-         *                                   To retrieve the embedding, an additional query is required.
-         *                                   Setting this parameter to "true" will ensure that embedding is retrieved.
-         *                                   Be aware that this will impact the performance of the search.
+         * @param retrieveEmbeddingsOnSearch During a similarity search in Milvus (when calling search()),
+         *                                   the embedding itself is not retrieved by default.
+         *                                   Setting this parameter to "true" will ensure that embedding is retrieved
+         *                                   as an output field of the search.
+         *                                   Be aware that this increases the size of search results.
          *                                   Default value: false.
          * @return builder
          */
@@ -524,6 +757,41 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
             return this;
         }
 
+        /**
+         * @param insertBatchSize The maximum number of rows sent to Milvus in a single insert request.
+         *                        Larger {@code addAll(...)} calls are split into several requests.
+         *                        Default value: 1000.
+         * @return builder
+         */
+        public Builder insertBatchSize(Integer insertBatchSize) {
+            this.insertBatchSize = insertBatchSize;
+            return this;
+        }
+
+        /**
+         * @param maxConcurrentInserts The maximum number of insert requests in flight at the same time
+         *                             when an {@code addAll(...)} call is split into several requests.
+         *                             Default value: 1.
+         * @return builder
+         */
+        public Builder maxConcurrentInserts(Integer maxConcurrentInserts) {
+            this.maxConcurrentInserts = maxConcurrentInserts;
+            return this;
+        }
+
+        /**
+         * @param autoFlushInterval If set, inserted data is flushed in the background at most once per interval,
+         *                          instead of after each insert (takes precedence over {@code autoFlushOnInsert}).
+         *                          The store must then be closed with {@link MilvusEmbeddingStore#close()},
+         *                          which stops it and flushes the remaining inserts.
+         *                          Default value: null.
+         * @return builder
+         */
+        public Builder autoFlushInterval(Duration autoFlushInterval) {
+            this.autoFlushInterval = autoFlushInterval;
+            return this;
+        }
+
         public MilvusEmbeddingStore build() {
             if (milvusClient == null) {
                 return new MilvusEmbeddingStore(
@@ -544,7 +812,10 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
                     idFieldName,
                     textFieldName,
                     metadataFieldName,
-                    vectorFieldName
+                    vectorFieldName,
+                    insertBatchSize,
+                    maxConcurrentInserts,
+                    autoFlushInterval
                 );
             }
             return new MilvusEmbeddingStore(
@@ -559,7 +830,10 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
                 idFieldName,
                 textFieldName,
                 metadataFieldName,
-                vectorFieldName
+                vectorFieldName,
+                insertBatchSize,
+                maxConcurrentInserts,
+                autoFlushInterval
             );
         }
     }
@@ -3,6 +3,7 @@ package dev.langchain4j.store.embedding.milvus;
 import static io.milvus.common.clientenum.ConsistencyLevelEnum.STRONG;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
@@ -13,7 +14,12 @@ import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
 import io.milvus.client.MilvusServiceClient;
+import io.milvus.grpc.GetCollectionStatisticsResponse;
 import io.milvus.param.ConnectParam;
+import io.milvus.param.R;
+import io.milvus.param.collection.GetCollectionStatisticsParam;
+import io.milvus.response.GetCollStatResponseWrapper;
+import java.time.Duration;
 import java.util.List;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -129,6 +135,102 @@ class MilvusEmbeddingStoreIT extends EmbeddingStoreWithFilteringIT {
         assertThat(matches.get(1).embedding()).isNull();
     }
 
+    @Test
+    void should_insert_in_concurrent_batches_and_flush_periodically() {
+
+        MilvusEmbeddingStore embeddingStore = MilvusEmbeddingStore.builder()
+                .uri(milvus.getEndpoint())
+                .collectionName(COLLECTION_NAME)
+                .consistencyLevel(STRONG)
+                .dimension(384)
+                .retrieveEmbeddingsOnSearch(true)
+                .idFieldName("id_field")
+                .textFieldName("text_field")
+                .metadataFieldName("metadata_field")
+                .vectorFieldName("vector_field")
+                .insertBatchSize(2)
+                .maxConcurrentInserts(2)
+                .autoFlushInterval(Duration.ofMillis(100))
+                .build();
+
+        List<TextSegment> segments = asList(
+                TextSegment.from("hello"),
+                TextSegment.from("hi"),
+                TextSegment.from("good morning"),
+                TextSegment.from("good evening"),
+                TextSegment.from("bye")
+        );
+        List<Embedding> embeddings = embeddingModel.embedAll(segments).content();
+        embeddingStore.addAll(embeddings, segments);
+
+        List<EmbeddingMatch<TextSegment>> matches = embeddingStore
+                .search(EmbeddingSearchRequest.builder()
+                        .queryEmbedding(embeddings.get(0))
+                        .maxResults(10)
+                        .build())
+                .matches();
+        assertThat(matches).hasSize(5);
+        assertThat(matches.get(0).embedded().text()).isEqualTo("hello");
+        assertThat(matches.get(0).embedding()).isEqualTo(embeddings.get(0));
+
+        embeddingStore.close();
+    }
+
+    @Test
+    void should_flush_inserts_in_background_when_auto_flush_interval_is_set() {
+
+        MilvusServiceClient milvusClient = createMilvusClient();
+        MilvusEmbeddingStore embeddingStore = MilvusEmbeddingStore.builder()
+                .milvusClient(milvusClient)
+                .collectionName(COLLECTION_NAME)
+                .dimension(384)
+                .autoFlushInterval(Duration.ofMillis(100))
+                .build();
+
+        embeddingStore.addAll(asList(embeddingModel.embed("hello").content(), embeddingModel.embed("hi").content()));
+
+        await().atMost(Duration.ofSeconds(30)).until(() -> flushedRowCount(milvusClient) == 2);
+
+        embeddingStore.close();
+    }
+
+    @Test
+    void should_flush_pending_inserts_on_close() {
+
+        MilvusServiceClient milvusClient = createMilvusClient();
+        MilvusEmbeddingStore embeddingStore = MilvusEmbeddingStore.builder()
+                .milvusClient(milvusClient)
+                .collectionName(COLLECTION_NAME)
+                .dimension(384)
+                .autoFlushInterval(Duration.ofHours(1))
+                .build();
+        embeddingStore.addAll(asList(embeddingModel.embed("hello").content(), embeddingModel.embed("hi").content()));
+        assertThat(flushedRowCount(milvusClient)).isZero();
+
+        embeddingStore.close();
+
+        assertThat(flushedRowCount(milvusClient)).isEqualTo(2);
+    }
+
+    private static MilvusServiceClient createMilvusClient() {
+        return new MilvusServiceClient(ConnectParam.newBuilder()
+                .withUri(milvus.getEndpoint())
+                .withAuthorization("", "")
+                .build());
+    }
+
+    /**
+     * Returns the number of rows in sealed (flushed) segments, without triggering a flush.
+     */
+    private static long flushedRowCount(MilvusServiceClient milvusClient) {
+        R<GetCollectionStatisticsResponse> response = milvusClient.getCollectionStatistics(
+                GetCollectionStatisticsParam.newBuilder()
+                        .withCollectionName(COLLECTION_NAME)
+                        .withFlush(false)
+                        .build());
+        return new GetCollStatResponseWrapper(response.getData()).getRowCount();
+    }
+
     @Override
     protected boolean supportsContains() {
         return true;
@@ -1,7 +1,10 @@
 package dev.langchain4j.model.mistralai;
 
+import static dev.langchain4j.internal.EmbeddingBatchUtils.embedInBatches;
+import static dev.langchain4j.internal.EmbeddingBatchUtils.partition;
 import static dev.langchain4j.internal.RetryUtils.withRetry;
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.model.mistralai.internal.mapper.MistralAiMapper.tokenUsageFrom;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
 import static java.util.stream.Collectors.toList;
@@ -16,6 +19,7 @@ import dev.langchain4j.model.mistralai.spi.MistralAiEmbeddingModelBuilderFactory
 import dev.langchain4j.model.output.Response;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * Represents a Mistral AI embedding model, such as mistral-embed.
@@ -27,6 +31,9 @@ public class MistralAiEmbeddingModel extends DimensionAwareEmbeddingModel {
     private final MistralAiClient client;
     private final String modelName;
     private final Integer maxRetries;
+    private final int maxSegmentsPerBatch;
+    private final int maxConcurrentBatches;
+    private final Executor executor;
 
     /**
      * Constructs a new MistralAiEmbeddingModel instance.
@@ -49,6 +56,20 @@ public class MistralAiEmbeddingModel extends DimensionAwareEmbeddingModel {
             Boolean logRequests,
             Boolean logResponses,
             Integer maxRetries) {
+        this(baseUrl, apiKey, modelName, timeout, logRequests, logResponses, maxRetries, null, null, null);
+    }
+
+    private MistralAiEmbeddingModel(
+            String baseUrl,
+            String apiKey,
+            String modelName,
+            Duration timeout,
+            Boolean logRequests,
+            Boolean logResponses,
+            Integer maxRetries,
+            Integer maxSegmentsPerBatch,
+            Integer maxConcurrentBatches,
+            Executor executor) {
         this.client = MistralAiClient.builder()
                 .baseUrl(getOrDefault(baseUrl, "https://api.mistral.ai/v1"))
                 .apiKey(apiKey)
@@ -58,6 +79,11 @@ public class MistralAiEmbeddingModel extends DimensionAwareEmbeddingModel {
                 .build();
         this.modelName = getOrDefault(modelName, MistralAiEmbeddingModelName.MISTRAL_EMBED.toString());
         this.maxRetries = getOrDefault(maxRetries, 3);
+        this.maxSegmentsPerBatch =
+                ensureGreaterThanZero(getOrDefault(maxSegmentsPerBatch, Integer.MAX_VALUE), "maxSegmentsPerBatch");
+        this.maxConcurrentBatches =
+                ensureGreaterThanZero(getOrDefault(maxConcurrentBatches, 1), "maxConcurrentBatches");
+        this.executor = executor;
     }
 
     /**
@@ -79,9 +105,16 @@ public class MistralAiEmbeddingModel extends DimensionAwareEmbeddingModel {
     @Override
     public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
 
+        List<String> texts = textSegments.stream().map(TextSegment::text).collect(toList());
+
+        return embedInBatches(partition(texts, maxSegmentsPerBatch), this::embedTexts, maxConcurrentBatches, executor);
+    }
+
+    private Response<List<Embedding>> embedTexts(List<String> texts) {
+
         MistralAiEmbeddingRequest request = MistralAiEmbeddingRequest.builder()
                 .model(modelName)
-                .input(textSegments.stream().map(TextSegment::text).collect(toList()))
+                .input(texts)
                 .encodingFormat(EMBEDDINGS_ENCODING_FORMAT)
                 .build();
 
@@ -118,6 +151,12 @@ public class MistralAiEmbeddingModel extends DimensionAwareEmbeddingModel {
 
         private Integer maxRetries;
 
+        private Integer maxSegmentsPerBatch;
+
+        private Integer maxConcurrentBatches;
+
+        private Executor executor;
+
         public MistralAiEmbeddingModelBuilder() {}
 
         public MistralAiEmbeddingModelBuilder modelName(String modelName) {
@@ -185,6 +224,33 @@ public class MistralAiEmbeddingModel extends DimensionAwareEmbeddingModel {
             return this;
         }
 
+        /**
+         * @param maxSegmentsPerBatch the maximum number of segments sent in a single request. All segments are sent in one request if not specified
+         * @return {@code this}.
+         */
+        public MistralAiEmbeddingModelBuilder maxSegmentsPerBatch(final Integer maxSegmentsPerBatch) {
+            this.maxSegmentsPerBatch = maxSegmentsPerBatch;
+            return this;
+        }
+
+        /**
+         * @param maxConcurrentBatches the maximum number of requests sent at the same time. It uses a default value of 1 if not specified
+         * @return {@code this}.
+         */
+        public MistralAiEmbeddingModelBuilder maxConcurrentBatches(final Integer maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
+        /**
+         * @param executor the executor used to send requests concurrently. The shared executor of {@code DefaultExecutorProvider} is used if not specified
+         * @return {@code this}.
+         */
+        public MistralAiEmbeddingModelBuilder executor(final Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         public MistralAiEmbeddingModel build() {
             return new MistralAiEmbeddingModel(
                     this.baseUrl,
@@ -193,7 +259,10 @@ public class MistralAiEmbeddingModel extends DimensionAwareEmbeddingModel {
                     this.timeout,
                     this.logRequests,
                     this.logResponses,
-                    this.maxRetries);
+                    this.maxRetries,
+                    this.maxSegmentsPerBatch,
+                    this.maxConcurrentBatches,
+                    this.executor);
         }
 
         @Override
@@ -206,6 +275,8 @@ public class MistralAiEmbeddingModel extends DimensionAwareEmbeddingModel {
                             + ", logRequests=" + this.logRequests
                             + ", logResponses=" + this.logResponses
                             + ", maxRetries=" + this.maxRetries
+                            + ", maxSegmentsPerBatch=" + this.maxSegmentsPerBatch
+                            + ", maxConcurrentBatches=" + this.maxConcurrentBatches
                             + ")";
         }
     }
@@ -5,15 +5,19 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.SerializationFeature;
-import dev.langchain4j.internal.Utils;
+import dev.langchain4j.http.client.HttpClient;
+import dev.langchain4j.http.client.HttpClientBuilder;
+import dev.langchain4j.http.client.HttpClientBuilderLoader;
+import dev.langchain4j.http.client.HttpRequest;
+import dev.langchain4j.http.client.SuccessfulHttpResponse;
+import dev.langchain4j.http.client.log.LoggingHttpClient;
 import lombok.Builder;
-import okhttp3.OkHttpClient;
-import retrofit2.Retrofit;
-import retrofit2.converter.jackson.JacksonConverterFactory;
 
 import java.io.IOException;
 import java.time.Duration;
 
+import static dev.langchain4j.http.client.HttpMethod.POST;
+import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 
 class NomicClient {
@@ -24,54 +28,63 @@ class NomicClient {
             .setSerializationInclusion(JsonInclude.Include.NON_NULL)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
-    private final NomicApi nomicApi;
+    private final HttpClient httpClient;
+    private final String baseUrl;
     private final String authorizationHeader;
 
     @Builder
-    NomicClient(String baseUrl, String apiKey, Duration timeout, Boolean logRequests, Boolean logResponses) {
+    NomicClient(HttpClientBuilder httpClientBuilder,
+                String baseUrl,
+                String apiKey,
+                Duration timeout,
+                Boolean logRequests,
+                Boolean logResponses) {
 
-        OkHttpClient.Builder okHttpClientBuilder = new OkHttpClient.Builder()
-                .callTimeout(timeout)
-                .connectTimeout(timeout)
-                .readTimeout(timeout)
-                .writeTimeout(timeout);
+        httpClientBuilder = getOrDefault(httpClientBuilder, HttpClientBuilderLoader::loadHttpClientBuilder);
 
-        if (logRequests) {
-            okHttpClientBuilder.addInterceptor(new RequestLoggingInterceptor());
-        }
-        if (logResponses) {
-            okHttpClientBuilder.addInterceptor(new ResponseLoggingInterceptor());
-        }
-
-        Retrofit retrofit = new Retrofit.Builder()
-                .baseUrl(Utils.ensureTrailingForwardSlash(baseUrl))
-                .client(okHttpClientBuilder.build())
-                .addConverterFactory(JacksonConverterFactory.create(OBJECT_MAPPER))
+        HttpClient httpClient = httpClientBuilder
+                .connectTimeout(getOrDefault(timeout, httpClientBuilder.connectTimeout()))
+                .readTimeout(getOrDefault(timeout, httpClientBuilder.readTimeout()))
                 .build();
 
-        this.nomicApi = retrofit.create(NomicApi.class);
+        if (logRequests || logResponses) {
+            this.httpClient = new LoggingHttpClient(httpClient, logRequests, logResponses);
+        } else {
+            this.httpClient = httpClient;
+        }
+
+        this.baseUrl = ensureNotBlank(baseUrl, "baseUrl");
         this.authorizationHeader = "Bearer " + ensureNotBlank(apiKey, "apiKey");
     }
 
     public EmbeddingResponse embed(EmbeddingRequest request) {
+
+        HttpRequest httpRequest = HttpRequest.builder()
+                .method(POST)
+                .url(baseUrl, "embedding/text")
+                .addHeader("Content-Type", "application/json")
+                .addHeader("Authorization", authorizationHeader)
+                .bodySupplier(() -> toJson(request))
+                .build();
+
+        SuccessfulHttpResponse response = httpClient.execute(httpRequest);
+
+        return fromJson(response.bodyBytes(), EmbeddingResponse.class);
+    }
+
+    private static byte[] toJson(Object object) {
         try {
-            retrofit2.Response<EmbeddingResponse> retrofitResponse
-                    = nomicApi.embed(request, authorizationHeader).execute();
-
-            if (retrofitResponse.isSuccessful()) {
-                return retrofitResponse.body();
-            } else {
-                throw toException(retrofitResponse);
-            }
+            return OBJECT_MAPPER.writeValueAsBytes(object);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
-    private static RuntimeException toException(retrofit2.Response<?> response) throws IOException {
-        int code = response.code();
-        String body = response.errorBody().string();
-        String errorMessage = String.format("status code: %s; body: %s", code, body);
-        return new RuntimeException(errorMessage);
+    private static <T> T fromJson(byte[] json, Class<T> type) {
+        try {
+            return OBJECT_MAPPER.readValue(json, type);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
     }
 }
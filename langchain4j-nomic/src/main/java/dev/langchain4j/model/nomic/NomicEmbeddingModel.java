@@ -2,6 +2,7 @@ package dev.langchain4j.model.nomic;
 
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.http.client.HttpClientBuilder;
 import dev.langchain4j.model.embedding.DimensionAwareEmbeddingModel;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.TokenUsage;
@@ -31,7 +32,10 @@ public class NomicEmbeddingModel extends DimensionAwareEmbeddingModel {
     private final Integer maxSegmentsPerBatch;
     private final Integer maxRetries;
 
-    @Builder
+    /**
+     * @deprecated Please use {@code builder()} instead.
+     */
+    @Deprecated
     public NomicEmbeddingModel(
             String baseUrl,
             String apiKey,
@@ -42,8 +46,25 @@ public class NomicEmbeddingModel extends DimensionAwareEmbeddingModel {
             Integer maxRetries,
             Boolean logRequests,
             Boolean logResponses
+    ) {
+        this(null, baseUrl, apiKey, modelName, taskType, maxSegmentsPerBatch, timeout, maxRetries, logRequests, logResponses);
+    }
+
+    @Builder
+    private NomicEmbeddingModel(
+            HttpClientBuilder httpClientBuilder,
+            String baseUrl,
+            String apiKey,
+            String modelName,
+            String taskType,
+            Integer maxSegmentsPerBatch,
+            Duration timeout,
+            Integer maxRetries,
+            Boolean logRequests,
+            Boolean logResponses
     ) {
         this.client = NomicClient.builder()
+                .httpClientBuilder(httpClientBuilder)
                 .baseUrl(getOrDefault(baseUrl, DEFAULT_BASE_URL))
                 .apiKey(ensureNotBlank(apiKey, "apiKey"))
                 .timeout(getOrDefault(timeout, ofSeconds(60)))
@@ -26,8 +26,9 @@ class ImageUtils {
 
     static String base64Image(Image image) {
 
-        if (image.base64Data() != null && !image.base64Data().isEmpty()) {
-            return image.base64Data();
+        String base64Data = image.base64Data();
+        if (base64Data != null && !base64Data.isEmpty()) {
+            return base64Data;
         } else {
             if (SUPPORTED_URL_SCHEMES.contains(image.url().getScheme())) {
                 return image.url().getScheme().startsWith("http") ? httpScheme(image) : fileScheme(image);
@@ -10,10 +10,14 @@ import dev.langchain4j.model.output.Response;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
+import static dev.langchain4j.internal.EmbeddingBatchUtils.embedInBatches;
+import static dev.langchain4j.internal.EmbeddingBatchUtils.partition;
 import static dev.langchain4j.internal.RetryUtils.withRetry;
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
 
@@ -25,6 +29,9 @@ public class OllamaEmbeddingModel extends DimensionAwareEmbeddingModel {
     private final OllamaClient client;
     private final String modelName;
     private final Integer maxRetries;
+    private final int maxSegmentsPerBatch;
+    private final int maxConcurrentBatches;
+    private final Executor executor;
 
     public OllamaEmbeddingModel(HttpClientBuilder httpClientBuilder,
                                 String baseUrl,
@@ -34,6 +41,21 @@ public class OllamaEmbeddingModel extends DimensionAwareEmbeddingModel {
                                 Boolean logRequests,
                                 Boolean logResponses,
                                 Map<String, String> customHeaders) {
+        this(httpClientBuilder, baseUrl, modelName, timeout, maxRetries, logRequests, logResponses, customHeaders,
+                null, null, null);
+    }
+
+    private OllamaEmbeddingModel(HttpClientBuilder httpClientBuilder,
+                                 String baseUrl,
+                                 String modelName,
+                                 Duration timeout,
+                                 Integer maxRetries,
+                                 Boolean logRequests,
+                                 Boolean logResponses,
+                                 Map<String, String> customHeaders,
+                                 Integer maxSegmentsPerBatch,
+                                 Integer maxConcurrentBatches,
+                                 Executor executor) {
         this.client = OllamaClient.builder()
                 .httpClientBuilder(httpClientBuilder)
                 .baseUrl(baseUrl)
@@ -44,6 +66,9 @@ public class OllamaEmbeddingModel extends DimensionAwareEmbeddingModel {
                 .build();
         this.modelName = ensureNotBlank(modelName, "modelName");
         this.maxRetries = getOrDefault(maxRetries, 3);
+        this.maxSegmentsPerBatch = ensureGreaterThanZero(getOrDefault(maxSegmentsPerBatch, Integer.MAX_VALUE), "maxSegmentsPerBatch");
+        this.maxConcurrentBatches = ensureGreaterThanZero(getOrDefault(maxConcurrentBatches, 1), "maxConcurrentBatches");
+        this.executor = executor;
     }
 
     public static OllamaEmbeddingModelBuilder builder() {
@@ -55,10 +80,14 @@ public class OllamaEmbeddingModel extends DimensionAwareEmbeddingModel {
 
     @Override
     public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
-        List<String> input = textSegments.stream()
+        List<String> texts = textSegments.stream()
                 .map(TextSegment::text)
                 .collect(Collectors.toList());
 
+        return embedInBatches(partition(texts, maxSegmentsPerBatch), this::embedTexts, maxConcurrentBatches, executor);
+    }
+
+    private Response<List<Embedding>> embedTexts(List<String> input) {
         EmbeddingRequest request = EmbeddingRequest.builder()
                 .model(modelName)
                 .input(input)
@@ -82,6 +111,9 @@ public class OllamaEmbeddingModel extends DimensionAwareEmbeddingModel {
         private Boolean logRequests;
         private Boolean logResponses;
         private Map<String, String> customHeaders;
+        private Integer maxSegmentsPerBatch;
+        private Integer maxConcurrentBatches;
+        private Executor executor;
 
         public OllamaEmbeddingModelBuilder() {
             // This is public so it can be extended
@@ -135,8 +167,35 @@ public class OllamaEmbeddingModel extends DimensionAwareEmbeddingModel {
             return this;
         }
 
+        /**
+         * Sets the maximum number of segments sent to Ollama in a single request.
+         * By default, all segments are sent in one request.
+         */
+        public OllamaEmbeddingModelBuilder maxSegmentsPerBatch(Integer maxSegmentsPerBatch) {
+            this.maxSegmentsPerBatch = maxSegmentsPerBatch;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of requests sent to Ollama at the same time.
+         * The order of the returned embeddings is preserved. Default: 1.
+         */
+        public OllamaEmbeddingModelBuilder maxConcurrentBatches(Integer maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
+        /**
+         * Sets the executor used to send requests concurrently. By default, the shared executor of {@code DefaultExecutorProvider} is used.
+         */
+        public OllamaEmbeddingModelBuilder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         public OllamaEmbeddingModel build() {
-            return new OllamaEmbeddingModel(httpClientBuilder, baseUrl, modelName, timeout, maxRetries, logRequests, logResponses, customHeaders);
+            return new OllamaEmbeddingModel(httpClientBuilder, baseUrl, modelName, timeout, maxRetries, logRequests, logResponses, customHeaders,
+                    maxSegmentsPerBatch, maxConcurrentBatches, executor);
         }
     }
 }
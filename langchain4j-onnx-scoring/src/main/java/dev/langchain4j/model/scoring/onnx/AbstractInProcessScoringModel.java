@@ -22,6 +22,15 @@ abstract class AbstractInProcessScoringModel implements ScoringModel {
         }
     }
 
+    static OnnxScoringBertCrossEncoder loadFromFileSystem(String pathToModel, OrtSession.SessionOptions options, String pathToTokenizer, int modelMaxLength, boolean normalize,
+                                                          int maxBatchSize, boolean coalesceConcurrentRequests) {
+        try {
+            return new OnnxScoringBertCrossEncoder(pathToModel, options, pathToTokenizer, modelMaxLength, normalize, maxBatchSize, coalesceConcurrentRequests);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     protected abstract OnnxScoringBertCrossEncoder model();
 
     public Response<List<Double>> scoreAll(List<TextSegment> segments, String query) {
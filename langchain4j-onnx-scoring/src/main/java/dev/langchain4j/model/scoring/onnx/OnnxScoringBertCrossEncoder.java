@@ -11,29 +11,48 @@ import ai.onnxruntime.OrtSession.Result;
 
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static ai.onnxruntime.OnnxTensor.createTensor;
 
 class OnnxScoringBertCrossEncoder {
 
+    static final int DEFAULT_MAX_BATCH_SIZE = 32;
+
     private final OrtEnvironment environment;
     private final OrtSession session;
     private final Set<String> expectedInputs;
     private final HuggingFaceTokenizer tokenizer;
     private final boolean normalize;
+    private final int maxBatchSize;
+    private final boolean coalesceConcurrentRequests;
+
+    private final Queue<PendingPair> pendingPairs = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock runLock = new ReentrantLock();
 
     public OnnxScoringBertCrossEncoder(String modelPath, OrtSession.SessionOptions options, String pathToTokenizer, int modelMaxLength, boolean normalize) {
+        this(modelPath, options, pathToTokenizer, modelMaxLength, normalize, DEFAULT_MAX_BATCH_SIZE, false);
+    }
+
+    public OnnxScoringBertCrossEncoder(String modelPath, OrtSession.SessionOptions options, String pathToTokenizer, int modelMaxLength, boolean normalize,
+                                       int maxBatchSize, boolean coalesceConcurrentRequests) {
         try {
             this.environment = OrtEnvironment.getEnvironment();
             this.session = this.environment.createSession(modelPath, options);
             this.expectedInputs = session.getInputNames();
             Map<String, String> tokenizerOptions = new HashMap<String, String>() {{
-                put("padding", "true");
+                put("padding", "false"); // each batch is padded separately, to the longest pair in that batch
                 put("truncation", "LONGEST_FIRST"); // Default maximum length limit, LONGEST-FIRST prioritizes truncating the longest part
                 put("modelMaxLength", String.valueOf(modelMaxLength - 2));
             }};
             this.normalize = normalize;
             this.tokenizer = HuggingFaceTokenizer.newInstance(Paths.get(pathToTokenizer), tokenizerOptions);
+            this.maxBatchSize = maxBatchSize;
+            this.coalesceConcurrentRequests = coalesceConcurrentRequests;
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -51,32 +70,147 @@ class OnnxScoringBertCrossEncoder {
     }
 
     ScoringAndTokenCount scoreAll(String query, List<String> documents) {
-        List<Double> scores;
-        int tokenCount = 0;
-        int queryTokenCount = tokenizer.tokenize(query).size() - 2;
+        if (documents.isEmpty()) {
+            return new ScoringAndTokenCount(new ArrayList<>(), 0);
+        }
+
         PairList<String, String> pairs = new PairList<>();
         for (String document : documents) {
             pairs.add(query, document);
-            tokenCount += queryTokenCount + tokenizer.tokenize(document).size() - 2; // do not count special tokens [CLS] and [SEP]
         }
-        try (Result result = this.encode(pairs)) {
-            scores = this.toScore(result);
-        } catch (OrtException e) {
-            throw new RuntimeException(e);
+        Encoding[] encodings = tokenizer.batchEncode(pairs);
+
+        ScoringRequest request = new ScoringRequest(encodings.length);
+        List<PendingPair> requestPairs = new ArrayList<>(encodings.length);
+        int tokenCount = 0;
+        for (int i = 0; i < encodings.length; i++) {
+            requestPairs.add(new PendingPair(request, i, encodings[i]));
+            tokenCount += countNonSpecialTokens(encodings[i]); // do not count special tokens [CLS] and [SEP]
+        }
+
+        if (coalesceConcurrentRequests) {
+            pendingPairs.addAll(requestPairs);
+            awaitCoalesced(request);
+        } else {
+            score(requestPairs);
+        }
+
+        try {
+            request.done.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+
+        List<Double> scores = new ArrayList<>(request.scores.length);
+        for (double score : request.scores) {
+            scores.add(score);
         }
         return new ScoringAndTokenCount(scores, tokenCount);
     }
 
-    private Result encode(PairList<String, String> pairs) throws OrtException {
-        Encoding[] encodings = this.tokenizer.batchEncode(pairs);
-        long[][] inputIds = new long[encodings.length][];
-        long[][] attentionMask = new long[encodings.length][];
-        long[][] tokenTypeIds = new long[encodings.length][];
+    /**
+     * Whichever thread holds the run lock scores everything queued so far, including the pairs of
+     * requests that arrived while the previous run was in progress. A thread whose request was
+     * completed by another thread in the meantime returns without running the model.
+     */
+    private void awaitCoalesced(ScoringRequest request) {
+        while (!request.done.isDone()) {
+            runLock.lock();
+            try {
+                if (request.done.isDone()) {
+                    return;
+                }
+                List<PendingPair> drained = new ArrayList<>();
+                PendingPair pair;
+                while ((pair = pendingPairs.poll()) != null) {
+                    drained.add(pair);
+                }
+                score(drained);
+            } finally {
+                runLock.unlock();
+            }
+        }
+    }
 
-        for (int i = 0; i < encodings.length; i++) {
-            inputIds[i] = encodings[i].getIds();
-            attentionMask[i] = encodings[i].getAttentionMask();
-            tokenTypeIds[i] = encodings[i].getTypeIds();
+    /**
+     * Sorts the pairs by length and scores them in batches of at most {@code maxBatchSize} pairs,
+     * so that each batch is padded only to the longest pair in it.
+     */
+    private void score(List<PendingPair> pairs) {
+        try {
+            int[] lengths = new int[pairs.size()];
+            for (int i = 0; i < lengths.length; i++) {
+                lengths[i] = pairs.get(i).encoding.getIds().length;
+            }
+            for (int[] batch : partitionByLength(lengths, maxBatchSize)) {
+                List<PendingPair> batchPairs = new ArrayList<>(batch.length);
+                for (int index : batch) {
+                    batchPairs.add(pairs.get(index));
+                }
+                try {
+                    float[][] logits = run(batchPairs);
+                    for (int i = 0; i < batchPairs.size(); i++) {
+                        batchPairs.get(i).complete(toScore(logits[i]));
+                    }
+                } catch (Exception e) {
+                    RuntimeException failure = e instanceof RuntimeException runtimeException
+                            ? runtimeException
+                            : new RuntimeException(e);
+                    batchPairs.forEach(pair -> pair.request.done.completeExceptionally(failure));
+                }
+            }
+        } catch (Throwable t) {
+            // e.g. an OutOfMemoryError in the runtime: the pairs may belong to requests of other threads,
+            // which would otherwise wait forever. Pairs that were already scored are not affected.
+            pairs.forEach(pair -> pair.request.done.completeExceptionally(t));
+            throw t;
+        }
+    }
+
+    /**
+     * Returns the indices of the given lengths, grouped into batches of at most {@code maxBatchSize}
+     * indices each, where each batch contains indices of similar length (shortest first).
+     */
+    static List<int[]> partitionByLength(int[] lengths, int maxBatchSize) {
+        Integer[] order = new Integer[lengths.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt(i -> lengths[i]));
+
+        List<int[]> batches = new ArrayList<>();
+        for (int from = 0; from < order.length; from += maxBatchSize) {
+            int to = (int) Math.min((long) from + maxBatchSize, order.length);
+            int[] batch = new int[to - from];
+            for (int i = from; i < to; i++) {
+                batch[i - from] = order[i];
+            }
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private float[][] run(List<PendingPair> pairs) throws OrtException {
+        int maxLength = 0;
+        for (PendingPair pair : pairs) {
+            maxLength = Math.max(maxLength, pair.encoding.getIds().length);
+        }
+
+        // padding positions are left as 0 and are masked out by the attention mask
+        long[][] inputIds = new long[pairs.size()][maxLength];
+        long[][] attentionMask = new long[pairs.size()][maxLength];
+        long[][] tokenTypeIds = new long[pairs.size()][maxLength];
+        for (int i = 0; i < pairs.size(); i++) {
+            Encoding encoding = pairs.get(i).encoding;
+            System.arraycopy(encoding.getIds(), 0, inputIds[i], 0, encoding.getIds().length);
+            System.arraycopy(encoding.getAttentionMask(), 0, attentionMask[i], 0, encoding.getAttentionMask().length);
+            System.arraycopy(encoding.getTypeIds(), 0, tokenTypeIds[i], 0, encoding.getTypeIds().length);
         }
 
         try (
@@ -92,25 +226,59 @@ class OnnxScoringBertCrossEncoder {
                 inputs.put("token_type_ids", tokenTypeIdsTensor);
             }
 
-            return session.run(inputs);
+            try (Result result = session.run(inputs)) {
+                return (float[][]) result.get(0).getValue();
+            }
         }
     }
 
-    private List<Double> toScore(OrtSession.Result result) throws OrtException {
-        float[][] output = (float[][]) result.get(0).getValue();
-        List<Double> scores = new ArrayList<>();
-        for (float[] floats : output) {
-            if (normalize) {
-                scores.add(sigmoid(floats[0]));
-            } else {
-                scores.add((double)floats[0]);
-            }
-        }
-        return scores;
+    private double toScore(float[] logits) {
+        return normalize ? sigmoid(logits[0]) : logits[0];
     }
 
     private double sigmoid(float x) {
         return 1 / (1 + Math.exp(-x));
     }
 
+    private static int countNonSpecialTokens(Encoding encoding) {
+        int count = 0;
+        for (long special : encoding.getSpecialTokenMask()) {
+            if (special == 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static class ScoringRequest {
+
+        private final double[] scores;
+        private final AtomicInteger remaining;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        ScoringRequest(int size) {
+            this.scores = new double[size];
+            this.remaining = new AtomicInteger(size);
+        }
+    }
+
+    private static class PendingPair {
+
+        private final ScoringRequest request;
+        private final int index;
+        private final Encoding encoding;
+
+        PendingPair(ScoringRequest request, int index, Encoding encoding) {
+            this.request = request;
+            this.index = index;
+            this.encoding = encoding;
+        }
+
+        void complete(double score) {
+            request.scores[index] = score;
+            if (request.remaining.decrementAndGet() == 0) {
+                request.done.complete(null);
+            }
+        }
+    }
 }
@@ -1,7 +1,13 @@
 package dev.langchain4j.model.scoring.onnx;
 
+import ai.onnxruntime.OrtException;
 import ai.onnxruntime.OrtSession;
 
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+
 public class OnnxScoringModel extends AbstractInProcessScoringModel {
 
     private static final int DEFAULT_MODEL_MAX_LENGTH = 510; // 512 - 2 (special tokens [CLS] and [SEP])
@@ -26,7 +32,121 @@ public class OnnxScoringModel extends AbstractInProcessScoringModel {
         this.onnxBertBiEncoder = loadFromFileSystem(pathToModel, options, pathToTokenizer, modelMaxLength, normalize);
     }
 
+    private OnnxScoringModel(Builder builder) {
+        if (builder.options != null && (builder.intraOpNumThreads != null || builder.interOpNumThreads != null)) {
+            // the caller's options may be shared, so they are not modified
+            throw illegalArgument("intraOpNumThreads and interOpNumThreads cannot be combined with options, " +
+                    "please set the number of threads on the options instead");
+        }
+        OrtSession.SessionOptions options = getOrDefault(builder.options, OrtSession.SessionOptions::new);
+        try {
+            if (builder.intraOpNumThreads != null) {
+                options.setIntraOpNumThreads(builder.intraOpNumThreads);
+            }
+            if (builder.interOpNumThreads != null) {
+                options.setInterOpNumThreads(builder.interOpNumThreads);
+                options.setExecutionMode(OrtSession.SessionOptions.ExecutionMode.PARALLEL);
+            }
+        } catch (OrtException e) {
+            throw new RuntimeException(e);
+        }
+        this.onnxBertBiEncoder = loadFromFileSystem(
+                ensureNotBlank(builder.pathToModel, "pathToModel"),
+                options,
+                ensureNotBlank(builder.pathToTokenizer, "pathToTokenizer"),
+                getOrDefault(builder.modelMaxLength, DEFAULT_MODEL_MAX_LENGTH),
+                getOrDefault(builder.normalize, DEFAULT_NORMALIZE),
+                ensureGreaterThanZero(getOrDefault(builder.maxBatchSize, OnnxScoringBertCrossEncoder.DEFAULT_MAX_BATCH_SIZE), "maxBatchSize"),
+                getOrDefault(builder.coalesceConcurrentRequests, false)
+        );
+    }
+
     protected OnnxScoringBertCrossEncoder model() {
         return this.onnxBertBiEncoder;
     }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private String pathToModel;
+        private String pathToTokenizer;
+        private OrtSession.SessionOptions options;
+        private Integer modelMaxLength;
+        private Boolean normalize;
+        private Integer maxBatchSize;
+        private Boolean coalesceConcurrentRequests;
+        private Integer intraOpNumThreads;
+        private Integer interOpNumThreads;
+
+        public Builder pathToModel(String pathToModel) {
+            this.pathToModel = pathToModel;
+            return this;
+        }
+
+        public Builder pathToTokenizer(String pathToTokenizer) {
+            this.pathToTokenizer = pathToTokenizer;
+            return this;
+        }
+
+        public Builder options(OrtSession.SessionOptions options) {
+            this.options = options;
+            return this;
+        }
+
+        public Builder modelMaxLength(Integer modelMaxLength) {
+            this.modelMaxLength = modelMaxLength;
+            return this;
+        }
+
+        public Builder normalize(Boolean normalize) {
+            this.normalize = normalize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of query-document pairs scored in a single ONNX run.
+         * Pairs are sorted by length before batching, so that each batch is padded
+         * only to the longest pair in it. The default value is 32.
+         */
+        public Builder maxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * If enabled, pairs of concurrent {@code scoreAll} calls are merged into shared ONNX runs:
+         * while one run is in progress, pairs of other calls are queued and scored together
+         * in the next run. The default value is false.
+         */
+        public Builder coalesceConcurrentRequests(Boolean coalesceConcurrentRequests) {
+            this.coalesceConcurrentRequests = coalesceConcurrentRequests;
+            return this;
+        }
+
+        /**
+         * Sets the number of threads used to parallelize the execution within ONNX operators.
+         * Cannot be combined with {@link #options(OrtSession.SessionOptions)}.
+         */
+        public Builder intraOpNumThreads(Integer intraOpNumThreads) {
+            this.intraOpNumThreads = intraOpNumThreads;
+            return this;
+        }
+
+        /**
+         * Sets the number of threads used to execute independent ONNX operators in parallel.
+         * Setting it switches the session to the parallel execution mode.
+         * Cannot be combined with {@link #options(OrtSession.SessionOptions)}.
+         */
+        public Builder interOpNumThreads(Integer interOpNumThreads) {
+            this.interOpNumThreads = interOpNumThreads;
+            return this;
+        }
+
+        public OnnxScoringModel build() {
+            return new OnnxScoringModel(this);
+        }
+    }
 }
@@ -0,0 +1,40 @@
+package dev.langchain4j.model.scoring.onnx;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OnnxScoringBertCrossEncoderTest {
+
+    @Test
+    void should_group_pairs_of_similar_length_into_bounded_batches() {
+
+        // given
+        int[] lengths = {50, 10, 40, 20, 30};
+
+        // when
+        List<int[]> batches = OnnxScoringBertCrossEncoder.partitionByLength(lengths, 2);
+
+        // then
+        assertThat(batches).containsExactly(
+                new int[]{1, 3},
+                new int[]{4, 2},
+                new int[]{0}
+        );
+    }
+
+    @Test
+    void should_put_all_pairs_into_single_batch_when_below_max_batch_size() {
+
+        // given
+        int[] lengths = {3, 1, 2};
+
+        // when
+        List<int[]> batches = OnnxScoringBertCrossEncoder.partitionByLength(lengths, Integer.MAX_VALUE);
+
+        // then
+        assertThat(batches).containsExactly(new int[]{1, 2, 0});
+    }
+}
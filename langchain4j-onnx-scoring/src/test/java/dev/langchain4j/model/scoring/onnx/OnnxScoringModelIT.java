@@ -14,6 +14,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -68,4 +71,44 @@ class OnnxScoringModelIT {
 
         assertThat(response.finishReason()).isNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_score_concurrent_requests_with_coalescing_and_small_batches() throws Exception {
+
+        // given
+        ScoringModel coalescingModel = OnnxScoringModel.builder()
+                .pathToModel(tempDir.resolve("model_quantized.onnx").toString())
+                .pathToTokenizer(tempDir.resolve("tokenizer.json").toString())
+                .modelMaxLength(512)
+                .maxBatchSize(1)
+                .coalesceConcurrentRequests(true)
+                .intraOpNumThreads(1)
+                .build();
+
+        List<TextSegment> segments = new ArrayList<>();
+        segments.add(TextSegment.from("Berlin has a population of 3,520,031 registered inhabitants in an area of 891.82 square kilometers."));
+        segments.add(TextSegment.from("New York City is famous for the Metropolitan Museum of Art."));
+
+        String query = "How many people live in Berlin?";
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+
+            // when
+            List<Future<Response<List<Double>>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> coalescingModel.scoreAll(segments, query)));
+            }
+
+            // then
+            for (Future<Response<List<Double>>> future : futures) {
+                List<Double> scores = future.get().content();
+                assertThat(scores).hasSize(2);
+                assertThat(scores.get(0)).isCloseTo(8.663132667541504, withPercentage(0.1));
+                assertThat(scores.get(1)).isCloseTo(-11.245542526245117, withPercentage(0.1));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
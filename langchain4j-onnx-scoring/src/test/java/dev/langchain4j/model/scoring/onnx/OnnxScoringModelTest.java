@@ -0,0 +1,26 @@
+package dev.langchain4j.model.scoring.onnx;
+
+import ai.onnxruntime.OrtSession;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OnnxScoringModelTest {
+
+    @Test
+    void should_not_combine_caller_options_with_thread_settings() {
+
+        // given
+        OrtSession.SessionOptions options = new OrtSession.SessionOptions();
+
+        // when-then
+        assertThatThrownBy(() -> OnnxScoringModel.builder()
+                .pathToModel("model.onnx")
+                .pathToTokenizer("tokenizer.json")
+                .options(options)
+                .intraOpNumThreads(2)
+                .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("intraOpNumThreads");
+    }
+}
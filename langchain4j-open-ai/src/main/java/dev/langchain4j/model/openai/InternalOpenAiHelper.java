@@ -43,6 +43,7 @@ import dev.langchain4j.model.openai.internal.chat.FunctionCall;
 import dev.langchain4j.model.openai.internal.chat.FunctionMessage;
 import dev.langchain4j.model.openai.internal.chat.ImageDetail;
 import dev.langchain4j.model.openai.internal.chat.ImageUrl;
+import dev.langchain4j.model.openai.internal.chat.DataUrl;
 import dev.langchain4j.model.openai.internal.chat.InputAudio;
 import dev.langchain4j.model.openai.internal.chat.Message;
 import dev.langchain4j.model.openai.internal.chat.Tool;
@@ -74,7 +75,6 @@ import static dev.langchain4j.model.output.FinishReason.CONTENT_FILTER;
 import static dev.langchain4j.model.output.FinishReason.LENGTH;
 import static dev.langchain4j.model.output.FinishReason.STOP;
 import static dev.langchain4j.model.output.FinishReason.TOOL_EXECUTION;
-import static java.lang.String.format;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 
@@ -177,8 +177,7 @@ public class InternalOpenAiHelper {
     private static dev.langchain4j.model.openai.internal.chat.Content toOpenAiContent(ImageContent content) {
         return dev.langchain4j.model.openai.internal.chat.Content.builder()
                 .type(ContentType.IMAGE_URL)
-                .imageUrl(ImageUrl.builder()
-                        .url(toUrl(content.image()))
+                .imageUrl(toImageUrl(content.image())
                         .detail(toDetail(content.detailLevel()))
                         .build())
                 .build();
@@ -198,11 +197,12 @@ public class InternalOpenAiHelper {
         return mimetype.split("/")[1];
     }
 
-    private static String toUrl(Image image) {
+    private static ImageUrl.Builder toImageUrl(Image image) {
         if (image.url() != null) {
-            return image.url().toString();
+            return ImageUrl.builder().url(image.url().toString());
         }
-        return format("data:%s;base64,%s", image.mimeType(), image.base64Data());
+        // the image is read and encoded only when the request body is written
+        return ImageUrl.builder().dataUrl(new DataUrl(image.mimeType(), image.binaryData()));
     }
 
     private static ImageDetail toDetail(ImageContent.DetailLevel detailLevel) {
@@ -11,15 +11,18 @@ import dev.langchain4j.model.openai.internal.embedding.EmbeddingRequest;
 import dev.langchain4j.model.openai.internal.embedding.EmbeddingResponse;
 import dev.langchain4j.model.openai.spi.OpenAiEmbeddingModelBuilderFactory;
 import dev.langchain4j.model.output.Response;
-import dev.langchain4j.model.output.TokenUsage;
 
 import java.time.Duration;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
+import static dev.langchain4j.internal.EmbeddingBatchUtils.embedInBatches;
+import static dev.langchain4j.internal.EmbeddingBatchUtils.embedInBatchesAsync;
+import static dev.langchain4j.internal.EmbeddingBatchUtils.partition;
 import static dev.langchain4j.internal.RetryUtils.withRetry;
+import static dev.langchain4j.internal.RetryUtils.withRetryAsync;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.model.openai.InternalOpenAiHelper.DEFAULT_OPENAI_URL;
@@ -37,8 +40,12 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel implement
     private final String modelName;
     private final Integer dimensions;
     private final String user;
+    private final String encodingFormat;
     private final Integer maxRetries;
     private final Integer maxSegmentsPerBatch;
+    private final Integer maxTokensPerBatch;
+    private final Integer maxConcurrentBatches;
+    private final Executor executor;
     private final Tokenizer tokenizer;
 
     public OpenAiEmbeddingModel(OpenAiEmbeddingModelBuilder builder) {
@@ -67,9 +74,14 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel implement
         this.modelName = builder.modelName;
         this.dimensions = builder.dimensions;
         this.user = builder.user;
+        this.encodingFormat = getOrDefault(builder.encodingFormat, "base64");
         this.maxRetries = getOrDefault(builder.maxRetries, 3);
         this.maxSegmentsPerBatch = getOrDefault(builder.maxSegmentsPerBatch, 2048);
         ensureGreaterThanZero(this.maxSegmentsPerBatch, "maxSegmentsPerBatch");
+        this.maxTokensPerBatch = builder.maxTokensPerBatch;
+        this.maxConcurrentBatches = getOrDefault(builder.maxConcurrentBatches, 1);
+        ensureGreaterThanZero(this.maxConcurrentBatches, "maxConcurrentBatches");
+        this.executor = builder.executor;
         this.tokenizer = getOrDefault(builder.tokenizer, OpenAiTokenizer::new);
     }
 
@@ -91,51 +103,57 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel implement
 
         List<String> texts = textSegments.stream().map(TextSegment::text).toList();
 
-        List<List<String>> textBatches = partition(texts, maxSegmentsPerBatch);
+        List<List<String>> textBatches = partition(texts, maxSegmentsPerBatch, maxTokensPerBatch, this::estimateTokenCount);
 
-        return embedBatchedTexts(textBatches);
+        return embedInBatches(textBatches, this::embedTexts, maxConcurrentBatches, executor);
     }
 
-    private List<List<String>> partition(List<String> inputList, int size) {
-        List<List<String>> result = new ArrayList<>();
-        for (int i = 0; i < inputList.size(); i += size) {
-            int fromIndex = i;
-            int toIndex = Math.min(i + size, inputList.size());
-            result.add(inputList.subList(fromIndex, toIndex));
-        }
-        return result;
-    }
+    /**
+     * Sends the batches using the non-blocking {@code executeAsync} of the HTTP client,
+     * so no thread is blocked while requests are in flight. Up to {@code maxConcurrentBatches}
+     * batches are in flight at the same time; the configured {@code executor} is not used.
+     */
+    @Override
+    public CompletableFuture<Response<List<Embedding>>> embedAllAsync(List<TextSegment> textSegments) {
 
-    private Response<List<Embedding>> embedBatchedTexts(List<List<String>> textBatches) {
-        List<Response<List<Embedding>>> responses = new ArrayList<>();
-        for (List<String> batch : textBatches) {
-            Response<List<Embedding>> response = embedTexts(batch);
-            responses.add(response);
-        }
-        return Response.from(
-                responses.stream()
-                        .flatMap(response -> response.content().stream())
-                        .toList(),
-                responses.stream()
-                        .map(Response::tokenUsage)
-                        .filter(Objects::nonNull)
-                        .reduce(TokenUsage::add)
-                        .orElse(null));
+        List<String> texts = textSegments.stream().map(TextSegment::text).toList();
+
+        List<List<String>> textBatches = partition(texts, maxSegmentsPerBatch, maxTokensPerBatch, this::estimateTokenCount);
+
+        return embedInBatchesAsync(textBatches, this::embedTextsAsync, maxConcurrentBatches);
     }
 
     private Response<List<Embedding>> embedTexts(List<String> texts) {
 
-        EmbeddingRequest request = EmbeddingRequest.builder()
+        EmbeddingRequest request = embeddingRequest(texts);
+
+        EmbeddingResponse response = withRetry(() -> client.embedding(request).execute(), maxRetries);
+
+        return toResponse(response);
+    }
+
+    private CompletableFuture<Response<List<Embedding>>> embedTextsAsync(List<String> texts) {
+
+        EmbeddingRequest request = embeddingRequest(texts);
+
+        return withRetryAsync(() -> client.embedding(request).executeAsync(), maxRetries)
+                .thenApply(OpenAiEmbeddingModel::toResponse);
+    }
+
+    private EmbeddingRequest embeddingRequest(List<String> texts) {
+        return EmbeddingRequest.builder()
                 .input(texts)
                 .model(modelName)
                 .dimensions(dimensions)
                 .user(user)
+                .encodingFormat(encodingFormat)
                 .build();
+    }
 
-        EmbeddingResponse response = withRetry(() -> client.embedding(request).execute(), maxRetries);
+    private static Response<List<Embedding>> toResponse(EmbeddingResponse response) {
 
         List<Embedding> embeddings = response.data().stream()
-                .map(openAiEmbedding -> Embedding.from(openAiEmbedding.embedding()))
+                .map(openAiEmbedding -> Embedding.from(openAiEmbedding.vector()))
                 .toList();
 
         return Response.from(embeddings, tokenUsageFrom(response.usage()));
@@ -174,9 +192,13 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel implement
         private String modelName;
         private Integer dimensions;
         private String user;
+        private String encodingFormat;
         private Duration timeout;
         private Integer maxRetries;
         private Integer maxSegmentsPerBatch;
+        private Integer maxTokensPerBatch;
+        private Integer maxConcurrentBatches;
+        private Executor executor;
         private Boolean logRequests;
         private Boolean logResponses;
         private Tokenizer tokenizer;
@@ -231,6 +253,17 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel implement
             return this;
         }
 
+        /**
+         * Sets the format in which the embeddings are returned by the API: {@code "float"} or {@code "base64"}.
+         * Default: {@code "base64"}, which is roughly 4 times smaller on the wire
+         * and is decoded directly into a {@code float[]}.
+         * Set it to {@code "float"} for OpenAI-compatible servers that do not support base64 encoding.
+         */
+        public OpenAiEmbeddingModelBuilder encodingFormat(String encodingFormat) {
+            this.encodingFormat = encodingFormat;
+            return this;
+        }
+
         public OpenAiEmbeddingModelBuilder timeout(Duration timeout) {
             this.timeout = timeout;
             return this;
@@ -266,6 +299,35 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel implement
             return this;
         }
 
+        /**
+         * Sets the maximum number of tokens in a single batch, in addition to {@link #maxSegmentsPerBatch(Integer)}.
+         * Token counts are estimated using the configured {@link #tokenizer(Tokenizer)}.
+         * By default, batches are limited only by the number of segments.
+         */
+        public OpenAiEmbeddingModelBuilder maxTokensPerBatch(Integer maxTokensPerBatch) {
+            this.maxTokensPerBatch = maxTokensPerBatch;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of batches that are sent to the API at the same time.
+         * The order of the returned embeddings is preserved regardless of this setting.
+         * Default: 1 (batches are sent one after another).
+         */
+        public OpenAiEmbeddingModelBuilder maxConcurrentBatches(Integer maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
+        /**
+         * Sets the executor used to send batches concurrently when {@link #maxConcurrentBatches(Integer)} is greater than 1.
+         * By default, the shared executor of {@code DefaultExecutorProvider} is used.
+         */
+        public OpenAiEmbeddingModelBuilder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         public OpenAiEmbeddingModel build() {
             return new OpenAiEmbeddingModel(this);
         }
@@ -86,7 +86,7 @@ public class DefaultOpenAiClient extends OpenAiClient {
                 .url(baseUrl, "completions")
                 .addHeader("Content-Type", "application/json")
                 .addHeaders(defaultHeaders)
-                .body(Json.toJson(CompletionRequest.builder().from(request).stream(false).build()))
+                .bodySupplier(() -> Json.toJsonBytes(CompletionRequest.builder().from(request).stream(false).build()))
                 .build();
 
         HttpRequest streamingHttpRequest = HttpRequest.builder()
@@ -94,7 +94,7 @@ public class DefaultOpenAiClient extends OpenAiClient {
                 .url(baseUrl, "completions")
                 .addHeader("Content-Type", "application/json")
                 .addHeaders(defaultHeaders)
-                .body(Json.toJson(CompletionRequest.builder().from(request).stream(true).build()))
+                .bodySupplier(() -> Json.toJsonBytes(CompletionRequest.builder().from(request).stream(true).build()))
                 .build();
 
         return new RequestExecutor<>(httpClient, httpRequest, streamingHttpRequest, CompletionResponse.class);
@@ -108,7 +108,7 @@ public class DefaultOpenAiClient extends OpenAiClient {
                 .url(baseUrl, "chat/completions")
                 .addHeader("Content-Type", "application/json")
                 .addHeaders(defaultHeaders)
-                .body(Json.toJson(ChatCompletionRequest.builder().from(request).stream(false).build()))
+                .bodySupplier(() -> Json.toJsonBytes(ChatCompletionRequest.builder().from(request).stream(false).build()))
                 .build();
 
         HttpRequest streamingHttpRequest = HttpRequest.builder()
@@ -116,7 +116,7 @@ public class DefaultOpenAiClient extends OpenAiClient {
                 .url(baseUrl, "chat/completions")
                 .addHeader("Content-Type", "application/json")
                 .addHeaders(defaultHeaders)
-                .body(Json.toJson(ChatCompletionRequest.builder().from(request).stream(true).build()))
+                .bodySupplier(() -> Json.toJsonBytes(ChatCompletionRequest.builder().from(request).stream(true).build()))
                 .build();
 
         return new RequestExecutor<>(httpClient, httpRequest, streamingHttpRequest, ChatCompletionResponse.class);
@@ -130,7 +130,7 @@ public class DefaultOpenAiClient extends OpenAiClient {
                 .url(baseUrl, "embeddings")
                 .addHeader("Content-Type", "application/json")
                 .addHeaders(defaultHeaders)
-                .body(Json.toJson(request))
+                .bodySupplier(() -> Json.toJsonBytes(request))
                 .build();
 
         return new RequestExecutor<>(httpClient, httpRequest, EmbeddingResponse.class);
@@ -144,7 +144,7 @@ public class DefaultOpenAiClient extends OpenAiClient {
                 .url(baseUrl, "moderations")
                 .addHeader("Content-Type", "application/json")
                 .addHeaders(defaultHeaders)
-                .body(Json.toJson(request))
+                .bodySupplier(() -> Json.toJsonBytes(request))
                 .build();
 
         return new RequestExecutor<>(httpClient, httpRequest, ModerationResponse.class);
@@ -157,7 +157,7 @@ public class DefaultOpenAiClient extends OpenAiClient {
                 .url(baseUrl, "images/generations")
                 .addHeader("Content-Type", "application/json")
                 .addHeaders(defaultHeaders)
-                .body(Json.toJson(request))
+                .bodySupplier(() -> Json.toJsonBytes(request))
                 .build();
 
         return new RequestExecutor<>(httpClient, httpRequest, GenerateImagesResponse.class);
@@ -1,10 +1,17 @@
 package dev.langchain4j.model.openai.internal;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
+import static dev.langchain4j.internal.DefaultExecutorProvider.getDefaultExecutorService;
+
 public interface SyncOrAsync<ResponseContent> {
 
     ResponseContent execute();
 
+    default CompletableFuture<ResponseContent> executeAsync() {
+        return CompletableFuture.supplyAsync(this::execute, getDefaultExecutorService());
+    }
+
     AsyncResponseHandling onResponse(Consumer<ResponseContent> responseHandler);
 }
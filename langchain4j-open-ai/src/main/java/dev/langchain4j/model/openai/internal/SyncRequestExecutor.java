@@ -4,6 +4,8 @@ import dev.langchain4j.http.client.HttpClient;
 import dev.langchain4j.http.client.HttpRequest;
 import dev.langchain4j.http.client.SuccessfulHttpResponse;
 
+import java.util.concurrent.CompletableFuture;
+
 class SyncRequestExecutor<Response> {
 
     private final HttpClient httpClient;
@@ -18,6 +20,11 @@ class SyncRequestExecutor<Response> {
 
     Response execute() {
         SuccessfulHttpResponse successfulHttpResponse = httpClient.execute(httpRequest);
-        return Json.fromJson(successfulHttpResponse.body(), responseClass);
+        return Json.fromJson(successfulHttpResponse.bodyBytes(), responseClass);
+    }
+
+    CompletableFuture<Response> executeAsync() {
+        return httpClient.executeAsync(httpRequest)
+                .thenApply(successfulHttpResponse -> Json.fromJson(successfulHttpResponse.bodyBytes(), responseClass));
     }
 }
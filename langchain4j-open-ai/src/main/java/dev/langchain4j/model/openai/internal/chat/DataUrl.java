@@ -0,0 +1,93 @@
+package dev.langchain4j.model.openai.internal.chat;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import dev.langchain4j.data.binary.BinaryData;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+/**
+ * A {@code data:} URL whose payload is Base64-encoded straight into the JSON request body when it is serialized,
+ * so that the encoded payload is never held in memory as a {@link String}.
+ */
+@JsonSerialize(using = DataUrl.Serializer.class)
+public class DataUrl {
+
+    private final String mimeType;
+    private final BinaryData data;
+
+    public DataUrl(String mimeType, BinaryData data) {
+        this.mimeType = ensureNotBlank(mimeType, "mimeType");
+        this.data = ensureNotNull(data, "data");
+    }
+
+    public String mimeType() {
+        return mimeType;
+    }
+
+    public BinaryData data() {
+        return data;
+    }
+
+    @Override
+    public boolean equals(Object another) {
+        if (this == another) return true;
+        return another instanceof DataUrl
+                && equalTo((DataUrl) another);
+    }
+
+    private boolean equalTo(DataUrl another) {
+        return Objects.equals(mimeType, another.mimeType)
+                && Objects.equals(data, another.data);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 5381;
+        h += (h << 5) + Objects.hashCode(mimeType);
+        h += (h << 5) + Objects.hashCode(data);
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return "DataUrl{" +
+                "mimeType=" + mimeType +
+                ", data=" + data +
+                "}";
+    }
+
+    static class Serializer extends StdSerializer<DataUrl> {
+
+        Serializer() {
+            super(DataUrl.class);
+        }
+
+        @Override
+        public void serialize(DataUrl dataUrl, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            // Base64 characters do not need to be escaped, so the payload is written as raw chunks of the string value
+            generator.writeRawValue("\"data:" + dataUrl.mimeType + ";base64,");
+            dataUrl.data.writeBase64(new OutputStream() {
+
+                @Override
+                public void write(int b) throws IOException {
+                    generator.writeRaw((char) b);
+                }
+
+                @Override
+                public void write(byte[] bytes, int offset, int length) throws IOException {
+                    generator.writeRaw(new String(bytes, offset, length, ISO_8859_1));
+                }
+            });
+            generator.writeRaw('"');
+        }
+    }
+}
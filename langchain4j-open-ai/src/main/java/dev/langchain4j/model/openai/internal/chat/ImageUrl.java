@@ -1,8 +1,10 @@
 package dev.langchain4j.model.openai.internal.chat;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
@@ -13,18 +15,25 @@ import java.util.Objects;
 @JsonDeserialize(builder = ImageUrl.Builder.class)
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonPropertyOrder({"url", "detail"})
 public class ImageUrl {
 
-    @JsonProperty
     private final String url;
+    private final DataUrl dataUrl;
     @JsonProperty
     private final ImageDetail detail;
 
     public ImageUrl(Builder builder) {
         this.url = builder.url;
+        this.dataUrl = builder.dataUrl;
         this.detail = builder.detail;
     }
 
+    @JsonProperty("url")
+    Object url() {
+        return url != null ? url : dataUrl;
+    }
+
     @Override
     public boolean equals(Object another) {
         if (this == another) return true;
@@ -34,6 +43,7 @@ public class ImageUrl {
 
     private boolean equalTo(ImageUrl another) {
         return Objects.equals(url, another.url)
+                && Objects.equals(dataUrl, another.dataUrl)
                 && Objects.equals(detail, another.detail);
     }
 
@@ -41,6 +51,7 @@ public class ImageUrl {
     public int hashCode() {
         int h = 5381;
         h += (h << 5) + Objects.hashCode(url);
+        h += (h << 5) + Objects.hashCode(dataUrl);
         h += (h << 5) + Objects.hashCode(detail);
         return h;
     }
@@ -49,6 +60,7 @@ public class ImageUrl {
     public String toString() {
         return "ImageUrl{" +
                 "url=" + url +
+                ", dataUrl=" + dataUrl +
                 ", detail=" + detail +
                 "}";
     }
@@ -63,6 +75,7 @@ public class ImageUrl {
     public static final class Builder {
 
         private String url;
+        private DataUrl dataUrl;
         private ImageDetail detail;
 
         public Builder url(String url) {
@@ -70,6 +83,15 @@ public class ImageUrl {
             return this;
         }
 
+        /**
+         * Sets the image as a {@code data:} URL, which is encoded only when the request is serialized.
+         */
+        @JsonIgnore
+        public Builder dataUrl(DataUrl dataUrl) {
+            this.dataUrl = dataUrl;
+            return this;
+        }
+
         public Builder detail(ImageDetail detail) {
             this.detail = detail;
             return this;
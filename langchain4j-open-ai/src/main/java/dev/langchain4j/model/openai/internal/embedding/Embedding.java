@@ -1,5 +1,6 @@
 package dev.langchain4j.model.openai.internal.embedding;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -8,6 +9,8 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
@@ -19,7 +22,7 @@ import static java.util.Collections.unmodifiableList;
 public final class Embedding {
 
     @JsonProperty
-    private final List<Float> embedding;
+    private final float[] embedding;
     @JsonProperty
     private final Integer index;
 
@@ -29,6 +32,21 @@ public final class Embedding {
     }
 
     public List<Float> embedding() {
+        if (embedding == null) {
+            return null;
+        }
+        List<Float> list = new ArrayList<>(embedding.length);
+        for (float value : embedding) {
+            list.add(value);
+        }
+        return unmodifiableList(list);
+    }
+
+    /**
+     * Returns the embedding vector without boxing.
+     * The returned array must not be modified.
+     */
+    public float[] vector() {
         return embedding;
     }
 
@@ -44,14 +62,14 @@ public final class Embedding {
     }
 
     private boolean equalTo(Embedding another) {
-        return Objects.equals(embedding, another.embedding)
+        return Arrays.equals(embedding, another.embedding)
                 && Objects.equals(index, another.index);
     }
 
     @Override
     public int hashCode() {
         int h = 5381;
-        h += (h << 5) + Objects.hashCode(embedding);
+        h += (h << 5) + Arrays.hashCode(embedding);
         h += (h << 5) + Objects.hashCode(index);
         return h;
     }
@@ -59,7 +77,7 @@ public final class Embedding {
     @Override
     public String toString() {
         return "Embedding{"
-                + "embedding=" + embedding
+                + "embedding=" + Arrays.toString(embedding)
                 + ", index=" + index
                 + "}";
     }
@@ -73,16 +91,28 @@ public final class Embedding {
     @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
     public static final class Builder {
 
-        private List<Float> embedding;
+        private float[] embedding;
         private Integer index;
 
+        @JsonIgnore
         public Builder embedding(List<Float> embedding) {
             if (embedding != null) {
-                this.embedding = unmodifiableList(embedding);
+                float[] vector = new float[embedding.size()];
+                for (int i = 0; i < vector.length; i++) {
+                    vector[i] = embedding.get(i);
+                }
+                this.embedding = vector;
             }
             return this;
         }
 
+        @JsonProperty("embedding")
+        @JsonDeserialize(using = EmbeddingVectorDeserializer.class)
+        public Builder vector(float[] vector) {
+            this.embedding = vector;
+            return this;
+        }
+
         public Builder index(Integer index) {
             this.index = index;
             return this;
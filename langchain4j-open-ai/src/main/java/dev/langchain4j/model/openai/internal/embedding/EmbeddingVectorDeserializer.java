@@ -0,0 +1,58 @@
+package dev.langchain4j.model.openai.internal.embedding;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+/**
+ * Deserializes an embedding vector directly into a {@code float[]}.
+ * Supports both wire formats of the OpenAI API:
+ * <ul>
+ *     <li>{@code "encoding_format": "float"}: a JSON array of numbers</li>
+ *     <li>{@code "encoding_format": "base64"}: a base64 string of little-endian IEEE 754 floats</li>
+ * </ul>
+ */
+class EmbeddingVectorDeserializer extends JsonDeserializer<float[]> {
+
+    private static final int INITIAL_CAPACITY = 1536;
+
+    @Override
+    public float[] deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return fromBase64(parser.getBinaryValue());
+        } else if (token == JsonToken.START_ARRAY) {
+            return fromArray(parser);
+        }
+        return (float[]) context.handleUnexpectedToken(float[].class, parser);
+    }
+
+    static float[] fromBase64(byte[] bytes) {
+        if (bytes.length % Float.BYTES != 0) {
+            throw new IllegalArgumentException(
+                    "Base64-encoded embedding has unexpected length: " + bytes.length + " bytes");
+        }
+        float[] vector = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes).order(LITTLE_ENDIAN).asFloatBuffer().get(vector);
+        return vector;
+    }
+
+    private static float[] fromArray(JsonParser parser) throws IOException {
+        float[] vector = new float[INITIAL_CAPACITY];
+        int size = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (size == vector.length) {
+                vector = Arrays.copyOf(vector, size * 2);
+            }
+            vector[size++] = parser.getFloatValue();
+        }
+        return size == vector.length ? vector : Arrays.copyOf(vector, size);
+    }
+}
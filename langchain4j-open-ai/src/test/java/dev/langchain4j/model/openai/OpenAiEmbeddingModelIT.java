@@ -110,6 +110,33 @@ class OpenAiEmbeddingModelIT {
         assertThat(response.finishReason()).isNull();
     }
 
+    @Test
+    void should_embed_multiple_batch_segments_async() {
+        // given
+        EmbeddingModel model = OpenAiEmbeddingModel.builder()
+                .baseUrl(System.getenv("OPENAI_BASE_URL"))
+                .apiKey(System.getenv("OPENAI_API_KEY"))
+                .organizationId(System.getenv("OPENAI_ORGANIZATION_ID"))
+                .modelName(TEXT_EMBEDDING_3_SMALL)
+                .maxSegmentsPerBatch(10)
+                .maxConcurrentBatches(3)
+                .logRequests(true)
+                .logResponses(true)
+                .build();
+
+        List<TextSegment> segments = Stream.generate(() -> TextSegment.from("hello"))
+                .limit(50)
+                .toList();
+
+        // when
+        Response<List<Embedding>> response = model.embedAllAsync(segments).join();
+
+        // then
+        assertThat(response.content()).hasSize(50);
+        assertThat(response.content().get(49).dimension()).isEqualTo(1536);
+        assertThat(response.tokenUsage().inputTokenCount()).isEqualTo(50);
+    }
+
     @Test
     void should_embed_text_with_embedding_shortening() {
 
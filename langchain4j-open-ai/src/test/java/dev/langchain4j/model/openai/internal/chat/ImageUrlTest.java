@@ -0,0 +1,70 @@
+package dev.langchain4j.model.openai.internal.chat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.langchain4j.data.binary.BinaryData;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.Random;
+
+import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageUrlTest {
+
+    ObjectMapper objectMapper = new ObjectMapper().enable(INDENT_OUTPUT);
+
+    @Test
+    void should_serialize_url() throws Exception {
+
+        // given
+        ImageUrl imageUrl = ImageUrl.builder()
+                .url("https://example.com/image.png")
+                .detail(ImageDetail.LOW)
+                .build();
+
+        // when
+        String json = objectMapper.writeValueAsString(imageUrl);
+
+        // then
+        assertThat(json).isEqualToIgnoringWhitespace("{\"url\":\"https://example.com/image.png\",\"detail\":\"low\"}");
+        assertThat(objectMapper.readValue(json, ImageUrl.class)).isEqualTo(imageUrl);
+    }
+
+    @Test
+    void should_encode_binary_data_into_data_url() throws Exception {
+
+        // given
+        byte[] bytes = new byte[100_000];
+        new Random(42).nextBytes(bytes);
+        ImageUrl imageUrl = ImageUrl.builder()
+                .dataUrl(new DataUrl("image/png", BinaryData.from(bytes)))
+                .build();
+
+        // when
+        String json = objectMapper.writeValueAsString(imageUrl);
+
+        // then
+        String expectedUrl = "data:image/png;base64," + Base64.getEncoder().encodeToString(bytes);
+        assertThat(objectMapper.readTree(json).get("url").asText()).isEqualTo(expectedUrl);
+    }
+
+    @Test
+    void should_write_base64_data_as_is() throws Exception {
+
+        // given
+        Content content = Content.builder()
+                .type(ContentType.IMAGE_URL)
+                .imageUrl(ImageUrl.builder()
+                        .dataUrl(new DataUrl("image/png", BinaryData.fromBase64("aGVsbG8=")))
+                        .build())
+                .build();
+
+        // when
+        String json = objectMapper.writeValueAsString(content);
+
+        // then
+        assertThat(json).isEqualToIgnoringWhitespace(
+                "{\"type\":\"image_url\",\"image_url\":{\"url\":\"data:image/png;base64,aGVsbG8=\"}}");
+    }
+}
@@ -0,0 +1,80 @@
+package dev.langchain4j.model.openai.internal.embedding;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmbeddingResponseTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    void should_deserialize_float_embedding() throws Exception {
+
+        // given
+        String json = """
+                {
+                  "model": "text-embedding-3-small",
+                  "data": [
+                    {"index": 0, "embedding": [0.1, -0.2, 0.3]}
+                  ]
+                }
+                """;
+
+        // when
+        EmbeddingResponse response = OBJECT_MAPPER.readValue(json, EmbeddingResponse.class);
+
+        // then
+        Embedding embedding = response.data().get(0);
+        assertThat(embedding.index()).isEqualTo(0);
+        assertThat(embedding.vector()).containsExactly(0.1f, -0.2f, 0.3f);
+        assertThat(embedding.embedding()).containsExactly(0.1f, -0.2f, 0.3f);
+    }
+
+    @Test
+    void should_deserialize_base64_embedding() throws Exception {
+
+        // given
+        float[] expected = {0.1f, -0.2f, 0.3f, Float.MIN_VALUE};
+        ByteBuffer buffer = ByteBuffer.allocate(expected.length * Float.BYTES).order(LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(expected);
+        String base64 = Base64.getEncoder().encodeToString(buffer.array());
+
+        String json = """
+                {
+                  "model": "text-embedding-3-small",
+                  "data": [
+                    {"index": 0, "embedding": "%s"}
+                  ]
+                }
+                """.formatted(base64);
+
+        // when
+        EmbeddingResponse response = OBJECT_MAPPER.readValue(json, EmbeddingResponse.class);
+
+        // then
+        assertThat(response.data().get(0).vector()).containsExactly(expected);
+    }
+
+    @Test
+    void should_serialize_encoding_format() throws Exception {
+
+        // given
+        EmbeddingRequest request = EmbeddingRequest.builder()
+                .model("text-embedding-3-small")
+                .input("hello")
+                .encodingFormat("base64")
+                .build();
+
+        // when
+        String json = OBJECT_MAPPER.writeValueAsString(request);
+
+        // then
+        assertThat(json).contains("\"encoding_format\":\"base64\"");
+    }
+}
@@ -85,6 +85,15 @@ class ColumnsMetadataHandler implements MetadataHandler {
         }
     }
 
+    @Override
+    public List<String> textValues(Metadata metadata) {
+        // only column names fields will be stored
+        Map<String, Object> values = metadata.toMap();
+        return this.columnsName.stream()
+                .map(c -> values.get(c) == null ? null : values.get(c).toString())
+                .collect(Collectors.toList());
+    }
+
     @Override
     public String whereClause(Filter filter) {
         return filterMapper.map(filter);
@@ -0,0 +1,21 @@
+package dev.langchain4j.store.embedding.pgvector;
+
+/**
+ * Vector index type
+ * <ul>
+ * <li>IVFFLAT: <a href="https://github.com/pgvector/pgvector#ivfflat">IVFFlat</a> index, faster to build and smaller, needs data to be present before creation.
+ * <li>HNSW: <a href="https://github.com/pgvector/pgvector#hnsw">HNSW</a> index, better speed-recall tradeoff, slower to build.
+ * </ul>
+ * <p>
+ * Default value: IVFFLAT
+ */
+public enum IndexType {
+    /**
+     * IVFFLAT: faster to build and smaller, needs data to be present before creation.
+     */
+    IVFFLAT,
+    /**
+     * HNSW: better speed-recall tradeoff, slower to build and uses more memory.
+     */
+    HNSW
+}
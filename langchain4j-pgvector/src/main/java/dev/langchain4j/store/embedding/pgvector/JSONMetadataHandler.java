@@ -82,9 +82,21 @@ class JSONMetadataHandler implements MetadataHandler {
     @Override
     public void setMetadata(PreparedStatement upsertStmt, Integer parameterInitialIndex, Metadata metadata) {
         try {
-            upsertStmt.setObject(parameterInitialIndex,
-                    OBJECT_MAPPER.writeValueAsString(metadata.asMap()), Types.OTHER);
-        } catch (SQLException | JsonProcessingException e) {
+            upsertStmt.setObject(parameterInitialIndex, toJson(metadata), Types.OTHER);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public List<String> textValues(Metadata metadata) {
+        return Collections.singletonList(toJson(metadata));
+    }
+
+    private static String toJson(Metadata metadata) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(metadata.asMap());
+        } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
     }
@@ -69,5 +69,14 @@ interface MetadataHandler {
      */
     void setMetadata(PreparedStatement upsertStmt, Integer parameterInitialIndex, Metadata metadata);
 
+    /**
+     * Metadata values as text, following metadata definition.
+     * Used for bulk loading, where the server casts the text values to the metadata column types.
+     *
+     * @param metadata metadata values
+     * @return one value (possibly null) per metadata column, in the order of {@link #columnsNames()}
+     */
+    List<String> textValues(Metadata metadata);
+
 
 }
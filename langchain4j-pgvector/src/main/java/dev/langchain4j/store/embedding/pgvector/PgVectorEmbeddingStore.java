@@ -11,6 +11,8 @@ import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.filter.Filter;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
 import org.postgresql.ds.PGSimpleDataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,13 +27,16 @@ import static dev.langchain4j.internal.ValidationUtils.*;
 import static java.lang.String.join;
 import static java.util.Collections.nCopies;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 
 /**
  * PGVector EmbeddingStore Implementation
  * <p>
  * Only cosine similarity is used.
- * Only ivfflat index is used.
+ * Both <a href="https://github.com/pgvector/pgvector#ivfflat">IVFFlat</a> and
+ * <a href="https://github.com/pgvector/pgvector#hnsw">HNSW</a> indexes are supported,
+ * optionally on binary quantized embeddings.
  */
 @NoArgsConstructor(force = true) // Needed for inherited bean injection validation
 public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
@@ -48,6 +53,51 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
      * Metadata handler
      */
     final MetadataHandler metadataHandler;
+    /**
+     * Minimum number of embeddings added at once for which COPY is used instead of INSERT
+     */
+    final int bulkLoadThreshold;
+    /**
+     * Whether the vector extension has already been created
+     */
+    private volatile boolean extensionCreated;
+    /**
+     * SQL types of the metadata columns, loaded on first bulk load
+     */
+    private volatile List<String> metadataColumnTypes;
+
+    /**
+     * Vector dimension, may be null when the table is not created by the store
+     */
+    final Integer dimension;
+    /**
+     * Vector index type
+     */
+    final IndexType indexType;
+    /**
+     * Type of the embedding column
+     */
+    final VectorType vectorType;
+    /**
+     * Whether the index is built on binary quantized embeddings
+     */
+    final boolean binaryQuantization;
+    /**
+     * HNSW index build parameters, server defaults are used when null
+     */
+    final Integer hnswM;
+    final Integer hnswEfConstruction;
+    /**
+     * Per-query search parameters, server defaults are used when null
+     */
+    final Integer hnswEfSearch;
+    final Integer ivfflatProbes;
+    /**
+     * Whether search returns the embeddings of the matches
+     */
+    final boolean returnEmbeddings;
+
+    private static final String STAGING_TABLE = "langchain4j_pgvector_staging";
 
     /**
      * Constructor for PgVectorEmbeddingStore Class
@@ -60,6 +110,17 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
      * @param createTable           Should create table automatically
      * @param dropTableFirst        Should drop table first, usually for testing
      * @param metadataStorageConfig The {@link MetadataStorageConfig} config.
+     * @param bulkLoadThreshold     The minimum number of embeddings added at once for which
+     *                              binary COPY is used instead of INSERT statements. Default is 1000.
+     * @param indexType             The vector index type, used when useIndex is true. Default is {@link IndexType#IVFFLAT}.
+     * @param hnswM                 The HNSW max number of connections per layer
+     * @param hnswEfConstruction    The HNSW size of the dynamic candidate list for constructing the graph
+     * @param hnswEfSearch          The HNSW size of the dynamic candidate list for search, set per query
+     * @param ivfflatProbes         The IVFFlat number of lists to probe, set per query
+     * @param vectorType            The type of the embedding column. Default is {@link VectorType#VECTOR}.
+     * @param binaryQuantization    Should index binary quantized embeddings; matches are re-ranked by exact distance.
+     *                              Requires dimension. Default is false.
+     * @param returnEmbeddings      Should search return the embeddings of the matches. Default is true.
      */
     @Builder(builderMethodName = "datasourceBuilder", builderClassName = "DatasourceBuilder")
     protected PgVectorEmbeddingStore(DataSource datasource,
@@ -69,11 +130,30 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
                                      Integer indexListSize,
                                      Boolean createTable,
                                      Boolean dropTableFirst,
-                                     MetadataStorageConfig metadataStorageConfig) {
+                                     MetadataStorageConfig metadataStorageConfig,
+                                     Integer bulkLoadThreshold,
+                                     IndexType indexType,
+                                     Integer hnswM,
+                                     Integer hnswEfConstruction,
+                                     Integer hnswEfSearch,
+                                     Integer ivfflatProbes,
+                                     VectorType vectorType,
+                                     Boolean binaryQuantization,
+                                     Boolean returnEmbeddings) {
         this.datasource = ensureNotNull(datasource, "datasource");
         this.table = ensureNotBlank(table, "table");
         MetadataStorageConfig config = getOrDefault(metadataStorageConfig, DefaultMetadataStorageConfig.defaultConfig());
         this.metadataHandler = MetadataHandlerFactory.get(config);
+        this.bulkLoadThreshold = ensureGreaterThanZero(getOrDefault(bulkLoadThreshold, 1000), "bulkLoadThreshold");
+        this.indexType = getOrDefault(indexType, IndexType.IVFFLAT);
+        this.hnswM = hnswM;
+        this.hnswEfConstruction = hnswEfConstruction;
+        this.hnswEfSearch = hnswEfSearch;
+        this.ivfflatProbes = ivfflatProbes;
+        this.vectorType = getOrDefault(vectorType, VectorType.VECTOR);
+        this.binaryQuantization = getOrDefault(binaryQuantization, false);
+        this.dimension = this.binaryQuantization ? ensureGreaterThanZero(dimension, "dimension") : dimension;
+        this.returnEmbeddings = getOrDefault(returnEmbeddings, true);
         useIndex = getOrDefault(useIndex, false);
         createTable = getOrDefault(createTable, true);
         dropTableFirst = getOrDefault(dropTableFirst, false);
@@ -81,6 +161,61 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
         initTable(dropTableFirst, createTable, useIndex, dimension, indexListSize);
     }
 
+    /**
+     * Constructor for PgVectorEmbeddingStore Class
+     *
+     * @param datasource            The datasource to use
+     * @param table                 The database table
+     * @param dimension             The vector dimension
+     * @param useIndex              Should use <a href="https://github.com/pgvector/pgvector#ivfflat">IVFFlat</a> index
+     * @param indexListSize         The IVFFlat number of lists
+     * @param createTable           Should create table automatically
+     * @param dropTableFirst        Should drop table first, usually for testing
+     * @param metadataStorageConfig The {@link MetadataStorageConfig} config.
+     * @deprecated use {@link #datasourceBuilder()} instead
+     */
+    @Deprecated
+    protected PgVectorEmbeddingStore(DataSource datasource,
+                                     String table,
+                                     Integer dimension,
+                                     Boolean useIndex,
+                                     Integer indexListSize,
+                                     Boolean createTable,
+                                     Boolean dropTableFirst,
+                                     MetadataStorageConfig metadataStorageConfig) {
+        this(datasource, table, dimension, useIndex, indexListSize, createTable, dropTableFirst, metadataStorageConfig,
+                null, null, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * Constructor for PgVectorEmbeddingStore Class
+     *
+     * @param datasource            The datasource to use
+     * @param table                 The database table
+     * @param dimension             The vector dimension
+     * @param useIndex              Should use <a href="https://github.com/pgvector/pgvector#ivfflat">IVFFlat</a> index
+     * @param indexListSize         The IVFFlat number of lists
+     * @param createTable           Should create table automatically
+     * @param dropTableFirst        Should drop table first, usually for testing
+     * @param metadataStorageConfig The {@link MetadataStorageConfig} config.
+     * @param bulkLoadThreshold     The minimum number of embeddings added at once for which
+     *                              binary COPY is used instead of INSERT statements. Default is 1000.
+     * @deprecated use {@link #datasourceBuilder()} instead
+     */
+    @Deprecated
+    protected PgVectorEmbeddingStore(DataSource datasource,
+                                     String table,
+                                     Integer dimension,
+                                     Boolean useIndex,
+                                     Integer indexListSize,
+                                     Boolean createTable,
+                                     Boolean dropTableFirst,
+                                     MetadataStorageConfig metadataStorageConfig,
+                                     Integer bulkLoadThreshold) {
+        this(datasource, table, dimension, useIndex, indexListSize, createTable, dropTableFirst, metadataStorageConfig,
+                bulkLoadThreshold, null, null, null, null, null, null, null, null);
+    }
+
     /**
      * Constructor for PgVectorEmbeddingStore Class
      * Use this builder when you don't have datasource management.
@@ -97,6 +232,17 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
      * @param createTable           Should create table automatically
      * @param dropTableFirst        Should drop table first, usually for testing
      * @param metadataStorageConfig The {@link MetadataStorageConfig} config.
+     * @param bulkLoadThreshold     The minimum number of embeddings added at once for which
+     *                              binary COPY is used instead of INSERT statements. Default is 1000.
+     * @param indexType             The vector index type, used when useIndex is true. Default is {@link IndexType#IVFFLAT}.
+     * @param hnswM                 The HNSW max number of connections per layer
+     * @param hnswEfConstruction    The HNSW size of the dynamic candidate list for constructing the graph
+     * @param hnswEfSearch          The HNSW size of the dynamic candidate list for search, set per query
+     * @param ivfflatProbes         The IVFFlat number of lists to probe, set per query
+     * @param vectorType            The type of the embedding column. Default is {@link VectorType#VECTOR}.
+     * @param binaryQuantization    Should index binary quantized embeddings; matches are re-ranked by exact distance.
+     *                              Requires dimension. Default is false.
+     * @param returnEmbeddings      Should search return the embeddings of the matches. Default is true.
      */
     @SuppressWarnings("unused")
     @Builder
@@ -112,10 +258,98 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
             Integer indexListSize,
             Boolean createTable,
             Boolean dropTableFirst,
-            MetadataStorageConfig metadataStorageConfig
+            MetadataStorageConfig metadataStorageConfig,
+            Integer bulkLoadThreshold,
+            IndexType indexType,
+            Integer hnswM,
+            Integer hnswEfConstruction,
+            Integer hnswEfSearch,
+            Integer ivfflatProbes,
+            VectorType vectorType,
+            Boolean binaryQuantization,
+            Boolean returnEmbeddings
     ) {
         this(createDataSource(host, port, user, password, database),
-                table, dimension, useIndex, indexListSize, createTable, dropTableFirst, metadataStorageConfig);
+                table, dimension, useIndex, indexListSize, createTable, dropTableFirst, metadataStorageConfig,
+                bulkLoadThreshold, indexType, hnswM, hnswEfConstruction, hnswEfSearch, ivfflatProbes,
+                vectorType, binaryQuantization, returnEmbeddings);
+    }
+
+    /**
+     * Constructor for PgVectorEmbeddingStore Class
+     * Use this builder when you don't have datasource management.
+     *
+     * @param host                  The database host
+     * @param port                  The database port
+     * @param user                  The database user
+     * @param password              The database password
+     * @param database              The database name
+     * @param table                 The database table
+     * @param dimension             The vector dimension
+     * @param useIndex              Should use <a href="https://github.com/pgvector/pgvector#ivfflat">IVFFlat</a> index
+     * @param indexListSize         The IVFFlat number of lists
+     * @param createTable           Should create table automatically
+     * @param dropTableFirst        Should drop table first, usually for testing
+     * @param metadataStorageConfig The {@link MetadataStorageConfig} config.
+     * @deprecated use {@link #builder()} instead
+     */
+    @Deprecated
+    protected PgVectorEmbeddingStore(
+            String host,
+            Integer port,
+            String user,
+            String password,
+            String database,
+            String table,
+            Integer dimension,
+            Boolean useIndex,
+            Integer indexListSize,
+            Boolean createTable,
+            Boolean dropTableFirst,
+            MetadataStorageConfig metadataStorageConfig
+    ) {
+        this(host, port, user, password, database, table, dimension, useIndex, indexListSize, createTable,
+                dropTableFirst, metadataStorageConfig, null, null, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * Constructor for PgVectorEmbeddingStore Class
+     * Use this builder when you don't have datasource management.
+     *
+     * @param host                  The database host
+     * @param port                  The database port
+     * @param user                  The database user
+     * @param password              The database password
+     * @param database              The database name
+     * @param table                 The database table
+     * @param dimension             The vector dimension
+     * @param useIndex              Should use <a href="https://github.com/pgvector/pgvector#ivfflat">IVFFlat</a> index
+     * @param indexListSize         The IVFFlat number of lists
+     * @param createTable           Should create table automatically
+     * @param dropTableFirst        Should drop table first, usually for testing
+     * @param metadataStorageConfig The {@link MetadataStorageConfig} config.
+     * @param bulkLoadThreshold     The minimum number of embeddings added at once for which
+     *                              binary COPY is used instead of INSERT statements. Default is 1000.
+     * @deprecated use {@link #builder()} instead
+     */
+    @Deprecated
+    protected PgVectorEmbeddingStore(
+            String host,
+            Integer port,
+            String user,
+            String password,
+            String database,
+            String table,
+            Integer dimension,
+            Boolean useIndex,
+            Integer indexListSize,
+            Boolean createTable,
+            Boolean dropTableFirst,
+            MetadataStorageConfig metadataStorageConfig,
+            Integer bulkLoadThreshold
+    ) {
+        this(host, port, user, password, database, table, dimension, useIndex, indexListSize, createTable,
+                dropTableFirst, metadataStorageConfig, bulkLoadThreshold, null, null, null, null, null, null, null, null);
     }
 
     private static DataSource createDataSource(String host, Integer port, String user, String password, String database) {
@@ -141,7 +375,7 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
      *
      * @param dropTableFirst Should drop table first, usually for testing
      * @param createTable    Should create table automatically
-     * @param useIndex       Should use <a href="https://github.com/pgvector/pgvector#ivfflat">IVFFlat</a> index
+     * @param useIndex       Should create the vector index of the configured {@link IndexType}
      * @param dimension      The vector dimension
      * @param indexListSize  The IVFFlat number of lists
      */
@@ -154,19 +388,14 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
             }
             if (createTable) {
                 query = String.format("CREATE TABLE IF NOT EXISTS %s (embedding_id UUID PRIMARY KEY, " +
-                                "embedding vector(%s), text TEXT NULL, %s )",
-                        table, ensureGreaterThanZero(dimension, "dimension"),
+                                "embedding %s(%s), text TEXT NULL, %s )",
+                        table, vectorType.sqlType(), ensureGreaterThanZero(dimension, "dimension"),
                         metadataHandler.columnDefinitionsString());
                 statement.executeUpdate(query);
                 metadataHandler.createMetadataIndexes(statement, table);
             }
             if (useIndex) {
-                final String indexName = table + "_ivfflat_index";
-                query = String.format(
-                        "CREATE INDEX IF NOT EXISTS %s ON %s " +
-                                "USING ivfflat (embedding vector_cosine_ops) " +
-                                "WITH (lists = %s)",
-                        indexName, table, ensureGreaterThanZero(indexListSize, "indexListSize"));
+                query = createIndexQuery(indexListSize);
                 statement.executeUpdate(query);
             }
         } catch (SQLException e) {
@@ -174,6 +403,34 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
         }
     }
 
+    private String createIndexQuery(Integer indexListSize) {
+        String indexedExpression = binaryQuantization ? "(" + quantizedEmbedding() + ")" : "embedding";
+        String operatorClass = binaryQuantization ? "bit_hamming_ops" : vectorType.cosineOperatorClass();
+        if (indexType == IndexType.HNSW) {
+            List<String> parameters = new ArrayList<>();
+            if (hnswM != null) {
+                parameters.add("m = " + ensureGreaterThanZero(hnswM, "hnswM"));
+            }
+            if (hnswEfConstruction != null) {
+                parameters.add("ef_construction = " + ensureGreaterThanZero(hnswEfConstruction, "hnswEfConstruction"));
+            }
+            return String.format(
+                    "CREATE INDEX IF NOT EXISTS %s ON %s USING hnsw (%s %s)%s",
+                    table + "_hnsw_index", table, indexedExpression, operatorClass,
+                    parameters.isEmpty() ? "" : " WITH (" + join(", ", parameters) + ")");
+        }
+        return String.format(
+                "CREATE INDEX IF NOT EXISTS %s ON %s " +
+                        "USING ivfflat (%s %s) " +
+                        "WITH (lists = %s)",
+                table + "_ivfflat_index", table, indexedExpression, operatorClass,
+                ensureGreaterThanZero(indexListSize, "indexListSize"));
+    }
+
+    private String quantizedEmbedding() {
+        return String.format("CAST(binary_quantize(embedding) AS bit(%s))", dimension);
+    }
+
     /**
      * Adds a given embedding to the store.
      *
@@ -281,33 +538,67 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
 
         List<EmbeddingMatch<TextSegment>> result = new ArrayList<>();
         try (Connection connection = getConnection()) {
-            String referenceVector = Arrays.toString(referenceEmbedding.vector());
+            PGvector referenceVector = new PGvector(referenceEmbedding.vector());
             String whereClause = (filter == null) ? "" : metadataHandler.whereClause(filter);
             whereClause = (whereClause.isEmpty()) ? "" : "AND " + whereClause;
+            // the reference vector and the limits are bound as parameters,
+            // so that the statement text does not change between searches and the server can reuse the plan
+            String reference = String.format("CAST(? AS %s)", vectorType.sqlType());
+            String embeddingColumn = vectorType == VectorType.VECTOR ? "embedding, " : "CAST(embedding AS vector) AS embedding, ";
+            String source = table;
+            if (binaryQuantization) {
+                // candidates are found by hamming distance on the binary quantized index, then re-ranked
+                source = String.format("(SELECT * FROM %s WHERE TRUE %s ORDER BY %s <~> binary_quantize(%s) LIMIT ?) AS candidates",
+                        table, whereClause, quantizedEmbedding(), reference);
+                whereClause = "";
+            }
             String query = String.format(
-                    "SELECT (2 - (embedding <=> '%s')) / 2 AS score, embedding_id, embedding, text, %s FROM %s " +
-                    "WHERE round(cast(float8 (embedding <=> '%s') as numeric), 8) <= round(2 - 2 * %s, 8) %s " +                    "ORDER BY embedding <=> '%s' LIMIT %s;",
-                    referenceVector, join(",", metadataHandler.columnsNames()), table, referenceVector,
-                    minScore, whereClause, referenceVector, maxResults
+                    "SELECT (2 - (embedding <=> %s)) / 2 AS score, embedding_id, %stext, %s FROM %s " +
+                    "WHERE round(cast(float8 (embedding <=> %s) as numeric), 8) <= round(cast(2 - 2 * ? as numeric), 8) %s " +
+                    "ORDER BY embedding <=> %s LIMIT ?;",
+                    reference, returnEmbeddings ? embeddingColumn : "", join(",", metadataHandler.columnsNames()),
+                    source, reference, whereClause, reference
             );
-            try (PreparedStatement selectStmt = connection.prepareStatement(query)) {
-                try (ResultSet resultSet = selectStmt.executeQuery()) {
-                    while (resultSet.next()) {
-                        double score = resultSet.getDouble("score");
-                        String embeddingId = resultSet.getString("embedding_id");
-
-                        PGvector vector = (PGvector) resultSet.getObject("embedding");
-                        Embedding embedding = new Embedding(vector.toArray());
-
-                        String text = resultSet.getString("text");
-                        TextSegment textSegment = null;
-                        if (isNotNullOrBlank(text)) {
-                            Metadata metadata = metadataHandler.fromResultSet(resultSet);
-                            textSegment = TextSegment.from(text, metadata);
-                        }
-                        result.add(new EmbeddingMatch<>(score, embeddingId, embedding, textSegment));
+
+            boolean tuneSearch = hnswEfSearch != null || ivfflatProbes != null;
+            boolean autoCommit = connection.getAutoCommit();
+            if (tuneSearch && autoCommit) {
+                // SET LOCAL only lasts until the end of the transaction
+                connection.setAutoCommit(false);
+            }
+            try {
+                if (tuneSearch) {
+                    setSearchParameters(connection);
+                }
+                try (PreparedStatement selectStmt = connection.prepareStatement(query)) {
+                    int parameterIndex = 1;
+                    selectStmt.setObject(parameterIndex++, referenceVector);
+                    if (binaryQuantization) {
+                        selectStmt.setObject(parameterIndex++, referenceVector);
+                        selectStmt.setInt(parameterIndex++, Math.max(maxResults, getOrDefault(hnswEfSearch, 40)));
+                    }
+                    selectStmt.setObject(parameterIndex++, referenceVector);
+                    selectStmt.setDouble(parameterIndex++, minScore);
+                    selectStmt.setObject(parameterIndex++, referenceVector);
+                    selectStmt.setInt(parameterIndex, maxResults);
+                    readMatches(selectStmt, result);
+                }
+                if (tuneSearch && autoCommit) {
+                    connection.commit();
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (tuneSearch && autoCommit) {
+                    try {
+                        connection.rollback();
+                    } catch (SQLException rollbackException) {
+                        e.addSuppressed(rollbackException);
                     }
                 }
+                throw e;
+            } finally {
+                if (tuneSearch && autoCommit) {
+                    connection.setAutoCommit(true);
+                }
             }
         } catch (SQLException e) {
             throw new RuntimeException(e);
@@ -315,6 +606,40 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
         return new EmbeddingSearchResult<>(result);
     }
 
+    private void setSearchParameters(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            if (hnswEfSearch != null) {
+                statement.execute("SET LOCAL hnsw.ef_search = " + hnswEfSearch);
+            }
+            if (ivfflatProbes != null) {
+                statement.execute("SET LOCAL ivfflat.probes = " + ivfflatProbes);
+            }
+        }
+    }
+
+    private void readMatches(PreparedStatement selectStmt, List<EmbeddingMatch<TextSegment>> result) throws SQLException {
+        try (ResultSet resultSet = selectStmt.executeQuery()) {
+            while (resultSet.next()) {
+                double score = resultSet.getDouble("score");
+                String embeddingId = resultSet.getString("embedding_id");
+
+                Embedding embedding = null;
+                if (returnEmbeddings) {
+                    PGvector vector = (PGvector) resultSet.getObject("embedding");
+                    embedding = new Embedding(vector.toArray());
+                }
+
+                String text = resultSet.getString("text");
+                TextSegment textSegment = null;
+                if (isNotNullOrBlank(text)) {
+                    Metadata metadata = metadataHandler.fromResultSet(resultSet);
+                    textSegment = TextSegment.from(text, metadata);
+                }
+                result.add(new EmbeddingMatch<>(score, embeddingId, embedding, textSegment));
+            }
+        }
+    }
+
     private void addInternal(String id, Embedding embedding, TextSegment embedded) {
         addAll(
                 singletonList(id),
@@ -333,14 +658,19 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
         ensureTrue(embedded == null || embeddings.size() == embedded.size(),
                 "embeddings size is not equal to embedded size");
 
+        if (ids.size() >= bulkLoadThreshold) {
+            bulkLoad(ids, embeddings, embedded);
+            return;
+        }
+
         try (Connection connection = getConnection()) {
             String query = String.format(
-                    "INSERT INTO %s (embedding_id, embedding, text, %s) VALUES (?, ?, ?, %s)" +
+                    "INSERT INTO %s (embedding_id, embedding, text, %s) VALUES (?, CAST(? AS %s), ?, %s)" +
                             "ON CONFLICT (embedding_id) DO UPDATE SET " +
                             "embedding = EXCLUDED.embedding," +
                             "text = EXCLUDED.text," +
                             "%s;",
-                    table, join(",", metadataHandler.columnsNames()),
+                    table, join(",", metadataHandler.columnsNames()), vectorType.sqlType(),
                     join(",", nCopies(metadataHandler.columnsNames().size(), "?")),
                     metadataHandler.insertClause());
             try (PreparedStatement upsertStmt = connection.prepareStatement(query)) {
@@ -371,9 +701,121 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
         }
     }
 
+    /**
+     * Loads embeddings with binary COPY into a temporary staging table, then upserts them into the
+     * embeddings table with a single {@code INSERT ... SELECT ... ON CONFLICT} statement.
+     * If the same ID occurs more than once, the last occurrence wins, as with row-by-row inserts.
+     */
+    private void bulkLoad(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
+        List<String> metadataColumns = metadataHandler.columnsNames();
+        try (Connection connection = getConnection()) {
+            List<String> metadataTypes = metadataColumnTypes(connection);
+            // the staging table lives only within the transaction, an outer transaction is joined if there is one
+            boolean autoCommit = connection.getAutoCommit();
+            if (autoCommit) {
+                connection.setAutoCommit(false);
+            }
+            try {
+                try (Statement statement = connection.createStatement()) {
+                    statement.executeUpdate(String.format(
+                            "CREATE TEMP TABLE %s (row_number INT, embedding_id UUID, embedding vector, text TEXT, %s) " +
+                                    "ON COMMIT DROP",
+                            STAGING_TABLE,
+                            metadataColumns.stream().map(c -> c + " TEXT").collect(joining(","))));
+                }
+
+                String copy = String.format("COPY %s FROM STDIN (FORMAT BINARY)", STAGING_TABLE);
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (BinaryCopyWriter writer = new BinaryCopyWriter(new PGCopyOutputStream(pgConnection, copy))) {
+                    for (int i = 0; i < ids.size(); ++i) {
+                        writer.startRow(4 + metadataColumns.size());
+                        writer.writeInt(i);
+                        writer.writeUuid(UUID.fromString(ids.get(i)));
+                        writer.writeVector(new PGvector(embeddings.get(i).vector()));
+                        TextSegment segment = embedded == null ? null : embedded.get(i);
+                        if (segment != null) {
+                            writer.writeText(segment.text());
+                            for (String value : metadataHandler.textValues(segment.metadata())) {
+                                writer.writeText(value);
+                            }
+                        } else {
+                            writer.writeNull();
+                            for (int j = 0; j < metadataColumns.size(); j++) {
+                                writer.writeNull();
+                            }
+                        }
+                    }
+                }
+
+                String castMetadataColumns = IntStream.range(0, metadataColumns.size())
+                        .mapToObj(j -> String.format("CAST(%s AS %s)", metadataColumns.get(j), metadataTypes.get(j)))
+                        .collect(joining(","));
+                String upsert = String.format(
+                        "INSERT INTO %s (embedding_id, embedding, text, %s) " +
+                                "SELECT DISTINCT ON (embedding_id) embedding_id, CAST(embedding AS %s), text, %s FROM %s " +
+                                "ORDER BY embedding_id, row_number DESC " +
+                                "ON CONFLICT (embedding_id) DO UPDATE SET " +
+                                "embedding = EXCLUDED.embedding," +
+                                "text = EXCLUDED.text," +
+                                "%s;",
+                        table, join(",", metadataColumns), vectorType.sqlType(), castMetadataColumns, STAGING_TABLE,
+                        metadataHandler.insertClause());
+                try (Statement statement = connection.createStatement()) {
+                    statement.executeUpdate(upsert);
+                    statement.executeUpdate(String.format("DROP TABLE %s", STAGING_TABLE));
+                }
+                if (autoCommit) {
+                    connection.commit();
+                }
+            } catch (Exception e) {
+                if (autoCommit) {
+                    connection.rollback();
+                }
+                throw e;
+            } finally {
+                if (autoCommit) {
+                    connection.setAutoCommit(true);
+                }
+            }
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * SQL types of the metadata columns, as defined in the embeddings table.
+     */
+    private List<String> metadataColumnTypes(Connection connection) throws SQLException {
+        List<String> types = metadataColumnTypes;
+        if (types != null) {
+            return types;
+        }
+        Map<String, String> typesByColumn = new HashMap<>();
+        String query = "SELECT attname, format_type(atttypid, atttypmod) FROM pg_attribute " +
+                "WHERE attrelid = CAST(? AS regclass) AND attnum > 0 AND NOT attisdropped";
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setString(1, table);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    typesByColumn.put(resultSet.getString(1), resultSet.getString(2));
+                }
+            }
+        }
+        types = new ArrayList<>();
+        for (String column : metadataHandler.columnsNames()) {
+            // unquoted identifiers are folded to lower case
+            String type = getOrDefault(typesByColumn.get(column), typesByColumn.get(column.toLowerCase()));
+            types.add(ensureNotNull(type, String.format("type of column %s in table %s", column, table)));
+        }
+        metadataColumnTypes = types;
+        return types;
+    }
+
     /**
      * Datasource connection
      * Creates the vector extension and add the vector type if it does not exist.
+     * The extension is created only once per store, the vector type is registered on each connection,
+     * as the datasource could handle a connection pool.
      * Could be overridden in case extension creation and adding type is done at datasource initialization step.
      *
      * @return Datasource connection
@@ -381,13 +823,18 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
      */
     protected Connection getConnection() throws SQLException {
         Connection connection = datasource.getConnection();
-        // Find a way to do the following code in connection initialization.
-        // Here we assume the datasource could handle a connection pool
-        // and we should add the vector type on each connection
-        try (Statement statement = connection.createStatement()) {
-            statement.executeUpdate("CREATE EXTENSION IF NOT EXISTS vector");
+        try {
+            if (!extensionCreated) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.executeUpdate("CREATE EXTENSION IF NOT EXISTS vector");
+                }
+                extensionCreated = true;
+            }
+            PGvector.addVectorType(connection);
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
         }
-        PGvector.addVectorType(connection);
         return connection;
     }
 }
@@ -0,0 +1,37 @@
+package dev.langchain4j.store.embedding.pgvector;
+
+/**
+ * Type of the embedding column
+ * <ul>
+ * <li>VECTOR: single precision floats, 4 bytes per dimension.
+ * <li>HALFVEC: half precision floats, 2 bytes per dimension. Halves the table and index size.
+ * </ul>
+ * <p>
+ * Default value: VECTOR
+ */
+public enum VectorType {
+    /**
+     * VECTOR: single precision floats, 4 bytes per dimension.
+     */
+    VECTOR("vector", "vector_cosine_ops"),
+    /**
+     * HALFVEC: half precision floats, 2 bytes per dimension. Requires pgvector 0.7.0 or later.
+     */
+    HALFVEC("halfvec", "halfvec_cosine_ops");
+
+    private final String sqlType;
+    private final String cosineOperatorClass;
+
+    VectorType(String sqlType, String cosineOperatorClass) {
+        this.sqlType = sqlType;
+        this.cosineOperatorClass = cosineOperatorClass;
+    }
+
+    String sqlType() {
+        return sqlType;
+    }
+
+    String cosineOperatorClass() {
+        return cosineOperatorClass;
+    }
+}
@@ -0,0 +1,67 @@
+package dev.langchain4j.store.embedding.pgvector;
+
+import com.pgvector.PGvector;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BinaryCopyWriterTest {
+
+    @Test
+    void should_write_rows_in_binary_copy_format() throws IOException {
+
+        // given
+        UUID id = UUID.randomUUID();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        try (BinaryCopyWriter writer = new BinaryCopyWriter(out)) {
+            writer.startRow(5);
+            writer.writeInt(7);
+            writer.writeUuid(id);
+            writer.writeVector(new PGvector(new float[]{1f, 2f}));
+            writer.writeText("ä");
+            writer.writeNull();
+        }
+
+        // then
+        ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+
+        byte[] signature = new byte[11];
+        buffer.get(signature);
+        assertThat(signature).isEqualTo(new byte[]{'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0});
+        assertThat(buffer.getInt()).isZero(); // flags
+        assertThat(buffer.getInt()).isZero(); // header extension length
+
+        assertThat(buffer.getShort()).isEqualTo((short) 5);
+
+        assertThat(buffer.getInt()).isEqualTo(4);
+        assertThat(buffer.getInt()).isEqualTo(7);
+
+        assertThat(buffer.getInt()).isEqualTo(16);
+        assertThat(new UUID(buffer.getLong(), buffer.getLong())).isEqualTo(id);
+
+        assertThat(buffer.getInt()).isEqualTo(2 + 2 + 2 * 4);
+        assertThat(buffer.getShort()).isEqualTo((short) 2); // dimensions
+        assertThat(buffer.getShort()).isZero(); // unused
+        assertThat(buffer.getFloat()).isEqualTo(1f);
+        assertThat(buffer.getFloat()).isEqualTo(2f);
+
+        byte[] text = "ä".getBytes(UTF_8);
+        assertThat(buffer.getInt()).isEqualTo(text.length);
+        byte[] actualText = new byte[text.length];
+        buffer.get(actualText);
+        assertThat(actualText).isEqualTo(text);
+
+        assertThat(buffer.getInt()).isEqualTo(-1);
+
+        assertThat(buffer.getShort()).isEqualTo((short) -1); // trailer
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+}
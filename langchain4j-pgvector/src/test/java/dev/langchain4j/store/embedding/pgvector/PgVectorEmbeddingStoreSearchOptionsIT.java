@@ -0,0 +1,152 @@
+package dev.langchain4j.store.embedding.pgvector;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.assertj.core.data.Percentage.withPercentage;
+import static org.testcontainers.shaded.org.apache.commons.lang3.RandomUtils.nextInt;
+
+/**
+ * Tests the storage and search options that change the SQL of the store,
+ * each against a fresh table.
+ */
+@Testcontainers
+class PgVectorEmbeddingStoreSearchOptionsIT {
+
+    @Container
+    static PostgreSQLContainer<?> pgVector = new PostgreSQLContainer<>("pgvector/pgvector:pg15");
+
+    private final EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @Test
+    void should_store_and_search_halfvec_embeddings() {
+
+        // given
+        EmbeddingStore<TextSegment> embeddingStore = storeBuilder()
+                .vectorType(VectorType.HALFVEC)
+                .build();
+        List<String> ids = addAll(embeddingStore);
+        Embedding queryEmbedding = embeddingModel.embed("I like football").content();
+
+        // when
+        List<EmbeddingMatch<TextSegment>> matches = search(embeddingStore, queryEmbedding);
+
+        // then
+        EmbeddingMatch<TextSegment> match = matches.get(0);
+        assertThat(match.embeddingId()).isEqualTo(ids.get(0));
+        assertThat(match.score()).isCloseTo(1, withPercentage(1));
+        // half precision keeps about three significant digits
+        assertThat(match.embedding().vector()).containsExactly(queryEmbedding.vector(), within(1e-3f));
+        assertThat(match.embedded().text()).isEqualTo("I like football");
+    }
+
+    @Test
+    void should_search_binary_quantized_hnsw_index_and_rerank_by_exact_distance() {
+
+        // given
+        EmbeddingStore<TextSegment> embeddingStore = storeBuilder()
+                .useIndex(true)
+                .indexType(IndexType.HNSW)
+                .binaryQuantization(true)
+                .hnswEfSearch(10)
+                .build();
+        List<String> ids = addAll(embeddingStore);
+        Embedding queryEmbedding = embeddingModel.embed("What is the weather like?").content();
+
+        // when
+        List<EmbeddingMatch<TextSegment>> matches = search(embeddingStore, queryEmbedding);
+
+        // then
+        assertThat(matches).hasSize(3);
+        assertThat(matches.get(0).embeddingId()).isEqualTo(ids.get(1));
+        assertThat(matches.get(0).score()).isGreaterThan(matches.get(1).score());
+        assertThat(matches.get(1).score()).isGreaterThanOrEqualTo(matches.get(2).score());
+    }
+
+    @Test
+    void should_not_return_embeddings_when_disabled() {
+
+        // given
+        EmbeddingStore<TextSegment> embeddingStore = storeBuilder()
+                .returnEmbeddings(false)
+                .build();
+        List<String> ids = addAll(embeddingStore);
+        Embedding queryEmbedding = embeddingModel.embed("I like football").content();
+
+        // when
+        List<EmbeddingMatch<TextSegment>> matches = search(embeddingStore, queryEmbedding);
+
+        // then
+        assertThat(matches).hasSize(3);
+        assertThat(matches.get(0).embeddingId()).isEqualTo(ids.get(0));
+        assertThat(matches.get(0).score()).isCloseTo(1, withPercentage(1));
+        assertThat(matches.get(0).embedded().text()).isEqualTo("I like football");
+        assertThat(matches).allSatisfy(match -> assertThat(match.embedding()).isNull());
+    }
+
+    @Test
+    void should_search_ivfflat_index_with_probes() {
+
+        // given
+        EmbeddingStore<TextSegment> embeddingStore = storeBuilder()
+                .useIndex(true)
+                .indexListSize(1)
+                .ivfflatProbes(1)
+                .build();
+        List<String> ids = addAll(embeddingStore);
+        Embedding queryEmbedding = embeddingModel.embed("The weather is good today.").content();
+
+        // when
+        List<EmbeddingMatch<TextSegment>> first = search(embeddingStore, queryEmbedding);
+        List<EmbeddingMatch<TextSegment>> second = search(embeddingStore, queryEmbedding);
+
+        // then
+        assertThat(first.get(0).embeddingId()).isEqualTo(ids.get(1));
+        assertThat(first.get(0).score()).isCloseTo(1, withPercentage(1));
+        assertThat(second).isEqualTo(first);
+    }
+
+    private PgVectorEmbeddingStore.PgVectorEmbeddingStoreBuilder storeBuilder() {
+        return PgVectorEmbeddingStore.builder()
+                .host(pgVector.getHost())
+                .port(pgVector.getFirstMappedPort())
+                .user("test")
+                .password("test")
+                .database("test")
+                .table("test" + nextInt(4000, 5000))
+                .dimension(384)
+                .dropTableFirst(true);
+    }
+
+    private List<String> addAll(EmbeddingStore<TextSegment> embeddingStore) {
+        List<TextSegment> segments = asList(
+                TextSegment.from("I like football"),
+                TextSegment.from("The weather is good today."),
+                TextSegment.from("Java is a programming language")
+        );
+        List<Embedding> embeddings = embeddingModel.embedAll(segments).content();
+        return embeddingStore.addAll(embeddings, segments);
+    }
+
+    private static List<EmbeddingMatch<TextSegment>> search(EmbeddingStore<TextSegment> embeddingStore,
+                                                             Embedding queryEmbedding) {
+        return embeddingStore.search(EmbeddingSearchRequest.builder()
+                .queryEmbedding(queryEmbedding)
+                .maxResults(3)
+                .build()).matches();
+    }
+}
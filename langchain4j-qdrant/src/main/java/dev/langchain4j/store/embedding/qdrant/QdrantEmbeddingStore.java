@@ -12,6 +12,10 @@ import static java.util.Comparator.comparingDouble;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
@@ -37,6 +41,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import javax.annotation.Nullable;
 
@@ -137,35 +142,54 @@ public class QdrantEmbeddingStore implements EmbeddingStore<TextSegment> {
          return;
     }
     try {
-      List<PointStruct> points = new ArrayList<>(embeddings.size());
+      client.upsertAsync(collectionName, toPoints(ids, embeddings, textSegments)).get();
+    } catch (InterruptedException | ExecutionException e) {
+      throw new RuntimeException(e);
+    }
+  }
 
-      for (int i = 0; i < embeddings.size(); i++) {
+  /**
+   * Upserts the points using the non-blocking gRPC client, without blocking a thread while the request is in flight.
+   */
+  @Override
+  public CompletableFuture<Void> addAllAsync(
+      List<String> ids, List<Embedding> embeddings, List<TextSegment> textSegments) {
+    if (isNullOrEmpty(ids) || isNullOrEmpty(embeddings)) {
+         log.info("Empty embeddings - no ops");
+         return CompletableFuture.completedFuture(null);
+    }
+    return toCompletableFuture(client.upsertAsync(collectionName, toPoints(ids, embeddings, textSegments)))
+        .thenApply(ignored -> null);
+  }
 
-        String id = ids.get(i);
-        UUID uuid = UUID.fromString(id);
-        Embedding embedding = embeddings.get(i);
+  private List<PointStruct> toPoints(
+      List<String> ids, List<Embedding> embeddings, List<TextSegment> textSegments) {
+    List<PointStruct> points = new ArrayList<>(embeddings.size());
 
-        PointStruct.Builder pointBuilder = PointStruct.newBuilder().setId(id(uuid))
-            .setVectors(vectors(embedding.vector()));
+    for (int i = 0; i < embeddings.size(); i++) {
 
-        if (textSegments != null) {
-          Map<String, Object> metadata = textSegments
-              .get(i)
-              .metadata()
-              .toMap();
+      String id = ids.get(i);
+      UUID uuid = UUID.fromString(id);
+      Embedding embedding = embeddings.get(i);
 
-          Map<String, Value> payload = ValueMapFactory.valueMap(metadata);
-          payload.put(payloadTextKey, value(textSegments.get(i).text()));
-          pointBuilder.putAllPayload(payload);
-        }
+      PointStruct.Builder pointBuilder = PointStruct.newBuilder().setId(id(uuid))
+          .setVectors(vectors(embedding.vector()));
 
-        points.add(pointBuilder.build());
+      if (textSegments != null) {
+        Map<String, Object> metadata = textSegments
+            .get(i)
+            .metadata()
+            .toMap();
+
+        Map<String, Value> payload = ValueMapFactory.valueMap(metadata);
+        payload.put(payloadTextKey, value(textSegments.get(i).text()));
+        pointBuilder.putAllPayload(payload);
       }
 
-      client.upsertAsync(collectionName, points).get();
-    } catch (InterruptedException | ExecutionException e) {
-      throw new RuntimeException(e);
+      points.add(pointBuilder.build());
     }
+
+    return points;
   }
 
   @Override
@@ -230,6 +254,28 @@ public class QdrantEmbeddingStore implements EmbeddingStore<TextSegment> {
   @Override
   public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
 
+    List<ScoredPoint> results;
+
+    try {
+      results = client.searchAsync(toSearchPoints(request)).get();
+    } catch (InterruptedException | ExecutionException e) {
+      throw new RuntimeException(e);
+    }
+
+    return toSearchResult(results, request);
+  }
+
+  /**
+   * Searches using the non-blocking gRPC client, without blocking a thread while the search is in flight.
+   */
+  @Override
+  public CompletableFuture<EmbeddingSearchResult<TextSegment>> searchAsync(EmbeddingSearchRequest request) {
+    return toCompletableFuture(client.searchAsync(toSearchPoints(request)))
+        .thenApply(results -> toSearchResult(results, request));
+  }
+
+  private SearchPoints toSearchPoints(EmbeddingSearchRequest request) {
+
     SearchPoints.Builder searchBuilder = SearchPoints.newBuilder()
         .setCollectionName(collectionName)
         .addAllVector(request.queryEmbedding().vectorAsList())
@@ -242,13 +288,11 @@ public class QdrantEmbeddingStore implements EmbeddingStore<TextSegment> {
       searchBuilder.setFilter(filter);
     }
 
-    List<ScoredPoint> results;
+    return searchBuilder.build();
+  }
 
-    try {
-      results = client.searchAsync(searchBuilder.build()).get();
-    } catch (InterruptedException | ExecutionException e) {
-      throw new RuntimeException(e);
-    }
+  private EmbeddingSearchResult<TextSegment> toSearchResult(
+      List<ScoredPoint> results, EmbeddingSearchRequest request) {
 
     if (results.isEmpty()) {
       return new EmbeddingSearchResult<>(emptyList());
@@ -265,6 +309,23 @@ public class QdrantEmbeddingStore implements EmbeddingStore<TextSegment> {
     return new EmbeddingSearchResult<>(matches);
   }
 
+  private static <T> CompletableFuture<T> toCompletableFuture(ListenableFuture<T> listenableFuture) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    Futures.addCallback(listenableFuture, new FutureCallback<T>() {
+
+      @Override
+      public void onSuccess(T result) {
+        future.complete(result);
+      }
+
+      @Override
+      public void onFailure(Throwable t) {
+        future.completeExceptionally(t);
+      }
+    }, MoreExecutors.directExecutor());
+    return future;
+  }
+
   @Override
   public List<EmbeddingMatch<TextSegment>> findRelevant(
       Embedding referenceEmbedding, int maxResults, double minScore) {
@@ -2,11 +2,15 @@ package dev.langchain4j.store.embedding.qdrant;
 
 import static dev.langchain4j.internal.Utils.randomUUID;
 import static io.qdrant.client.grpc.Collections.Distance.Cosine;
+import static org.assertj.core.api.Assertions.assertThat;
 
 import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
 import dev.langchain4j.store.embedding.filter.Filter;
@@ -28,6 +32,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -89,6 +94,32 @@ class QdrantEmbeddingStoreIT extends EmbeddingStoreWithFilteringIT {
         EMBEDDING_STORE.clearStore();
     }
 
+    @Test
+    void should_add_and_search_async() {
+
+        // given
+        clearStore();
+        TextSegment segment = TextSegment.from("hello");
+        Embedding embedding = EMBEDDING_MODEL.embed(segment).content();
+
+        // when
+        List<String> ids = EMBEDDING_STORE
+                .addAllAsync(List.of(embedding), List.of(segment))
+                .join();
+        List<EmbeddingMatch<TextSegment>> matches = EMBEDDING_STORE
+                .searchAsync(EmbeddingSearchRequest.builder()
+                        .queryEmbedding(embedding)
+                        .maxResults(10)
+                        .build())
+                .join()
+                .matches();
+
+        // then
+        assertThat(matches).hasSize(1);
+        assertThat(matches.get(0).embeddingId()).isEqualTo(ids.get(0));
+        assertThat(matches.get(0).embedded()).isEqualTo(segment);
+    }
+
     @Override
     @ParameterizedTest
     @MethodSource("should_filter_by_metadata_not_qdrant")
@@ -6,6 +6,7 @@ import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.Struct;
 import com.google.protobuf.util.JsonFormat;
 import dev.langchain4j.data.audio.Audio;
+import dev.langchain4j.data.binary.BinaryData;
 import dev.langchain4j.data.image.Image;
 import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.AudioContent;
@@ -23,7 +24,6 @@ import dev.langchain4j.data.video.Video;
 import dev.langchain4j.internal.CustomMimeTypesFileTypeDetector;
 
 import java.net.URI;
-import java.util.Base64;
 import java.util.HashMap;
 import java.util.ArrayList;
 import java.util.List;
@@ -175,25 +175,25 @@ class PartsMapper {
 
     static Part map(ImageContent content) {
         Image image = content.image();
-        return getPart(image.url(), image.mimeType(), image.base64Data());
+        return getPart(image.url(), image.mimeType(), image.binaryData());
     }
 
     static Part map(AudioContent content) {
         Audio audio = content.audio();
-        return getPart(audio.url(), audio.mimeType(), audio.base64Data());
+        return getPart(audio.url(), audio.mimeType(), audio.binaryData());
     }
 
     static Part map(VideoContent content) {
         Video video = content.video();
-        return getPart(video.url(), video.mimeType(), video.base64Data());
+        return getPart(video.url(), video.mimeType(), video.binaryData());
     }
 
     static Part map(PdfFileContent content) {
         PdfFile pdfFile = content.pdfFile();
-        return getPart(pdfFile.url(), "application/pdf", pdfFile.base64Data());
+        return getPart(pdfFile.url(), "application/pdf", pdfFile.binaryData());
     }
 
-    private static Part getPart(URI url, String mimeType, String base64data) {
+    private static Part getPart(URI url, String mimeType, BinaryData binaryData) {
         if (url != null) {
             String effectiveMimeType = getOrDefault(mimeType, () -> detectMimeType(url));
             if (url.getScheme().equals("gs")) {
@@ -202,7 +202,7 @@ class PartsMapper {
                 return fromMimeTypeAndData(effectiveMimeType, readBytes(url.toString()));
             }
         }
-        return fromMimeTypeAndData(mimeType, Base64.getDecoder().decode(base64data));
+        return fromMimeTypeAndData(mimeType, binaryData.bytes());
     }
 
     static String detectMimeType(URI url) {
@@ -415,15 +415,17 @@ public class VertexAiImageModel implements ImageModel {
         Map<String, Object> promptMap = new HashMap<>();
         promptMap.put("prompt", prompt);
 
-        if (image != null && image.base64Data() != null) {
+        String imageBase64Data = image == null ? null : image.base64Data();
+        if (imageBase64Data != null) {
             Map<String, String> imageMap = new HashMap<>();
-            imageMap.put("bytesBase64Encoded", image.base64Data());
+            imageMap.put("bytesBase64Encoded", imageBase64Data);
             promptMap.put("image", imageMap);
         }
 
-        if (mask != null && mask.base64Data() != null) {
+        String maskBase64Data = mask == null ? null : mask.base64Data();
+        if (maskBase64Data != null) {
             Map<String, String> imageMap = new HashMap<>();
-            imageMap.put("bytesBase64Encoded", mask.base64Data());
+            imageMap.put("bytesBase64Encoded", maskBase64Data);
 
             Map<String, Map<String, String>> maskMap = new HashMap<>();
             maskMap.put("image", imageMap);
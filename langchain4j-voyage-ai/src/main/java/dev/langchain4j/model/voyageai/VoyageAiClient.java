@@ -1,119 +1,111 @@
 package dev.langchain4j.model.voyageai;
 
-import dev.langchain4j.internal.Utils;
-import okhttp3.Interceptor;
-import okhttp3.OkHttpClient;
-import okhttp3.Request;
-import org.jetbrains.annotations.NotNull;
-import retrofit2.Response;
-import retrofit2.Retrofit;
-import retrofit2.converter.jackson.JacksonConverterFactory;
+import dev.langchain4j.http.client.HttpClient;
+import dev.langchain4j.http.client.HttpClientBuilder;
+import dev.langchain4j.http.client.HttpClientBuilderLoader;
+import dev.langchain4j.http.client.HttpRequest;
+import dev.langchain4j.http.client.SuccessfulHttpResponse;
+import dev.langchain4j.http.client.log.LoggingHttpClient;
 
 import java.io.IOException;
 import java.time.Duration;
 
+import static dev.langchain4j.http.client.HttpMethod.POST;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static dev.langchain4j.model.voyageai.VoyageAiJsonUtils.getObjectMapper;
 
 class VoyageAiClient {
 
-    private final VoyageAiApi voyageAiApi;
+    static final String DEFAULT_BASE_URL = "https://api.voyageai.com/v1/";
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final String authorizationHeader;
 
     VoyageAiClient(
+            HttpClientBuilder httpClientBuilder,
             String baseUrl,
             Duration timeout,
             String apiKey,
             Boolean logRequests,
             Boolean logResponses
     ) {
-        OkHttpClient.Builder okHttpClientBuilder = new OkHttpClient.Builder()
-                .callTimeout(timeout)
-                .connectTimeout(timeout)
-                .readTimeout(timeout)
-                .writeTimeout(timeout);
-
-        okHttpClientBuilder.addInterceptor(new AuthorizationInterceptor(apiKey));
-        if (logRequests) {
-            okHttpClientBuilder.addInterceptor(new RequestLoggingInterceptor());
-        }
-        if (logResponses) {
-            okHttpClientBuilder.addInterceptor(new ResponseLoggingInterceptor());
-        }
+        httpClientBuilder = getOrDefault(httpClientBuilder, HttpClientBuilderLoader::loadHttpClientBuilder);
 
-        Retrofit retrofit = new Retrofit.Builder()
-                .baseUrl(Utils.ensureTrailingForwardSlash(baseUrl))
-                .client(okHttpClientBuilder.build())
-                .addConverterFactory(JacksonConverterFactory.create(getObjectMapper()))
+        HttpClient httpClient = httpClientBuilder
+                .connectTimeout(getOrDefault(timeout, httpClientBuilder.connectTimeout()))
+                .readTimeout(getOrDefault(timeout, httpClientBuilder.readTimeout()))
                 .build();
 
-        this.voyageAiApi = retrofit.create(VoyageAiApi.class);
+        if (logRequests || logResponses) {
+            this.httpClient = new LoggingHttpClient(httpClient, logRequests, logResponses);
+        } else {
+            this.httpClient = httpClient;
+        }
+
+        this.baseUrl = ensureNotBlank(baseUrl, "baseUrl");
+        this.authorizationHeader = "Bearer " + apiKey;
     }
 
     EmbeddingResponse embed(EmbeddingRequest request) {
-        try {
-            Response<EmbeddingResponse> retrofitResponse = voyageAiApi.embed(request).execute();
+        return post("embeddings", request, EmbeddingResponse.class);
+    }
 
-            if (retrofitResponse.isSuccessful()) {
-                return retrofitResponse.body();
-            } else {
-                throw toException(retrofitResponse);
-            }
+    RerankResponse rerank(RerankRequest request) {
+        return post("rerank", request, RerankResponse.class);
+    }
+
+    private <T> T post(String path, Object request, Class<T> responseType) {
+
+        HttpRequest httpRequest = HttpRequest.builder()
+                .method(POST)
+                .url(baseUrl, path)
+                .addHeader("Accept", "application/json")
+                .addHeader("Content-Type", "application/json")
+                .addHeader("Authorization", authorizationHeader)
+                .bodySupplier(() -> toJson(request))
+                .build();
+
+        SuccessfulHttpResponse response = httpClient.execute(httpRequest);
+
+        return fromJson(response.bodyBytes(), responseType);
+    }
+
+    private static byte[] toJson(Object object) {
+        try {
+            return getObjectMapper().writeValueAsBytes(object);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
-    RerankResponse rerank(RerankRequest request) {
+    private static <T> T fromJson(byte[] json, Class<T> type) {
         try {
-            Response<RerankResponse> retrofitResponse = voyageAiApi.rerank(request).execute();
-
-            if (retrofitResponse.isSuccessful()) {
-                return retrofitResponse.body();
-            } else {
-                throw toException(retrofitResponse);
-            }
+            return getObjectMapper().readValue(json, type);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
-    private RuntimeException toException(retrofit2.Response<?> response) throws IOException {
-        int code = response.code();
-        String body = response.errorBody().string();
-        String errorMessage = String.format("status code: %s; body: %s", code, body);
-        return new RuntimeException(errorMessage);
-    }
-
     static Builder builder() {
         return new Builder();
     }
 
-    static class AuthorizationInterceptor implements Interceptor {
-
-        private final String apiKey;
-
-        AuthorizationInterceptor(String apiKey) {
-            this.apiKey = apiKey;
-        }
-
-        @NotNull
-        @Override
-        public okhttp3.Response intercept(Chain chain) throws IOException {
-            Request.Builder builder = chain.request().newBuilder();
-
-            builder.addHeader("Authorization", "Bearer " + apiKey);
-
-            return chain.proceed(builder.build());
-        }
-    }
-
     static class Builder {
 
+        private HttpClientBuilder httpClientBuilder;
         private String baseUrl;
         private Duration timeout;
         private String apiKey;
         private Boolean logRequests;
         private Boolean logResponses;
 
+        Builder httpClientBuilder(HttpClientBuilder httpClientBuilder) {
+            this.httpClientBuilder = httpClientBuilder;
+            return this;
+        }
+
         Builder baseUrl(String baseUrl) {
             this.baseUrl = baseUrl;
             return this;
@@ -140,7 +132,7 @@ class VoyageAiClient {
         }
 
         VoyageAiClient build() {
-            return new VoyageAiClient(baseUrl, timeout, apiKey, logRequests, logResponses);
+            return new VoyageAiClient(httpClientBuilder, baseUrl, timeout, apiKey, logRequests, logResponses);
         }
     }
 }
@@ -2,20 +2,24 @@ package dev.langchain4j.model.voyageai;
 
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.http.client.HttpClientBuilder;
 import dev.langchain4j.model.embedding.DimensionAwareEmbeddingModel;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.TokenUsage;
 
 import java.time.Duration;
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.Executor;
 
+import static dev.langchain4j.internal.EmbeddingBatchUtils.embedInBatches;
+import static dev.langchain4j.internal.EmbeddingBatchUtils.partition;
 import static dev.langchain4j.internal.RetryUtils.withRetry;
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
-import static dev.langchain4j.model.voyageai.VoyageAiApi.DEFAULT_BASE_URL;
+import static dev.langchain4j.model.voyageai.VoyageAiClient.DEFAULT_BASE_URL;
 import static java.time.Duration.ofSeconds;
 import static java.util.stream.Collectors.toList;
 
@@ -32,6 +36,8 @@ public class VoyageAiEmbeddingModel extends DimensionAwareEmbeddingModel {
     private final Boolean truncation;
     private final String encodingFormat;
     private final Integer maxSegmentsPerBatch;
+    private final Integer maxConcurrentBatches;
+    private final Executor executor;
 
     public VoyageAiEmbeddingModel(
             String baseUrl,
@@ -45,15 +51,38 @@ public class VoyageAiEmbeddingModel extends DimensionAwareEmbeddingModel {
             Boolean logRequests,
             Boolean logResponses,
             Integer maxSegmentsPerBatch
+    ) {
+        this(null, baseUrl, timeout, maxRetries, apiKey, modelName, inputType, truncation, encodingFormat,
+                logRequests, logResponses, maxSegmentsPerBatch, null, null);
+    }
+
+    private VoyageAiEmbeddingModel(
+            HttpClientBuilder httpClientBuilder,
+            String baseUrl,
+            Duration timeout,
+            Integer maxRetries,
+            String apiKey,
+            String modelName,
+            String inputType,
+            Boolean truncation,
+            String encodingFormat,
+            Boolean logRequests,
+            Boolean logResponses,
+            Integer maxSegmentsPerBatch,
+            Integer maxConcurrentBatches,
+            Executor executor
     ) {
         this.maxRetries = getOrDefault(maxRetries, 3);
         this.modelName = ensureNotBlank(modelName, "modelName");
         this.maxSegmentsPerBatch = getOrDefault(maxSegmentsPerBatch, 128);
+        this.maxConcurrentBatches = ensureGreaterThanZero(getOrDefault(maxConcurrentBatches, 1), "maxConcurrentBatches");
+        this.executor = executor;
         this.truncation = truncation;
         this.inputType = inputType;
         this.encodingFormat = encodingFormat;
 
         this.client = VoyageAiClient.builder()
+                .httpClientBuilder(httpClientBuilder)
                 .baseUrl(getOrDefault(baseUrl, DEFAULT_BASE_URL))
                 .apiKey(ensureNotBlank(apiKey, "apiKey"))
                 .timeout(getOrDefault(timeout, ofSeconds(60)))
@@ -72,27 +101,22 @@ public class VoyageAiEmbeddingModel extends DimensionAwareEmbeddingModel {
     }
 
     private Response<List<Embedding>> embedTexts(List<String> texts) {
-        List<Embedding> embeddings = new ArrayList<>();
-        int inputTokenCount = 0;
-
-        for (int i = 0; i < texts.size(); i += maxSegmentsPerBatch) {
-            List<String> batch = texts.subList(i, Math.min(i + maxSegmentsPerBatch, texts.size()));
+        List<List<String>> batches = partition(texts, maxSegmentsPerBatch);
+        return embedInBatches(batches, this::embedBatch, maxConcurrentBatches, executor);
+    }
 
-            EmbeddingRequest request = EmbeddingRequest.builder()
-                    .input(batch)
-                    .inputType(inputType)
-                    .model(modelName)
-                    .truncation(truncation)
-                    .encodingFormat(encodingFormat)
-                    .build();
+    private Response<List<Embedding>> embedBatch(List<String> batch) {
+        EmbeddingRequest request = EmbeddingRequest.builder()
+                .input(batch)
+                .inputType(inputType)
+                .model(modelName)
+                .truncation(truncation)
+                .encodingFormat(encodingFormat)
+                .build();
 
-            EmbeddingResponse response = withRetry(() -> this.client.embed(request), maxRetries);
+        EmbeddingResponse response = withRetry(() -> this.client.embed(request), maxRetries);
 
-            embeddings.addAll(getEmbeddings(response));
-            inputTokenCount += getTokenUsage(response);
-        }
-
-        return Response.from(embeddings, new TokenUsage(inputTokenCount));
+        return Response.from(getEmbeddings(response), new TokenUsage(getTokenUsage(response)));
     }
 
     @Override
@@ -121,6 +145,7 @@ public class VoyageAiEmbeddingModel extends DimensionAwareEmbeddingModel {
 
     public static class Builder {
 
+        private HttpClientBuilder httpClientBuilder;
         private String baseUrl;
         private Duration timeout;
         private Integer maxRetries;
@@ -132,6 +157,13 @@ public class VoyageAiEmbeddingModel extends DimensionAwareEmbeddingModel {
         private Boolean logRequests;
         private Boolean logResponses;
         private Integer maxSegmentsPerBatch;
+        private Integer maxConcurrentBatches;
+        private Executor executor;
+
+        public Builder httpClientBuilder(HttpClientBuilder httpClientBuilder) {
+            this.httpClientBuilder = httpClientBuilder;
+            return this;
+        }
 
         public Builder baseUrl(String baseUrl) {
             this.baseUrl = baseUrl;
@@ -236,8 +268,30 @@ public class VoyageAiEmbeddingModel extends DimensionAwareEmbeddingModel {
             return this;
         }
 
+        /**
+         * The maximum number of batches that are sent to Voyage AI at the same time.
+         * The order of the returned embeddings is preserved. Defaults to 1.
+         *
+         * @param maxConcurrentBatches The maximum number of concurrent batches.
+         */
+        public Builder maxConcurrentBatches(Integer maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
+        /**
+         * The executor used to send batches concurrently. Defaults to the shared executor of {@code DefaultExecutorProvider}.
+         *
+         * @param executor The executor.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         public VoyageAiEmbeddingModel build() {
             return new VoyageAiEmbeddingModel(
+                    httpClientBuilder,
                     baseUrl,
                     timeout,
                     maxRetries,
@@ -248,7 +302,9 @@ public class VoyageAiEmbeddingModel extends DimensionAwareEmbeddingModel {
                     encodingFormat,
                     logRequests,
                     logResponses,
-                    maxSegmentsPerBatch
+                    maxSegmentsPerBatch,
+                    maxConcurrentBatches,
+                    executor
             );
         }
     }
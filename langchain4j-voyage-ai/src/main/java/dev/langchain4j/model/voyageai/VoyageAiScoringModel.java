@@ -1,6 +1,7 @@
 package dev.langchain4j.model.voyageai;
 
 import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.http.client.HttpClientBuilder;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.TokenUsage;
 import dev.langchain4j.model.scoring.ScoringModel;
@@ -11,7 +12,7 @@ import java.util.List;
 import static dev.langchain4j.internal.RetryUtils.withRetry;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
-import static dev.langchain4j.model.voyageai.VoyageAiApi.DEFAULT_BASE_URL;
+import static dev.langchain4j.model.voyageai.VoyageAiClient.DEFAULT_BASE_URL;
 import static java.time.Duration.ofSeconds;
 import static java.util.Comparator.comparingInt;
 import static java.util.stream.Collectors.toList;
@@ -38,6 +39,21 @@ public class VoyageAiScoringModel implements ScoringModel {
             Boolean truncation,
             Boolean logRequests,
             Boolean logResponses
+    ) {
+        this(null, baseUrl, timeout, maxRetries, apiKey, modelName, topK, truncation, logRequests, logResponses);
+    }
+
+    private VoyageAiScoringModel(
+            HttpClientBuilder httpClientBuilder,
+            String baseUrl,
+            Duration timeout,
+            Integer maxRetries,
+            String apiKey,
+            String modelName,
+            Integer topK,
+            Boolean truncation,
+            Boolean logRequests,
+            Boolean logResponses
     ) {
         // Below attributes are force to non-null
         this.maxRetries = getOrDefault(maxRetries, 3);
@@ -47,6 +63,7 @@ public class VoyageAiScoringModel implements ScoringModel {
         this.topK = topK;
 
         this.client = VoyageAiClient.builder()
+                .httpClientBuilder(httpClientBuilder)
                 .baseUrl(getOrDefault(baseUrl, DEFAULT_BASE_URL))
                 .apiKey(ensureNotBlank(apiKey, "apiKey"))
                 .timeout(getOrDefault(timeout, ofSeconds(60)))
@@ -83,6 +100,7 @@ public class VoyageAiScoringModel implements ScoringModel {
 
     public static class Builder {
 
+        private HttpClientBuilder httpClientBuilder;
         private String baseUrl;
         private Duration timeout;
         private Integer maxRetries;
@@ -93,6 +111,11 @@ public class VoyageAiScoringModel implements ScoringModel {
         private Boolean logRequests;
         private Boolean logResponses;
 
+        public Builder httpClientBuilder(HttpClientBuilder httpClientBuilder) {
+            this.httpClientBuilder = httpClientBuilder;
+            return this;
+        }
+
         public Builder baseUrl(String baseUrl) {
             this.baseUrl = baseUrl;
             return this;
@@ -171,7 +194,7 @@ public class VoyageAiScoringModel implements ScoringModel {
         }
 
         public VoyageAiScoringModel build() {
-            return new VoyageAiScoringModel(baseUrl, timeout, maxRetries, apiKey, modelName, topK, truncation, logRequests, logResponses);
+            return new VoyageAiScoringModel(httpClientBuilder, baseUrl, timeout, maxRetries, apiKey, modelName, topK, truncation, logRequests, logResponses);
         }
     }
 }
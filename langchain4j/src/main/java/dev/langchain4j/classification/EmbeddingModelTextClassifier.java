@@ -3,15 +3,14 @@ package dev.langchain4j.classification;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
-import dev.langchain4j.store.embedding.CosineSimilarity;
 import dev.langchain4j.store.embedding.RelevanceScore;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
 import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
 import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
@@ -49,7 +48,18 @@ import static java.util.stream.Collectors.toList;
 public class EmbeddingModelTextClassifier<L> implements TextClassifier<L> {
 
     private final EmbeddingModel embeddingModel;
-    private final Map<L, List<Embedding>> exampleEmbeddingsByLabel;
+    private final List<L> labels;
+    /**
+     * The example embeddings, normalized to unit length, one row of {@link #dimension} values per example,
+     * with the examples of each label in consecutive rows.
+     */
+    private final float[] examples;
+    /**
+     * The examples of the i-th label are in rows {@code labelOffsets[i]} (inclusive)
+     * to {@code labelOffsets[i + 1]} (exclusive) of {@link #examples}.
+     */
+    private final int[] labelOffsets;
+    private final int dimension;
     private final int maxResults;
     private final double minScore;
     private final double meanToMaxScoreRatio;
@@ -96,14 +106,30 @@ public class EmbeddingModelTextClassifier<L> implements TextClassifier<L> {
         this.embeddingModel = ensureNotNull(embeddingModel, "embeddingModel");
         ensureNotNull(examplesByLabel, "examplesByLabel");
 
-        this.exampleEmbeddingsByLabel = new HashMap<>();
-        examplesByLabel.forEach((label, examples) ->
-                exampleEmbeddingsByLabel.put(label, embeddingModel.embedAll(
-                        examples.stream()
-                                .map(TextSegment::from)
-                                .collect(toList())).content()
-                )
-        );
+        this.labels = new ArrayList<>(examplesByLabel.size());
+        this.labelOffsets = new int[examplesByLabel.size() + 1];
+        List<TextSegment> exampleSegments = new ArrayList<>();
+        examplesByLabel.forEach((label, labelExamples) -> {
+            labels.add(label);
+            labelExamples.forEach(example -> exampleSegments.add(TextSegment.from(example)));
+            labelOffsets[labels.size()] = exampleSegments.size();
+        });
+
+        // all examples are embedded in a single request, and their embeddings are normalized once,
+        // so that classification only needs a dot product per example
+        List<Embedding> exampleEmbeddings = exampleSegments.isEmpty()
+                ? List.of()
+                : embeddingModel.embedAll(exampleSegments).content();
+        this.dimension = exampleEmbeddings.isEmpty() ? 0 : exampleEmbeddings.get(0).dimension();
+        this.examples = new float[exampleEmbeddings.size() * dimension];
+        for (int row = 0; row < exampleEmbeddings.size(); row++) {
+            float[] vector = exampleEmbeddings.get(row).vector();
+            if (vector.length != dimension) {
+                throw illegalArgument("All examples must have embeddings of the same dimension (%s), but found %s",
+                        dimension, vector.length);
+            }
+            normalize(vector, examples, row * dimension);
+        }
 
         this.maxResults = ensureGreaterThanZero(maxResults, "maxResults");
         this.minScore = ensureBetween(minScore, 0.0, 1.0, "minScore");
@@ -112,27 +138,62 @@ public class EmbeddingModelTextClassifier<L> implements TextClassifier<L> {
 
     @Override
     public ClassificationResult<L> classifyWithScores(String text) {
+        return classify(embeddingModel.embed(text).content());
+    }
 
-        Embedding textEmbedding = embeddingModel.embed(text).content();
+    /**
+     * Classifies the texts after embedding all of them in a single {@link EmbeddingModel#embedAll(List)} request.
+     */
+    @Override
+    public List<ClassificationResult<L>> classifyAllWithScores(List<String> texts) {
+        ensureNotNull(texts, "texts");
+        if (texts.isEmpty()) {
+            return List.of();
+        }
+
+        List<Embedding> textEmbeddings = embeddingModel.embedAll(texts.stream()
+                        .map(TextSegment::from)
+                        .collect(toList()))
+                .content();
+
+        List<ClassificationResult<L>> results = new ArrayList<>(textEmbeddings.size());
+        for (Embedding textEmbedding : textEmbeddings) {
+            results.add(classify(textEmbedding));
+        }
+        return results;
+    }
+
+    private ClassificationResult<L> classify(Embedding textEmbedding) {
+
+        float[] vector = textEmbedding.vector();
+        if (vector.length != dimension && examples.length > 0) {
+            throw illegalArgument("Length of vector a (%s) must be equal to the length of vector b (%s)",
+                    vector.length, dimension);
+        }
+        float[] normalizedText = new float[vector.length];
+        normalize(vector, normalizedText, 0);
 
         List<ScoredLabel<L>> scoredLabels = new ArrayList<>();
-        exampleEmbeddingsByLabel.forEach((label, exampleEmbeddings) -> {
+        for (int i = 0; i < labels.size(); i++) {
+
+            int fromRow = labelOffsets[i];
+            int toRow = labelOffsets[i + 1];
 
             double meanScore = 0;
             double maxScore = 0;
-            for (Embedding exampleEmbedding : exampleEmbeddings) {
-                double cosineSimilarity = CosineSimilarity.between(textEmbedding, exampleEmbedding);
+            for (int row = fromRow; row < toRow; row++) {
+                double cosineSimilarity = dot(examples, row * dimension, normalizedText);
                 double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
                 meanScore += score;
                 maxScore = Math.max(score, maxScore);
             }
-            meanScore /= exampleEmbeddings.size();
+            meanScore /= toRow - fromRow;
 
             double aggregateScore = aggregatedScore(meanScore, maxScore);
             if (aggregateScore >= minScore) {
-                scoredLabels.add(new ScoredLabel<>(label, aggregateScore));
+                scoredLabels.add(new ScoredLabel<>(labels.get(i), aggregateScore));
             }
-        });
+        }
 
         return new ClassificationResult<>(
                 scoredLabels.stream()
@@ -143,6 +204,42 @@ public class EmbeddingModelTextClassifier<L> implements TextClassifier<L> {
         );
     }
 
+    /**
+     * Writes the vector, scaled to unit length, into {@code target} starting at {@code offset}.
+     * A zero vector is written as is.
+     */
+    private static void normalize(float[] vector, float[] target, int offset) {
+        double squaredNorm = 0;
+        for (float value : vector) {
+            squaredNorm += value * value;
+        }
+        double scale = squaredNorm > 0 ? 1 / Math.sqrt(squaredNorm) : 0;
+        for (int i = 0; i < vector.length; i++) {
+            target[offset + i] = (float) (vector[i] * scale);
+        }
+    }
+
+    /**
+     * Computes the dot product of {@code vector} and the row of {@code matrix} starting at {@code offset}.
+     * The loop is unrolled into independent accumulators, so that the JIT compiler can pipeline
+     * (and vectorize) the multiplications instead of waiting for each addition to complete.
+     */
+    private static double dot(float[] matrix, int offset, float[] vector) {
+        double sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+        int length = vector.length;
+        int i = 0;
+        for (; i <= length - 4; i += 4) {
+            sum0 += matrix[offset + i] * vector[i];
+            sum1 += matrix[offset + i + 1] * vector[i + 1];
+            sum2 += matrix[offset + i + 2] * vector[i + 2];
+            sum3 += matrix[offset + i + 3] * vector[i + 3];
+        }
+        for (; i < length; i++) {
+            sum0 += matrix[offset + i] * vector[i];
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
     private double aggregatedScore(double meanScore, double maxScore) {
         return (meanToMaxScoreRatio * meanScore) + ((1 - meanToMaxScoreRatio) * maxScore);
     }
@@ -77,4 +77,31 @@ public interface TextClassifier<L> {
     default ClassificationResult<L> classifyWithScores(Document document) {
         return classifyWithScores(document.text());
     }
+
+    /**
+     * Classifies each of the given texts.
+     *
+     * @param texts Texts to classify.
+     * @return A list of labels for each text, in the order of the texts.
+     */
+    default List<List<L>> classifyAll(List<String> texts) {
+        return classifyAllWithScores(texts).stream()
+                .map(result -> result.scoredLabels().stream()
+                        .map(ScoredLabel::label)
+                        .collect(toList()))
+                .collect(toList());
+    }
+
+    /**
+     * Classifies each of the given texts and returns labels with scores.
+     * Implementations may classify the texts in a batch, e.g., by embedding all of them in a single request.
+     *
+     * @param texts Texts to classify.
+     * @return a result object for each text, in the order of the texts.
+     */
+    default List<ClassificationResult<L>> classifyAllWithScores(List<String> texts) {
+        return texts.stream()
+                .map(this::classifyWithScores)
+                .collect(toList());
+    }
 }
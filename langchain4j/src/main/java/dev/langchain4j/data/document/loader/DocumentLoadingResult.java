@@ -0,0 +1,33 @@
+package dev.langchain4j.data.document.loader;
+
+import dev.langchain4j.data.document.Document;
+import java.nio.file.Path;
+
+/**
+ * The result of loading a single file, as returned by
+ * {@link FileSystemDocumentLoader#streamDocuments(Path, java.nio.file.PathMatcher, dev.langchain4j.data.document.DocumentParser, int)}
+ * and similar methods.
+ * <p>
+ * Exactly one of {@code document} and {@code error} is not {@code null}.
+ *
+ * @param path     The path to the file.
+ * @param document The loaded document, or {@code null} if the file failed to load.
+ * @param error    The reason why the file failed to load, or {@code null} if it was loaded successfully.
+ */
+public record DocumentLoadingResult(Path path, Document document, Throwable error) {
+
+    public static DocumentLoadingResult success(Path path, Document document) {
+        return new DocumentLoadingResult(path, document, null);
+    }
+
+    public static DocumentLoadingResult failure(Path path, Throwable error) {
+        return new DocumentLoadingResult(path, null, error);
+    }
+
+    /**
+     * @return {@code true} if the file was loaded successfully.
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
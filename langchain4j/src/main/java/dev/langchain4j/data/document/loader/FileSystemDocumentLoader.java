@@ -2,7 +2,10 @@ package dev.langchain4j.data.document.loader;
 
 import static dev.langchain4j.data.document.source.FileSystemSource.from;
 import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.ParallelUtils.mapConcurrently;
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static java.nio.file.Files.isDirectory;
 import static java.nio.file.Files.isRegularFile;
 
@@ -11,6 +14,7 @@ import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentLoader;
 import dev.langchain4j.data.document.DocumentParser;
 import dev.langchain4j.data.document.parser.TextDocumentParser;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import dev.langchain4j.spi.data.document.parser.DocumentParserFactory;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -19,6 +23,7 @@ import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -482,30 +487,193 @@ public class FileSystemDocumentLoader {
         return loadDocumentsRecursively(directoryPath, pathMatcher, DEFAULT_DOCUMENT_PARSER);
     }
 
+    /**
+     * Loads matching {@link Document}s from the specified directory concurrently. Does not use recursion.
+     * <br>
+     * The files are parsed using the specified {@link DocumentParser},
+     * on the shared {@link DefaultExecutorProvider#getDefaultExecutorService()}.
+     * <br>
+     * See {@link #streamDocuments(Path, PathMatcher, DocumentParser, int, Executor)} for details.
+     *
+     * @param directoryPath  The path to the directory with files.
+     * @param pathMatcher    Only files whose paths (relative to {@code directoryPath}) match
+     *                       the provided {@link PathMatcher} will be loaded.
+     * @param documentParser The parser to be used for parsing text from each file. Must be thread-safe.
+     * @param maxConcurrency The maximum number of files that are parsed at the same time.
+     * @return lazily populated stream of loading results, one per matching file. Must be closed after use.
+     * @throws IllegalArgumentException If specified path is not a directory.
+     */
+    public static Stream<DocumentLoadingResult> streamDocuments(
+            Path directoryPath, PathMatcher pathMatcher, DocumentParser documentParser, int maxConcurrency) {
+        return streamDocuments(
+                directoryPath,
+                pathMatcher,
+                documentParser,
+                maxConcurrency,
+                DefaultExecutorProvider.getDefaultExecutorService());
+    }
+
+    /**
+     * Loads matching {@link Document}s from the specified directory concurrently. Does not use recursion.
+     * <br>
+     * Up to {@code maxConcurrency} files are parsed at the same time using the specified {@link DocumentParser}
+     * on the specified {@link Executor}. Files are listed and parsed lazily, as the returned stream is consumed:
+     * at most {@code maxConcurrency} parsed documents are held in memory at any time,
+     * regardless of the number of files in the directory.
+     * <br>
+     * The stream contains a {@link DocumentLoadingResult} for each matching file, in the order the files are listed.
+     * A file that fails to load is reported by a result with {@link DocumentLoadingResult#error()},
+     * and does not affect loading of other files. Blank files are skipped.
+     * <br>
+     * The returned stream holds an open directory, so it should be closed after use
+     * (e.g., using a try-with-resources statement).
+     *
+     * @param directoryPath  The path to the directory with files.
+     * @param pathMatcher    Only files whose paths (relative to {@code directoryPath}) match
+     *                       the provided {@link PathMatcher} will be loaded.
+     * @param documentParser The parser to be used for parsing text from each file. Must be thread-safe.
+     * @param maxConcurrency The maximum number of files that are parsed at the same time.
+     * @param executor       The executor to parse files on.
+     * @return lazily populated stream of loading results, one per matching file. Must be closed after use.
+     * @throws IllegalArgumentException If specified path is not a directory.
+     */
+    public static Stream<DocumentLoadingResult> streamDocuments(
+            Path directoryPath,
+            PathMatcher pathMatcher,
+            DocumentParser documentParser,
+            int maxConcurrency,
+            Executor executor) {
+        if (!isDirectory(directoryPath)) {
+            throw illegalArgument("'%s' is not a directory", directoryPath);
+        }
+        ensureNotNull(documentParser, "documentParser");
+        ensureGreaterThanZero(maxConcurrency, "maxConcurrency");
+        ensureNotNull(executor, "executor");
+
+        try {
+            return streamDocuments(
+                    Files.list(directoryPath), pathMatcher, directoryPath, documentParser, maxConcurrency, executor);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Recursively loads matching {@link Document}s from the specified directory and its subdirectories concurrently.
+     * <br>
+     * The files are parsed using the specified {@link DocumentParser},
+     * on the shared {@link DefaultExecutorProvider#getDefaultExecutorService()}.
+     * <br>
+     * See {@link #streamDocuments(Path, PathMatcher, DocumentParser, int, Executor)} for details.
+     *
+     * @param directoryPath  The path to the directory with files.
+     * @param pathMatcher    Only files whose paths (relative to {@code directoryPath}) match
+     *                       the provided {@link PathMatcher} will be loaded.
+     * @param documentParser The parser to be used for parsing text from each file. Must be thread-safe.
+     * @param maxConcurrency The maximum number of files that are parsed at the same time.
+     * @return lazily populated stream of loading results, one per matching file. Must be closed after use.
+     * @throws IllegalArgumentException If specified path is not a directory.
+     */
+    public static Stream<DocumentLoadingResult> streamDocumentsRecursively(
+            Path directoryPath, PathMatcher pathMatcher, DocumentParser documentParser, int maxConcurrency) {
+        return streamDocumentsRecursively(
+                directoryPath,
+                pathMatcher,
+                documentParser,
+                maxConcurrency,
+                DefaultExecutorProvider.getDefaultExecutorService());
+    }
+
+    /**
+     * Recursively loads matching {@link Document}s from the specified directory and its subdirectories concurrently.
+     * <br>
+     * See {@link #streamDocuments(Path, PathMatcher, DocumentParser, int, Executor)} for details.
+     *
+     * @param directoryPath  The path to the directory with files.
+     * @param pathMatcher    Only files whose paths (relative to {@code directoryPath}) match
+     *                       the provided {@link PathMatcher} will be loaded.
+     * @param documentParser The parser to be used for parsing text from each file. Must be thread-safe.
+     * @param maxConcurrency The maximum number of files that are parsed at the same time.
+     * @param executor       The executor to parse files on.
+     * @return lazily populated stream of loading results, one per matching file. Must be closed after use.
+     * @throws IllegalArgumentException If specified path is not a directory.
+     */
+    public static Stream<DocumentLoadingResult> streamDocumentsRecursively(
+            Path directoryPath,
+            PathMatcher pathMatcher,
+            DocumentParser documentParser,
+            int maxConcurrency,
+            Executor executor) {
+        if (!isDirectory(directoryPath)) {
+            throw illegalArgument("'%s' is not a directory", directoryPath);
+        }
+        ensureNotNull(documentParser, "documentParser");
+        ensureGreaterThanZero(maxConcurrency, "maxConcurrency");
+        ensureNotNull(executor, "executor");
+
+        try {
+            return streamDocuments(
+                    Files.walk(directoryPath), pathMatcher, directoryPath, documentParser, maxConcurrency, executor);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private static List<Document> loadDocuments(
             Stream<Path> pathStream, PathMatcher pathMatcher, Path pathMatcherRoot, DocumentParser documentParser) {
         List<Document> documents = new ArrayList<>();
 
-        pathStream
+        matchingFiles(pathStream, pathMatcher, pathMatcherRoot).forEach(file -> {
+            try {
+                Document document = loadDocument(file, documentParser);
+                documents.add(document);
+            } catch (BlankDocumentException ignored) {
+                // blank/empty documents are ignored
+            } catch (Exception e) {
+                String message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+                log.warn("Failed to load '{}': {}", file, message);
+            }
+        });
+
+        return documents;
+    }
+
+    private static Stream<DocumentLoadingResult> streamDocuments(
+            Stream<Path> pathStream,
+            PathMatcher pathMatcher,
+            Path pathMatcherRoot,
+            DocumentParser documentParser,
+            int maxConcurrency,
+            Executor executor) {
+        return mapConcurrently(
+                        matchingFiles(pathStream, pathMatcher, pathMatcherRoot).iterator(),
+                        file -> load(file, documentParser),
+                        maxConcurrency,
+                        executor)
+                .filter(result -> !(result.error() instanceof BlankDocumentException))
+                .onClose(pathStream::close);
+    }
+
+    private static DocumentLoadingResult load(Path file, DocumentParser documentParser) {
+        try {
+            return DocumentLoadingResult.success(file, loadDocument(file, documentParser));
+        } catch (Exception e) {
+            if (!(e instanceof BlankDocumentException)) {
+                String message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+                log.warn("Failed to load '{}': {}", file, message);
+            }
+            return DocumentLoadingResult.failure(file, e);
+        }
+    }
+
+    private static Stream<Path> matchingFiles(Stream<Path> pathStream, PathMatcher pathMatcher, Path pathMatcherRoot) {
+        return pathStream
                 .filter(Files::isRegularFile)
                 // converting absolute path into relative before using pathMatcher
                 // because patterns defined in pathMatcher are relative to pathMatcherRoot (directoryPath)
                 .map(pathMatcherRoot::relativize)
                 .filter(pathMatcher::matches)
                 // converting relative path back into absolute before loading document
-                .map(pathMatcherRoot::resolve)
-                .forEach(file -> {
-                    try {
-                        Document document = loadDocument(file, documentParser);
-                        documents.add(document);
-                    } catch (BlankDocumentException ignored) {
-                        // blank/empty documents are ignored
-                    } catch (Exception e) {
-                        String message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
-                        log.warn("Failed to load '{}': {}", file, message);
-                    }
-                });
-
-        return documents;
+                .map(pathMatcherRoot::resolve);
     }
 }
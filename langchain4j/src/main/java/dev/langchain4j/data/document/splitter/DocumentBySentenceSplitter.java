@@ -35,21 +35,21 @@ public class DocumentBySentenceSplitter extends HierarchicalDocumentSplitter {
     public DocumentBySentenceSplitter(int maxSegmentSizeInChars,
                                       int maxOverlapSizeInChars) {
         super(maxSegmentSizeInChars, maxOverlapSizeInChars, null, null);
-        this.sentenceModel = createSentenceModel();
+        this.sentenceModel = SentenceModelHolder.INSTANCE;
     }
 
     public DocumentBySentenceSplitter(int maxSegmentSizeInChars,
                                       int maxOverlapSizeInChars,
                                       DocumentSplitter subSplitter) {
         super(maxSegmentSizeInChars, maxOverlapSizeInChars, null, subSplitter);
-        this.sentenceModel = createSentenceModel();
+        this.sentenceModel = SentenceModelHolder.INSTANCE;
     }
 
     public DocumentBySentenceSplitter(int maxSegmentSizeInTokens,
                                       int maxOverlapSizeInTokens,
                                       Tokenizer tokenizer) {
         super(maxSegmentSizeInTokens, maxOverlapSizeInTokens, tokenizer, null);
-        this.sentenceModel = createSentenceModel();
+        this.sentenceModel = SentenceModelHolder.INSTANCE;
     }
 
     public DocumentBySentenceSplitter(int maxSegmentSizeInTokens,
@@ -57,12 +57,12 @@ public class DocumentBySentenceSplitter extends HierarchicalDocumentSplitter {
                                       Tokenizer tokenizer,
                                       DocumentSplitter subSplitter) {
         super(maxSegmentSizeInTokens, maxOverlapSizeInTokens, tokenizer, subSplitter);
-        this.sentenceModel = createSentenceModel();
+        this.sentenceModel = SentenceModelHolder.INSTANCE;
     }
 
-    private SentenceModel createSentenceModel() {
+    private static SentenceModel createSentenceModel() {
         String sentenceModelFilePath = "/opennlp/opennlp-en-ud-ewt-sentence-1.0-1.9.3.bin";
-        try (InputStream is = getClass().getResourceAsStream(sentenceModelFilePath)) {
+        try (InputStream is = DocumentBySentenceSplitter.class.getResourceAsStream(sentenceModelFilePath)) {
             return new SentenceModel(is);
         } catch (Exception e) {
             throw new RuntimeException(e);
@@ -84,4 +84,13 @@ public class DocumentBySentenceSplitter extends HierarchicalDocumentSplitter {
     protected DocumentSplitter defaultSubSplitter() {
         return new DocumentByWordSplitter(maxSegmentSize, maxOverlapSize, tokenizer);
     }
+
+    /**
+     * The sentence model is immutable and thread-safe, so it is loaded once and shared by all instances.
+     * {@link SentenceDetectorME} is not thread-safe and is created for each {@link #split(String)} call.
+     */
+    private static class SentenceModelHolder {
+
+        private static final SentenceModel INSTANCE = createSentenceModel();
+    }
 }
@@ -24,14 +24,6 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
  * when a single segment is too long.
  */
 public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
-    private HierarchicalDocumentSplitter overlapSentenceSplitter;
-
-    private HierarchicalDocumentSplitter getOverlapSentenceSplitter() {
-        if (overlapSentenceSplitter == null) {
-            overlapSentenceSplitter = new DocumentBySentenceSplitter(1, 0, null, null);
-        }
-        return overlapSentenceSplitter;
-    }
 
     private static final String INDEX = "index";
 
@@ -122,7 +114,7 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
         ensureNotNull(document, "document");
 
         List<TextSegment> segments = new ArrayList<>();
-        SegmentBuilder segmentBuilder = new SegmentBuilder(maxSegmentSize, this::estimateSize, joinDelimiter());
+        SegmentBuilder segmentBuilder = new SegmentBuilder(maxSegmentSize, this::estimateSize, joinDelimiter(), tokenizer == null);
         AtomicInteger index = new AtomicInteger(0);
 
         String[] parts = split(document.text());
@@ -132,7 +124,7 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
 
             if (segmentBuilder.hasSpaceFor(partSize)) {
                 // The part fits in the current segment, so we append it.
-                segmentBuilder.append(part);
+                segmentBuilder.append(part, partSize);
                 continue;
             }
 
@@ -149,7 +141,7 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
 
                     if (segmentBuilder.hasSpaceFor(partSize)) {
                         // The part fits in the current segment, so we append it.
-                        segmentBuilder.append(part);
+                        segmentBuilder.append(part, partSize);
                         continue;
                     }
                 }
@@ -168,7 +160,7 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
             }
 
             // Delegate the splitting of the part to the sub-splitter.
-            segmentBuilder.append(part);
+            segmentBuilder.append(part, partSize);
             for (TextSegment segment : subSplitter.split(Document.from(segmentBuilder.toString()))) {
                 segments.add(createSegment(segment.text(), document, index.getAndIncrement()));
             }
@@ -199,13 +191,14 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
         }
 
         // always split by sentence, as it is the smallest meaningful unit of text
-        List<String> sentences = Arrays.asList(getOverlapSentenceSplitter().split(segmentText));
+        List<String> sentences = Arrays.asList(OverlapSentenceSplitterHolder.INSTANCE.split(segmentText));
         Collections.reverse(sentences);
 
-        SegmentBuilder overlapBuilder = new SegmentBuilder(maxOverlapSize, this::estimateSize, joinDelimiter());
+        SegmentBuilder overlapBuilder = new SegmentBuilder(maxOverlapSize, this::estimateSize, joinDelimiter(), tokenizer == null);
         for (String sentence : sentences) {
-            if (overlapBuilder.hasSpaceFor(sentence)) {
-                overlapBuilder.prepend(sentence);
+            int sentenceSize = overlapBuilder.sizeOf(sentence);
+            if (overlapBuilder.hasSpaceFor(sentenceSize)) {
+                overlapBuilder.prepend(sentence, sentenceSize);
             } else {
                 break;
             }
@@ -244,4 +237,12 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
         Metadata metadata = document.metadata().copy().put(INDEX, String.valueOf(index));
         return TextSegment.from(text, metadata);
     }
+
+    /**
+     * The sentence splitter used to find overlap regions. It is stateless, so a single instance is shared.
+     */
+    private static class OverlapSentenceSplitterHolder {
+
+        private static final HierarchicalDocumentSplitter INSTANCE = new DocumentBySentenceSplitter(1, 0, null, null);
+    }
 }
@@ -7,13 +7,20 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
 /**
  * Segment builder utility class for HierarchicalDocumentSplitter.
+ * <p>
+ * The segment is accumulated in a {@link StringBuilder}. If the {@code sizeFunction} is additive
+ * (e.g., the number of characters), the size of the segment is tracked incrementally, so the
+ * {@code sizeFunction} is applied only to the appended or prepended texts and building a segment
+ * is linear in its length. Otherwise (e.g., the number of tokens or words), the size of the joined
+ * segment is not the sum of the sizes of its parts, so it is re-computed after each change.
  */
 class SegmentBuilder {
     private final int maxSegmentSize;
     private final Function<String, Integer> sizeFunction;
     private final String joinSeparator;
     private final int joinSeparatorSize;
-    private String segment = "";
+    private final boolean additiveSizeFunction;
+    private final StringBuilder segment = new StringBuilder();
     private int segmentSize = 0;
 
     /**
@@ -24,10 +31,27 @@ class SegmentBuilder {
      * @param joinSeparator  The separator to use when joining multiple texts into a single segment.
      */
     public SegmentBuilder(int maxSegmentSize, Function<String, Integer> sizeFunction, String joinSeparator) {
+        this(maxSegmentSize, sizeFunction, joinSeparator, false);
+    }
+
+    /**
+     * Creates a new instance of {@link SegmentBuilder}.
+     *
+     * @param maxSegmentSize       The maximum size of a segment.
+     * @param sizeFunction         The function to use to estimate the size of a text.
+     * @param joinSeparator        The separator to use when joining multiple texts into a single segment.
+     * @param additiveSizeFunction Whether the size of joined texts is always the sum of their sizes
+     *                             (e.g., when the size is the number of characters).
+     */
+    public SegmentBuilder(int maxSegmentSize,
+                          Function<String, Integer> sizeFunction,
+                          String joinSeparator,
+                          boolean additiveSizeFunction) {
         this.maxSegmentSize = ensureGreaterThanZero(maxSegmentSize, "maxSegmentSize");
         this.sizeFunction = ensureNotNull(sizeFunction, "sizeFunction");
         this.joinSeparator = ensureNotNull(joinSeparator, "joinSeparator");
         this.joinSeparatorSize = sizeOf(joinSeparator);
+        this.additiveSizeFunction = additiveSizeFunction;
     }
 
     /**
@@ -83,11 +107,24 @@ class SegmentBuilder {
      * @param text The text to append.
      */
     public void append(String text) {
+        append(text, sizeOf(text));
+    }
+
+    /**
+     * Appends the provided text, whose size has already been computed, to the current segment.
+     *
+     * @param text     The text to append.
+     * @param textSize The size of the text (as returned by the {@code sizeFunction}).
+     */
+    public void append(String text, int textSize) {
         if (isNotEmpty()) {
-            segment += joinSeparator;
+            segment.append(joinSeparator);
+            if (additiveSizeFunction) {
+                segmentSize += joinSeparatorSize;
+            }
         }
-        segment += text;
-        segmentSize = sizeOf(segment);
+        segment.append(text);
+        updateSize(textSize);
     }
 
     /**
@@ -96,12 +133,32 @@ class SegmentBuilder {
      * @param text The text to prepend.
      */
     public void prepend(String text) {
+        prepend(text, sizeOf(text));
+    }
+
+    /**
+     * Prepends the provided text, whose size has already been computed, to the current segment.
+     *
+     * @param text     The text to prepend.
+     * @param textSize The size of the text (as returned by the {@code sizeFunction}).
+     */
+    public void prepend(String text, int textSize) {
         if (isNotEmpty()) {
-            segment = text + joinSeparator + segment;
+            segment.insert(0, joinSeparator);
+            if (additiveSizeFunction) {
+                segmentSize += joinSeparatorSize;
+            }
+        }
+        segment.insert(0, text);
+        updateSize(textSize);
+    }
+
+    private void updateSize(int addedTextSize) {
+        if (additiveSizeFunction) {
+            segmentSize += addedTextSize;
         } else {
-            segment = text;
+            segmentSize = sizeOf(segment.toString());
         }
-        segmentSize = sizeOf(segment);
     }
 
     /**
@@ -110,19 +167,19 @@ class SegmentBuilder {
      * @return {@code true} if the current segment is not empty.
      */
     public boolean isNotEmpty() {
-        return !segment.isEmpty();
+        return segment.length() > 0;
     }
 
     @Override
     public String toString() {
-        return segment.trim();
+        return segment.toString().trim();
     }
 
     /**
      * Resets the current segment.
      */
     public void reset() {
-        segment = "";
+        segment.setLength(0);
         segmentSize = 0;
     }
 }
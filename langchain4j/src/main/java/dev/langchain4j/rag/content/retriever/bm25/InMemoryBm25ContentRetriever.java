@@ -0,0 +1,647 @@
+package dev.langchain4j.rag.content.retriever.bm25;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.internal.Json;
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.rag.content.ContentMetadata;
+import dev.langchain4j.rag.content.retriever.ContentRetriever;
+import dev.langchain4j.rag.query.Query;
+import dev.langchain4j.store.embedding.filter.Filter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.Utils.randomUUID;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+
+/**
+ * A {@link ContentRetriever} that retrieves {@link TextSegment}s from an in-memory inverted index,
+ * ranked by their <a href="https://en.wikipedia.org/wiki/Okapi_BM25">BM25</a> score.
+ * <p>
+ * It is the lexical counterpart of an {@code EmbeddingStoreContentRetriever} over an
+ * {@link dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore}:
+ * it matches exact terms (names, codes, identifiers) that embeddings tend to miss.
+ * Both can be combined into a hybrid search without any external search engine,
+ * since the {@link dev.langchain4j.rag.content.aggregator.DefaultContentAggregator} fuses the results
+ * of several retrievers using Reciprocal Rank Fusion:
+ * <pre>
+ * DefaultRetrievalAugmentor.builder()
+ *         .queryRouter(new DefaultQueryRouter(embeddingStoreContentRetriever, bm25ContentRetriever))
+ *         .build();
+ * </pre>
+ * Text is split into lower-cased runs of letters and digits.
+ * Segments can be added and removed at any time; retrieval and modifications can be done concurrently.
+ * <p>
+ * The postings of each term are stored as a flat {@code int} array of (document, term frequency) pairs.
+ * A query only touches the postings of its terms: scores are accumulated in a primitive hash table
+ * sized by these postings, and the best segments are selected with a primitive heap,
+ * so its cost grows with the number of matching segments, not with the size of the index,
+ * and it allocates no object per matching segment.
+ * <p>
+ * The segments (but not the index itself, which is rebuilt on load) can be persisted using the
+ * {@link #serializeToJson()} and {@link #serializeToFile(Path)} methods,
+ * and the retriever can be recreated using the {@link #fromJson(String)} and {@link #fromFile(Path)} methods.
+ * <br>
+ * <br>
+ * Configurable parameters (optional):
+ * <br>
+ * - {@code maxResults}: The maximum number of {@link Content}s to retrieve. Default: 3.
+ * <br>
+ * - {@code minScore}: The minimum BM25 score for the returned {@link Content}s. Unlike the relevance score
+ * of embedding matches, BM25 scores are not normalized, and grow with the number of matching query terms. Default: 0.
+ * <br>
+ * - {@code filter}: The {@link Filter} that will be applied to the {@link Metadata} of the {@link TextSegment}s.
+ * It is not persisted.
+ * <br>
+ * - {@code k1}: Controls the saturation of the term frequency. Default: 1.2.
+ * <br>
+ * - {@code b}: Controls the normalization by the length of the segment, in the range [0..1]. Default: 0.75.
+ */
+public class InMemoryBm25ContentRetriever implements ContentRetriever {
+
+    public static final int DEFAULT_MAX_RESULTS = 3;
+    public static final double DEFAULT_MIN_SCORE = 0.0;
+    public static final double DEFAULT_K1 = 1.2;
+    public static final double DEFAULT_B = 0.75;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int maxResults;
+    private final double minScore;
+    private final Filter filter;
+    private final double k1;
+    private final double b;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // guarded by lock
+    private final Map<String, Integer> docsById = new HashMap<>();
+    private final Map<String, Postings> postingsByTerm = new HashMap<>();
+    private String[] ids = new String[INITIAL_CAPACITY];
+    private TextSegment[] segments = new TextSegment[INITIAL_CAPACITY];
+    private int[] lengths = new int[INITIAL_CAPACITY];
+    private int[] freeDocs = new int[INITIAL_CAPACITY];
+    private int freeDocCount;
+    private int docSlots;
+    private long totalLength;
+
+    public InMemoryBm25ContentRetriever() {
+        this(null, null, null, null, null);
+    }
+
+    public InMemoryBm25ContentRetriever(Integer maxResults,
+                                        Double minScore,
+                                        Filter filter,
+                                        Double k1,
+                                        Double b) {
+        this.maxResults = ensureGreaterThanZero(getOrDefault(maxResults, DEFAULT_MAX_RESULTS), "maxResults");
+        this.minScore = getOrDefault(minScore, DEFAULT_MIN_SCORE);
+        this.filter = filter;
+        this.k1 = ensureBetween(getOrDefault(k1, DEFAULT_K1), 0, Double.MAX_VALUE, "k1");
+        this.b = ensureBetween(getOrDefault(b, DEFAULT_B), 0, 1, "b");
+    }
+
+    public static InMemoryBm25ContentRetrieverBuilder builder() {
+        return new InMemoryBm25ContentRetrieverBuilder();
+    }
+
+    /**
+     * Adds the segment under a random id.
+     *
+     * @return the id of the segment.
+     */
+    public String add(TextSegment segment) {
+        String id = randomUUID();
+        add(id, segment);
+        return id;
+    }
+
+    /**
+     * Adds the segment under the given id, replacing the segment previously added under this id, if any.
+     */
+    public void add(String id, TextSegment segment) {
+        ensureNotBlank(id, "id");
+        ensureNotNull(segment, "segment");
+        lock.writeLock().lock();
+        try {
+            index(id, segment);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds the segments under random ids.
+     *
+     * @return the ids of the segments, in the same order.
+     */
+    public List<String> addAll(List<TextSegment> segments) {
+        List<String> ids = new ArrayList<>(segments.size());
+        for (int i = 0; i < segments.size(); i++) {
+            ids.add(randomUUID());
+        }
+        addAll(ids, segments);
+        return ids;
+    }
+
+    /**
+     * Adds the segments under the given ids, replacing the segments previously added under these ids, if any.
+     */
+    public void addAll(List<String> ids, List<TextSegment> segments) {
+        if (ids.size() != segments.size()) {
+            throw new IllegalArgumentException("The list of ids and segments must have the same size");
+        }
+        for (int i = 0; i < ids.size(); i++) {
+            ensureNotBlank(ids.get(i), "id");
+            ensureNotNull(segments.get(i), "segment");
+        }
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < ids.size(); i++) {
+                index(ids.get(i), segments.get(i));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String id) {
+        ensureNotBlank(id, "id");
+        lock.writeLock().lock();
+        try {
+            unindex(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeAll(Collection<String> ids) {
+        ensureNotEmpty(ids, "ids");
+        lock.writeLock().lock();
+        try {
+            for (String id : ids) {
+                unindex(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the segments whose {@link Metadata} matches the filter.
+     */
+    public void removeAll(Filter filter) {
+        ensureNotNull(filter, "filter");
+        lock.writeLock().lock();
+        try {
+            for (int doc = 0; doc < docSlots; doc++) {
+                if (segments[doc] != null && filter.test(segments[doc].metadata())) {
+                    unindex(ids[doc]);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeAll() {
+        lock.writeLock().lock();
+        try {
+            docsById.clear();
+            postingsByTerm.clear();
+            ids = new String[INITIAL_CAPACITY];
+            segments = new TextSegment[INITIAL_CAPACITY];
+            lengths = new int[INITIAL_CAPACITY];
+            freeDocs = new int[INITIAL_CAPACITY];
+            freeDocCount = 0;
+            docSlots = 0;
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return the number of segments in the index.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Content> retrieve(Query query) {
+        List<String> queryTerms = new ArrayList<>(termFrequencies(query.text()).keySet());
+
+        lock.readLock().lock();
+        try {
+            int docCount = docsById.size();
+            if (docCount == 0 || queryTerms.isEmpty()) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / docCount;
+
+            List<Postings> matchingPostings = new ArrayList<>(queryTerms.size());
+            long postingCount = 0;
+            for (String term : queryTerms) {
+                Postings postings = postingsByTerm.get(term);
+                if (postings != null) {
+                    matchingPostings.add(postings);
+                    postingCount += postings.size();
+                }
+            }
+
+            Scores scores = new Scores((int) Math.min(postingCount, docCount));
+            for (Postings postings : matchingPostings) {
+                int documentFrequency = postings.size();
+                double idf = Math.log(1 + (docCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                int[] entries = postings.entries;
+                for (int i = 0; i < 2 * documentFrequency; i += 2) {
+                    int doc = entries[i];
+                    int termFrequency = entries[i + 1];
+                    double lengthNorm = k1 * (1 - b + b * lengths[doc] / averageLength);
+                    scores.add(doc, idf * termFrequency * (k1 + 1) / (termFrequency + lengthNorm));
+                }
+            }
+
+            TopDocs top = new TopDocs(maxResults);
+            for (int slot = 0; slot < scores.capacity(); slot++) {
+                int doc = scores.doc(slot);
+                if (doc < 0) {
+                    continue;
+                }
+                double score = scores.score(slot);
+                if (score < minScore || (filter != null && !filter.test(segments[doc].metadata()))) {
+                    continue;
+                }
+                top.offer(doc, score);
+            }
+
+            Content[] contents = new Content[top.size()];
+            for (int i = contents.length - 1; i >= 0; i--) {
+                double score = top.lowestScore();
+                int doc = top.poll();
+                contents[i] = Content.from(segments[doc], Map.of(ContentMetadata.SCORE, score));
+            }
+            return List.of(contents);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public String serializeToJson() {
+        List<Entry> entries = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (int doc = 0; doc < docSlots; doc++) {
+                if (segments[doc] != null) {
+                    entries.add(new Entry(ids[doc], segments[doc].text(), segments[doc].metadata().toMap()));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return Json.toJson(new Snapshot(maxResults, minScore, k1, b, entries));
+    }
+
+    public void serializeToFile(Path filePath) {
+        try {
+            Files.write(filePath, serializeToJson().getBytes(UTF_8), CREATE, TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void serializeToFile(String filePath) {
+        serializeToFile(Paths.get(filePath));
+    }
+
+    public static InMemoryBm25ContentRetriever fromJson(String json) {
+        Snapshot snapshot = Json.fromJson(json, Snapshot.class);
+        InMemoryBm25ContentRetriever retriever = new InMemoryBm25ContentRetriever(
+                snapshot.maxResults(), snapshot.minScore(), null, snapshot.k1(), snapshot.b());
+        List<String> ids = new ArrayList<>(snapshot.entries().size());
+        List<TextSegment> segments = new ArrayList<>(snapshot.entries().size());
+        for (Entry entry : snapshot.entries()) {
+            ids.add(entry.id());
+            segments.add(TextSegment.from(entry.text(), Metadata.from(getOrDefault(entry.metadata(), Map.of()))));
+        }
+        retriever.addAll(ids, segments);
+        return retriever;
+    }
+
+    public static InMemoryBm25ContentRetriever fromFile(Path filePath) {
+        try {
+            return fromJson(new String(Files.readAllBytes(filePath), UTF_8));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static InMemoryBm25ContentRetriever fromFile(String filePath) {
+        return fromFile(Paths.get(filePath));
+    }
+
+    private void index(String id, TextSegment segment) {
+        unindex(id);
+
+        int doc = freeDocCount > 0 ? freeDocs[--freeDocCount] : newDocSlot();
+        Map<String, Integer> termFrequencies = termFrequencies(segment.text());
+        int length = 0;
+        for (Map.Entry<String, Integer> termFrequency : termFrequencies.entrySet()) {
+            postingsByTerm.computeIfAbsent(termFrequency.getKey(), term -> new Postings())
+                    .add(doc, termFrequency.getValue());
+            length += termFrequency.getValue();
+        }
+
+        ids[doc] = id;
+        segments[doc] = segment;
+        lengths[doc] = length;
+        totalLength += length;
+        docsById.put(id, doc);
+    }
+
+    private void unindex(String id) {
+        Integer doc = docsById.remove(id);
+        if (doc == null) {
+            return;
+        }
+
+        // the terms of the segment are not stored, they are extracted again
+        for (String term : termFrequencies(segments[doc].text()).keySet()) {
+            Postings postings = postingsByTerm.get(term);
+            postings.remove(doc);
+            if (postings.size() == 0) {
+                postingsByTerm.remove(term);
+            }
+        }
+
+        totalLength -= lengths[doc];
+        ids[doc] = null;
+        segments[doc] = null;
+        lengths[doc] = 0;
+        if (freeDocCount == freeDocs.length) {
+            freeDocs = Arrays.copyOf(freeDocs, 2 * freeDocs.length);
+        }
+        freeDocs[freeDocCount++] = doc;
+    }
+
+    private int newDocSlot() {
+        if (docSlots == ids.length) {
+            int capacity = 2 * ids.length;
+            ids = Arrays.copyOf(ids, capacity);
+            segments = Arrays.copyOf(segments, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+        }
+        return docSlots++;
+    }
+
+    /**
+     * Splits the text into lower-cased runs of letters and digits, and counts the occurrences of each of them.
+     */
+    static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> termFrequencies = new LinkedHashMap<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean termCharacter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (termCharacter && start < 0) {
+                start = i;
+            } else if (!termCharacter && start >= 0) {
+                termFrequencies.merge(text.substring(start, i).toLowerCase(Locale.ROOT), 1, Integer::sum);
+                start = -1;
+            }
+        }
+        return termFrequencies;
+    }
+
+    /**
+     * The documents containing a term, as (document, term frequency) pairs in a single array, in no particular order.
+     */
+    private static class Postings {
+
+        private int[] entries = new int[4];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        void add(int doc, int termFrequency) {
+            if (2 * size == entries.length) {
+                entries = Arrays.copyOf(entries, 2 * entries.length);
+            }
+            entries[2 * size] = doc;
+            entries[2 * size + 1] = termFrequency;
+            size++;
+        }
+
+        void remove(int doc) {
+            for (int i = 0; i < size; i++) {
+                if (entries[2 * i] == doc) {
+                    // the last pair takes the place of the removed one
+                    size--;
+                    entries[2 * i] = entries[2 * size];
+                    entries[2 * i + 1] = entries[2 * size + 1];
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * The scores of the documents matching a query, in an open-addressing hash table keyed by document,
+     * sized for the given maximum number of documents.
+     */
+    private static class Scores {
+
+        private final int[] docs;
+        private final double[] scores;
+        private final int mask;
+
+        Scores(int maxDocs) {
+            int capacity = Integer.highestOneBit(Math.max(2 * maxDocs - 1, 1)) << 1;
+            this.docs = new int[capacity];
+            this.scores = new double[capacity];
+            this.mask = capacity - 1;
+            Arrays.fill(docs, -1);
+        }
+
+        int capacity() {
+            return docs.length;
+        }
+
+        void add(int doc, double score) {
+            int slot = (doc * 0x9E3779B9) >>> 1 & mask;
+            while (docs[slot] != doc && docs[slot] >= 0) {
+                slot = (slot + 1) & mask;
+            }
+            docs[slot] = doc;
+            scores[slot] += score;
+        }
+
+        /**
+         * @return the document in the slot, or -1 if the slot is empty.
+         */
+        int doc(int slot) {
+            return docs[slot];
+        }
+
+        double score(int slot) {
+            return scores[slot];
+        }
+    }
+
+    /**
+     * The documents with the highest scores, in a bounded binary min-heap.
+     */
+    private static class TopDocs {
+
+        private final int[] docs;
+        private final double[] scores;
+        private int size;
+
+        TopDocs(int maxSize) {
+            this.docs = new int[maxSize];
+            this.scores = new double[maxSize];
+        }
+
+        int size() {
+            return size;
+        }
+
+        void offer(int doc, double score) {
+            if (size < docs.length) {
+                int i = size++;
+                while (i > 0 && scores[(i - 1) / 2] > score) {
+                    docs[i] = docs[(i - 1) / 2];
+                    scores[i] = scores[(i - 1) / 2];
+                    i = (i - 1) / 2;
+                }
+                docs[i] = doc;
+                scores[i] = score;
+            } else if (score > scores[0]) {
+                siftDown(doc, score);
+            }
+        }
+
+        double lowestScore() {
+            return scores[0];
+        }
+
+        /**
+         * Removes and returns the document with the lowest score.
+         */
+        int poll() {
+            int lowest = docs[0];
+            size--;
+            if (size > 0) {
+                siftDown(docs[size], scores[size]);
+            }
+            return lowest;
+        }
+
+        private void siftDown(int doc, double score) {
+            int i = 0;
+            while (2 * i + 1 < size) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && scores[child + 1] < scores[child]) {
+                    child++;
+                }
+                if (scores[child] >= score) {
+                    break;
+                }
+                docs[i] = docs[child];
+                scores[i] = scores[child];
+                i = child;
+            }
+            docs[i] = doc;
+            scores[i] = score;
+        }
+    }
+
+    record Snapshot(Integer maxResults, Double minScore, Double k1, Double b, List<Entry> entries) {
+    }
+
+    record Entry(String id, String text, Map<String, Object> metadata) {
+    }
+
+    public static class InMemoryBm25ContentRetrieverBuilder {
+
+        private Integer maxResults;
+        private Double minScore;
+        private Filter filter;
+        private Double k1;
+        private Double b;
+
+        InMemoryBm25ContentRetrieverBuilder() {
+        }
+
+        public InMemoryBm25ContentRetrieverBuilder maxResults(Integer maxResults) {
+            this.maxResults = maxResults;
+            return this;
+        }
+
+        public InMemoryBm25ContentRetrieverBuilder minScore(Double minScore) {
+            this.minScore = minScore;
+            return this;
+        }
+
+        public InMemoryBm25ContentRetrieverBuilder filter(Filter filter) {
+            this.filter = filter;
+            return this;
+        }
+
+        public InMemoryBm25ContentRetrieverBuilder k1(Double k1) {
+            this.k1 = k1;
+            return this;
+        }
+
+        public InMemoryBm25ContentRetrieverBuilder b(Double b) {
+            this.b = b;
+            return this;
+        }
+
+        public InMemoryBm25ContentRetriever build() {
+            return new InMemoryBm25ContentRetriever(this.maxResults, this.minScore, this.filter, this.k1, this.b);
+        }
+
+        public String toString() {
+            return "InMemoryBm25ContentRetriever.InMemoryBm25ContentRetrieverBuilder(maxResults=" + this.maxResults + ", minScore=" + this.minScore + ", filter=" + this.filter + ", k1=" + this.k1 + ", b=" + this.b + ")";
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "InMemoryBm25ContentRetriever{" +
+                "maxResults=" + maxResults +
+                ", minScore=" + minScore +
+                ", k1=" + k1 +
+                ", b=" + b +
+                '}';
+    }
+}
@@ -13,6 +13,7 @@ import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.ToolExecutionResultMessage;
 import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.memory.chat.ChatMemoryProvider;
 import dev.langchain4j.model.chat.ChatLanguageModel;
@@ -36,6 +37,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.function.Function;
 
@@ -349,6 +351,33 @@ public abstract class AiServices<T> {
         return this;
     }
 
+    /**
+     * Configures the AI Service to execute multiple tools requested by the LLM in a single response concurrently,
+     * using the shared {@link DefaultExecutorProvider#getDefaultExecutorService()}.
+     * By default, such tools are executed sequentially.
+     * <br>
+     * The results are added to the chat memory in the order the LLM requested the tools,
+     * so configured tools must be safe to call concurrently.
+     *
+     * @return builder
+     */
+    public AiServices<T> executeToolsConcurrently() {
+        return executeToolsConcurrently(DefaultExecutorProvider.getDefaultExecutorService());
+    }
+
+    /**
+     * Configures the AI Service to execute multiple tools requested by the LLM in a single response concurrently,
+     * using the given {@link Executor}.
+     * By default, such tools are executed sequentially.
+     *
+     * @param executor The executor used to execute tools.
+     * @return builder
+     */
+    public AiServices<T> executeToolsConcurrently(Executor executor) {
+        context.toolService.executeToolsConcurrently(ensureNotNull(executor, "executor"));
+        return this;
+    }
+
     /**
      * Configures the strategy to be used when the LLM hallucinates a tool name (i.e., attempts to call a nonexistent tool).
      *
@@ -24,6 +24,9 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 public class ToolService {
@@ -33,6 +36,7 @@ public class ToolService {
     private List<ToolSpecification> toolSpecifications;
     private Map<String, ToolExecutor> toolExecutors;
     private ToolProvider toolProvider;
+    private Executor executor;
 
     private Function<ToolExecutionRequest, ToolExecutionResultMessage> toolHallucinationStrategy =
             HallucinatedToolNameStrategy.THROW_EXCEPTION;
@@ -42,6 +46,15 @@ public class ToolService {
         this.toolHallucinationStrategy = toolHallucinationStrategy;
     }
 
+    /**
+     * Executes multiple tool execution requests of a single {@link AiMessage} concurrently, using the given executor.
+     * The results are still added to the chat memory in the order of the requests.
+     * When {@code null}, requests are executed sequentially (the default).
+     */
+    public void executeToolsConcurrently(Executor executor) {
+        this.executor = executor;
+    }
+
     public void toolProvider(ToolProvider toolProvider) {
         if (toolSpecifications != null || toolExecutors != null) {
             throw new IllegalArgumentException(
@@ -149,16 +162,15 @@ public class ToolService {
                 break;
             }
 
-            for (ToolExecutionRequest toolExecutionRequest : aiMessage.toolExecutionRequests()) {
-                ToolExecutor toolExecutor = toolExecutors.get(toolExecutionRequest.name());
+            List<ToolExecutionRequest> toolExecutionRequests = aiMessage.toolExecutionRequests();
+            List<ToolExecutionResultMessage> toolExecutionResultMessages =
+                    execute(toolExecutionRequests, toolExecutors, memoryId);
 
-                ToolExecutionResultMessage toolExecutionResultMessage = toolExecutor == null
-                        ? toolHallucinationStrategy.apply(toolExecutionRequest)
-                        : ToolExecutionResultMessage.from(
-                                toolExecutionRequest, toolExecutor.execute(toolExecutionRequest, memoryId));
+            for (int i = 0; i < toolExecutionRequests.size(); i++) {
+                ToolExecutionResultMessage toolExecutionResultMessage = toolExecutionResultMessages.get(i);
 
                 toolExecutions.add(ToolExecution.builder()
-                        .request(toolExecutionRequest)
+                        .request(toolExecutionRequests.get(i))
                         .result(toolExecutionResultMessage.text())
                         .build());
 
@@ -187,6 +199,43 @@ public class ToolService {
         return new ToolExecutionResult(chatResponse, toolExecutions, tokenUsageAccumulator);
     }
 
+    private List<ToolExecutionResultMessage> execute(
+            List<ToolExecutionRequest> toolExecutionRequests, Map<String, ToolExecutor> toolExecutors, Object memoryId) {
+        List<ToolExecutionResultMessage> toolExecutionResultMessages = new ArrayList<>(toolExecutionRequests.size());
+        if (executor == null || toolExecutionRequests.size() == 1) {
+            for (ToolExecutionRequest toolExecutionRequest : toolExecutionRequests) {
+                toolExecutionResultMessages.add(execute(toolExecutionRequest, toolExecutors, memoryId));
+            }
+            return toolExecutionResultMessages;
+        }
+
+        List<CompletableFuture<ToolExecutionResultMessage>> futures = new ArrayList<>(toolExecutionRequests.size());
+        for (ToolExecutionRequest toolExecutionRequest : toolExecutionRequests) {
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> execute(toolExecutionRequest, toolExecutors, memoryId), executor));
+        }
+        for (CompletableFuture<ToolExecutionResultMessage> future : futures) {
+            try {
+                toolExecutionResultMessages.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw e;
+            }
+        }
+        return toolExecutionResultMessages;
+    }
+
+    private ToolExecutionResultMessage execute(
+            ToolExecutionRequest toolExecutionRequest, Map<String, ToolExecutor> toolExecutors, Object memoryId) {
+        ToolExecutor toolExecutor = toolExecutors.get(toolExecutionRequest.name());
+        return toolExecutor == null
+                ? toolHallucinationStrategy.apply(toolExecutionRequest)
+                : ToolExecutionResultMessage.from(
+                        toolExecutionRequest, toolExecutor.execute(toolExecutionRequest, memoryId));
+    }
+
     public List<ToolSpecification> toolSpecifications() {
         return toolSpecifications;
     }
@@ -1,11 +1,16 @@
 package dev.langchain4j.classification;
 
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.model.output.Response;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static dev.langchain4j.classification.EmbeddingModelTextClassifierTest.CustomerServiceCategory.ACCOUNT_MANAGEMENT;
 import static dev.langchain4j.classification.EmbeddingModelTextClassifierTest.CustomerServiceCategory.BILLING_AND_PAYMENTS;
@@ -291,4 +296,49 @@ class EmbeddingModelTextClassifierTest {
         assertThat(result.scoredLabels().stream().map(ScoredLabel::score).findFirst().orElse(null))
             .isCloseTo(minScore, offset(0.1));
     }
+
+    @Test
+    void should_classify_all_texts_in_single_embedding_request() {
+
+        // given
+        EmbeddingModel model = new AllMiniLmL6V2QuantizedEmbeddingModel();
+        AtomicInteger embeddingRequests = new AtomicInteger();
+        EmbeddingModel countingModel = new EmbeddingModel() {
+
+            @Override
+            public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+                embeddingRequests.incrementAndGet();
+                return model.embedAll(textSegments);
+            }
+        };
+        TextClassifier<CustomerServiceCategory> classifier = new EmbeddingModelTextClassifier<>(
+            countingModel,
+            examples,
+            2,
+            0,
+            0.5
+        );
+        List<String> texts = asList("Yo where is my order?", "Bro, this product is crap", "How do I reset my password?");
+        embeddingRequests.set(0);
+
+        // when
+        List<ClassificationResult<CustomerServiceCategory>> results = classifier.classifyAllWithScores(texts);
+        List<List<CustomerServiceCategory>> categories = classifier.classifyAll(texts);
+
+        // then
+        assertThat(embeddingRequests).hasValue(2);
+        assertThat(categories).hasSize(3);
+        assertThat(categories.get(0)).startsWith(ORDER_STATUS);
+        assertThat(categories.get(1)).containsExactly(RETURNS_AND_EXCHANGES, FEEDBACK_AND_COMPLAINTS);
+        assertThat(categories.get(2)).startsWith(ACCOUNT_MANAGEMENT);
+        for (int i = 0; i < texts.size(); i++) {
+            ClassificationResult<CustomerServiceCategory> single = classifier.classifyWithScores(texts.get(i));
+            assertThat(results.get(i).scoredLabels()).hasSameSizeAs(single.scoredLabels());
+            for (int j = 0; j < single.scoredLabels().size(); j++) {
+                assertThat(results.get(i).scoredLabels().get(j).label()).isEqualTo(single.scoredLabels().get(j).label());
+                assertThat(results.get(i).scoredLabels().get(j).score())
+                    .isCloseTo(single.scoredLabels().get(j).score(), offset(1e-6));
+            }
+        }
+    }
 }
@@ -3,6 +3,8 @@ package dev.langchain4j.data.document.loader;
 import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.loadDocument;
 import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.loadDocuments;
 import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.loadDocumentsRecursively;
+import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.streamDocuments;
+import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.streamDocumentsRecursively;
 
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
@@ -16,6 +18,10 @@ import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -268,6 +274,109 @@ class FileSystemDocumentLoaderTest implements WithAssertions {
                 .isEqualTo(documents);
     }
 
+    @Test
+    void should_stream_documents_recursively_concurrently() {
+
+        // given
+        Path resourceDirectory = resourceDirectory();
+        PathMatcher pathMatcher = FileSystems.getDefault().getPathMatcher("glob:**");
+        List<Document> expectedDocuments = loadDocumentsRecursively(resourceDirectory, new TextDocumentParser());
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        // when
+        List<DocumentLoadingResult> results;
+        try (Stream<DocumentLoadingResult> stream = streamDocumentsRecursively(
+                resourceDirectory, pathMatcher, new TextDocumentParser(), 3, executor)) {
+            results = stream.toList();
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        assertThat(results).allMatch(DocumentLoadingResult::isSuccess);
+        assertThat(results).extracting(DocumentLoadingResult::document).isEqualTo(expectedDocuments);
+    }
+
+    @Test
+    void should_report_failed_files_when_streaming_documents() {
+
+        // given
+        Path resourceDirectory = resourceDirectory();
+        PathMatcher pathMatcher = FileSystems.getDefault().getPathMatcher("glob:*.txt");
+        DocumentParser parserThatFailsOnMilesOfSmiles = inputStream -> {
+            Document document = new TextDocumentParser().parse(inputStream);
+            if (document.text().contains("Miles of Smiles")) {
+                throw new RuntimeException("cannot parse");
+            }
+            return document;
+        };
+
+        // when
+        List<DocumentLoadingResult> results;
+        try (Stream<DocumentLoadingResult> stream =
+                streamDocuments(resourceDirectory, pathMatcher, parserThatFailsOnMilesOfSmiles, 2)) {
+            results = stream.toList();
+        }
+
+        // then
+        assertThat(results)
+                .filteredOn(result -> !result.isSuccess())
+                .singleElement()
+                .satisfies(result -> {
+                    assertThat(result.path().getFileName()).hasToString("miles-of-smiles-terms-of-use.txt");
+                    assertThat(result.document()).isNull();
+                    assertThat(result.error()).hasRootCauseMessage("cannot parse");
+                });
+        assertThat(results)
+                .filteredOn(DocumentLoadingResult::isSuccess)
+                .extracting(result -> result.document().metadata().getString(Document.FILE_NAME))
+                .containsExactlyInAnyOrder(
+                        "chefs-prompt-based-on-ingredients-in-root.txt",
+                        "test-file-iso-8859-1.txt",
+                        "test-file-utf8.txt");
+    }
+
+    @Test
+    void should_parse_streamed_documents_lazily() {
+
+        // given
+        Path resourceDirectory = resourceDirectory();
+        PathMatcher pathMatcher = FileSystems.getDefault().getPathMatcher("glob:**");
+        AtomicInteger parsed = new AtomicInteger();
+        DocumentParser countingParser = inputStream -> {
+            parsed.incrementAndGet();
+            return new TextDocumentParser().parse(inputStream);
+        };
+
+        // when
+        try (Stream<DocumentLoadingResult> stream =
+                streamDocumentsRecursively(resourceDirectory, pathMatcher, countingParser, 2, Runnable::run)) {
+            assertThat(stream.findFirst()).isPresent();
+        }
+
+        // then
+        assertThat(parsed).hasValueLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void should_fail_on_invalid_arguments_when_streaming_documents() {
+        Path resourceDirectory = resourceDirectory();
+        PathMatcher pathMatcher = FileSystems.getDefault().getPathMatcher("glob:**");
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> streamDocuments(resourceDirectory, pathMatcher, new TextDocumentParser(), 0))
+                .withMessageContaining("maxConcurrency");
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> streamDocumentsRecursively(
+                        resourceDirectory, pathMatcher, new TextDocumentParser(), 2, null))
+                .withMessageContaining("executor");
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> streamDocumentsRecursively(resourceDirectory, pathMatcher, null, 2))
+                .withMessageContaining("documentParser");
+    }
+
     private static Path resourceDirectory() {
         String userDir = System.getProperty("user.dir");
         Path resourceDirectory = Paths.get(userDir, "langchain4j/src/test/resources");
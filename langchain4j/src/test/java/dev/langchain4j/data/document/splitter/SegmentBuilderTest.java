@@ -3,6 +3,9 @@ package dev.langchain4j.data.document.splitter;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 class SegmentBuilderTest implements WithAssertions {
     @Test
     void shouldAppendText() {
@@ -65,4 +68,21 @@ class SegmentBuilderTest implements WithAssertions {
             assertThat(builder.toString()).isEqualTo("Hello world");
         }
     }
+
+    @Test
+    void shouldApplyAdditiveSizeFunctionOnlyToAddedTexts() {
+        List<String> measured = new ArrayList<>();
+        SegmentBuilder builder = new SegmentBuilder(20, text -> {
+            measured.add(text);
+            return text.length();
+        }, " ", true);
+
+        builder.append("Hello");
+        builder.append("world", 5);
+        builder.prepend("Oh");
+
+        assertThat(builder.toString()).isEqualTo("Oh Hello world");
+        assertThat(builder.getSize()).isEqualTo("Oh Hello world".length());
+        assertThat(measured).containsExactly(" ", "Hello", "Oh");
+    }
 }
@@ -0,0 +1,242 @@
+package dev.langchain4j.rag.content.retriever.bm25;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.rag.content.ContentMetadata;
+import dev.langchain4j.rag.content.aggregator.DefaultContentAggregator;
+import dev.langchain4j.rag.content.retriever.ContentRetriever;
+import dev.langchain4j.rag.query.Query;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryBm25ContentRetrieverTest {
+
+    static final TextSegment BANANAS = TextSegment.from("Bananas are yellow. Bananas are rich in potassium.",
+            Metadata.from("fruit", "banana"));
+    static final TextSegment APPLES = TextSegment.from("Apples are red or green, and rich in fiber.",
+            Metadata.from("fruit", "apple"));
+    static final TextSegment CHERRIES = TextSegment.from("Cherries are small, red and sweet.",
+            Metadata.from("fruit", "cherry"));
+
+    @Test
+    void should_rank_segments_by_bm25_score() {
+
+        // given
+        InMemoryBm25ContentRetriever retriever = new InMemoryBm25ContentRetriever();
+        retriever.addAll(List.of(BANANAS, APPLES, CHERRIES));
+
+        // when
+        List<Content> contents = retriever.retrieve(Query.from("Which fruits are red and rich in potassium?"));
+
+        // then
+        assertThat(contents).extracting(Content::textSegment).containsExactly(BANANAS, APPLES, CHERRIES);
+        assertThat(contents).extracting(content -> (Double) content.metadata().get(ContentMetadata.SCORE))
+                .isSortedAccordingTo((score1, score2) -> Double.compare(score2, score1))
+                .allMatch(score -> score > 0);
+    }
+
+    @Test
+    void should_match_terms_case_insensitively_and_ignore_segments_without_matching_terms() {
+
+        // given
+        InMemoryBm25ContentRetriever retriever = new InMemoryBm25ContentRetriever();
+        retriever.addAll(List.of(BANANAS, APPLES, CHERRIES));
+
+        // when
+        List<Content> contents = retriever.retrieve(Query.from("CHERRIES!"));
+
+        // then
+        assertThat(contents).extracting(Content::textSegment).containsExactly(CHERRIES);
+        assertThat(retriever.retrieve(Query.from("kiwi"))).isEmpty();
+        assertThat(retriever.retrieve(Query.from("?"))).isEmpty();
+    }
+
+    @Test
+    void should_apply_max_results_min_score_and_filter() {
+
+        // given
+        List<TextSegment> segments = List.of(BANANAS, APPLES, CHERRIES);
+
+        // when-then
+        InMemoryBm25ContentRetriever retriever = InMemoryBm25ContentRetriever.builder()
+                .maxResults(1)
+                .build();
+        retriever.addAll(segments);
+        assertThat(retriever.retrieve(Query.from("red rich"))).extracting(Content::textSegment)
+                .containsExactly(APPLES);
+
+        retriever = InMemoryBm25ContentRetriever.builder()
+                .filter(metadataKey("fruit").isNotEqualTo("apple"))
+                .build();
+        retriever.addAll(segments);
+        assertThat(retriever.retrieve(Query.from("red rich"))).extracting(Content::textSegment)
+                .containsExactlyInAnyOrder(BANANAS, CHERRIES);
+
+        retriever = InMemoryBm25ContentRetriever.builder()
+                .minScore(100.0)
+                .build();
+        retriever.addAll(segments);
+        assertThat(retriever.retrieve(Query.from("red rich"))).isEmpty();
+    }
+
+    @Test
+    void should_select_top_segments_among_many_matching_segments() {
+
+        // given
+        // segments of the same length, where segment i contains "rare" k(i) times, k being a permutation of 1..100
+        InMemoryBm25ContentRetriever retriever = InMemoryBm25ContentRetriever.builder()
+                .maxResults(10)
+                .build();
+        for (int i = 0; i < 100; i++) {
+            int count = i * 37 % 100 + 1;
+            retriever.add("rare-" + count, TextSegment.from("rare ".repeat(count) + "pad ".repeat(100 - count)));
+            retriever.add("other-" + i, TextSegment.from("other ".repeat(100)));
+        }
+
+        // when
+        List<Content> contents = retriever.retrieve(Query.from("rare"));
+
+        // then
+        assertThat(contents).extracting(content -> content.textSegment().text().split("rare", -1).length - 1)
+                .containsExactly(100, 99, 98, 97, 96, 95, 94, 93, 92, 91);
+    }
+
+    @Test
+    void should_replace_and_remove_segments() {
+
+        // given
+        InMemoryBm25ContentRetriever retriever = new InMemoryBm25ContentRetriever();
+        retriever.add("1", BANANAS);
+        retriever.add("2", APPLES);
+        retriever.add("3", CHERRIES);
+
+        // when
+        retriever.add("1", TextSegment.from("Kiwis are green"));
+
+        // then
+        assertThat(retriever.size()).isEqualTo(3);
+        assertThat(retriever.retrieve(Query.from("bananas"))).isEmpty();
+        assertThat(retriever.retrieve(Query.from("green"))).hasSize(2);
+
+        // when
+        retriever.remove("2");
+
+        // then
+        assertThat(retriever.retrieve(Query.from("green"))).extracting(content -> content.textSegment().text())
+                .containsExactly("Kiwis are green");
+
+        // when
+        retriever.removeAll(metadataKey("fruit").isEqualTo("cherry"));
+
+        // then
+        assertThat(retriever.size()).isEqualTo(1);
+        assertThat(retriever.retrieve(Query.from("red"))).isEmpty();
+
+        // when
+        retriever.removeAll(List.of("1"));
+
+        // then
+        assertThat(retriever.size()).isZero();
+        assertThat(retriever.retrieve(Query.from("green"))).isEmpty();
+    }
+
+    @Test
+    void should_reuse_slots_of_removed_segments() {
+
+        // given
+        InMemoryBm25ContentRetriever retriever = new InMemoryBm25ContentRetriever();
+        List<String> ids = retriever.addAll(IntStream.range(0, 100)
+                .mapToObj(i -> TextSegment.from("segment number " + i))
+                .toList());
+
+        // when
+        retriever.removeAll(ids.subList(0, 50));
+        retriever.addAll(IntStream.range(100, 150)
+                .mapToObj(i -> TextSegment.from("segment number " + i))
+                .toList());
+
+        // then
+        assertThat(retriever.size()).isEqualTo(100);
+        assertThat(retriever.retrieve(Query.from("7"))).isEmpty();
+        assertThat(retriever.retrieve(Query.from("77"))).extracting(content -> content.textSegment().text())
+                .containsExactly("segment number 77");
+        assertThat(retriever.retrieve(Query.from("149"))).extracting(content -> content.textSegment().text())
+                .containsExactly("segment number 149");
+
+        // when
+        retriever.removeAll();
+
+        // then
+        assertThat(retriever.size()).isZero();
+        assertThat(retriever.retrieve(Query.from("segment"))).isEmpty();
+    }
+
+    @Test
+    void should_serialize_and_deserialize(@TempDir Path tempDir) {
+
+        // given
+        InMemoryBm25ContentRetriever retriever = InMemoryBm25ContentRetriever.builder()
+                .maxResults(2)
+                .k1(1.5)
+                .b(0.5)
+                .build();
+        retriever.add("1", BANANAS);
+        retriever.add("2", APPLES);
+        retriever.add("3", CHERRIES);
+        Path file = tempDir.resolve("bm25.json");
+
+        // when
+        retriever.serializeToFile(file);
+        InMemoryBm25ContentRetriever deserialized = InMemoryBm25ContentRetriever.fromFile(file);
+
+        // then
+        Query query = Query.from("red rich potassium");
+        assertThat(deserialized.size()).isEqualTo(3);
+        assertThat(deserialized.retrieve(query)).isEqualTo(retriever.retrieve(query));
+        assertThat(deserialized.retrieve(query)).extracting(content -> content.textSegment().metadata())
+                .containsExactly(BANANAS.metadata(), APPLES.metadata());
+        assertThat(deserialized.toString()).isEqualTo(retriever.toString());
+    }
+
+    @Test
+    void should_fuse_with_other_retriever_using_reciprocal_rank_fusion() {
+
+        // given
+        InMemoryBm25ContentRetriever bm25Retriever = new InMemoryBm25ContentRetriever();
+        bm25Retriever.addAll(List.of(BANANAS, APPLES, CHERRIES));
+        ContentRetriever embeddingRetriever = query -> List.of(Content.from(CHERRIES));
+
+        Query query = Query.from("red rich");
+        Map<Query, Collection<List<Content>>> queryToContents = Map.of(query, List.of(
+                bm25Retriever.retrieve(query),
+                embeddingRetriever.retrieve(query)));
+
+        // when
+        List<Content> fused = new DefaultContentAggregator().aggregate(queryToContents);
+
+        // then
+        assertThat(fused).extracting(Content::textSegment).containsExactly(CHERRIES, APPLES, BANANAS);
+    }
+
+    @Test
+    void should_fail_on_invalid_parameters() {
+
+        assertThatThrownBy(() -> InMemoryBm25ContentRetriever.builder().maxResults(0).build())
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> InMemoryBm25ContentRetriever.builder().b(1.5).build())
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new InMemoryBm25ContentRetriever().addAll(List.of("1"), List.of()))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
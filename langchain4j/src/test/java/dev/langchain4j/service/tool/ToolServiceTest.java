@@ -0,0 +1,86 @@
+package dev.langchain4j.service.tool;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.output.TokenUsage;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+class ToolServiceTest {
+
+    @Test
+    void should_execute_tools_concurrently_and_keep_request_order() {
+
+        // given
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        ToolExecutor awaitingExecutor = (request, memoryId) -> {
+            bothStarted.countDown();
+            try {
+                // completes only if the other tool is executed at the same time
+                assertThat(bothStarted.await(10, SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return "result of " + request.arguments();
+        };
+        Map<ToolSpecification, ToolExecutor> tools = new LinkedHashMap<>();
+        tools.put(ToolSpecification.builder().name("tool").build(), awaitingExecutor);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        ToolService toolService = new ToolService();
+        toolService.tools(tools);
+        toolService.executeToolsConcurrently(executor);
+
+        ToolExecutionRequest first = ToolExecutionRequest.builder().id("1").name("tool").arguments("1").build();
+        ToolExecutionRequest second = ToolExecutionRequest.builder().id("2").name("tool").arguments("2").build();
+        ChatResponse toolsResponse = ChatResponse.builder()
+                .aiMessage(AiMessage.from(first, second))
+                .tokenUsage(new TokenUsage(1, 1))
+                .build();
+
+        ChatLanguageModel chatModel = mock(ChatLanguageModel.class);
+        when(chatModel.chat(any(ChatRequest.class))).thenReturn(ChatResponse.builder()
+                .aiMessage(AiMessage.from("done"))
+                .tokenUsage(new TokenUsage(1, 1))
+                .build());
+        ChatMemory chatMemory = MessageWindowChatMemory.withMaxMessages(10);
+        chatMemory.add(UserMessage.from("hi"));
+
+        // when
+        ToolExecutionResult result;
+        try {
+            result = toolService.executeInferenceAndToolsLoop(
+                    toolsResponse, null, chatMemory.messages(), chatModel, chatMemory, "default", toolService.toolExecutors());
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        assertThat(result.toolExecutions()).extracting(ToolExecution::request).containsExactly(first, second);
+        assertThat(result.toolExecutions()).extracting(ToolExecution::result).containsExactly("result of 1", "result of 2");
+        List<ChatMessage> messages = chatMemory.messages();
+        assertThat(messages).hasSize(5);
+        assertThat(messages.get(2).toString()).contains("result of 1");
+        assertThat(messages.get(3).toString()).contains("result of 2");
+        assertThat(result.chatResponse().aiMessage().text()).isEqualTo("done");
+    }
+}